@@ -0,0 +1,16 @@
+-- AI 이미지 생성 결과 캐시 (youfi.ai_generation_cache)
+-- (원본 이미지, 프롬프트, 모델, 에셋 타입, 변형 순번)의 SHA-256 해시로 저장된 이미지 URL을 찾아
+-- 같은 입력의 생성 요청이 Gemini 할당량을 다시 쓰지 않도록 합니다.
+CREATE TABLE IF NOT EXISTS youfi.ai_generation_cache (
+    cache_key   VARCHAR(64)  PRIMARY KEY,
+    asset_type  VARCHAR(30)  NOT NULL,
+    model       VARCHAR(100) NOT NULL,
+    image_url   TEXT         NOT NULL,
+    hit_count   BIGINT       NOT NULL DEFAULT 0,
+    created_at  TIMESTAMP    NOT NULL DEFAULT now(),
+    last_hit_at TIMESTAMP
+);
+
+-- 보관 기간 동안 사용되지 않은 항목 정리용
+CREATE INDEX IF NOT EXISTS idx_ai_generation_cache_last_used
+    ON youfi.ai_generation_cache (COALESCE(last_hit_at, created_at));
@@ -0,0 +1,10 @@
+-- 외부 AI API 할당량 버킷 (youfi.ai_quota_buckets)
+-- GeminiQuotaScheduler가 행 잠금(FOR UPDATE)으로 토큰을 사용해, 재시작 후에도 사용량이 유지되고
+-- 여러 인스턴스가 같은 분당(토큰 버킷)/일일(초기화 시간대 기준 날짜별) 할당량을 나눠 씁니다.
+CREATE TABLE IF NOT EXISTS youfi.ai_quota_buckets (
+    bucket_key   VARCHAR(50)      PRIMARY KEY,
+    tokens       DOUBLE PRECISION NOT NULL,
+    refilled_at  TIMESTAMPTZ      NOT NULL,
+    daily_window DATE             NOT NULL,
+    daily_used   INTEGER          NOT NULL DEFAULT 0
+);
@@ -0,0 +1,5 @@
+-- 기기 지역 토픽 구독 셀 (youfi.devices)
+-- DeviceServiceImpl.updateGps가 마지막 GPS 위치의 geohash(정밀도 5, 약 4.9km 셀)를 기록하고,
+-- 셀이 바뀔 때만 FCM 지역 토픽(region_<geohash>) 구독을 변경합니다.
+ALTER TABLE youfi.devices
+    ADD COLUMN IF NOT EXISTS region_geohash VARCHAR(12);
@@ -0,0 +1,32 @@
+-- 알림 아웃박스 (youfi.notification_outbox)
+-- 비즈니스 변경과 같은 트랜잭션에서 기록되고, NotificationOutboxProcessor가
+-- FOR UPDATE SKIP LOCKED로 점유해 푸시 발송 경로로 전달합니다.
+CREATE TABLE IF NOT EXISTS youfi.notification_outbox (
+    id           BIGSERIAL    PRIMARY KEY,
+    event_type   VARCHAR(50)  NOT NULL,
+    payload      TEXT         NOT NULL,
+    priority     SMALLINT     NOT NULL DEFAULT 1,    -- 0: HIGH, 1: NORMAL, 2: LOW
+    status       VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts     INTEGER      NOT NULL DEFAULT 0,
+    available_at TIMESTAMP    NOT NULL DEFAULT now(),
+    locked_until TIMESTAMP,
+    in_app_saved BOOLEAN      NOT NULL DEFAULT false,
+    last_error   VARCHAR(500),
+    created_at   TIMESTAMP    NOT NULL DEFAULT now(),
+    processed_at TIMESTAMP
+);
+
+-- 폴링 대상(PENDING/PROCESSING)만 인덱싱해 SENT 행이 쌓여도 점유 쿼리 비용이 일정하도록 합니다.
+-- 점유 순서(priority, id)와 같은 순서로 인덱싱해, 대량 LOW 행이 밀려 있어도 HIGH 행을 먼저 점유합니다.
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_pending
+    ON youfi.notification_outbox (priority, id)
+    WHERE status = 'PENDING';
+
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_processing
+    ON youfi.notification_outbox (locked_until)
+    WHERE status = 'PROCESSING';
+
+-- 보관 기간이 지난 SENT 행 정리용
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_processed
+    ON youfi.notification_outbox (processed_at)
+    WHERE status = 'SENT';
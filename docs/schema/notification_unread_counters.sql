@@ -0,0 +1,14 @@
+-- 사용자별 읽지 않은 알림 수 (youfi.notification_unread_counters)
+-- 알림 저장/읽음 처리와 같은 트랜잭션에서 증감되며,
+-- NotificationUnreadCounterScheduler가 주기적으로 실제 값과 비교해 보정합니다.
+-- 카운터가 없는 사용자는 첫 알림 저장 시 실제 읽지 않은 알림 수로 생성됩니다.
+CREATE TABLE IF NOT EXISTS youfi.notification_unread_counters (
+    user_id      BIGINT     PRIMARY KEY REFERENCES youfi.users (id) ON DELETE CASCADE,
+    unread_count BIGINT     NOT NULL DEFAULT 0 CHECK (unread_count >= 0),
+    updated_at   TIMESTAMP  NOT NULL DEFAULT now()
+);
+
+-- 정합성 검사의 읽지 않은 알림 COUNT용
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread
+    ON youfi.notifications (user_id)
+    WHERE is_read = false;
@@ -0,0 +1,23 @@
+-- 알림 아카이브 (youfi.notifications_archive)
+-- NotificationRetentionScheduler가 타입별 보관 기간이 지난 알림을 청크 단위로 이동합니다.
+-- 운영 테이블(youfi.notifications)을 작게 유지해 목록 조회와 NEARBY_ALERT 중복 확인 쿼리가 캐시에 머무르도록 합니다.
+CREATE TABLE IF NOT EXISTS youfi.notifications_archive (
+    id                BIGINT       PRIMARY KEY,
+    user_id           BIGINT,
+    type              VARCHAR(255),
+    title             VARCHAR(200),
+    message           VARCHAR(500),
+    is_read           BOOLEAN,
+    created_at        TIMESTAMP,
+    read_at           TIMESTAMP,
+    related_entity_id BIGINT,
+    related_location  geography(Point, 4326),
+    archived_at       TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_archive_user_created
+    ON youfi.notifications_archive (user_id, created_at DESC);
+
+-- 보관 기간 정리 대상 선택용 (type별 오래된 순)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_type_created
+    ON youfi.notifications (type, created_at);
@@ -0,0 +1,6 @@
+-- 알림 목록 키셋 페이지네이션 인덱스 (youfi.notifications)
+-- NotificationRepository.findInboxFirstPage / findInboxPageAfter가
+-- WHERE user_id = ? [AND (created_at, id) < (?, ?)] ORDER BY created_at DESC, id DESC LIMIT ?
+-- 형태로 조회하므로, 정렬 순서와 같은 복합 인덱스로 정렬 없이 커서 위치부터 읽습니다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_user_created_id
+    ON youfi.notifications (user_id, created_at DESC, id DESC);
@@ -0,0 +1,34 @@
+package baro.baro.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+// @Scheduled 작업 스케줄러 설정
+// - @EnableWebSocket이 SockJS용 TaskScheduler 빈을 등록하면 Boot 기본 스케줄러가 생성되지 않고
+//   @Scheduled 작업의 스케줄러 선택이 모호해지므로, 스케줄러를 직접 등록하고 명시적으로 지정합니다.
+// - 스케줄러는 Boot의 빌더로 생성하므로 spring.task.scheduling.* 설정(스레드 수, 이름 prefix 등)이 그대로 적용됩니다.
+// - WebSocket 활성화 여부와 관계없이 항상 등록됩니다.
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    private final ThreadPoolTaskSchedulerBuilder taskSchedulerBuilder;
+
+    public SchedulingConfig(ThreadPoolTaskSchedulerBuilder taskSchedulerBuilder) {
+        this.taskSchedulerBuilder = taskSchedulerBuilder;
+    }
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        return taskSchedulerBuilder.build();
+    }
+
+    // @Scheduled 작업은 SockJS 스케줄러가 아닌 taskScheduler에서 실행합니다.
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(taskScheduler());
+    }
+}
@@ -98,12 +98,17 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/devices/fcm-token").hasAnyRole("ADMIN", "USER")
 
                         .requestMatchers(HttpMethod.POST, "/ai/images/**").hasAnyRole("ADMIN", "USER")
+                        .requestMatchers(HttpMethod.GET, "/ai/images/jobs/*/stream").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/ai/images/jobs/*").hasAnyRole("ADMIN", "USER")
 
                         .requestMatchers(HttpMethod.POST, "/images/**").hasAnyRole("ADMIN", "USER")
 
                         .requestMatchers(HttpMethod.POST, "/members/invitations").hasAnyRole("ADMIN", "USER")
                         .requestMatchers(HttpMethod.GET, "/members/locations").hasAnyRole("ADMIN", "USER")
                         .requestMatchers(HttpMethod.GET, "/members/locations/stream").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/notifications/stream").permitAll()
+                        // WebSocket은 핸드셰이크 인터셉터에서 토큰 검증
+                        .requestMatchers(HttpMethod.GET, "/members/locations/ws").permitAll()
 
                         .requestMatchers(HttpMethod.POST, "/missing-persons/register").hasAnyRole("ADMIN", "USER")
                         .requestMatchers(HttpMethod.PUT, "/missing-persons/register/**").hasAnyRole("ADMIN", "USER")
@@ -0,0 +1,49 @@
+package baro.baro.config;
+
+import baro.baro.domain.member.service.MemberLocationEmitterRegistry;
+import baro.baro.domain.member.service.MemberService;
+import baro.baro.domain.member.websocket.MemberLocationHandshakeInterceptor;
+import baro.baro.domain.member.websocket.MemberLocationWebSocketHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+// 구성원 위치 바이너리 WebSocket 설정
+// - 엔드포인트: /members/locations/ws (SSE 스트림의 선택적 대안)
+// - websocket.location.enabled=false 로 비활성화 가능
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.location.enabled", havingValue = "true", matchIfMissing = true)
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final MemberLocationHandshakeInterceptor handshakeInterceptor;
+    private final MemberLocationEmitterRegistry emitterRegistry;
+    private final MemberService memberService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${websocket.location.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${websocket.location.buffer-size-limit-bytes:65536}")
+    private int bufferSizeLimitBytes;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(memberLocationWebSocketHandler(), "/members/locations/ws")
+                .addInterceptors(handshakeInterceptor)
+                .setAllowedOriginPatterns("*");
+    }
+
+    @Bean
+    public MemberLocationWebSocketHandler memberLocationWebSocketHandler() {
+        return new MemberLocationWebSocketHandler(
+                emitterRegistry, memberService, objectMapper, sendTimeLimitMillis, bufferSizeLimitBytes);
+    }
+}
@@ -1,34 +1,40 @@
 package baro.baro.domain.ai.client;
 
-import baro.baro.domain.ai.dto.external.GeminiImageRequest;
-import baro.baro.domain.ai.dto.external.GeminiImageResponse;
 import baro.baro.domain.ai.exception.AiErrorCode;
 import baro.baro.domain.ai.exception.AiException;
 import baro.baro.domain.ai.exception.AiQuotaExceededException;
 import baro.baro.domain.ai.processing.ImageProcessingService;
-import baro.baro.domain.ai.service.RateLimiter;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import baro.baro.domain.ai.service.GeminiQuotaScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
-import java.util.Base64;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class GeminiApiClient {
 
+    private static final String MODEL_PATH_PREFIX = "/models/";
+    private static final String LOCAL_QUOTA_TYPE = "LOCAL_QUOTA_WAIT";
+
     private final WebClient webClient;
-    private final RateLimiter rateLimiter;
+    private final GeminiQuotaScheduler quotaScheduler;
+    private final GeminiRequestBodyWriter requestBodyWriter;
+    private final GeminiResponseReader responseReader;
     private final ImageProcessingService imageProcessingService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${google.gemini.api.url:}")
     private String geminiImageUrl;
@@ -45,13 +51,25 @@ public class GeminiApiClient {
     @Value("${google.gemini.quota.enabled:true}")
     private boolean quotaCheckEnabled;
 
-    @Value("${google.gemini.quota.rpm:10}")
-    private int quotaRpm;
-
-    @Value("${google.gemini.quota.rpd:100}")
-    private int quotaRpd;
+    // 요청 URL에 지정된 모델명 (예: gemini-2.5-flash-image)
+    public String getModel() {
+        String url = geminiImageUrl != null ? geminiImageUrl : "";
+        int start = url.indexOf(MODEL_PATH_PREFIX);
+        if (start < 0) {
+            return url;
+        }
+        start += MODEL_PATH_PREFIX.length();
+        int end = url.indexOf(':', start);
+        return end > start ? url.substring(start, end) : url.substring(start);
+    }
 
-    public byte[] generateImage(String base64Image, String mimeType, String prompt) {
+    // 원본 이미지 파일을 편집해 새 이미지를 생성합니다. 파일은 요청 본문을 쓸 때 스트리밍으로 Base64 인코딩됩니다.
+    //
+    // @param imagePath 원본 이미지 파일
+    // @param mimeType MIME 타입
+    // @param prompt 프롬프트
+    // @return 생성된 이미지 (API 키 미설정, 할당량 대기 초과, 호출 실패 시 Placeholder)
+    public byte[] generateImage(Path imagePath, String mimeType, String prompt) {
         log.info("Gemini Image Edit API 호출 시작 - MIME: {}, Prompt: {}",
                 mimeType, prompt.substring(0, Math.min(50, prompt.length())));
 
@@ -60,21 +78,17 @@ public class GeminiApiClient {
             return imageProcessingService.generatePlaceholderImage();
         }
 
-        if (quotaCheckEnabled && !rateLimiter.tryAcquire(quotaRpm, quotaRpd)) {
-            long waitTime = rateLimiter.getWaitTimeSeconds(quotaRpm);
-            log.error("Rate Limit 초과 - 현재 RPM: {}/{}, RPD: {}/{}, 대기 시간: {}초",
-                    rateLimiter.getCurrentRpm(), quotaRpm,
-                    rateLimiter.getCurrentRpd(), quotaRpd,
-                    waitTime);
-            return imageProcessingService.generatePlaceholderImage();
-        }
-
-        return Mono.fromCallable(() -> requestImage(base64Image, mimeType, prompt))
+        // 재시도도 API 할당량을 쓰므로 매 시도마다 토큰을 받습니다.
+        return Mono.fromCallable(() -> {
+                    acquireQuota();
+                    return requestImage(imagePath, mimeType, prompt);
+                })
                 .retryWhen(Retry.backoff(maxRetryAttempts, Duration.ofSeconds(retryDelaySeconds))
                         .filter(throwable -> {
-                            // Quota 초과 또는 안전 필터 차단 시 재시도
+                            // Quota 초과 또는 안전 필터 차단 시 재시도 (로컬 할당량 대기 초과는 재시도하지 않음)
                             if (throwable instanceof AiQuotaExceededException) {
-                                return true;
+                                AiQuotaExceededException quotaEx = (AiQuotaExceededException) throwable;
+                                return !LOCAL_QUOTA_TYPE.equals(quotaEx.getQuotaType());
                             }
                             if (throwable instanceof AiException) {
                                 AiException aiEx = (AiException) throwable;
@@ -104,23 +118,35 @@ public class GeminiApiClient {
                     if (throwable instanceof AiException) {
                         return Mono.error(throwable);
                     }
+                    if (throwable instanceof AiQuotaExceededException quotaEx
+                            && LOCAL_QUOTA_TYPE.equals(quotaEx.getQuotaType())) {
+                        log.error("Gemini 할당량 대기 시간 초과 - Placeholder 이미지 반환");
+                        return Mono.just(imageProcessingService.generatePlaceholderImage());
+                    }
                     log.error("Gemini API 호출 실패 - Placeholder 이미지 반환", throwable);
                     return Mono.just(imageProcessingService.generatePlaceholderImage());
                 })
                 .block();
     }
 
-    private byte[] requestImage(String base64Image, String mimeType, String prompt) throws Exception {
-        GeminiImageRequest request = GeminiImageRequest.createImageEdit(base64Image, mimeType, prompt);
+    private void acquireQuota() {
+        if (quotaCheckEnabled && !quotaScheduler.acquire()) {
+            throw new AiQuotaExceededException("Gemini 할당량 대기 시간 초과", LOCAL_QUOTA_TYPE);
+        }
+    }
+
+    private byte[] requestImage(Path imagePath, String mimeType, String prompt) throws Exception {
+        GeminiRequestBodyWriter.RequestBody requestBody = requestBodyWriter.imageEdit(imagePath, mimeType, prompt);
 
-        log.info("Gemini API 요청 준비 완료 - URL: {}, Base64 이미지 길이: {}, MIME: {}, 프롬프트 길이: {}",
-                geminiImageUrl, base64Image != null ? base64Image.length() : 0, mimeType, prompt.length());
+        log.info("Gemini API 요청 준비 완료 - URL: {}, 요청 본문 크기: {} bytes, MIME: {}, 프롬프트 길이: {}",
+                geminiImageUrl, requestBody.contentLength(), mimeType, prompt.length());
 
-        String rawResponse = webClient.post()
+        Flux<DataBuffer> responseBody = webClient.post()
                 .uri(geminiImageUrl)
                 .header("x-goog-api-key", geminiApiKey)
                 .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(request)
+                .contentLength(requestBody.contentLength())
+                .body(BodyInserters.fromDataBuffers(requestBody.content()))
                 .retrieve()
                 .onStatus(
                         status -> status.is4xxClientError() || status.is5xxServerError(),
@@ -141,25 +167,26 @@ public class GeminiApiClient {
                                     return Mono.error(new RuntimeException("Gemini API 호출 실패: " + errorBody));
                                 })
                 )
-                .bodyToMono(String.class)
-                .block();
+                .bodyToFlux(DataBuffer.class);
 
-        log.info("Gemini API 원본 응답 (처음 500자): {}",
-                rawResponse != null ? rawResponse.substring(0, Math.min(500, rawResponse.length())) : "null");
-
-        GeminiImageResponse response = objectMapper.readValue(rawResponse, GeminiImageResponse.class);
-        if (response == null) {
-            log.error("Gemini API 응답이 null입니다");
-            throw new AiException(AiErrorCode.EMPTY_RESPONSE);
+        // 응답은 문자열로 모으지 않고 임시 파일에 버퍼 단위로 기록한 뒤 스트리밍으로 읽습니다.
+        Path responseFile = Files.createTempFile("gemini-response-", ".json");
+        GeminiResponseReader.GeminiImageResult response;
+        try {
+            DataBufferUtils.write(responseBody, responseFile).block();
+            log.info("Gemini API 응답 수신 - 크기: {} bytes", Files.size(responseFile));
+            response = responseReader.read(responseFile);
+        } finally {
+            Files.deleteIfExists(responseFile);
         }
 
-        String textMessage = response.getTextMessage();
+        String textMessage = response.textMessage();
         if (textMessage != null && !textMessage.isEmpty()) {
             log.warn("Gemini API 응답 텍스트: {}", textMessage);
         }
 
         // NO_IMAGE 응답 처리 (안전 필터 차단)
-        String finishReason = response.getFinishReason();
+        String finishReason = response.finishReason();
         if (response.isBlockedByFilter()) {
             log.warn("Gemini API 이미지 생성 차단 - finishReason: {}, 텍스트 메시지: {}", finishReason, textMessage);
             throw new AiException(AiErrorCode.IMAGE_BLOCKED_BY_FILTER);
@@ -170,13 +197,7 @@ public class GeminiApiClient {
             throw new AiException(AiErrorCode.EMPTY_RESPONSE);
         }
 
-        String base64ImageResult = response.getFirstImageBase64();
-        if (base64ImageResult == null || base64ImageResult.isEmpty()) {
-            log.error("Gemini API 응답에서 Base64 이미지 데이터를 찾을 수 없음");
-            throw new AiException(AiErrorCode.EMPTY_RESPONSE);
-        }
-
-        byte[] result = Base64.getDecoder().decode(base64ImageResult);
+        byte[] result = response.image();
         log.info("Gemini Image Edit API 호출 성공 - 이미지 크기: {} bytes", result.length);
         return result;
     }
@@ -0,0 +1,116 @@
+package baro.baro.domain.ai.client;
+
+import baro.baro.domain.ai.dto.external.GeminiImageRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.UUID;
+
+// Gemini 이미지 편집 요청 본문 스트리밍 작성기
+//
+// 요청 JSON은 GeminiImageRequest로 만들되 inlineData.data 자리만 비워 두고,
+// 그 자리에 원본 파일을 FileChannel에서 청크 단위로 읽어 Base64로 인코딩한 버퍼를 이어 붙입니다.
+// 이미지 전체를 byte[]/Base64 String/직렬화 버퍼로 복사하지 않으므로 호출당 메모리는 청크 크기로 제한됩니다.
+// 파일 읽기는 이벤트 루프를 막지 않도록 boundedElastic 스케줄러에서 수행합니다.
+@Component
+@RequiredArgsConstructor
+public class GeminiRequestBodyWriter {
+
+    // 3의 배수여야 청크 경계에서 Base64 패딩이 생기지 않습니다.
+    static final int CHUNK_SIZE = 3 * 16 * 1024;
+
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private final ObjectMapper objectMapper;
+
+    // 이미지 편집 요청 본문을 만듭니다. 구독할 때마다 파일을 처음부터 다시 읽으므로 재시도에도 사용할 수 있습니다.
+    //
+    // @param imagePath 원본 이미지 파일
+    // @param mimeType MIME 타입
+    // @param prompt 프롬프트
+    // @return 요청 본문 (Content-Length 포함)
+    public RequestBody imageEdit(Path imagePath, String mimeType, String prompt) throws IOException {
+        String marker = "inline-image-" + UUID.randomUUID();
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(GeminiImageRequest.createImageEdit(marker, mimeType, prompt));
+        } catch (JsonProcessingException e) {
+            throw new IOException("Gemini 요청 직렬화 실패", e);
+        }
+
+        int markerIndex = json.indexOf(marker);
+        byte[] prefix = json.substring(0, markerIndex).getBytes(StandardCharsets.UTF_8);
+        byte[] suffix = json.substring(markerIndex + marker.length()).getBytes(StandardCharsets.UTF_8);
+        long imageSize = Files.size(imagePath);
+        long contentLength = prefix.length + base64Length(imageSize) + suffix.length;
+
+        Flux<DataBuffer> content = Flux.concat(
+                Mono.fromSupplier(() -> bufferFactory.wrap(prefix)),
+                encodeFile(imagePath),
+                Mono.fromSupplier(() -> bufferFactory.wrap(suffix)));
+        return new RequestBody(contentLength, content);
+    }
+
+    private Flux<DataBuffer> encodeFile(Path imagePath) {
+        return Flux.using(
+                        () -> FileChannel.open(imagePath, StandardOpenOption.READ),
+                        channel -> Flux.<DataBuffer>generate(sink -> {
+                            ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+                            try {
+                                readChunk(channel, chunk);
+                            } catch (IOException e) {
+                                sink.error(new UncheckedIOException(e));
+                                return;
+                            }
+                            if (!chunk.hasRemaining()) {
+                                sink.complete();
+                                return;
+                            }
+                            sink.next(bufferFactory.wrap(Base64.getEncoder().encode(chunk)));
+                        }),
+                        channel -> {
+                            try {
+                                channel.close();
+                            } catch (IOException ignored) {
+                                // 읽기 전용 채널이라 닫기 실패는 무시합니다.
+                            }
+                        })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 청크가 가득 차거나 파일 끝에 도달할 때까지 읽고, 읽은 내용을 읽기 상태로 뒤집습니다.
+    private static void readChunk(FileChannel channel, ByteBuffer chunk) throws IOException {
+        while (chunk.hasRemaining()) {
+            if (channel.read(chunk) < 0) {
+                break;
+            }
+        }
+        chunk.flip();
+    }
+
+    static long base64Length(long size) {
+        return (size + 2) / 3 * 4;
+    }
+
+    // 스트리밍 요청 본문
+    //
+    // @param contentLength 전체 본문 길이 (bytes)
+    // @param content 본문 버퍼 스트림
+    public record RequestBody(long contentLength, Flux<DataBuffer> content) {}
+}
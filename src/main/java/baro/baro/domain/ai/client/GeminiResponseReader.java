@@ -0,0 +1,172 @@
+package baro.baro.domain.ai.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Gemini 이미지 생성/편집 응답 스트리밍 읽기
+//
+// 응답 형식 (참고: https://ai.google.dev/gemini-api/docs/vision):
+// {"candidates": [{"content": {"parts": [{"inlineData": {"mimeType": "image/png", "data": "<base64>"}},
+//                                        {"text": "..."}]},
+//                  "finishReason": "STOP"}]}
+//
+// 응답 전체를 String/트리로 만들지 않고 JsonParser로 첫 번째 후보만 따라가며,
+// inlineData.data는 readBinaryValue로 청크 단위 Base64 디코딩해 임시 파일에 바로 씁니다.
+// 힙에는 디코딩된 이미지 한 벌만 올라가고, 나머지 필드는 건너뜁니다.
+@Component
+@RequiredArgsConstructor
+public class GeminiResponseReader {
+
+    private final ObjectMapper objectMapper;
+
+    // 응답 파일에서 첫 번째 후보의 이미지, 텍스트, 종료 이유를 읽습니다.
+    //
+    // @param responseFile 응답 본문 파일
+    // @return 읽은 응답 (이미지가 없으면 image는 null)
+    public GeminiImageResult read(Path responseFile) throws IOException {
+        Path imageFile = Files.createTempFile("gemini-image-", ".bin");
+        try {
+            ResponseFields fields = new ResponseFields(imageFile);
+            try (JsonParser parser = objectMapper.getFactory().createParser(responseFile.toFile())) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IOException("Gemini 응답이 JSON 객체가 아닙니다");
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    if ("candidates".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+                        readCandidates(parser, fields);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            byte[] image = fields.imageWritten && Files.size(imageFile) > 0 ? Files.readAllBytes(imageFile) : null;
+            return new GeminiImageResult(image, fields.mimeType, fields.finishReason, fields.textMessage);
+        } finally {
+            Files.deleteIfExists(imageFile);
+        }
+    }
+
+    // 첫 번째 후보만 읽고 나머지는 건너뜁니다.
+    private void readCandidates(JsonParser parser, ResponseFields fields) throws IOException {
+        boolean first = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (first && parser.currentToken() == JsonToken.START_OBJECT) {
+                readCandidate(parser, fields);
+            } else {
+                parser.skipChildren();
+            }
+            first = false;
+        }
+    }
+
+    private void readCandidate(JsonParser parser, ResponseFields fields) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("content".equals(field) && value == JsonToken.START_OBJECT) {
+                readContent(parser, fields);
+            } else if ("finishReason".equals(field) && value == JsonToken.VALUE_STRING) {
+                fields.finishReason = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readContent(JsonParser parser, ResponseFields fields) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && "parts".equals(field)) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() == JsonToken.START_OBJECT) {
+                        readPart(parser, fields);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readPart(JsonParser parser, ResponseFields fields) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("inlineData".equals(field) && value == JsonToken.START_OBJECT) {
+                readInlineData(parser, fields);
+            } else if ("text".equals(field) && value == JsonToken.VALUE_STRING && fields.textMessage == null) {
+                String text = parser.getText();
+                fields.textMessage = text.isEmpty() ? null : text;
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    // 첫 번째 이미지 데이터만 디코딩합니다.
+    private void readInlineData(JsonParser parser, ResponseFields fields) throws IOException {
+        String mimeType = null;
+        boolean decoded = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("data".equals(field) && value == JsonToken.VALUE_STRING && !fields.imageWritten) {
+                try (OutputStream out = Files.newOutputStream(fields.imageFile)) {
+                    parser.readBinaryValue(out);
+                }
+                fields.imageWritten = true;
+                decoded = true;
+            } else if ("mimeType".equals(field) && value == JsonToken.VALUE_STRING) {
+                mimeType = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (decoded) {
+            fields.mimeType = mimeType;
+        }
+    }
+
+    // 읽는 중인 응답 필드
+    private static final class ResponseFields {
+        private final Path imageFile;
+        private boolean imageWritten;
+        private String mimeType;
+        private String finishReason;
+        private String textMessage;
+
+        private ResponseFields(Path imageFile) {
+            this.imageFile = imageFile;
+        }
+    }
+
+    // 읽은 Gemini 응답
+    //
+    // @param image 디코딩된 첫 번째 이미지 (없으면 null)
+    // @param mimeType 이미지 MIME 타입
+    // @param finishReason 첫 번째 후보의 종료 이유 (STOP, NO_IMAGE, SAFETY 등)
+    // @param textMessage 첫 번째 텍스트 파트 (에러 또는 정책 메시지)
+    public record GeminiImageResult(byte[] image, String mimeType, String finishReason, String textMessage) {
+
+        public boolean hasImage() {
+            return image != null && image.length > 0;
+        }
+
+        // 이미지 생성이 안전 필터에 의해 차단되었는지 확인
+        public boolean isBlockedByFilter() {
+            return "NO_IMAGE".equals(finishReason) || "SAFETY".equals(finishReason);
+        }
+    }
+}
@@ -4,14 +4,22 @@ import baro.baro.domain.ai.dto.req.GenerateAiImageRequest;
 import baro.baro.domain.ai.dto.res.GenerateAiImageResponse;
 import baro.baro.domain.ai.dto.req.ApplyAiImageRequest;
 import baro.baro.domain.ai.dto.res.ApplyAiImageResponse;
+import baro.baro.domain.ai.dto.res.AiImageJobResponse;
 import baro.baro.domain.ai.service.AiImageService;
+import baro.baro.domain.auth.service.JwtTokenProvider;
+import baro.baro.domain.user.entity.User;
+import baro.baro.domain.user.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.URI;
 
 // AI 이미지 생성 컨트롤러
 // 실종자 정보를 기반으로 AI 이미지를 생성하는 REST API를 제공
@@ -22,8 +30,9 @@ import org.springframework.web.bind.annotation.*;
 // 제공 기능:
 // - 성장/노화 이미지 생성: 정면 사진 4장
 // - 인상착의 이미지 생성: 의상 및 외모 정보 기반 1장
+// - 생성 작업 등록/조회: 요청 즉시 작업 ID를 반환하고, 결과는 폴링 또는 SSE 완료 이벤트로 확인
 //
-// 인증: JWT 토큰 필요 (Authorization: Bearer {token})
+// 인증: JWT 토큰 필요 (Authorization: Bearer {token}, 작업 스트림은 쿼리 파라미터 토큰)
 @RestController
 @RequestMapping("/ai/images")
 @RequiredArgsConstructor
@@ -31,7 +40,11 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "AI Image", description = "AI 이미지 생성 API")
 public class AiImageController {
 
+    private static final long JOB_STREAM_TIMEOUT = 10 * 60 * 1000L; // 10분
+
     private final AiImageService aiImageService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
 
     // AI 이미지 생성
     // 실종자 정보를 기반으로 AI 이미지를 생성
@@ -49,6 +62,51 @@ public class AiImageController {
         return ResponseEntity.ok(response);
     }
 
+    // AI 이미지 생성 작업 등록
+    // 요청 검증 후 202와 작업 ID를 즉시 반환하고, 생성은 서버 작업자 스레드에서 수행
+    @PostMapping("/jobs")
+    @Operation(summary = "AI 이미지 생성 작업 등록", description = "AI 이미지 생성을 작업으로 등록하고 작업 ID를 반환합니다. 결과는 작업 조회 또는 작업 스트림으로 확인합니다.")
+    public ResponseEntity<AiImageJobResponse> submitAiImageJob(
+            @Valid @RequestBody GenerateAiImageRequest request) {
+
+        log.info("AI 이미지 생성 작업 API 호출 - MissingPersonId: {}, AssetType: {}",
+                request.getMissingPersonId(), request.getAssetType());
+
+        AiImageJobResponse response = aiImageService.submitImageJob(request);
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/ai/images/jobs/" + response.getJobId()))
+                .body(response);
+    }
+
+    // AI 이미지 생성 작업 조회 (폴링)
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "AI 이미지 생성 작업 조회", description = "작업 상태와 완료 시 생성된 이미지 URL 목록을 조회합니다.")
+    public ResponseEntity<AiImageJobResponse> getAiImageJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(aiImageService.getImageJob(jobId));
+    }
+
+    // AI 이미지 생성 작업 완료 스트림 (SSE)
+    // 작업이 끝나면 "ai-image-job" 이벤트 1건을 보내고 연결을 종료
+    @GetMapping(value = "/jobs/{jobId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "AI 이미지 생성 작업 완료 스트림 (SSE)", description = "작업이 완료되면 작업 결과 이벤트를 전송하고 연결을 종료합니다.")
+    public SseEmitter streamAiImageJob(
+            @PathVariable String jobId,
+            @RequestParam("token") String token) {
+        // 토큰 검증 및 사용자 조회
+        if (!jwtTokenProvider.validateToken(token)) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
+
+        String uid = jwtTokenProvider.getSubjectFromToken(token);
+        User user = userRepository.findByUid(uid)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        SseEmitter emitter = new SseEmitter(JOB_STREAM_TIMEOUT);
+        aiImageService.subscribeImageJob(jobId, user, emitter);
+        return emitter;
+    }
+
     // 생성된 AI 이미지 중 하나를 선택하여 MissingPerson의 대표 이미지로 적용
     //
     // 요청 예시:
@@ -0,0 +1,51 @@
+package baro.baro.domain.ai.dto.res;
+
+import baro.baro.domain.ai.entity.AiImageJobStatus;
+import baro.baro.domain.ai.entity.AssetType;
+import baro.baro.domain.ai.service.AiImageJob;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// AI 이미지 생성 작업 응답 DTO
+@Data
+public class AiImageJobResponse {
+
+    // 작업 ID
+    private String jobId;
+
+    // 작업 상태 (QUEUED, RUNNING, SUCCEEDED, FAILED)
+    private AiImageJobStatus status;
+
+    // 실종자 ID
+    private Long missingPersonId;
+
+    // 생성할 이미지의 타입 (AGE_PROGRESSION 또는 GENERATED_IMAGE)
+    private AssetType assetType;
+
+    // 생성된 이미지 URL 리스트 (SUCCEEDED일 때만)
+    private List<String> imageUrls;
+
+    // 실패 코드와 메시지 (FAILED일 때만)
+    private String errorCode;
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    // 응답 생성 팩토리 메서드
+    public static AiImageJobResponse create(AiImageJob job) {
+        AiImageJobResponse response = new AiImageJobResponse();
+        response.jobId = job.getId();
+        response.status = job.getStatus();
+        response.missingPersonId = job.getMissingPersonId();
+        response.assetType = job.getAssetType();
+        response.imageUrls = job.getImageUrls();
+        response.errorCode = job.getErrorCode();
+        response.errorMessage = job.getErrorMessage();
+        response.createdAt = job.getCreatedAt();
+        response.completedAt = job.getCompletedAt();
+        return response;
+    }
+}
@@ -0,0 +1,64 @@
+package baro.baro.domain.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// AI 이미지 생성 결과 캐시 엔티티
+//
+// (원본 이미지, 프롬프트, 모델, 에셋 타입, 변형 순번)의 SHA-256 해시를 키로 저장된 이미지 URL을 보관합니다.
+// 같은 입력의 생성 요청은 Gemini 호출 없이 저장된 결과를 재사용합니다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "ai_generation_cache", schema = "youfi")
+public class AiGenerationCache {
+
+    // 캐시 키 (SHA-256 hex, Primary Key)
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    // 에셋 타입
+    @Enumerated(EnumType.STRING)
+    @Column(name = "asset_type", nullable = false, length = 30)
+    private AssetType assetType;
+
+    // 생성 모델
+    @Column(name = "model", nullable = false, length = 100)
+    private String model;
+
+    // 저장된 이미지 URL
+    @Column(name = "image_url", nullable = false, columnDefinition = "text")
+    private String imageUrl;
+
+    // 재사용 횟수
+    @Column(name = "hit_count", nullable = false)
+    private long hitCount;
+
+    // 생성 시간
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 마지막 재사용 시간
+    @Column(name = "last_hit_at")
+    private LocalDateTime lastHitAt;
+
+    public static AiGenerationCache create(String cacheKey, AssetType assetType, String model, String imageUrl) {
+        if (cacheKey == null || imageUrl == null) {
+            throw new IllegalArgumentException("캐시 키와 이미지 URL은 필수입니다.");
+        }
+
+        AiGenerationCache cache = new AiGenerationCache();
+        cache.cacheKey = cacheKey;
+        cache.assetType = assetType;
+        cache.model = model;
+        cache.imageUrl = imageUrl;
+        cache.hitCount = 0L;
+        cache.createdAt = LocalDateTime.now();
+        return cache;
+    }
+}
@@ -0,0 +1,13 @@
+package baro.baro.domain.ai.entity;
+
+// AI 이미지 생성 작업 상태
+public enum AiImageJobStatus {
+    QUEUED,    // 작업자 대기 중
+    RUNNING,   // 생성 중
+    SUCCEEDED, // 생성 및 저장 완료
+    FAILED;    // 실패
+
+    public boolean isDone() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,95 @@
+package baro.baro.domain.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+// 외부 AI API 할당량 버킷 엔티티
+//
+// 분당 제한은 토큰 버킷(용량 rpm, 초당 rpm/60개 충전), 일일 제한은 할당량 초기화 시간대 기준 날짜별 사용 수로 관리합니다.
+// DB에 저장되므로 재시작/배포 후에도 유지되고, 행 잠금으로 여러 인스턴스가 같은 할당량을 나눠 씁니다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "ai_quota_buckets", schema = "youfi")
+public class AiQuotaBucket {
+
+    // 버킷 키 (Primary Key, 예: gemini-image)
+    @Id
+    @Column(name = "bucket_key", length = 50)
+    private String bucketKey;
+
+    // 남은 토큰 수 (분당 제한)
+    @Column(name = "tokens", nullable = false)
+    private double tokens;
+
+    // 마지막 충전 시각
+    @Column(name = "refilled_at", nullable = false)
+    private Instant refilledAt;
+
+    // 일일 사용량 집계 날짜 (할당량 초기화 시간대 기준)
+    @Column(name = "daily_window", nullable = false)
+    private LocalDate dailyWindow;
+
+    // 일일 사용량
+    @Column(name = "daily_used", nullable = false)
+    private int dailyUsed;
+
+    public static AiQuotaBucket create(String bucketKey, int rpm, Instant now, ZoneId resetZone) {
+        AiQuotaBucket bucket = new AiQuotaBucket();
+        bucket.bucketKey = bucketKey;
+        bucket.tokens = Math.max(0, rpm);
+        bucket.refilledAt = now;
+        bucket.dailyWindow = now.atZone(resetZone).toLocalDate();
+        bucket.dailyUsed = 0;
+        return bucket;
+    }
+
+    // 토큰 하나를 사용합니다.
+    //
+    // @param now 현재 시각
+    // @param rpm 분당 요청 수 (0 이하면 제한 없음)
+    // @param rpd 일일 요청 수 (0 이하면 제한 없음)
+    // @param resetZone 일일 할당량 초기화 시간대
+    // @return 사용했으면 Duration.ZERO, 아니면 다음 토큰까지 대기 시간
+    public Duration tryConsume(Instant now, int rpm, int rpd, ZoneId resetZone) {
+        refill(now, rpm);
+
+        LocalDate today = now.atZone(resetZone).toLocalDate();
+        if (!today.equals(dailyWindow)) {
+            dailyWindow = today;
+            dailyUsed = 0;
+        }
+
+        if (rpd > 0 && dailyUsed >= rpd) {
+            Instant nextWindow = today.plusDays(1).atStartOfDay(resetZone).toInstant();
+            return Duration.between(now, nextWindow);
+        }
+        if (rpm > 0 && tokens < 1.0) {
+            long waitMillis = (long) Math.ceil((1.0 - tokens) * 60_000.0 / rpm);
+            return Duration.ofMillis(Math.max(1L, waitMillis));
+        }
+
+        if (rpm > 0) {
+            tokens -= 1.0;
+        }
+        dailyUsed++;
+        return Duration.ZERO;
+    }
+
+    private void refill(Instant now, int rpm) {
+        if (rpm <= 0) {
+            refilledAt = now;
+            return;
+        }
+        long elapsedMillis = Math.max(0L, Duration.between(refilledAt, now).toMillis());
+        tokens = Math.min(rpm, tokens + elapsedMillis * rpm / 60_000.0);
+        refilledAt = now;
+    }
+}
@@ -22,6 +22,7 @@ public enum AiErrorCode {
     MISSING_PERSON_NOT_FOUND(404, "실종자를 찾을 수 없습니다."),
     AI_ASSET_NOT_FOUND(404, "AI 에셋을 찾을 수 없습니다."),
     IMAGE_FILE_NOT_FOUND(404, "이미지 파일을 찾을 수 없습니다."),
+    IMAGE_JOB_NOT_FOUND(404, "AI 이미지 생성 작업을 찾을 수 없습니다."),
 
     // 429 요청 한도 초과
     QUOTA_EXCEEDED(429, "API 사용량 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
@@ -40,7 +41,8 @@ public enum AiErrorCode {
     INVALID_RESPONSE_FORMAT(500, "AI 응답 형식이 올바르지 않습니다."),
 
     // 503 서비스 사용 불가
-    SERVICE_UNAVAILABLE(503, "AI 이미지 생성 서비스를 일시적으로 사용할 수 없습니다.");
+    SERVICE_UNAVAILABLE(503, "AI 이미지 생성 서비스를 일시적으로 사용할 수 없습니다."),
+    IMAGE_JOB_QUEUE_FULL(503, "AI 이미지 생성 대기 작업이 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final int status;
     private final String message;
@@ -0,0 +1,305 @@
+package baro.baro.domain.ai.processing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+
+// AI 생성 요청 전 원본 이미지 전처리
+//
+// 원본을 한 번만 디코딩하면서(최대 크기에 가깝게 서브샘플링) 최대 변 길이에 맞춰 축소하고,
+// 메타데이터(EXIF/GPS 등)를 버린 JPEG로 다시 인코딩합니다. EXIF 회전 정보는 픽셀에 반영한 뒤 버립니다.
+// 결과는 (원본 내용 해시, 변환 설정) 이름으로 디스크에 캐시되어, 같은 사진의 반복 생성은 디코딩 없이 재사용합니다.
+// 디코딩할 수 없는 형식(예: WebP)이거나 변환에 실패하면 원본을 그대로 사용합니다.
+@Slf4j
+@Component
+public class ImagePreprocessor {
+
+    private static final String NORMALIZED_MIME_TYPE = "image/jpeg";
+
+    private final boolean enabled;
+    private final int maxDimension;
+    private final float jpegQuality;
+    private final Path cacheDir;
+    private final int retentionDays;
+
+    private final Counter normalizedCounter;
+    private final Counter cachedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public ImagePreprocessor(
+            MeterRegistry meterRegistry,
+            @Value("${ai.image-preprocess.enabled:true}") boolean enabled,                        // 전처리 사용 여부
+            @Value("${ai.image-preprocess.max-dimension:1024}") int maxDimension,                 // 긴 변 최대 길이 (px)
+            @Value("${ai.image-preprocess.jpeg-quality:0.85}") float jpegQuality,                 // JPEG 품질 (0~1)
+            @Value("${ai.image-preprocess.cache-dir:uploads/ai-source-cache}") String cacheDir,   // 전처리 결과 캐시 디렉토리
+            @Value("${ai.image-preprocess.retention-days:30}") int retentionDays                  // 미사용 캐시 보관 일수
+    ) {
+        this.enabled = enabled;
+        this.maxDimension = Math.max(1, maxDimension);
+        this.jpegQuality = Math.min(1.0f, Math.max(0.1f, jpegQuality));
+        this.cacheDir = Paths.get(cacheDir).toAbsolutePath().normalize();
+        this.retentionDays = Math.max(1, retentionDays);
+
+        this.normalizedCounter = preprocessCounter(meterRegistry, "normalized");
+        this.cachedCounter = preprocessCounter(meterRegistry, "cached");
+        this.skippedCounter = preprocessCounter(meterRegistry, "skipped");
+        this.failedCounter = preprocessCounter(meterRegistry, "failed");
+    }
+
+    // 원본 이미지를 전처리합니다.
+    //
+    // @param source 원본 이미지 (호출자가 계속 소유하며 close()해야 함)
+    // @return 전처리된 이미지 (캐시 파일, close() 불필요) 또는 전처리하지 않은 경우 원본
+    public SourceImage normalize(SourceImage source) {
+        if (!enabled) {
+            return source;
+        }
+
+        String variantId = source.contentHash() + "-" + maxDimension + "-q" + Math.round(jpegQuality * 100);
+        Path cached = cacheDir.resolve(variantId + ".jpg");
+        try {
+            if (Files.isRegularFile(cached)) {
+                // 마지막 사용 시각을 갱신해 정리 대상에서 제외합니다.
+                Files.setLastModifiedTime(cached, FileTime.from(Instant.now()));
+                cachedCounter.increment();
+                return new SourceImage(cached, NORMALIZED_MIME_TYPE, Files.size(cached), variantId, false);
+            }
+
+            BufferedImage image = decode(source.path());
+            if (image == null) {
+                skippedCounter.increment();
+                log.info("전처리할 수 없는 이미지 형식 - 원본 사용. MIME: {}", source.mimeType());
+                return source;
+            }
+
+            Files.createDirectories(cacheDir);
+            Path tempFile = Files.createTempFile(cacheDir, variantId, ".tmp");
+            try {
+                encodeJpeg(image, tempFile);
+                Files.move(tempFile, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+
+            long normalizedSize = Files.size(cached);
+            normalizedCounter.increment();
+            log.info("AI 원본 이미지 전처리 완료 - {} bytes → {} bytes ({}x{})",
+                    source.size(), normalizedSize, image.getWidth(), image.getHeight());
+            return new SourceImage(cached, NORMALIZED_MIME_TYPE, normalizedSize, variantId, false);
+
+        } catch (IOException | RuntimeException e) {
+            failedCounter.increment();
+            log.warn("AI 원본 이미지 전처리 실패 - 원본 사용. path: {}", source.path(), e);
+            return source;
+        }
+    }
+
+    // 보관 기간 동안 사용되지 않은 전처리 캐시 파일을 정리합니다.
+    //
+    // @return 삭제된 파일 수
+    @Scheduled(cron = "${ai.image-preprocess.cleanup-cron:0 50 4 * * *}")
+    public int evictUnused() {
+        if (!Files.isDirectory(cacheDir)) {
+            return 0;
+        }
+        Instant threshold = Instant.now().minus(retentionDays, ChronoUnit.DAYS);
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(threshold) && Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("AI 원본 이미지 전처리 캐시 정리 실패", e);
+        }
+        if (deleted > 0) {
+            log.info("미사용 AI 원본 이미지 전처리 캐시 정리 - {}건", deleted);
+        }
+        return deleted;
+    }
+
+    // 최대 크기 이상이 되는 범위에서 서브샘플링해 디코딩한 뒤 최대 크기에 맞춰 축소합니다.
+    // 메타데이터는 읽지 않으며, JPEG의 EXIF 회전 정보만 따로 읽어 픽셀에 반영합니다.
+    private BufferedImage decode(Path path) throws IOException {
+        BufferedImage decoded;
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, longest / maxDimension);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                decoded = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        int orientation = readExifOrientation(path);
+        return fitToMaxDimension(decoded, orientation);
+    }
+
+    private BufferedImage fitToMaxDimension(BufferedImage image, int orientation) {
+        boolean quarterTurn = orientation == 6 || orientation == 8;
+        int sourceWidth = quarterTurn ? image.getHeight() : image.getWidth();
+        int sourceHeight = quarterTurn ? image.getWidth() : image.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(sourceWidth, sourceHeight));
+        int width = Math.max(1, (int) Math.round(sourceWidth * scale));
+        int height = Math.max(1, (int) Math.round(sourceHeight * scale));
+
+        AffineTransform transform = new AffineTransform();
+        transform.scale(scale, scale);
+        switch (orientation) {
+            case 3 -> {
+                transform.translate(image.getWidth(), image.getHeight());
+                transform.rotate(Math.PI);
+            }
+            case 6 -> {
+                transform.translate(image.getHeight(), 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 8 -> {
+                transform.translate(0, image.getWidth());
+                transform.rotate(-Math.PI / 2);
+            }
+            default -> {
+                // 회전 없음 (좌우 반전 계열은 드물어 반영하지 않습니다)
+            }
+        }
+
+        // JPEG는 알파 채널이 없으므로 투명 영역은 흰 배경으로 채웁니다.
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    private void encodeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    // JPEG APP1(Exif) 세그먼트의 IFD0에서 Orientation(0x0112) 값을 읽습니다. 없으면 1(정방향).
+    static int readExifOrientation(Path path) {
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(path))) {
+            if (input.readUnsignedShort() != 0xFFD8) {
+                return 1;
+            }
+            while (true) {
+                int marker = input.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA) {
+                    return 1;
+                }
+                int length = input.readUnsignedShort() - 2;
+                if (marker != 0xFFE1) {
+                    skipFully(input, length);
+                    continue;
+                }
+                byte[] segment = input.readNBytes(length);
+                return parseOrientation(segment);
+            }
+        } catch (IOException | RuntimeException e) {
+            return 1;
+        }
+    }
+
+    private static int parseOrientation(byte[] segment) {
+        // "Exif\0\0" + TIFF 헤더
+        if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i' || segment[3] != 'f') {
+            return 1;
+        }
+        int tiff = 6;
+        boolean littleEndian = segment[tiff] == 'I';
+        int ifdOffset = tiff + readInt(segment, tiff + 4, littleEndian);
+        int entries = readShort(segment, ifdOffset, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifdOffset + 2 + i * 12;
+            if (entry + 12 > segment.length) {
+                break;
+            }
+            if (readShort(segment, entry, littleEndian) == 0x0112) {
+                int orientation = readShort(segment, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean littleEndian) {
+        int b0 = data[offset] & 0xFF;
+        int b1 = data[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] data, int offset, boolean littleEndian) {
+        int high = readShort(data, offset + (littleEndian ? 2 : 0), littleEndian);
+        int low = readShort(data, offset + (littleEndian ? 0 : 2), littleEndian);
+        return (high << 16) | low;
+    }
+
+    private static void skipFully(InputStream input, int length) throws IOException {
+        input.skipNBytes(Math.max(0, length));
+    }
+
+    private static Counter preprocessCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai_image_preprocess_total")
+                .description("AI 원본 이미지 전처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
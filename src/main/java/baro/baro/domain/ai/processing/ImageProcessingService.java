@@ -5,59 +5,54 @@ import baro.baro.domain.ai.exception.AiException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HexFormat;
 
 @Component
 @Slf4j
 public class ImageProcessingService {
 
+    private static final byte[] PLACEHOLDER_IMAGE = Base64.getDecoder().decode(
+            "/9j/4AAQSkZJRgABAQEAYABgAAD/2wBDAAgGBgcGBQgHBwcJCQgKDBQNDAsLDBkSEw8UHRofHh0aHBwgJC4nICIsIxwcKDcpLDAxNDQ0Hyc5PTgyPC4zNDL/2wBDAQkJCQwLDBgNDRgyIRwhMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjL/wAARCAABAAEDASIAAhEBAxEB/8QAFQABAQAAAAAAAAAAAAAAAAAAAAv/xAAUEAEAAAAAAAAAAAAAAAAAAAAA/8QAFQEBAQAAAAAAAAAAAAAAAAAAAAX/xAAUEQEAAAAAAAAAAAAAAAAAAAAA/9oADAMBAAIRAxEAPwCXABmAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA//2Q==");
+
     @Value("${file.upload-dir:/uploads}")
     private String uploadDir;
 
-    public String loadImageAsBase64(String photoUrl) {
+    // 원본 이미지 파일을 엽니다. 외부 URL은 임시 파일로 스트리밍해 내려받으므로 사용 후 close()해야 합니다.
+    //
+    // @param photoUrl 사진 URL (서버 /images/ URL, 외부 http(s) URL 또는 로컬 경로)
+    // @return 원본 이미지 파일
+    public SourceImage openSourceImage(String photoUrl) {
+        String mimeType = detectMimeType(photoUrl);
         try {
-            byte[] imageBytes;
-
             log.info("이미지 로드 시작 - URL: {}", photoUrl);
             Path localPath = convertUrlToLocalPath(photoUrl);
 
             if (localPath != null) {
                 log.info("서버 로컬 파일에서 이미지 로드: {}", localPath);
-                if (!Files.exists(localPath)) {
-                    log.error("로컬 파일을 찾을 수 없음: {}", localPath);
-                    throw new AiException(AiErrorCode.IMAGE_FILE_NOT_FOUND);
-                }
-                imageBytes = Files.readAllBytes(localPath);
+                return openLocalFile(localPath, mimeType);
             } else if (photoUrl.startsWith("http://") || photoUrl.startsWith("https://")) {
                 log.info("외부 HTTP URL에서 이미지 로드: {}", photoUrl);
-                URL url = new URL(photoUrl);
-                try (InputStream inputStream = url.openStream()) {
-                    imageBytes = StreamUtils.copyToByteArray(inputStream);
-                }
+                return download(photoUrl, mimeType);
             } else {
                 Path absolutePath = Paths.get(photoUrl);
                 log.info("로컬 파일에서 이미지 로드: {}", absolutePath);
-
-                if (!Files.exists(absolutePath)) {
-                    log.error("로컬 파일을 찾을 수 없음: {}", absolutePath);
-                    throw new AiException(AiErrorCode.IMAGE_FILE_NOT_FOUND);
-                }
-
-                imageBytes = Files.readAllBytes(absolutePath);
+                return openLocalFile(absolutePath, mimeType);
             }
 
-            String base64 = Base64.getEncoder().encodeToString(imageBytes);
-            log.info("이미지 로드 완료 - 크기: {} bytes, Base64 길이: {}", imageBytes.length, base64.length());
-            return base64;
-
         } catch (AiException e) {
             throw e;
         } catch (IOException e) {
@@ -84,8 +79,51 @@ public class ImageProcessingService {
     }
 
     public byte[] generatePlaceholderImage() {
-        String base64Image = "/9j/4AAQSkZJRgABAQEAYABgAAD/2wBDAAgGBgcGBQgHBwcJCQgKDBQNDAsLDBkSEw8UHRofHh0aHBwgJC4nICIsIxwcKDcpLDAxNDQ0Hyc5PTgyPC4zNDL/2wBDAQkJCQwLDBgNDRgyIRwhMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjIyMjL/wAARCAABAAEDASIAAhEBAxEB/8QAFQABAQAAAAAAAAAAAAAAAAAAAAv/xAAUEAEAAAAAAAAAAAAAAAAAAAAA/8QAFQEBAQAAAAAAAAAAAAAAAAAAAAX/xAAUEQEAAAAAAAAAAAAAAAAAAAAA/9oADAMBAAIRAxEAPwCXABmAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA//2Q==";
-        return Base64.getDecoder().decode(base64Image);
+        return PLACEHOLDER_IMAGE.clone();
+    }
+
+    // Placeholder 이미지인지 확인합니다 (API 키 미설정, 할당량 초과, 호출 실패 시 대체 결과).
+    public boolean isPlaceholderImage(byte[] imageData) {
+        return Arrays.equals(PLACEHOLDER_IMAGE, imageData);
+    }
+
+    private SourceImage openLocalFile(Path path, String mimeType) throws IOException {
+        if (!Files.exists(path)) {
+            log.error("로컬 파일을 찾을 수 없음: {}", path);
+            throw new AiException(AiErrorCode.IMAGE_FILE_NOT_FOUND);
+        }
+        MessageDigest digest = sha256();
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(path), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        SourceImage source = new SourceImage(path, mimeType, Files.size(path),
+                HexFormat.of().formatHex(digest.digest()), false);
+        log.info("이미지 로드 완료 - 크기: {} bytes", source.size());
+        return source;
+    }
+
+    // 외부 이미지를 임시 파일로 스트리밍해 내려받으며 내용 해시를 함께 계산합니다.
+    private SourceImage download(String photoUrl, String mimeType) throws IOException {
+        Path tempFile = Files.createTempFile("ai-source-", ".img");
+        MessageDigest digest = sha256();
+        try (InputStream inputStream = new DigestInputStream(new URL(photoUrl).openStream(), digest)) {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        SourceImage source = new SourceImage(tempFile, mimeType, Files.size(tempFile),
+                HexFormat.of().formatHex(digest.digest()), true);
+        log.info("이미지 로드 완료 - 크기: {} bytes", source.size());
+        return source;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 
     private Path convertUrlToLocalPath(String photoUrl) {
@@ -0,0 +1,31 @@
+package baro.baro.domain.ai.processing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// AI 생성 요청에 보낼 원본 이미지 파일
+//
+// 이미지를 메모리에 올리지 않고 파일 경로로 전달해, 요청 본문을 쓸 때 파일에서 바로 Base64로 인코딩합니다.
+// 외부 URL에서 내려받은 파일은 임시 파일이므로 사용 후 close()로 삭제합니다.
+//
+// @param path 이미지 파일 경로
+// @param mimeType MIME 타입
+// @param size 파일 크기 (bytes)
+// @param contentHash 내용 식별 해시 (원본은 파일 SHA-256 hex, 전처리 결과는 원본 해시 + 변환 설정), 생성 결과 캐시 키로 사용
+// @param temporary close() 시 삭제할 임시 파일 여부
+public record SourceImage(Path path, String mimeType, long size, String contentHash, boolean temporary)
+        implements AutoCloseable {
+
+    @Override
+    public void close() {
+        if (!temporary) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            path.toFile().deleteOnExit();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package baro.baro.domain.ai.repository;
+
+import baro.baro.domain.ai.entity.AiGenerationCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+// AI 생성 결과 캐시 Repository
+@Repository
+public interface AiGenerationCacheRepository extends JpaRepository<AiGenerationCache, String> {
+
+    // 캐시 항목이 없으면 생성 (같은 키가 동시에 저장되어도 먼저 저장된 결과를 유지)
+    @Modifying
+    @Query(value = "INSERT INTO youfi.ai_generation_cache (cache_key, asset_type, model, image_url, hit_count, created_at) " +
+                   "VALUES (:cacheKey, :assetType, :model, :imageUrl, 0, :createdAt) " +
+                   "ON CONFLICT (cache_key) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("cacheKey") String cacheKey,
+                       @Param("assetType") String assetType,
+                       @Param("model") String model,
+                       @Param("imageUrl") String imageUrl,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    // 재사용 기록 (횟수 증가, 마지막 재사용 시간 갱신)
+    @Modifying
+    @Query("UPDATE AiGenerationCache c SET c.hitCount = c.hitCount + 1, c.lastHitAt = :hitAt " +
+           "WHERE c.cacheKey = :cacheKey")
+    int recordHit(@Param("cacheKey") String cacheKey, @Param("hitAt") LocalDateTime hitAt);
+
+    // 기준 시각 이후 재사용되지 않은 항목 삭제 (재사용된 적 없으면 생성 시간 기준)
+    @Modifying
+    @Query("DELETE FROM AiGenerationCache c WHERE COALESCE(c.lastHitAt, c.createdAt) < :threshold")
+    int deleteUnusedBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,35 @@
+package baro.baro.domain.ai.repository;
+
+import baro.baro.domain.ai.entity.AiQuotaBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+// 외부 AI API 할당량 버킷 Repository
+@Repository
+public interface AiQuotaBucketRepository extends JpaRepository<AiQuotaBucket, String> {
+
+    // 버킷을 잠그고 조회 (다른 인스턴스는 트랜잭션이 끝날 때까지 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AiQuotaBucket b WHERE b.bucketKey = :bucketKey")
+    Optional<AiQuotaBucket> findForUpdate(@Param("bucketKey") String bucketKey);
+
+    // 버킷이 없으면 가득 찬 상태로 생성 (여러 인스턴스가 동시에 생성해도 한 행만 남음)
+    @Modifying
+    @Query(value = "INSERT INTO youfi.ai_quota_buckets (bucket_key, tokens, refilled_at, daily_window, daily_used) " +
+                   "VALUES (:bucketKey, :tokens, :refilledAt, :dailyWindow, 0) " +
+                   "ON CONFLICT (bucket_key) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("bucketKey") String bucketKey,
+                       @Param("tokens") double tokens,
+                       @Param("refilledAt") Instant refilledAt,
+                       @Param("dailyWindow") LocalDate dailyWindow);
+}
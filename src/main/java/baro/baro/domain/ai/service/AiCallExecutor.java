@@ -0,0 +1,108 @@
+package baro.baro.domain.ai.service;
+
+import baro.baro.domain.ai.exception.AiErrorCode;
+import baro.baro.domain.ai.exception.AiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// AI API 호출 전용 실행기
+//
+// Gemini 호출은 응답까지 스레드를 블로킹하므로 공용 ForkJoinPool 대신 이름 있는 고정 크기 풀(기본 8개, 대기 32개)에서 실행합니다.
+// 대기열이 가득 차면 작업을 실행하지 않고 IMAGE_JOB_QUEUE_FULL로 실패한 future를 반환합니다.
+@Slf4j
+@Component
+public class AiCallExecutor {
+
+    private final Executor executor;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public AiCallExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${ai.call-executor.threads:8}") int threads,                // 동시 AI 호출 스레드 수
+            @Value("${ai.call-executor.queue-capacity:32}") int queueCapacity   // 실행 대기 호출 수
+    ) {
+        this(meterRegistry, createExecutor(threads, queueCapacity));
+    }
+
+    AiCallExecutor(MeterRegistry meterRegistry, Executor executor) {
+        this.executor = executor;
+
+        this.acceptedCounter = submissionCounter(meterRegistry, "accepted");
+        this.rejectedCounter = submissionCounter(meterRegistry, "rejected");
+        Gauge.builder("ai_call_executor_queued", queued, AtomicInteger::get)
+                .description("실행 대기 중인 AI 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("ai_call_executor_active", active, AtomicInteger::get)
+                .description("실행 중인 AI 호출 수")
+                .register(meterRegistry);
+    }
+
+    // 호출을 전용 풀에서 실행합니다.
+    //
+    // @param call AI 호출 (작업자 스레드에서 실행)
+    // @return 호출 결과 (대기열이 가득 차면 IMAGE_JOB_QUEUE_FULL로 실패한 future)
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> call) {
+        queued.incrementAndGet();
+        try {
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
+                queued.decrementAndGet();
+                active.incrementAndGet();
+                try {
+                    return call.get();
+                } finally {
+                    active.decrementAndGet();
+                }
+            }, executor);
+            acceptedCounter.increment();
+            return future;
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            rejectedCounter.increment();
+            log.warn("AI 호출 거부 (대기열 가득 참) - 대기: {}, 실행 중: {}", queued.get(), active.get());
+            return CompletableFuture.failedFuture(new AiException(AiErrorCode.IMAGE_JOB_QUEUE_FULL));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor taskExecutor) {
+            taskExecutor.shutdown();
+        }
+    }
+
+    private static Counter submissionCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai_call_executor_submissions_total")
+                .description("AI 호출 실행기 제출 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Executor createExecutor(int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, threads));
+        executor.setMaxPoolSize(Math.max(1, threads));
+        executor.setQueueCapacity(Math.max(0, queueCapacity));
+        executor.setThreadNamePrefix("ai-call-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
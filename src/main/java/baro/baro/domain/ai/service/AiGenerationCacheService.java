@@ -0,0 +1,153 @@
+package baro.baro.domain.ai.service;
+
+import baro.baro.domain.ai.entity.AiGenerationCache;
+import baro.baro.domain.ai.entity.AssetType;
+import baro.baro.domain.ai.repository.AiGenerationCacheRepository;
+import baro.baro.domain.image.service.ImageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+// AI 이미지 생성 결과 캐시 서비스
+//
+// 같은 원본 사진에 같은 프롬프트/모델/에셋 타입으로 다시 생성하는 경우(재시도, 여러 가족 구성원의 요청, 화면 재진입)
+// 저장된 결과를 돌려줘 할당량 대기와 Gemini 호출을 건너뜁니다.
+// 캐시된 파일이 디스크에서 사라졌으면 항목을 지우고 미스로 처리합니다.
+// 보관 기간 동안 재사용되지 않은 항목은 매일 정리됩니다 (이미지 파일은 AI 에셋이 계속 참조하므로 지우지 않습니다).
+@Slf4j
+@Service
+public class AiGenerationCacheService {
+
+    private static final String KEY_SEPARATOR = "\n";
+
+    private final AiGenerationCacheRepository cacheRepository;
+    private final ImageService imageService;
+    private final boolean enabled;
+    private final int retentionDays;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter staleCounter;
+
+    public AiGenerationCacheService(
+            AiGenerationCacheRepository cacheRepository,
+            ImageService imageService,
+            MeterRegistry meterRegistry,
+            @Value("${ai.generation-cache.enabled:true}") boolean enabled,          // 캐시 사용 여부
+            @Value("${ai.generation-cache.retention-days:90}") int retentionDays    // 미사용 항목 보관 일수
+    ) {
+        this.cacheRepository = cacheRepository;
+        this.imageService = imageService;
+        this.enabled = enabled;
+        this.retentionDays = Math.max(1, retentionDays);
+
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.staleCounter = lookupCounter(meterRegistry, "stale");
+    }
+
+    // 캐시 키를 계산합니다.
+    //
+    // @param sourceHash 원본 이미지 파일 내용 해시 (SourceImage.contentHash())
+    // @param model 생성 모델
+    // @param assetType 에셋 타입
+    // @param variant 변형 순번 (같은 프롬프트로 여러 장을 생성할 때 각 결과를 구분)
+    // @param prompt 프롬프트
+    // @return SHA-256 hex
+    public String keyOf(String sourceHash, String model, AssetType assetType, int variant, String prompt) {
+        return sha256Hex(sourceHash + KEY_SEPARATOR
+                + model + KEY_SEPARATOR
+                + assetType + KEY_SEPARATOR
+                + variant + KEY_SEPARATOR
+                + prompt);
+    }
+
+    // 캐시된 이미지 URL을 조회합니다.
+    //
+    // @param cacheKey 캐시 키
+    // @return 저장된 이미지 URL (없거나 파일이 사라졌으면 empty)
+    @Transactional
+    public Optional<String> find(String cacheKey) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Optional<AiGenerationCache> cached = cacheRepository.findById(cacheKey);
+        if (cached.isEmpty()) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        String imageUrl = cached.get().getImageUrl();
+        if (!imageService.existsStoredImage(imageUrl)) {
+            cacheRepository.delete(cached.get());
+            staleCounter.increment();
+            log.warn("AI 생성 캐시 파일 없음 - 항목 삭제. URL: {}", imageUrl);
+            return Optional.empty();
+        }
+
+        cacheRepository.recordHit(cacheKey, LocalDateTime.now());
+        hitCounter.increment();
+        return Optional.of(imageUrl);
+    }
+
+    // 생성 결과를 저장합니다. 같은 키가 이미 있으면(동시 저장 포함) 먼저 저장된 결과를 유지합니다.
+    //
+    // @param cacheKey 캐시 키
+    // @param assetType 에셋 타입
+    // @param model 생성 모델
+    // @param imageUrl 저장된 이미지 URL
+    @Transactional
+    public void put(String cacheKey, AssetType assetType, String model, String imageUrl) {
+        if (!enabled) {
+            return;
+        }
+
+        AiGenerationCache cache = AiGenerationCache.create(cacheKey, assetType, model, imageUrl);
+        int inserted = cacheRepository.insertIfAbsent(cache.getCacheKey(), cache.getAssetType().name(),
+                cache.getModel(), cache.getImageUrl(), cache.getCreatedAt());
+        if (inserted == 0) {
+            log.debug("AI 생성 캐시 항목 존재 - 기존 항목 유지. key: {}", cacheKey);
+        }
+    }
+
+    // 보관 기간 동안 재사용되지 않은 항목을 정리합니다.
+    //
+    // @return 삭제된 항목 수
+    @Transactional
+    @Scheduled(cron = "${ai.generation-cache.cleanup-cron:0 45 4 * * *}")
+    public int evictUnused() {
+        int deleted = cacheRepository.deleteUnusedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("미사용 AI 생성 캐시 정리 - {}건", deleted);
+        }
+        return deleted;
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai_generation_cache_requests_total")
+                .description("AI 이미지 생성 결과 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,59 @@
+package baro.baro.domain.ai.service;
+
+import baro.baro.domain.ai.entity.AiImageJobStatus;
+import baro.baro.domain.ai.entity.AssetType;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// AI 이미지 생성 작업
+// 상태 변경은 AiImageJobRegistry의 작업자 스레드만 수행하고, 조회는 요청 스레드에서 수행합니다.
+@Getter
+public class AiImageJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long userId;
+    private final Long missingPersonId;
+    private final AssetType assetType;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile AiImageJobStatus status = AiImageJobStatus.QUEUED;
+    private volatile List<String> imageUrls = List.of();
+    private volatile String errorCode;
+    private volatile String errorMessage;
+    private volatile LocalDateTime completedAt;
+
+    // 완료 이벤트를 기다리는 SSE 연결
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    AiImageJob(Long userId, Long missingPersonId, AssetType assetType) {
+        this.userId = userId;
+        this.missingPersonId = missingPersonId;
+        this.assetType = assetType;
+    }
+
+    public boolean isDone() {
+        return status.isDone();
+    }
+
+    void markRunning() {
+        this.status = AiImageJobStatus.RUNNING;
+    }
+
+    void markSucceeded(List<String> imageUrls) {
+        this.imageUrls = List.copyOf(imageUrls);
+        this.completedAt = LocalDateTime.now();
+        this.status = AiImageJobStatus.SUCCEEDED;
+    }
+
+    void markFailed(String errorCode, String errorMessage) {
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        this.completedAt = LocalDateTime.now();
+        this.status = AiImageJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,228 @@
+package baro.baro.domain.ai.service;
+
+import baro.baro.domain.ai.dto.res.AiImageJobResponse;
+import baro.baro.domain.ai.entity.AssetType;
+import baro.baro.domain.ai.exception.AiErrorCode;
+import baro.baro.domain.ai.exception.AiException;
+import baro.baro.domain.common.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// AI 이미지 생성 작업 레지스트리
+//
+// 요청 스레드는 작업을 등록하고 즉시 반환하며, 생성은 전용 작업자 풀(기본 2개, 대기 20개)이 트랜잭션 밖에서 수행합니다.
+// 대기열이 가득 차면 IMAGE_JOB_QUEUE_FULL(503)로 거부합니다.
+// 같은 실종자/에셋 타입의 작업이 진행 중이면 새 작업을 만들지 않고 기존 작업을 반환해 Gemini 할당량 중복 사용을 막습니다.
+// 완료된 작업은 보관 기간이 지나면 정리됩니다 (인스턴스 메모리에만 보관).
+@Slf4j
+@Component
+public class AiImageJobRegistry {
+
+    private final Map<String, AiImageJob> jobs = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final Executor workerExecutor;
+    private final long retentionMillis;
+
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Counter deduplicatedCounter;
+    private final Timer durationTimer;
+
+    @Autowired
+    public AiImageJobRegistry(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${ai.image-job.workers:2}") int workers,                    // 생성 작업자 스레드 수
+            @Value("${ai.image-job.queue-capacity:20}") int queueCapacity,      // 작업자 대기 작업 수
+            @Value("${ai.image-job.retention-ms:3600000}") long retentionMillis // 완료 작업 보관 시간
+    ) {
+        this(objectMapper, meterRegistry, createWorkerExecutor(workers, queueCapacity), retentionMillis);
+    }
+
+    AiImageJobRegistry(ObjectMapper objectMapper, MeterRegistry meterRegistry, Executor workerExecutor,
+                       long retentionMillis) {
+        this.objectMapper = objectMapper;
+        this.workerExecutor = workerExecutor;
+        this.retentionMillis = Math.max(0L, retentionMillis);
+
+        this.succeededCounter = jobCounter(meterRegistry, "succeeded");
+        this.failedCounter = jobCounter(meterRegistry, "failed");
+        this.rejectedCounter = jobCounter(meterRegistry, "rejected");
+        this.deduplicatedCounter = jobCounter(meterRegistry, "deduplicated");
+        this.durationTimer = Timer.builder("ai_image_job_duration_seconds")
+                .description("AI 이미지 생성 작업 실행 시간 (생성 및 저장)")
+                .register(meterRegistry);
+        Gauge.builder("ai_image_jobs_active", jobs, registered ->
+                        registered.values().stream().filter(job -> !job.isDone()).count())
+                .description("대기 중이거나 실행 중인 AI 이미지 생성 작업 수")
+                .register(meterRegistry);
+    }
+
+    // 생성 작업을 등록합니다.
+    //
+    // @param userId 요청 사용자 ID
+    // @param missingPersonId 실종자 ID
+    // @param assetType 에셋 타입
+    // @param generation 생성 및 저장 작업 (작업자 스레드에서 실행, 생성된 이미지 URL 반환)
+    // @return 등록된 작업 (같은 대상의 작업이 진행 중이면 기존 작업)
+    public synchronized AiImageJob submit(Long userId, Long missingPersonId, AssetType assetType,
+                                          Supplier<List<String>> generation) {
+        for (AiImageJob job : jobs.values()) {
+            if (!job.isDone() && job.getMissingPersonId().equals(missingPersonId) && job.getAssetType() == assetType) {
+                deduplicatedCounter.increment();
+                log.info("진행 중인 AI 이미지 생성 작업 재사용 - jobId: {}, MissingPersonId: {}", job.getId(), missingPersonId);
+                return job;
+            }
+        }
+
+        AiImageJob job = new AiImageJob(userId, missingPersonId, assetType);
+        jobs.put(job.getId(), job);
+        try {
+            workerExecutor.execute(() -> run(job, generation));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            rejectedCounter.increment();
+            log.warn("AI 이미지 생성 작업 거부 (대기열 가득 참) - MissingPersonId: {}", missingPersonId);
+            throw new AiException(AiErrorCode.IMAGE_JOB_QUEUE_FULL);
+        }
+        log.info("AI 이미지 생성 작업 등록 - jobId: {}, MissingPersonId: {}, AssetType: {}",
+                job.getId(), missingPersonId, assetType);
+        return job;
+    }
+
+    // 작업을 조회합니다.
+    //
+    // @param jobId 작업 ID
+    // @return 작업 (없거나 보관 기간이 지났으면 null)
+    public AiImageJob find(String jobId) {
+        return jobId == null ? null : jobs.get(jobId);
+    }
+
+    // 작업 완료 이벤트를 받을 SSE 연결을 등록합니다. 이미 완료된 작업이면 즉시 전송하고 연결을 종료합니다.
+    //
+    // @param job 작업
+    // @param emitter SSE Emitter
+    public void subscribe(AiImageJob job, SseEmitter emitter) {
+        job.getEmitters().add(emitter);
+        emitter.onCompletion(() -> job.getEmitters().remove(emitter));
+        emitter.onTimeout(() -> {
+            job.getEmitters().remove(emitter);
+            emitter.complete();
+        });
+        emitter.onError(e -> job.getEmitters().remove(emitter));
+
+        // 등록 전에 완료된 경우 - 완료 알림과 중복되지 않도록 제거에 성공한 쪽만 전송합니다.
+        if (job.isDone() && job.getEmitters().remove(emitter)) {
+            sendCompletion(job, emitter);
+        }
+    }
+
+    // 보관 기간이 지난 완료 작업을 정리합니다.
+    //
+    // @return 정리된 작업 수
+    @Scheduled(fixedDelayString = "${ai.image-job.cleanup-interval-ms:60000}")
+    public int evictExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(retentionMillis));
+        int before = jobs.size();
+        jobs.values().removeIf(job -> job.isDone() && !job.getCompletedAt().isAfter(threshold));
+        int evicted = before - jobs.size();
+        if (evicted > 0) {
+            log.debug("완료된 AI 이미지 생성 작업 정리 - {}건", evicted);
+        }
+        return evicted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workerExecutor instanceof ThreadPoolTaskExecutor executor) {
+            executor.shutdown();
+        }
+    }
+
+    private void run(AiImageJob job, Supplier<List<String>> generation) {
+        long startNanos = System.nanoTime();
+        job.markRunning();
+        try {
+            job.markSucceeded(generation.get());
+            succeededCounter.increment();
+            log.info("AI 이미지 생성 작업 완료 - jobId: {}, 이미지 수: {}", job.getId(), job.getImageUrls().size());
+        } catch (AiException e) {
+            job.markFailed(e.getAiErrorCode().name(), e.getAiErrorCode().getMessage());
+            failedCounter.increment();
+            log.warn("AI 이미지 생성 작업 실패 - jobId: {}, 오류: {}", job.getId(), e.getAiErrorCode());
+        } catch (BusinessException e) {
+            job.markFailed(e.getErrorCode().name(), e.getMessage());
+            failedCounter.increment();
+            log.warn("AI 이미지 생성 작업 실패 - jobId: {}, 오류: {}", job.getId(), e.getMessage());
+        } catch (RuntimeException e) {
+            job.markFailed(AiErrorCode.IMAGE_GENERATION_FAILED.name(), AiErrorCode.IMAGE_GENERATION_FAILED.getMessage());
+            failedCounter.increment();
+            log.error("AI 이미지 생성 작업 실패 - jobId: {}", job.getId(), e);
+        } finally {
+            durationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        for (SseEmitter emitter : job.getEmitters()) {
+            if (job.getEmitters().remove(emitter)) {
+                sendCompletion(job, emitter);
+            }
+        }
+    }
+
+    private void sendCompletion(AiImageJob job, SseEmitter emitter) {
+        try {
+            String json = objectMapper.writeValueAsString(AiImageJobResponse.create(job));
+            emitter.send(SseEmitter.event()
+                    .name("ai-image-job")
+                    .data(json));
+            emitter.complete();
+        } catch (JsonProcessingException e) {
+            log.error("AI 이미지 생성 작업 이벤트 직렬화 실패 - jobId: {}", job.getId(), e);
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("AI 이미지 생성 작업 이벤트 전송 실패 - jobId: {}, 이유: {}", job.getId(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private static Counter jobCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai_image_jobs_total")
+                .description("AI 이미지 생성 작업 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Executor createWorkerExecutor(int workers, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, workers));
+        executor.setMaxPoolSize(Math.max(1, workers));
+        executor.setQueueCapacity(Math.max(0, queueCapacity));
+        executor.setThreadNamePrefix("ai-image-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
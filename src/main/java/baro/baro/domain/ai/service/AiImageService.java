@@ -4,6 +4,9 @@ import baro.baro.domain.ai.dto.req.GenerateAiImageRequest;
 import baro.baro.domain.ai.dto.res.GenerateAiImageResponse;
 import baro.baro.domain.ai.dto.req.ApplyAiImageRequest;
 import baro.baro.domain.ai.dto.res.ApplyAiImageResponse;
+import baro.baro.domain.ai.dto.res.AiImageJobResponse;
+import baro.baro.domain.user.entity.User;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 // AI 이미지 생성 서비스 인터페이스
 // 실종자 정보를 기반으로 AI 이미지를 생성하는 서비스
@@ -13,6 +16,16 @@ public interface AiImageService {
     // - 인상착의 이미지는 생성 즉시 MissingPerson에 자동 저장됨
     GenerateAiImageResponse generateImage(GenerateAiImageRequest request);
 
+    // AI 이미지 생성 작업 등록 (요청 검증 후 즉시 반환, 생성은 작업자 스레드에서 수행)
+    // - 생성 결과는 getImageJob 폴링 또는 subscribeImageJob 완료 이벤트로 확인
+    AiImageJobResponse submitImageJob(GenerateAiImageRequest request);
+
+    // AI 이미지 생성 작업 조회 (요청한 사용자 또는 관리자만)
+    AiImageJobResponse getImageJob(String jobId);
+
+    // AI 이미지 생성 작업 완료 이벤트 구독 (요청한 사용자 또는 관리자만)
+    void subscribeImageJob(String jobId, User user, SseEmitter emitter);
+
     // 성장/노화 이미지만 선택하여 MissingPerson 대표 이미지로 적용
     // - 인상착의 이미지는 이 메서드 사용 불가 (생성 시 자동 저장됨)
     ApplyAiImageResponse applySelectedImage(ApplyAiImageRequest request);
@@ -4,6 +4,7 @@ import baro.baro.domain.ai.dto.req.GenerateAiImageRequest;
 import baro.baro.domain.ai.dto.res.GenerateAiImageResponse;
 import baro.baro.domain.ai.dto.req.ApplyAiImageRequest;
 import baro.baro.domain.ai.dto.res.ApplyAiImageResponse;
+import baro.baro.domain.ai.dto.res.AiImageJobResponse;
 import baro.baro.domain.ai.entity.AiAsset;
 import baro.baro.domain.ai.exception.AiErrorCode;
 import baro.baro.domain.ai.exception.AiException;
@@ -15,73 +16,150 @@ import baro.baro.domain.missingperson.exception.MissingPersonErrorCode;
 import baro.baro.domain.missingperson.exception.MissingPersonException;
 import baro.baro.domain.missingperson.repository.MissingCaseRepository;
 import baro.baro.domain.user.entity.User;
-import lombok.RequiredArgsConstructor;
+import baro.baro.domain.user.entity.UserRole;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static baro.baro.domain.common.util.SecurityUtil.getCurrentUser;
 
+// 이미지 생성(Gemini 호출)은 수십 초~수 분이 걸리므로 트랜잭션 밖에서 수행합니다.
+// 실종자 조회/권한 검증과 AiAsset 저장만 각각 짧은 트랜잭션으로 처리해 DB 커넥션을 생성 시간 동안 점유하지 않습니다.
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AiImageServiceImpl implements AiImageService {
 
     private final MissingCaseRepository missingCaseRepository;
     private final AiAssetRepository aiAssetRepository;
     private final GoogleGenAiService googleGenAiService;
-    
-    // AI 이미지 생성
+    private final AiImageJobRegistry aiImageJobRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public AiImageServiceImpl(MissingCaseRepository missingCaseRepository,
+                              AiAssetRepository aiAssetRepository,
+                              GoogleGenAiService googleGenAiService,
+                              AiImageJobRegistry aiImageJobRegistry,
+                              PlatformTransactionManager transactionManager) {
+        this.missingCaseRepository = missingCaseRepository;
+        this.aiAssetRepository = aiAssetRepository;
+        this.googleGenAiService = googleGenAiService;
+        this.aiImageJobRegistry = aiImageJobRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    // AI 이미지 생성 (요청 스레드에서 완료까지 대기)
     @Override
-    @Transactional
     public GenerateAiImageResponse generateImage(GenerateAiImageRequest request) {
         User currentUser = getCurrentUser(); // 현재 인증된 사용자 정보 조회
 
         log.info("AI 이미지 생성 요청 - MissingPersonId: {}, AssetType: {}",
                 request.getMissingPersonId(), request.getAssetType());
 
-        // 1. MissingPerson 조회 및 검증
-        MissingCase missingCase = missingCaseRepository.findByMissingPersonId(request.getMissingPersonId())
-                .orElseThrow(() -> new MissingPersonException(MissingPersonErrorCode.MISSING_CASE_NOT_FOUND));
+        MissingPerson missingPerson = loadAuthorizedMissingPerson(request.getMissingPersonId(), currentUser);
+        List<String> imageUrls = generateAndSave(request.getMissingPersonId(), missingPerson, request.getAssetType());
 
-        // 2. 접근 권한 검증
-        missingCase.getReportedBy()
-                .validateUserAccess(currentUser);
+        return GenerateAiImageResponse.create(request.getAssetType(), imageUrls);
+    }
 
-        // 3. MissingPerson 정보 가져오기
-        MissingPerson missingPerson = missingCase.getMissingPerson();
-        
-        if (missingPerson == null) {
-            throw new AiException(AiErrorCode.MISSING_PERSON_NOT_FOUND);
-        }
+    // AI 이미지 생성 작업 등록
+    @Override
+    public AiImageJobResponse submitImageJob(GenerateAiImageRequest request) {
+        User currentUser = getCurrentUser(); // 현재 인증된 사용자 정보 조회
+
+        log.info("AI 이미지 생성 작업 요청 - MissingPersonId: {}, AssetType: {}",
+                request.getMissingPersonId(), request.getAssetType());
+
+        // 조회/권한 오류는 작업 등록 전에 요청자에게 바로 반환
+        MissingPerson missingPerson = loadAuthorizedMissingPerson(request.getMissingPersonId(), currentUser);
+        AiImageJob job = aiImageJobRegistry.submit(currentUser.getId(), request.getMissingPersonId(),
+                request.getAssetType(),
+                () -> generateAndSave(request.getMissingPersonId(), missingPerson, request.getAssetType()));
+
+        return AiImageJobResponse.create(job);
+    }
+
+    // AI 이미지 생성 작업 조회
+    @Override
+    public AiImageJobResponse getImageJob(String jobId) {
+        return AiImageJobResponse.create(findAccessibleJob(jobId, getCurrentUser()));
+    }
+
+    // AI 이미지 생성 작업 완료 이벤트 구독
+    @Override
+    public void subscribeImageJob(String jobId, User user, SseEmitter emitter) {
+        aiImageJobRegistry.subscribe(findAccessibleJob(jobId, user), emitter);
+    }
+
+    // 실종자 조회 및 접근 권한 검증 (읽기 전용 트랜잭션)
+    // 생성은 트랜잭션 밖에서 수행하므로 지연 로딩 프록시가 아닌 실제 엔티티를 반환합니다.
+    private MissingPerson loadAuthorizedMissingPerson(Long missingPersonId, User currentUser) {
+        return readOnlyTransactionTemplate.execute(status -> {
+            // 1. MissingPerson 조회 및 검증
+            MissingCase missingCase = missingCaseRepository.findByMissingPersonId(missingPersonId)
+                    .orElseThrow(() -> new MissingPersonException(MissingPersonErrorCode.MISSING_CASE_NOT_FOUND));
+
+            // 2. 접근 권한 검증
+            missingCase.getReportedBy()
+                    .validateUserAccess(currentUser);
+
+            // 3. MissingPerson 정보 가져오기
+            MissingPerson missingPerson = missingCase.getMissingPerson();
+            if (missingPerson == null) {
+                throw new AiException(AiErrorCode.MISSING_PERSON_NOT_FOUND);
+            }
+            return Hibernate.unproxy(missingPerson, MissingPerson.class);
+        });
+    }
+
+    // Google GenAI로 이미지를 생성한 뒤 결과만 짧은 트랜잭션으로 저장합니다.
+    private List<String> generateAndSave(Long missingPersonId, MissingPerson missingPerson, AssetType assetType) {
+        List<String> imageUrls = googleGenAiService.generateImages(missingPerson, assetType);
+        transactionTemplate.executeWithoutResult(status -> saveAssets(missingPersonId, assetType, imageUrls));
+        return imageUrls;
+    }
 
-        // 4. Google GenAI로 이미지 생성
-        List<String> imageUrls;
-        imageUrls = googleGenAiService.generateImages(missingPerson, request.getAssetType());
+    // AiAsset 저장 (여러 레코드), 인상착의 이미지는 MissingPerson에 자동 적용
+    private void saveAssets(Long missingPersonId, AssetType assetType, List<String> imageUrls) {
+        MissingPerson missingPerson = missingCaseRepository.findByMissingPersonId(missingPersonId)
+                .map(MissingCase::getMissingPerson)
+                .orElseThrow(() -> new AiException(AiErrorCode.MISSING_PERSON_NOT_FOUND));
 
-        // 5. AiAsset에 저장 (여러 레코드)
         List<AiAsset> savedAssets = new ArrayList<>();
         for (int i = 0; i < imageUrls.size(); i++) {
             AiAsset asset = AiAsset.builder()
                     .missingPerson(missingPerson)
-                    .assetType(request.getAssetType())
+                    .assetType(assetType)
                     .assetUrl(imageUrls.get(i))
                     .sequenceOrder(i) // 순서 저장 (0, 1, 2...)
                     .build();
             savedAssets.add(aiAssetRepository.save(asset));
         }
 
-        if (request.getAssetType() == AssetType.GENERATED_IMAGE && !imageUrls.isEmpty()) {
+        if (assetType == AssetType.GENERATED_IMAGE && !imageUrls.isEmpty()) {
             missingPerson.updateAiImage(imageUrls.get(0), AssetType.GENERATED_IMAGE);
             log.info("인상착의 이미지 MissingPerson에 자동 적용 완료 - URL: {}", imageUrls.get(0));
         }
 
         log.info("AI 이미지 생성 완료 - 총 {}장 저장됨", savedAssets.size());
+    }
 
-        return GenerateAiImageResponse.create(request.getAssetType(), imageUrls);
+    // 요청한 사용자(또는 관리자)의 작업만 반환합니다. 다른 사용자의 작업은 존재 여부를 노출하지 않습니다.
+    private AiImageJob findAccessibleJob(String jobId, User user) {
+        AiImageJob job = aiImageJobRegistry.find(jobId);
+        if (job == null || (user.getRole() != UserRole.ADMIN && !job.getUserId().equals(user.getId()))) {
+            throw new AiException(AiErrorCode.IMAGE_JOB_NOT_FOUND);
+        }
+        return job;
     }
 
     // 선택한 성장/노화 이미지를 MissingPerson 대표 이미지로 적용
@@ -0,0 +1,173 @@
+package baro.baro.domain.ai.service;
+
+import baro.baro.domain.ai.entity.AiQuotaBucket;
+import baro.baro.domain.ai.repository.AiQuotaBucketRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Gemini API 할당량 스케줄러 (토큰 버킷)
+//
+// 분당 제한(RPM)은 토큰 버킷, 일일 제한(RPD)은 할당량 초기화 시간대 기준 날짜별 사용 수로 관리하며,
+// 상태는 youfi.ai_quota_buckets 행에 저장되어 재시작 후에도 유지되고 여러 인스턴스가 공유합니다.
+// 토큰이 없으면 즉시 거절하지 않고 최대 대기 시간까지 기다립니다.
+// 인스턴스 안의 호출자는 공정(FIFO) 잠금 순서대로 한 명씩 토큰을 기다리므로 먼저 온 요청이 먼저 처리됩니다.
+// 일일 할당량이 소진되어 대기 시간 안에 토큰이 생기지 않으면 기다리지 않고 바로 false를 반환합니다.
+@Slf4j
+@Component
+public class GeminiQuotaScheduler {
+
+    static final String BUCKET_KEY = "gemini-image";
+
+    private final AiQuotaBucketRepository bucketRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int rpm;
+    private final int rpd;
+    private final Duration maxWait;
+    private final ZoneId resetZone;
+
+    private final ReentrantLock queueLock = new ReentrantLock(true);
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private volatile int lastDailyUsed;
+
+    private final Counter grantedCounter;
+    private final Counter timeoutCounter;
+    private final Counter errorCounter;
+    private final Timer waitTimer;
+
+    @Autowired
+    public GeminiQuotaScheduler(
+            AiQuotaBucketRepository bucketRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${google.gemini.quota.rpm:10}") int rpm,                                   // 분당 요청 수
+            @Value("${google.gemini.quota.rpd:100}") int rpd,                                  // 일일 요청 수
+            @Value("${google.gemini.quota.max-wait-seconds:30}") long maxWaitSeconds,          // 토큰 최대 대기 시간
+            @Value("${google.gemini.quota.reset-zone:America/Los_Angeles}") String resetZone   // 일일 할당량 초기화 시간대
+    ) {
+        this(bucketRepository, transactionManager, meterRegistry, Clock.systemUTC(),
+                rpm, rpd, Duration.ofSeconds(Math.max(0L, maxWaitSeconds)), ZoneId.of(resetZone));
+    }
+
+    GeminiQuotaScheduler(AiQuotaBucketRepository bucketRepository, PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry, Clock clock, int rpm, int rpd, Duration maxWait,
+                         ZoneId resetZone) {
+        this.bucketRepository = bucketRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.rpm = rpm;
+        this.rpd = rpd;
+        this.maxWait = maxWait;
+        this.resetZone = resetZone;
+
+        this.grantedCounter = acquireCounter(meterRegistry, "granted");
+        this.timeoutCounter = acquireCounter(meterRegistry, "timeout");
+        this.errorCounter = acquireCounter(meterRegistry, "error");
+        this.waitTimer = Timer.builder("ai_quota_wait_seconds")
+                .description("Gemini 할당량 토큰 대기 시간")
+                .register(meterRegistry);
+        Gauge.builder("ai_quota_waiting", waitingCount, AtomicInteger::get)
+                .description("Gemini 할당량 토큰을 기다리는 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("ai_quota_daily_used", this, scheduler -> scheduler.lastDailyUsed)
+                .description("Gemini 일일 할당량 사용량 (이 인스턴스가 마지막으로 확인한 값)")
+                .register(meterRegistry);
+    }
+
+    // 기본 최대 대기 시간까지 토큰을 기다립니다.
+    //
+    // @return 토큰을 얻었으면 true
+    public boolean acquire() {
+        return acquire(maxWait);
+    }
+
+    // 최대 대기 시간까지 토큰을 기다립니다.
+    //
+    // @param timeout 최대 대기 시간
+    // @return 토큰을 얻었으면 true (대기 시간 초과, 인터럽트, 할당량 저장소 오류 시 false)
+    public boolean acquire(Duration timeout) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + timeout.toNanos();
+        waitingCount.incrementAndGet();
+        try {
+            if (!queueLock.tryLock(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                timeoutCounter.increment();
+                log.warn("Gemini 할당량 대기 시간 초과 (대기열) - 대기 중: {}", waitingCount.get());
+                return false;
+            }
+            try {
+                while (true) {
+                    Duration wait = transactionTemplate.execute(status -> consumeToken());
+                    if (wait == null || wait.isZero()) {
+                        grantedCounter.increment();
+                        return true;
+                    }
+
+                    long remainingNanos = deadlineNanos - System.nanoTime();
+                    if (wait.toNanos() > remainingNanos) {
+                        timeoutCounter.increment();
+                        log.warn("Gemini 할당량 대기 시간 초과 - 다음 토큰까지 {}초, 일일 사용량: {}/{}",
+                                wait.toSeconds(), lastDailyUsed, rpd);
+                        return false;
+                    }
+                    pause(wait);
+                }
+            } finally {
+                queueLock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timeoutCounter.increment();
+            return false;
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.error("Gemini 할당량 확인 실패 - 요청을 보내지 않습니다.", e);
+            return false;
+        } finally {
+            waitingCount.decrementAndGet();
+            waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 다른 인스턴스가 토큰을 먼저 쓸 수 있으므로 대기 후 다시 확인합니다.
+    void pause(Duration wait) throws InterruptedException {
+        Thread.sleep(Math.max(1L, wait.toMillis()));
+    }
+
+    private Duration consumeToken() {
+        Instant now = clock.instant();
+        AiQuotaBucket bucket = bucketRepository.findForUpdate(BUCKET_KEY).orElseGet(() -> {
+            AiQuotaBucket initial = AiQuotaBucket.create(BUCKET_KEY, rpm, now, resetZone);
+            bucketRepository.insertIfAbsent(BUCKET_KEY, initial.getTokens(), initial.getRefilledAt(),
+                    initial.getDailyWindow());
+            return bucketRepository.findForUpdate(BUCKET_KEY).orElseThrow();
+        });
+
+        Duration wait = bucket.tryConsume(now, rpm, rpd, resetZone);
+        lastDailyUsed = bucket.getDailyUsed();
+        return wait;
+    }
+
+    private static Counter acquireCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai_quota_acquire_total")
+                .description("Gemini 할당량 토큰 요청 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -4,14 +4,18 @@ import baro.baro.domain.ai.client.GeminiApiClient;
 import baro.baro.domain.ai.entity.AssetType;
 import baro.baro.domain.ai.exception.AiErrorCode;
 import baro.baro.domain.ai.exception.AiException;
+import baro.baro.domain.ai.processing.ImagePreprocessor;
 import baro.baro.domain.ai.processing.ImageProcessingService;
+import baro.baro.domain.ai.processing.SourceImage;
 import baro.baro.domain.ai.prompt.PromptGeneratorService;
+import baro.baro.domain.ai.service.AiGenerationCacheService;
 import baro.baro.domain.common.monitoring.MetricsService;
 import baro.baro.domain.image.service.ImageService;
 import baro.baro.domain.missingperson.entity.MissingPerson;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -23,6 +27,8 @@ public abstract class AbstractGoogleAiStrategy implements AiImageGenerationStrat
     protected final PromptGeneratorService promptGeneratorService;
     protected final ImageService imageService;
     protected final MetricsService metricsService;
+    protected final AiGenerationCacheService generationCacheService;
+    protected final ImagePreprocessor imagePreprocessor;
 
     protected void validateMissingPerson(MissingPerson missingPerson) {
         if (missingPerson == null) {
@@ -35,28 +41,46 @@ public abstract class AbstractGoogleAiStrategy implements AiImageGenerationStrat
         }
     }
 
-    protected GenerationContext prepareGenerationContext(MissingPerson missingPerson) {
-        String photoUrl = missingPerson.getPhotoUrl();
-        String base64Image = imageProcessingService.loadImageAsBase64(photoUrl);
-        String mimeType = imageProcessingService.detectMimeType(photoUrl);
-        return new GenerationContext(base64Image, mimeType);
+    // 원본 이미지 파일을 열어 전처리(축소, 메타데이터 제거, JPEG 재인코딩)합니다.
+    // 생성이 끝나면 close()해야 합니다 (전처리하지 못해 원본을 쓰는 경우 외부 URL은 임시 파일).
+    protected SourceImage openSourceImage(MissingPerson missingPerson) {
+        SourceImage original = imageProcessingService.openSourceImage(missingPerson.getPhotoUrl());
+        SourceImage normalized = imagePreprocessor.normalize(original);
+        if (normalized != original) {
+            // 전처리 결과는 캐시 파일이므로 원본 임시 파일은 바로 지웁니다.
+            original.close();
+        }
+        return normalized;
     }
 
-    protected String generateAndPersist(String base64Image,
-                                        String mimeType,
+    protected String generateAndPersist(SourceImage source,
                                         String prompt,
                                         int sequenceOrder,
                                         AssetType assetType) {
+        String model = geminiApiClient.getModel();
+        String cacheKey = generationCacheService.keyOf(source.contentHash(), model, assetType, sequenceOrder, prompt);
+        Optional<String> cachedUrl = findCachedImage(cacheKey);
+        if (cachedUrl.isPresent()) {
+            log.info("이미지 편집 캐시 재사용 - Sequence: {}, AssetType: {}, URL: {}",
+                    sequenceOrder, assetType.name(), cachedUrl.get());
+            return cachedUrl.get();
+        }
+
         long startTime = System.currentTimeMillis();
         log.info("이미지 편집 요청 - Sequence: {}, AssetType: {}, MIME: {}, Prompt: {}",
-                sequenceOrder, assetType.name(), mimeType, prompt.substring(0, Math.min(100, prompt.length())));
+                sequenceOrder, assetType.name(), source.mimeType(), prompt.substring(0, Math.min(100, prompt.length())));
 
         try {
-            byte[] imageData = geminiApiClient.generateImage(base64Image, mimeType, prompt);
+            byte[] imageData = geminiApiClient.generateImage(source.path(), source.mimeType(), prompt);
 
             String filename = String.format("ai-generated-%s.png", UUID.randomUUID());
             String imageUrl = imageService.saveImageFromBytes(imageData, filename, "image/png");
 
+            // Placeholder(할당량 초과, 호출 실패 등)는 캐시하지 않아 다음 요청에서 다시 생성을 시도합니다.
+            if (!imageProcessingService.isPlaceholderImage(imageData)) {
+                storeCachedImage(cacheKey, assetType, model, imageUrl);
+            }
+
             metricsService.recordAiImageGenerationSuccess(assetType.name());
             metricsService.recordAiGenerationDuration(System.currentTimeMillis() - startTime, assetType.name());
             log.info("이미지 편집 완료 - Sequence: {}, URL: {}", sequenceOrder, imageUrl);
@@ -72,6 +96,24 @@ public abstract class AbstractGoogleAiStrategy implements AiImageGenerationStrat
         }
     }
 
+    // 캐시 조회 실패는 생성 실패로 이어지지 않도록 미스로 처리합니다.
+    private Optional<String> findCachedImage(String cacheKey) {
+        try {
+            return generationCacheService.find(cacheKey);
+        } catch (RuntimeException e) {
+            log.warn("AI 생성 캐시 조회 실패 - 캐시 없이 생성합니다.", e);
+            return Optional.empty();
+        }
+    }
+
+    private void storeCachedImage(String cacheKey, AssetType assetType, String model, String imageUrl) {
+        try {
+            generationCacheService.put(cacheKey, assetType, model, imageUrl);
+        } catch (RuntimeException e) {
+            log.warn("AI 생성 캐시 저장 실패 - URL: {}", imageUrl, e);
+        }
+    }
+
     private String generateFallbackImage(AssetType assetType, int sequenceOrder) {
         try {
             byte[] fallbackImage = imageProcessingService.generatePlaceholderImage();
@@ -84,6 +126,4 @@ public abstract class AbstractGoogleAiStrategy implements AiImageGenerationStrat
             throw new AiException(AiErrorCode.IMAGE_SAVE_FAILED);
         }
     }
-
-    protected record GenerationContext(String base64Image, String mimeType) {}
 }
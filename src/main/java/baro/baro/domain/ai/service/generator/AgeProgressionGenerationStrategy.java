@@ -4,8 +4,12 @@ import baro.baro.domain.ai.client.GeminiApiClient;
 import baro.baro.domain.ai.entity.AssetType;
 import baro.baro.domain.ai.exception.AiErrorCode;
 import baro.baro.domain.ai.exception.AiException;
+import baro.baro.domain.ai.processing.ImagePreprocessor;
 import baro.baro.domain.ai.processing.ImageProcessingService;
+import baro.baro.domain.ai.processing.SourceImage;
 import baro.baro.domain.ai.prompt.PromptGeneratorService;
+import baro.baro.domain.ai.service.AiCallExecutor;
+import baro.baro.domain.ai.service.AiGenerationCacheService;
 import baro.baro.domain.common.monitoring.MetricsService;
 import baro.baro.domain.image.service.ImageService;
 import baro.baro.domain.missingperson.entity.MissingPerson;
@@ -26,12 +30,19 @@ public class AgeProgressionGenerationStrategy extends AbstractGoogleAiStrategy {
     private static final int REQUEST_COUNT = 4;
     private static final int MINIMUM_REQUIRED_IMAGES = 3;
 
+    private final AiCallExecutor aiCallExecutor;
+
     public AgeProgressionGenerationStrategy(GeminiApiClient geminiApiClient,
                                             ImageProcessingService imageProcessingService,
                                             PromptGeneratorService promptGeneratorService,
                                             ImageService imageService,
-                                            MetricsService metricsService) {
-        super(geminiApiClient, imageProcessingService, promptGeneratorService, imageService, metricsService);
+                                            MetricsService metricsService,
+                                            AiGenerationCacheService generationCacheService,
+                                            ImagePreprocessor imagePreprocessor,
+                                            AiCallExecutor aiCallExecutor) {
+        super(geminiApiClient, imageProcessingService, promptGeneratorService, imageService, metricsService,
+                generationCacheService, imagePreprocessor);
+        this.aiCallExecutor = aiCallExecutor;
     }
 
     @Override
@@ -42,37 +53,42 @@ public class AgeProgressionGenerationStrategy extends AbstractGoogleAiStrategy {
     @Override
     public List<String> generate(MissingPerson missingPerson) {
         validateMissingPerson(missingPerson);
-        GenerationContext context = prepareGenerationContext(missingPerson);
-
         String prompt = promptGeneratorService.buildAgeProgressionPrompt(
                 missingPerson,
                 "Front-facing portrait, looking directly at camera"
         );
 
-        List<CompletableFuture<String>> futures = IntStream.range(0, REQUEST_COUNT)
-                .mapToObj(sequenceOrder ->
-                        CompletableFuture.supplyAsync(() ->
-                                generateAndPersist(context.base64Image(), context.mimeType(), prompt, sequenceOrder, AssetType.AGE_PROGRESSION)))
-                .toList();
-
         List<String> imageUrls = new ArrayList<>();
         List<String> errors = new ArrayList<>();
+        boolean rejected = false;
+
+        try (SourceImage source = openSourceImage(missingPerson)) {
+            List<CompletableFuture<String>> futures = IntStream.range(0, REQUEST_COUNT)
+                    .mapToObj(sequenceOrder ->
+                            aiCallExecutor.supplyAsync(() ->
+                                    generateAndPersist(source, prompt, sequenceOrder, AssetType.AGE_PROGRESSION)))
+                    .toList();
 
-        for (int i = 0; i < futures.size(); i++) {
-            CompletableFuture<String> future = futures.get(i);
-            try {
-                imageUrls.add(future.join());
-            } catch (CompletionException e) {
-                Throwable cause = e.getCause() != null ? e.getCause() : e;
-                errors.add(cause.getMessage());
-                log.error("성장/노화 이미지 생성 실패 - Sequence: {}", i, cause);
+            for (int i = 0; i < futures.size(); i++) {
+                CompletableFuture<String> future = futures.get(i);
+                try {
+                    imageUrls.add(future.join());
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    rejected |= cause instanceof AiException aiException
+                            && aiException.getAiErrorCode() == AiErrorCode.IMAGE_JOB_QUEUE_FULL;
+                    errors.add(cause.getMessage());
+                    log.error("성장/노화 이미지 생성 실패 - Sequence: {}", i, cause);
+                }
             }
         }
 
         if (imageUrls.size() < MINIMUM_REQUIRED_IMAGES) {
             log.error("AI 이미지 생성 실패: 최소 {}장 필요하나 {}장만 성공. 실패 이유: {}",
                     MINIMUM_REQUIRED_IMAGES, imageUrls.size(), String.join(", ", errors));
-            throw new AiException(AiErrorCode.INSUFFICIENT_IMAGES_GENERATED);
+            // 호출 풀 포화로 실행되지 못한 경우는 재시도 가능한 503으로 응답합니다.
+            throw new AiException(rejected ? AiErrorCode.IMAGE_JOB_QUEUE_FULL
+                    : AiErrorCode.INSUFFICIENT_IMAGES_GENERATED);
         }
 
         log.info("성장/노화 이미지 생성 완료 - 총 {}장 (요청: {}, 최소 요구: {})",
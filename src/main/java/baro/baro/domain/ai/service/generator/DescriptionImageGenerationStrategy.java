@@ -2,8 +2,11 @@ package baro.baro.domain.ai.service.generator;
 
 import baro.baro.domain.ai.client.GeminiApiClient;
 import baro.baro.domain.ai.entity.AssetType;
+import baro.baro.domain.ai.processing.ImagePreprocessor;
 import baro.baro.domain.ai.processing.ImageProcessingService;
+import baro.baro.domain.ai.processing.SourceImage;
 import baro.baro.domain.ai.prompt.PromptGeneratorService;
+import baro.baro.domain.ai.service.AiGenerationCacheService;
 import baro.baro.domain.common.monitoring.MetricsService;
 import baro.baro.domain.image.service.ImageService;
 import baro.baro.domain.missingperson.entity.MissingPerson;
@@ -18,8 +21,11 @@ public class DescriptionImageGenerationStrategy extends AbstractGoogleAiStrategy
                                               ImageProcessingService imageProcessingService,
                                               PromptGeneratorService promptGeneratorService,
                                               ImageService imageService,
-                                              MetricsService metricsService) {
-        super(geminiApiClient, imageProcessingService, promptGeneratorService, imageService, metricsService);
+                                              MetricsService metricsService,
+                                              AiGenerationCacheService generationCacheService,
+                                              ImagePreprocessor imagePreprocessor) {
+        super(geminiApiClient, imageProcessingService, promptGeneratorService, imageService, metricsService,
+                generationCacheService, imagePreprocessor);
     }
 
     @Override
@@ -30,9 +36,9 @@ public class DescriptionImageGenerationStrategy extends AbstractGoogleAiStrategy
     @Override
     public List<String> generate(MissingPerson missingPerson) {
         validateMissingPerson(missingPerson);
-        GenerationContext context = prepareGenerationContext(missingPerson);
         String prompt = promptGeneratorService.buildDescriptionPrompt(missingPerson);
-        String imageUrl = generateAndPersist(context.base64Image(), context.mimeType(), prompt, 0, AssetType.GENERATED_IMAGE);
-        return List.of(imageUrl);
+        try (SourceImage source = openSourceImage(missingPerson)) {
+            return List.of(generateAndPersist(source, prompt, 0, AssetType.GENERATED_IMAGE));
+        }
     }
 }
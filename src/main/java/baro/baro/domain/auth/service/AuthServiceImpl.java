@@ -17,7 +17,6 @@ import baro.baro.domain.user.repository.UserRepository;
 import baro.baro.domain.common.monitoring.MetricsService;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
@@ -164,10 +163,7 @@ public class AuthServiceImpl implements AuthService {
     // 사용자의 활성 기기 ID를 조회합니다.
     // 여러 기기가 있는 경우 첫 번째 활성 기기를 반환합니다.
     private Long findUserActiveDeviceId(User user) {
-        List<Device> devices = deviceRepository.findByUser(user);
-        return devices.stream()
-                .filter(Device::isActive)
-                .findFirst()
+        return deviceRepository.findFirstByUserAndIsActiveTrueOrderByIdAsc(user)
                 .map(Device::getId)
                 .orElse(null);
     }
@@ -0,0 +1,384 @@
+package baro.baro.domain.common.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 모든 스트림 연결(위치 SSE/WebSocket, 알림 SSE)이 공유하는 연결 관리자
+// - 사용자별/노드 전체 연결 수 제한을 스트림 구분 없이 한 번만 적용하고, 초과하면 가장 오래된 연결을 퇴출합니다.
+// - 연결별 송신 대기열을 하나의 writer 풀로 전송하고, 지연 임계치를 넘긴 연결을 퇴출합니다.
+// - sse_* 메트릭을 한 곳에서 기록합니다.
+// 스트림별 레지스트리는 이벤트 인코딩과 대상 선택만 담당하고, 연결 등록/전송/퇴출은 이 관리자에 위임합니다.
+@Slf4j
+@Component
+public class SseConnectionManager {
+
+    // writer 스레드 하나가 한 연결에서 연속으로 전송할 최대 이벤트 수
+    private static final int DRAIN_BATCH_SIZE = 8;
+
+    private final Map<Long, List<SseSession<?>>> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Object registrationLock = new Object();
+    // 전체 연결의 등록 순서 (첫 원소가 가장 오래된 연결, 자체 잠금으로 보호)
+    private final Set<SseSession<?>> registrationOrder = new LinkedHashSet<>();
+    private final Executor writerExecutor;
+    private final long maxLagNanos;
+    private final int maxConnectionsPerUser;
+    private final int maxTotalConnections;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter droppedEventCounter;
+    private final Counter lagEvictionCounter;
+    private final Counter overflowEvictionCounter;
+    private final Counter perUserLimitEvictionCounter;
+    private final Counter globalLimitEvictionCounter;
+    private final Timer connectionLifetimeTimer;
+    private final Timer sendLatencyTimer;
+
+    @Autowired
+    public SseConnectionManager(
+            MeterRegistry meterRegistry,
+            @Value("${sse.outbound.writer-threads:4}") int writerThreads, // 전송 전용 스레드 수
+            @Value("${sse.outbound.max-lag-ms:10000}") long maxLagMillis, // 퇴출 기준 지연 시간
+            @Value("${sse.connection.max-per-user:3}") int maxConnectionsPerUser, // 사용자별 최대 연결 수 (모든 스트림 합계)
+            @Value("${sse.connection.max-total:10000}") int maxTotalConnections // 노드 전체 최대 연결 수 (모든 스트림 합계)
+    ) {
+        this(meterRegistry, createWriterExecutor(writerThreads), maxLagMillis, maxConnectionsPerUser, maxTotalConnections);
+    }
+
+    public SseConnectionManager(
+            MeterRegistry meterRegistry,
+            Executor writerExecutor,
+            long maxLagMillis,
+            int maxConnectionsPerUser,
+            int maxTotalConnections
+    ) {
+        this.writerExecutor = writerExecutor;
+        this.maxLagNanos = TimeUnit.MILLISECONDS.toNanos(maxLagMillis);
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+        this.maxTotalConnections = Math.max(1, maxTotalConnections);
+
+        Gauge.builder("sse_connections_active", connectionCount, AtomicInteger::get)
+                .description("활성 스트림 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("sse_connected_users", sessions, Map::size)
+                .description("스트림 연결이 있는 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("sse_outbound_queue_depth", this, SseConnectionManager::getTotalQueueDepth)
+                .description("송신 대기열에 쌓인 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("sse_outbound_queue_depth_max", this, SseConnectionManager::getMaxQueueDepth)
+                .description("가장 많이 밀린 연결의 대기 이벤트 수")
+                .register(meterRegistry);
+        this.sentCounter = eventCounter(meterRegistry, "sent");
+        this.failedCounter = eventCounter(meterRegistry, "failed");
+        this.droppedEventCounter = Counter.builder("sse_outbound_dropped_total")
+                .description("대기열 초과로 버려진 이벤트 수")
+                .register(meterRegistry);
+        this.lagEvictionCounter = outboundEvictionCounter(meterRegistry, "lag");
+        this.overflowEvictionCounter = outboundEvictionCounter(meterRegistry, "queue_full");
+        this.perUserLimitEvictionCounter = connectionEvictionCounter(meterRegistry, "per_user_limit");
+        this.globalLimitEvictionCounter = connectionEvictionCounter(meterRegistry, "global_limit");
+        this.connectionLifetimeTimer = Timer.builder("sse_connection_lifetime_seconds")
+                .description("스트림 연결 유지 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sendLatencyTimer = Timer.builder("sse_event_send_latency_seconds")
+                .description("이벤트 적재부터 전송 완료까지의 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // 새 연결을 등록합니다.
+    // 사용자별 또는 전체 연결 수 제한에 도달하면 스트림과 관계없이 가장 오래된 연결을 퇴출한 뒤 등록합니다.
+    //
+    // @param session 등록할 연결
+    public void register(SseSession<?> session) {
+        Long userId = session.getUserId();
+        List<SseSession<?>> userSessions;
+
+        synchronized (registrationLock) {
+            List<SseSession<?>> existing = sessions.get(userId);
+            while (existing != null && existing.size() >= maxConnectionsPerUser) {
+                // 등록 순서대로 저장되므로 첫 번째 연결이 가장 오래된 연결
+                SseSession<?> oldest = existing.stream().findFirst().orElse(null);
+                if (oldest == null) {
+                    break;
+                }
+                evict(oldest, perUserLimitEvictionCounter);
+                existing = sessions.get(userId);
+            }
+            while (connectionCount.get() >= maxTotalConnections) {
+                SseSession<?> oldest = findOldestSession();
+                if (oldest == null) {
+                    break;
+                }
+                evict(oldest, globalLimitEvictionCounter);
+            }
+
+            userSessions = sessions.compute(userId, (key, current) -> {
+                List<SseSession<?>> target = current != null ? current : new CopyOnWriteArrayList<>();
+                target.add(session);
+                return target;
+            });
+            synchronized (registrationOrder) {
+                registrationOrder.add(session);
+            }
+            connectionCount.incrementAndGet();
+        }
+        log.debug("{} 스트림 연결 등록 - userId: {}, 사용자 연결 수: {}, 전체 연결 수: {}",
+                session.streamName(), userId, userSessions.size(), connectionCount.get());
+    }
+
+    // 새 연결을 등록하고, 초기 이벤트를 이 연결에만 전송합니다.
+    // 초기 이벤트를 등록 전에 대기열에 넣으므로, 등록 이후 적재되는 이벤트보다 항상 먼저 전송됩니다.
+    //
+    // @param session 등록할 연결
+    // @param initialFrame 새 연결에 가장 먼저 보낼 이벤트
+    public <F> void register(SseSession<F> session, F initialFrame) {
+        boolean schedule = session.offer(initialFrame, System.nanoTime(), maxLagNanos) == SseSession.OfferResult.SCHEDULE;
+        register(session);
+        if (schedule) {
+            scheduleDrain(session);
+        }
+    }
+
+    // 종료된 연결을 제거합니다.
+    //
+    // @param userId 사용자 ID
+    // @param connection 제거할 연결 (SseEmitter 또는 WebSocketSession)
+    public void remove(Long userId, Object connection) {
+        SseSession<?> session = detach(userId, connection);
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    // 이벤트를 연결의 송신 대기열에 적재합니다. 전송은 writer 풀에서 수행하고 즉시 반환합니다.
+    //
+    // @param session 대상 연결
+    // @param frame 인코딩된 이벤트
+    // @param nowNanos 현재 시각 (System.nanoTime)
+    public <F> void enqueue(SseSession<F> session, F frame, long nowNanos) {
+        switch (session.offer(frame, nowNanos, maxLagNanos)) {
+            case SCHEDULE -> scheduleDrain(session);
+            case DROPPED -> droppedEventCounter.increment();
+            case OVERFLOW -> evict(session, overflowEvictionCounter);
+            case LAGGING -> evict(session, lagEvictionCounter);
+            case QUEUED, CLOSED -> {
+                // 처리 중인 writer가 전송하거나 이미 종료된 연결
+            }
+        }
+    }
+
+    // 특정 사용자의 연결 중 주어진 스트림의 연결을 반환합니다.
+    //
+    // @param userId 사용자 ID
+    // @param type 스트림의 연결 타입
+    // @return 연결 스냅샷 (등록 순)
+    public <S extends SseSession<?>> List<S> sessionsOf(Long userId, Class<S> type) {
+        List<SseSession<?>> userSessions = sessions.get(userId);
+        if (userSessions == null || userSessions.isEmpty()) {
+            return List.of();
+        }
+        List<S> result = new ArrayList<>(userSessions.size());
+        for (SseSession<?> session : userSessions) {
+            if (type.isInstance(session)) {
+                result.add(type.cast(session));
+            }
+        }
+        return result;
+    }
+
+    // 주어진 스트림의 모든 연결을 반환합니다. heartbeat 전송에 사용됩니다.
+    //
+    // @param type 스트림의 연결 타입
+    // @return 연결 스냅샷
+    public <S extends SseSession<?>> List<S> sessionsOf(Class<S> type) {
+        List<S> result = new ArrayList<>();
+        for (List<SseSession<?>> userSessions : sessions.values()) {
+            for (SseSession<?> session : userSessions) {
+                if (type.isInstance(session)) {
+                    result.add(type.cast(session));
+                }
+            }
+        }
+        return result;
+    }
+
+    // 특정 사용자가 주어진 스트림에 연결되어 있는지 확인합니다.
+    //
+    // @param userId 사용자 ID
+    // @param type 스트림의 연결 타입
+    // @return 연결 여부
+    public boolean hasConnection(Long userId, Class<? extends SseSession<?>> type) {
+        List<SseSession<?>> userSessions = sessions.get(userId);
+        if (userSessions == null) {
+            return false;
+        }
+        for (SseSession<?> session : userSessions) {
+            if (type.isInstance(session)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 모든 스트림의 활성 연결 수
+    public int getTotalConnectionCount() {
+        return connectionCount.get();
+    }
+
+    // 전체 송신 대기열에 쌓인 이벤트 수
+    public int getTotalQueueDepth() {
+        int total = 0;
+        for (List<SseSession<?>> userSessions : sessions.values()) {
+            for (SseSession<?> session : userSessions) {
+                total += session.getQueueDepth();
+            }
+        }
+        return total;
+    }
+
+    // 가장 많이 밀린 연결의 대기 이벤트 수
+    public int getMaxQueueDepth() {
+        int max = 0;
+        for (List<SseSession<?>> userSessions : sessions.values()) {
+            for (SseSession<?> session : userSessions) {
+                max = Math.max(max, session.getQueueDepth());
+            }
+        }
+        return max;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writerExecutor instanceof ThreadPoolTaskExecutor executor) {
+            executor.shutdown();
+        }
+    }
+
+    // 연결을 관리 대상에서 제거하고 종료합니다.
+    // emitter.complete는 진행 중인 send와 같은 잠금을 사용하므로 writer 풀에서 처리합니다.
+    private void evict(SseSession<?> session, Counter evictionCounter) {
+        if (detach(session.getUserId(), session.getConnection()) == null) {
+            return;
+        }
+        evictionCounter.increment();
+        log.info("{} 스트림 연결 퇴출 - userId: {}", session.streamName(), session.getUserId());
+        if (session.close()) {
+            execute(session::closeQuietly);
+        }
+    }
+
+    // 전체 연결 중 가장 먼저 등록된 연결을 찾습니다. 등록 순서를 유지하므로 O(1)입니다.
+    private SseSession<?> findOldestSession() {
+        synchronized (registrationOrder) {
+            Iterator<SseSession<?>> iterator = registrationOrder.iterator();
+            return iterator.hasNext() ? iterator.next() : null;
+        }
+    }
+
+    private void scheduleDrain(SseSession<?> session) {
+        execute(() -> drain(session));
+    }
+
+    private void drain(SseSession<?> session) {
+        switch (session.drain(DRAIN_BATCH_SIZE, sendLatencyTimer, sentCounter)) {
+            case MORE -> scheduleDrain(session);
+            case FAILED -> {
+                failedCounter.increment();
+                detach(session.getUserId(), session.getConnection());
+            }
+            case CLOSED -> session.closeQuietly();
+            case IDLE -> {
+                // 대기열 비움
+            }
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            writerExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 종료 중인 경우 - 남은 전송은 버립니다.
+            log.debug("SSE writer 작업 거부 - 이유: {}", e.getMessage());
+        }
+    }
+
+    private SseSession<?> detach(Long userId, Object connection) {
+        SseSession<?>[] removed = new SseSession<?>[1];
+        sessions.computeIfPresent(userId, (key, userSessions) -> {
+            for (SseSession<?> session : userSessions) {
+                if (session.getConnection() == connection) {
+                    userSessions.remove(session);
+                    removed[0] = session;
+                    break;
+                }
+            }
+            return userSessions.isEmpty() ? null : userSessions;
+        });
+        if (removed[0] != null) {
+            synchronized (registrationOrder) {
+                registrationOrder.remove(removed[0]);
+            }
+            connectionCount.decrementAndGet();
+            connectionLifetimeTimer.record(System.nanoTime() - removed[0].getConnectedAt(), TimeUnit.NANOSECONDS);
+            log.debug("{} 스트림 연결 제거 - userId: {}", removed[0].streamName(), userId);
+        }
+        return removed[0];
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("sse_events_total")
+                .description("스트림 이벤트 전송 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter outboundEvictionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("sse_outbound_evictions_total")
+                .description("송신 대기열 상태로 퇴출된 연결 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static Counter connectionEvictionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("sse_connection_evictions_total")
+                .description("연결 수 제한으로 퇴출된 연결 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static Executor createWriterExecutor(int writerThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, writerThreads));
+        executor.setMaxPoolSize(Math.max(1, writerThreads));
+        // 연결당 예약 작업은 최대 1개이므로 대기 큐 크기는 연결 수로 제한됩니다.
+        executor.setThreadNamePrefix("sse-writer-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,30 @@
+package baro.baro.domain.common.sse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 모든 SSE 스트림이 공유하는 heartbeat 타이머
+// 연결마다 스케줄러 스레드를 만들지 않고, 하나의 타이머가 레지스트리별로 heartbeat를 적재합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseHeartbeatScheduler {
+
+    private final List<SseHeartbeatTarget> targets;
+
+    @Scheduled(fixedRateString = "${sse.heartbeat-interval-ms:15000}",
+               initialDelayString = "${sse.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        for (SseHeartbeatTarget target : targets) {
+            try {
+                target.sendHeartbeatToAll();
+            } catch (Exception e) {
+                log.warn("SSE heartbeat 전송 실패 - 대상: {}, 이유: {}", target.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+}
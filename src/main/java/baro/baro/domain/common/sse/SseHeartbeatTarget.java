@@ -0,0 +1,10 @@
+package baro.baro.domain.common.sse;
+
+// 공용 heartbeat 타이머의 전송 대상
+// SSE 연결을 관리하는 레지스트리가 구현하며, SseHeartbeatScheduler가 주기적으로 호출합니다.
+public interface SseHeartbeatTarget {
+
+    // 관리 중인 모든 연결에 heartbeat를 전송합니다.
+    // 실제 전송은 레지스트리의 전송 스레드에서 수행하고 즉시 반환해야 합니다.
+    void sendHeartbeatToAll();
+}
@@ -0,0 +1,234 @@
+package baro.baro.domain.common.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+// 스트림 연결(SSE, WebSocket) 1개에 대한 송신 대기열
+// 호출 스레드(브로드캐스트, 커밋 후 리스너, heartbeat 타이머)는 대기열에 적재만 하고,
+// 실제 전송은 SseConnectionManager의 writer 풀에서 수행합니다.
+// 연결마다 writer 작업이 최대 1개만 예약되므로 연결별 이벤트 순서가 유지되고,
+// 느린 클라이언트가 다른 연결의 전송을 막지 않습니다.
+// 전송 방식과 대기열이 가득 찼을 때의 처리는 스트림별 하위 클래스가 결정합니다.
+//
+// @param <F> 한 번만 인코딩되어 연결들에 공유되는 이벤트 프레임 타입
+@Slf4j
+public abstract class SseSession<F> {
+
+    // 대기열이 가득 찼을 때의 처리
+    public enum OverflowPolicy {
+        DROP_OLDEST,  // 가장 오래된 이벤트를 버림 (최신 이벤트가 이전 상태를 대체하는 스트림)
+        EVICT         // 연결을 퇴출 (이벤트를 잃으면 안 되는 스트림, 재연결 시 상태를 다시 맞춤)
+    }
+
+    // 적재 결과
+    enum OfferResult {
+        SCHEDULE,   // 적재 완료, writer 작업 예약 필요
+        QUEUED,     // 적재 완료, 이미 writer가 처리 중
+        DROPPED,    // 대기열이 가득 차 가장 오래된 이벤트를 버리고 적재
+        OVERFLOW,   // 대기열이 가득 참 (퇴출 대상)
+        LAGGING,    // 지연 임계치 초과 (퇴출 대상)
+        CLOSED      // 이미 종료된 연결
+    }
+
+    private final Long userId;
+    private final Object connection;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long connectedAt;
+    private final Deque<PendingEvent<F>> pending;
+
+    // 아래 상태는 모두 this 모니터로 보호됩니다.
+    private boolean draining;
+    private boolean closed;
+    private long inFlightSince;
+
+    // @param userId 사용자 ID
+    // @param connection 레지스트리에서 연결을 식별하는 객체 (SseEmitter 또는 WebSocketSession)
+    // @param capacity 연결별 대기열 크기
+    // @param overflowPolicy 대기열이 가득 찼을 때의 처리
+    protected SseSession(Long userId, Object connection, int capacity, OverflowPolicy overflowPolicy) {
+        this.userId = userId;
+        this.connection = connection;
+        this.capacity = Math.max(1, capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.connectedAt = System.nanoTime();
+        this.pending = new ArrayDeque<>(Math.min(this.capacity, 16));
+    }
+
+    // 로그에 표시할 스트림 이름
+    protected abstract String streamName();
+
+    // 인코딩된 이벤트를 전송합니다. writer 풀의 스레드 하나에서만 호출됩니다.
+    protected abstract void write(F frame) throws IOException;
+
+    // 하위 연결을 정상 종료합니다. writer 풀에서 호출됩니다.
+    protected abstract void closeTransport() throws Exception;
+
+    // 전송 실패 후 하위 연결을 정리합니다. 기본 구현은 아무것도 하지 않습니다.
+    //
+    // @param cause 전송 실패 원인
+    protected void onWriteFailure(Exception cause) {
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Object getConnection() {
+        return connection;
+    }
+
+    // 연결 등록 시각 (System.nanoTime)
+    long getConnectedAt() {
+        return connectedAt;
+    }
+
+    // 이벤트를 대기열에 적재합니다.
+    //
+    // @param frame 인코딩된 이벤트
+    // @param nowNanos 현재 시각 (System.nanoTime)
+    // @param maxLagNanos 허용 지연 시간
+    // @return 적재 결과
+    synchronized OfferResult offer(F frame, long nowNanos, long maxLagNanos) {
+        if (closed) {
+            return OfferResult.CLOSED;
+        }
+        if (lagNanos(nowNanos) > maxLagNanos) {
+            return OfferResult.LAGGING;
+        }
+
+        boolean dropped = false;
+        if (pending.size() >= capacity) {
+            if (overflowPolicy == OverflowPolicy.EVICT) {
+                return OfferResult.OVERFLOW;
+            }
+            pending.pollFirst();
+            dropped = true;
+        }
+        pending.addLast(new PendingEvent<>(frame, nowNanos));
+
+        if (dropped) {
+            return OfferResult.DROPPED;
+        }
+        if (!draining) {
+            draining = true;
+            return OfferResult.SCHEDULE;
+        }
+        return OfferResult.QUEUED;
+    }
+
+    // 대기열의 이벤트를 최대 batchSize개까지 전송합니다.
+    // writer 풀의 스레드 하나만 동시에 이 메서드를 실행합니다 (draining 플래그로 보장).
+    //
+    // @param batchSize 한 번에 전송할 최대 이벤트 수 (다른 연결과의 공정성 보장)
+    // @param sendLatency 적재부터 전송 완료까지의 지연 시간을 기록할 Timer
+    // @param sentCounter 전송한 이벤트 수를 기록할 Counter
+    // @return 처리 결과
+    DrainResult drain(int batchSize, Timer sendLatency, Counter sentCounter) {
+        for (int sent = 0; sent < batchSize; sent++) {
+            PendingEvent<F> next;
+            synchronized (this) {
+                if (closed) {
+                    finishDraining();
+                    return DrainResult.CLOSED;
+                }
+                next = pending.pollFirst();
+                if (next == null) {
+                    finishDraining();
+                    return DrainResult.IDLE;
+                }
+                inFlightSince = next.enqueuedAt();
+            }
+
+            try {
+                write(next.frame());
+            } catch (IOException | RuntimeException e) {
+                log.warn("{} 스트림 전송 실패 - userId: {}, 이유: {}", streamName(), userId, e.getMessage());
+                synchronized (this) {
+                    closed = true;
+                    finishDraining();
+                }
+                onWriteFailure(e);
+                return DrainResult.FAILED;
+            }
+
+            sendLatency.record(System.nanoTime() - next.enqueuedAt(), TimeUnit.NANOSECONDS);
+            sentCounter.increment();
+            synchronized (this) {
+                inFlightSince = 0L;
+            }
+        }
+
+        synchronized (this) {
+            if (closed) {
+                finishDraining();
+                return DrainResult.CLOSED;
+            }
+            if (pending.isEmpty()) {
+                draining = false;
+                return DrainResult.IDLE;
+            }
+        }
+        return DrainResult.MORE;
+    }
+
+    // 연결을 종료 상태로 전환합니다.
+    //
+    // @return writer가 처리 중이 아니어서 호출자가 연결 종료를 예약해야 하면 true
+    synchronized boolean close() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        pending.clear();
+        return !draining;
+    }
+
+    // 하위 연결을 종료하고 예외는 무시합니다.
+    void closeQuietly() {
+        try {
+            closeTransport();
+        } catch (Exception e) {
+            log.debug("{} 스트림 연결 종료 실패 - userId: {}, 이유: {}", streamName(), userId, e.getMessage());
+        }
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    public synchronized int getQueueDepth() {
+        return pending.size();
+    }
+
+    // 가장 오래 대기 중인(전송 중 포함) 이벤트의 지연 시간
+    private long lagNanos(long nowNanos) {
+        if (inFlightSince != 0L) {
+            return nowNanos - inFlightSince;
+        }
+        PendingEvent<F> head = pending.peekFirst();
+        return head == null ? 0L : nowNanos - head.enqueuedAt();
+    }
+
+    private void finishDraining() {
+        draining = false;
+        inFlightSince = 0L;
+        pending.clear();
+    }
+
+    enum DrainResult {
+        IDLE,    // 대기열 비움
+        MORE,    // 남은 이벤트 있음 (재예약 필요)
+        FAILED,  // 전송 실패 (제거 필요)
+        CLOSED   // 종료된 연결 (연결 종료 필요)
+    }
+
+    private record PendingEvent<F>(F frame, long enqueuedAt) {
+    }
+}
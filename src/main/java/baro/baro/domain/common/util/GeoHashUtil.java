@@ -0,0 +1,148 @@
+package baro.baro.domain.common.util;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Geohash 유틸리티 클래스
+//
+// 위도/경도를 base32 geohash 문자열로 변환하고, 인접 셀을 계산합니다.
+// 같은 길이의 geohash는 같은 크기의 격자 셀을 나타냅니다 (정밀도 5: 약 4.9km x 4.9km).
+public class GeoHashUtil {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final int MAX_PRECISION = 12;
+
+    // 좌표를 geohash로 변환합니다.
+    //
+    // @param latitude 위도 (-90 ~ 90)
+    // @param longitude 경도 (-180 ~ 180)
+    // @param precision geohash 길이 (1 ~ 12)
+    // @return geohash 문자열
+    public static String encode(double latitude, double longitude, int precision) {
+        LocationUtil.validateCoordinates(latitude, longitude);
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("geohash 정밀도는 1에서 12 사이여야 합니다.");
+        }
+
+        double minLat = -90.0, maxLat = 90.0;
+        double minLon = -180.0, maxLon = 180.0;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true; // 짝수 비트는 경도, 홀수 비트는 위도
+        int bit = 0;
+        int index = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLon = mid;
+                } else {
+                    index = index << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index = index << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32[index]);
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    // geohash 셀과 주변 8개 셀을 반환합니다 (중심 셀이 첫 번째).
+    // 극지방/날짜 변경선 부근에서 겹치는 셀은 한 번만 포함됩니다.
+    //
+    // @param geohash 중심 geohash
+    // @return 중심 셀을 포함한 최대 9개 geohash
+    public static List<String> withNeighbors(String geohash) {
+        double[] bounds = decodeBounds(geohash);
+        double latHeight = bounds[1] - bounds[0];
+        double lonWidth = bounds[3] - bounds[2];
+        double centerLat = (bounds[0] + bounds[1]) / 2;
+        double centerLon = (bounds[2] + bounds[3]) / 2;
+
+        Set<String> cells = new LinkedHashSet<>();
+        cells.add(geohash);
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            for (int dLon = -1; dLon <= 1; dLon++) {
+                double lat = centerLat + dLat * latHeight;
+                if (lat < -90.0 || lat > 90.0) {
+                    continue;
+                }
+                cells.add(encode(lat, wrapLongitude(centerLon + dLon * lonWidth), geohash.length()));
+            }
+        }
+        return List.copyOf(cells);
+    }
+
+    // geohash 셀의 경계를 반환합니다.
+    //
+    // @param geohash geohash 문자열
+    // @return [최소 위도, 최대 위도, 최소 경도, 최대 경도]
+    public static double[] decodeBounds(String geohash) {
+        if (geohash == null || geohash.isEmpty() || geohash.length() > MAX_PRECISION) {
+            throw new IllegalArgumentException("geohash 형식이 올바르지 않습니다.");
+        }
+
+        double minLat = -90.0, maxLat = 90.0;
+        double minLon = -180.0, maxLon = 180.0;
+        boolean evenBit = true;
+
+        for (char c : geohash.toCharArray()) {
+            int index = indexOf(c);
+            for (int shift = 4; shift >= 0; shift--) {
+                boolean set = ((index >> shift) & 1) == 1;
+                if (evenBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (set) {
+                        minLon = mid;
+                    } else {
+                        maxLon = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{minLat, maxLat, minLon, maxLon};
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < BASE32.length; i++) {
+            if (BASE32[i] == c) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("geohash 형식이 올바르지 않습니다.");
+    }
+
+    private static double wrapLongitude(double longitude) {
+        if (longitude > 180.0) {
+            return longitude - 360.0;
+        }
+        if (longitude < -180.0) {
+            return longitude + 360.0;
+        }
+        return longitude;
+    }
+}
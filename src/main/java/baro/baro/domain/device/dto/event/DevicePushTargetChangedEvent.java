@@ -0,0 +1,17 @@
+package baro.baro.domain.device.dto.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+// 사용자의 푸시 발송 대상(활성 기기, FCM 토큰)이 바뀌었음을 알리는 이벤트
+// 기기 등록/토큰 갱신/로그인/로그아웃/무효 토큰 정리 시 발행되며, 커밋 후 푸시 대상 캐시를 무효화합니다.
+@Getter
+public class DevicePushTargetChangedEvent extends ApplicationEvent {
+
+    private final Long userId;
+
+    public DevicePushTargetChangedEvent(Object source, Long userId) {
+        super(source);
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,31 @@
+package baro.baro.domain.device.dto.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+// 기기의 지역 토픽 구독 대상(FCM 토큰, geohash 지역)이 바뀌었음을 알리는 이벤트
+// GPS 지역 변경/토큰 갱신/로그아웃 시 발행되며, 커밋 후 지역 토픽 구독 변경 대기열에 적재됩니다.
+// previous*는 현재 구독 상태, current*는 새 구독 대상이며 null이면 구독하지 않음을 뜻합니다.
+@Getter
+public class DeviceRegionChangedEvent extends ApplicationEvent {
+
+    private final Long deviceId;
+    private final String previousFcmToken;
+    private final String previousRegion;
+    private final String currentFcmToken;
+    private final String currentRegion;
+
+    public DeviceRegionChangedEvent(Object source,
+                                    Long deviceId,
+                                    String previousFcmToken,
+                                    String previousRegion,
+                                    String currentFcmToken,
+                                    String currentRegion) {
+        super(source);
+        this.deviceId = deviceId;
+        this.previousFcmToken = previousFcmToken;
+        this.previousRegion = previousRegion;
+        this.currentFcmToken = currentFcmToken;
+        this.currentRegion = currentRegion;
+    }
+}
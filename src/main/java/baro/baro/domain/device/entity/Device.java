@@ -57,6 +57,10 @@ public class Device {
     @Column(name = "fcm_token", length = 500)
     private String fcmToken;
 
+    // 지역 토픽 구독 중인 geohash 셀 (마지막 GPS 위치 기준, 없으면 null)
+    @Column(name = "region_geohash", length = 12)
+    private String regionGeohash;
+
     // 배터리 레벨을 업데이트합니다.
     //
     // @param batteryLevel 새로운 배터리 레벨 (0-100)
@@ -71,9 +75,17 @@ public class Device {
         this.fcmToken = fcmToken;
     }
 
+    // 지역 토픽 구독 셀을 업데이트합니다.
+    //
+    // @param regionGeohash 새로운 geohash 셀
+    public void updateRegionGeohash(String regionGeohash) {
+        this.regionGeohash = regionGeohash;
+    }
+
     public void logout() {
         this.fcmToken = null;
         this.isActive = false;
+        this.regionGeohash = null;
     }
 
     // 비활성화된 기기를 재활성화합니다.
@@ -0,0 +1,9 @@
+package baro.baro.domain.device.repository;
+
+// 푸시 발송 대상 기기 프로젝션 (활성 상태이고 FCM 토큰이 있는 기기)
+public record DevicePushTarget(
+        Long deviceId,
+        String fcmToken,
+        String osType
+) {
+}
@@ -3,8 +3,12 @@ package baro.baro.domain.device.repository;
 import baro.baro.domain.device.entity.Device;
 import baro.baro.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +21,38 @@ public interface DeviceRepository extends JpaRepository<Device, Long> {
     // 사용자의 활성 기기 개수 조회
     long countByUserAndIsActiveTrue(User user);
 
+    // 사용자의 첫 번째 활성 기기 조회 (ID 오름차순, 로그인/토큰 갱신 시 기기 선택 기준)
+    Optional<Device> findFirstByUserAndIsActiveTrueOrderByIdAsc(User user);
+
+    // 사용자의 가장 최근 등록된 활성 기기 조회
+    Optional<Device> findFirstByUserAndIsActiveTrueOrderByRegisteredAtDesc(User user);
+
+    // 사용자의 가장 최근 등록된 기기 조회 (활성 여부 무관)
+    Optional<Device> findFirstByUserOrderByRegisteredAtDesc(User user);
+
+    // 사용자의 푸시 발송 대상 기기 조회 (활성 + FCM 토큰 보유 조건을 쿼리에서 처리)
+    //
+    // @param userId 사용자 ID
+    // @return 발송 대상 기기 (ID 오름차순)
+    @Query("SELECT new baro.baro.domain.device.repository.DevicePushTarget(d.id, d.fcmToken, d.osType) " +
+           "FROM DeviceEntity d " +
+           "WHERE d.user.id = :userId AND d.isActive = true AND d.fcmToken IS NOT NULL AND d.fcmToken <> '' " +
+           "ORDER BY d.id")
+    List<DevicePushTarget> findPushTargetsByUserId(@Param("userId") Long userId);
+
+    // FCM 토큰을 보유한 기기의 사용자 ID 조회 (토큰 정리 후 캐시 무효화용)
+    @Query("SELECT DISTINCT d.user.id FROM DeviceEntity d WHERE d.fcmToken IN :fcmTokens")
+    List<Long> findUserIdsByFcmTokens(@Param("fcmTokens") Collection<String> fcmTokens);
+
     // 사용자의 특정 UUID 기기 조회
     Optional<Device> findByUserAndDeviceUuid(User user, String deviceUuid);
+
+    // FCM이 무효로 판정한 토큰을 일괄 삭제 (기기는 활성 상태 유지)
+    // 토큰 값으로 매칭하므로 그 사이 새 토큰으로 갱신된 기기는 영향받지 않습니다.
+    //
+    // @param fcmTokens 무효 토큰 목록
+    // @return 토큰이 삭제된 기기 수
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DeviceEntity d SET d.fcmToken = NULL WHERE d.fcmToken IN :fcmTokens")
+    int clearFcmTokens(@Param("fcmTokens") Collection<String> fcmTokens);
 }
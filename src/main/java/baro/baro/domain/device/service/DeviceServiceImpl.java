@@ -1,6 +1,7 @@
 package baro.baro.domain.device.service;
 
 
+import baro.baro.domain.common.util.GeoHashUtil;
 import baro.baro.domain.common.util.GpsUtils;
 import baro.baro.domain.device.dto.req.DeviceRegisterRequest;
 import baro.baro.domain.device.dto.req.FcmTokenUpdateRequest;
@@ -21,6 +22,7 @@ import baro.baro.domain.missingperson.repository.MissingPersonRepository;
 import baro.baro.domain.notification.entity.NotificationType;
 import baro.baro.domain.notification.repository.NotificationRepository;
 import baro.baro.domain.notification.dto.event.NearbyAlertNotificationEvent;
+import baro.baro.domain.notification.service.RegionTopicSubscriptionService;
 import baro.baro.domain.user.entity.User;
 import baro.baro.domain.user.exception.UserErrorCode;
 import baro.baro.domain.user.exception.UserException;
@@ -37,9 +39,12 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 
+import baro.baro.domain.device.dto.event.DevicePushTargetChangedEvent;
+import baro.baro.domain.device.dto.event.DeviceRegionChangedEvent;
 import baro.baro.domain.device.dto.event.LogoutSuccessEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -68,6 +73,7 @@ public class DeviceServiceImpl implements DeviceService {
     private final NotificationRepository notificationRepository;
     private final MetricsService metricsService;
     private final ApplicationEventPublisher eventPublisher;
+    private final RegionTopicSubscriptionService regionTopicSubscriptionService;
 
     // PostGIS 공간 데이터 생성을 위한 GeometryFactory
     private final GeometryFactory geometryFactory = new GeometryFactory();
@@ -109,6 +115,7 @@ public class DeviceServiceImpl implements DeviceService {
             device.reactivate();
             device.updateFcmToken(request.getFcmToken());
             Device savedDevice = deviceRepository.save(device);
+            eventPublisher.publishEvent(new DevicePushTargetChangedEvent(this, user.getId()));
 
             log.info("기기 재활성화 - 사용자: {}, UUID: {}", user.getName(), request.getDeviceUuid());
 
@@ -150,6 +157,7 @@ public class DeviceServiceImpl implements DeviceService {
 
         // 6. 데이터베이스에 저장
         Device savedDevice = deviceRepository.save(device);
+        eventPublisher.publishEvent(new DevicePushTargetChangedEvent(this, user.getId()));
 
         log.info("새 기기 등록 - 사용자: {}, UUID: {}, 활성 기기 수: {}/3",
                 user.getName(), request.getDeviceUuid(), activeDeviceCount + 1);
@@ -214,18 +222,21 @@ public class DeviceServiceImpl implements DeviceService {
             device.updateBatteryLevel(request.getBatteryLevel());
         }
 
-        // 6. 비동기로 주변 실종자 체크 및 알림 발송
+        // 6. 지역 토픽 셀 갱신 (셀이 바뀐 경우에만 구독 변경)
+        updateRegion(device, request.getLatitude(), request.getLongitude());
+
+        // 7. 비동기로 주변 실종자 체크 및 알림 발송
         checkNearbyMissingPersons(user, location);
 
-        // 7. 위치 변경 이벤트 발행 (SSE 브로드캐스트용)
+        // 8. 위치 변경 이벤트 발행 (SSE 브로드캐스트용)
         eventPublisher.publishEvent(new MemberLocationChangedEvent(this, user.getId()));
 
-        // 8. 메트릭 기록: GPS 업데이트
+        // 9. 메트릭 기록: GPS 업데이트
         metricsService.recordGpsLocationUpdate();
         long duration = System.currentTimeMillis() - startTime;
         metricsService.recordGpsUpdateDuration(duration);
 
-        // 9. 응답 DTO 생성 및 반환
+        // 10. 응답 DTO 생성 및 반환
         return new GpsUpdateResponse(
                 request.getLatitude(),
                 request.getLongitude(),
@@ -248,14 +259,15 @@ public class DeviceServiceImpl implements DeviceService {
                 .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
 
         // 2. 사용자의 활성 기기 조회 (첫 번째 활성 기기)
-        Device device = deviceRepository.findByUser(user).stream()
-                .filter(Device::isActive)
-                .findFirst()
+        Device device = deviceRepository.findFirstByUserAndIsActiveTrueOrderByIdAsc(user)
                 .orElseThrow(() -> new DeviceException(DeviceErrorCode.DEVICE_NOT_FOUND));
 
-        // 3. FCM 토큰 업데이트
+        // 3. FCM 토큰 업데이트 (지역 토픽 구독도 새 토큰으로 이전)
+        String previousToken = device.getFcmToken();
         device.updateFcmToken(request.getFcmToken());
         deviceRepository.save(device);
+        eventPublisher.publishEvent(new DevicePushTargetChangedEvent(this, user.getId()));
+        publishRegionChanged(device, previousToken, device.getRegionGeohash());
     }
 
     @Override
@@ -265,8 +277,12 @@ public class DeviceServiceImpl implements DeviceService {
         Device device = deviceRepository.findById(event.getDeviceId())
                 .orElseThrow(() -> new DeviceException(DeviceErrorCode.DEVICE_NOT_FOUND));
 
+        String previousToken = device.getFcmToken();
+        String previousRegion = device.getRegionGeohash();
         device.logout();
         deviceRepository.save(device);
+        eventPublisher.publishEvent(new DevicePushTargetChangedEvent(this, device.getUser().getId()));
+        publishRegionChanged(device, previousToken, previousRegion);
     }
 
     @EventListener
@@ -284,11 +300,53 @@ public class DeviceServiceImpl implements DeviceService {
                     if (!device.isActive()) {
                         device.reactivate();
                         deviceRepository.save(device);
+                        eventPublisher.publishEvent(new DevicePushTargetChangedEvent(this, user.getId()));
                         log.info("로그인 시 기기 활성화 - 사용자: {}, 기기 UUID: {}", user.getName(), event.getDeviceUuid());
                     }
                 });
     }
 
+    // GPS 위치의 geohash 셀이 바뀌었으면 기기의 지역 토픽 구독을 옮깁니다.
+    // 같은 셀 안에서의 이동은 구독 변경 없이 무시합니다.
+    // 구독 변경 대기열이 가득 차면 셀을 갱신하지 않아, 다음 GPS 업데이트에서 다시 구독 변경을 요청합니다.
+    //
+    // @param device 기기
+    // @param latitude 위도
+    // @param longitude 경도
+    private void updateRegion(Device device, double latitude, double longitude) {
+        String region = GeoHashUtil.encode(latitude, longitude, RegionTopicSubscriptionService.REGION_PRECISION);
+        String previousRegion = device.getRegionGeohash();
+        if (region.equals(previousRegion)) {
+            return;
+        }
+        if (!regionTopicSubscriptionService.admitRegionChange(device.getId())) {
+            return;
+        }
+        device.updateRegionGeohash(region);
+        publishRegionChanged(device, device.getFcmToken(), previousRegion);
+    }
+
+    // 기기의 지역 토픽 구독 변경 이벤트를 발행합니다 (현재 상태: 기기의 토큰/셀).
+    //
+    // @param device 기기
+    // @param previousToken 기존에 구독된 토큰
+    // @param previousRegion 기존에 구독된 셀
+    private void publishRegionChanged(Device device, String previousToken, String previousRegion) {
+        boolean wasSubscribed = StringUtils.hasText(previousToken) && previousRegion != null;
+        boolean subscribes = StringUtils.hasText(device.getFcmToken()) && device.getRegionGeohash() != null;
+        if (!wasSubscribed && !subscribes) {
+            return;
+        }
+        eventPublisher.publishEvent(new DeviceRegionChangedEvent(
+                this,
+                device.getId(),
+                wasSubscribed ? previousToken : null,
+                wasSubscribed ? previousRegion : null,
+                subscribes ? device.getFcmToken() : null,
+                subscribes ? device.getRegionGeohash() : null
+        ));
+    }
+
     // 주변 실종자를 체크하고 NEARBY_ALERT 알림을 발송합니다.
     // GPS 업데이트 시 비동기로 실행됩니다.
     //
@@ -14,4 +14,10 @@ public interface ImageService {
     // @param mimeType MIME 타입 (예: "image/jpeg", "image/png")
     // @return 저장된 이미지의 접근 가능한 URL
     String saveImageFromBytes(byte[] imageData, String filename, String mimeType);
+
+    // 이 서버에 저장된 이미지 파일이 아직 존재하는지 확인 (AI 생성 결과 캐시 검증용)
+    //
+    // @param imageUrl 저장 시 반환된 이미지 URL
+    // @return 파일이 존재하면 true (이 서버에 저장된 이미지 URL이 아니면 false)
+    boolean existsStoredImage(String imageUrl);
 }
@@ -77,6 +77,16 @@ public class ImageServiceImpl implements ImageService {
         return baseUrl + savedPath;
     }
 
+    @Override
+    public boolean existsStoredImage(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(baseUrl + "/")) {
+            return false;
+        }
+        Path rootPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path filePath = rootPath.resolve(imageUrl.substring(baseUrl.length() + 1)).normalize();
+        return filePath.startsWith(rootPath) && Files.isRegularFile(filePath);
+    }
+
     private String validateImageBytes(byte[] imageData, String filename, String mimeType) {
         if (imageData == null || imageData.length == 0) {
             throw new ImageException(ImageErrorCode.EMPTY_FILE);
@@ -28,9 +28,6 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 
 
@@ -42,7 +39,6 @@ import java.util.concurrent.TimeUnit;
 public class MemberController {
 
     private static final long SSE_TIMEOUT = 30 * 60 * 1000L; // 30분
-    private static final long HEARTBEAT_INTERVAL = 15 * 1000L; // 15초
 
     private final MemberService memberService;
     private final MemberLocationEmitterRegistry emitterRegistry;
@@ -128,27 +124,7 @@ public class MemberController {
             return emitter;
         }
 
-        // Heartbeat 스케줄러 설정
-        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-        scheduler.scheduleAtFixedRate(() -> {
-            try {
-                MemberLocationEvent heartbeat = MemberLocationEvent.heartbeat();
-                String heartbeatData = objectMapper.writeValueAsString(heartbeat);
-                emitter.send(SseEmitter.event()
-                        .name("location")
-                        .data(heartbeatData));
-            } catch (IOException e) {
-                log.debug("Heartbeat 전송 실패, 연결 종료 - userId: {}", userId);
-                scheduler.shutdown();
-                emitterRegistry.removeEmitter(userId, emitter);
-            }
-        }, HEARTBEAT_INTERVAL, HEARTBEAT_INTERVAL, TimeUnit.MILLISECONDS);
-
-        // emitter 완료 시 스케줄러 종료
-        emitter.onCompletion(scheduler::shutdown);
-        emitter.onTimeout(scheduler::shutdown);
-        emitter.onError(e -> scheduler.shutdown());
-
+        // Heartbeat는 공용 SseHeartbeatScheduler가 레지스트리 단위로 전송합니다.
         return emitter;
     }
 
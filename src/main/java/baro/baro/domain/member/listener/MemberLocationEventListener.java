@@ -3,9 +3,9 @@ package baro.baro.domain.member.listener;
 import baro.baro.domain.member.dto.event.MemberLocationChangedEvent;
 import baro.baro.domain.member.dto.event.MemberLocationEvent;
 import baro.baro.domain.member.dto.res.MemberLocationResponse;
-import baro.baro.domain.member.repository.RelationshipRepository;
 import baro.baro.domain.member.service.MemberLocationEmitterRegistry;
 import baro.baro.domain.member.service.MemberService;
+import baro.baro.domain.member.service.RelationshipGraphCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -22,7 +22,7 @@ import java.util.List;
 public class MemberLocationEventListener {
 
     private final MemberLocationEmitterRegistry emitterRegistry;
-    private final RelationshipRepository relationshipRepository;
+    private final RelationshipGraphCache relationshipGraphCache;
     private final MemberService memberService;
 
     // 위치 변경 이벤트를 처리합니다.
@@ -35,16 +35,16 @@ public class MemberLocationEventListener {
         Long changedUserId = event.getUserId();
         log.debug("위치 변경 이벤트 수신 - userId: {}", changedUserId);
 
-        // 변경된 사용자와 관계를 맺은 모든 사용자 조회
-        List<Long> relatedUserIds = relationshipRepository.findUserIdsByMemberId(changedUserId);
+        // 변경된 사용자와 관계를 맺은 모든 사용자 조회 (메모리 캐시, DB 조회 없음)
+        long[] relatedUserIds = relationshipGraphCache.getRelatedUserIds(changedUserId);
 
-        if (relatedUserIds.isEmpty()) {
+        if (relatedUserIds.length == 0) {
             log.debug("관련 사용자 없음 - userId: {}", changedUserId);
             return;
         }
 
         // 각 관련 사용자에게 업데이트된 위치 정보 브로드캐스트
-        for (Long userId : relatedUserIds) {
+        for (long userId : relatedUserIds) {
             // 연결이 없으면 스킵
             if (!emitterRegistry.hasConnection(userId)) {
                 continue;
@@ -1,35 +1,83 @@
 package baro.baro.domain.member.service;
 
+import baro.baro.domain.common.sse.SseConnectionManager;
+import baro.baro.domain.common.sse.SseHeartbeatTarget;
 import baro.baro.domain.member.dto.event.MemberLocationEvent;
+import baro.baro.domain.member.service.MemberLocationSession.Format;
+import baro.baro.domain.member.service.MemberLocationSession.LocationFrame;
+import baro.baro.domain.member.websocket.MemberLocationBinaryEncoder;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.socket.WebSocketSession;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 // SSE Emitter 레지스트리
-// 사용자별 SSE 연결을 관리하고 브로드캐스트를 처리합니다.
+// 사용자별 위치 스트림 연결(SSE, WebSocket)을 관리하고 브로드캐스트를 처리합니다.
+// 연결 수 제한, 송신 대기열, writer 풀, 퇴출 규칙은 알림 스트림과 함께 SseConnectionManager가 적용하고,
+// 이 레지스트리는 위치 이벤트를 연결 형식별로 한 번씩 인코딩해 대기열에 적재합니다.
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class MemberLocationEmitterRegistry {
+public class MemberLocationEmitterRegistry implements SseHeartbeatTarget {
 
-    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final SseConnectionManager connectionManager;
     private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+
+    private final DistributionSummary jsonPayloadBytesSummary;
+    private final DistributionSummary binaryPayloadBytesSummary;
+    private final DistributionSummary fanoutSummary;
+
+    public MemberLocationEmitterRegistry(
+            SseConnectionManager connectionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${sse.outbound.queue-capacity:16}") int queueCapacity // 연결별 대기열 크기
+    ) {
+        this.connectionManager = connectionManager;
+        this.objectMapper = objectMapper;
+        this.queueCapacity = Math.max(1, queueCapacity);
+
+        this.jsonPayloadBytesSummary = DistributionSummary.builder("sse_event_payload_bytes")
+                .description("직렬화된 위치 스트림 이벤트 크기")
+                .baseUnit("bytes")
+                .tag("format", "json")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.binaryPayloadBytesSummary = DistributionSummary.builder("sse_event_payload_bytes")
+                .description("직렬화된 위치 스트림 이벤트 크기")
+                .baseUnit("bytes")
+                .tag("format", "binary")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.fanoutSummary = DistributionSummary.builder("sse_broadcast_fanout")
+                .description("브로드캐스트 1회당 전송 대상 연결 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     // 새로운 SSE Emitter를 등록합니다.
+    // 사용자별 또는 전체 연결 수 제한에 도달하면 가장 오래된 연결을 퇴출한 뒤 등록합니다.
     //
     // @param userId 사용자 ID
     // @param emitter SSE Emitter
     public void addEmitter(Long userId, SseEmitter emitter) {
-        emitters.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(emitter);
-        log.debug("SSE Emitter 등록 - userId: {}, 총 연결 수: {}", userId, emitters.get(userId).size());
+        connectionManager.register(new SseMemberLocationSession(userId, emitter, queueCapacity));
+    }
+
+    // 새로운 WebSocket 연결을 등록합니다. 바이너리 프레임으로 전송됩니다.
+    //
+    // @param userId 사용자 ID
+    // @param webSocketSession 동시 전송에 안전한 WebSocket 세션
+    public void addWebSocketSession(Long userId, WebSocketSession webSocketSession) {
+        connectionManager.register(new WebSocketMemberLocationSession(userId, webSocketSession, queueCapacity));
     }
 
     // SSE Emitter를 제거합니다.
@@ -37,54 +85,43 @@ public class MemberLocationEmitterRegistry {
     // @param userId 사용자 ID
     // @param emitter 제거할 SSE Emitter
     public void removeEmitter(Long userId, SseEmitter emitter) {
-        List<SseEmitter> userEmitters = emitters.get(userId);
-        if (userEmitters != null) {
-            userEmitters.remove(emitter);
-            if (userEmitters.isEmpty()) {
-                emitters.remove(userId);
-            }
-            log.debug("SSE Emitter 제거 - userId: {}, 남은 연결 수: {}", userId,
-                    userEmitters.isEmpty() ? 0 : userEmitters.size());
-        }
+        connectionManager.remove(userId, emitter);
+    }
+
+    // WebSocket 연결을 제거합니다.
+    //
+    // @param userId 사용자 ID
+    // @param webSocketSession 제거할 WebSocket 세션
+    public void removeWebSocketSession(Long userId, WebSocketSession webSocketSession) {
+        connectionManager.remove(userId, webSocketSession);
     }
 
     // 특정 사용자에게 이벤트를 브로드캐스트합니다.
+    // 연결별 대기열에 적재 후 즉시 반환하므로 느린 연결이 호출 스레드를 막지 않습니다.
     //
     // @param userId 사용자 ID
     // @param event 전송할 이벤트
     public void broadcast(Long userId, MemberLocationEvent event) {
-        List<SseEmitter> userEmitters = emitters.get(userId);
-        if (userEmitters == null || userEmitters.isEmpty()) {
+        // 직렬화와 전송이 같은 연결 목록을 보도록 스냅샷을 한 번만 뜹니다.
+        List<MemberLocationSession> targets = connectionManager.sessionsOf(userId, MemberLocationSession.class);
+        if (targets.isEmpty()) {
             return;
         }
 
-        // 이벤트를 한 번만 직렬화
-        String eventData;
+        // 연결에 필요한 형식별로 이벤트를 한 번만 직렬화
+        LocationFrame frame;
         try {
-            eventData = objectMapper.writeValueAsString(event);
+            frame = encode(event, targets);
         } catch (IOException e) {
             log.error("이벤트 직렬화 실패 - userId: {}", userId, e);
             return;
         }
 
-        // 실패한 emitter 목록
-        List<SseEmitter> failedEmitters = new CopyOnWriteArrayList<>();
-
-        for (SseEmitter emitter : userEmitters) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("location")
-                        .data(eventData));
-            } catch (IOException e) {
-                log.warn("SSE 전송 실패 - userId: {}, 이유: {}", userId, e.getMessage());
-                failedEmitters.add(emitter);
-            }
-        }
-
-        // 실패한 emitter 제거
-        for (SseEmitter failed : failedEmitters) {
-            removeEmitter(userId, failed);
+        long now = System.nanoTime();
+        for (MemberLocationSession session : targets) {
+            connectionManager.enqueue(session, frame, now);
         }
+        fanoutSummary.record(targets.size());
     }
 
     // 여러 사용자에게 이벤트를 브로드캐스트합니다.
@@ -104,29 +141,75 @@ public class MemberLocationEmitterRegistry {
         broadcast(userId, MemberLocationEvent.heartbeat());
     }
 
-    // 모든 연결에 heartbeat를 전송합니다.
+    // 모든 연결에 heartbeat를 전송합니다. 공용 heartbeat 타이머가 호출합니다.
+    @Override
     public void sendHeartbeatToAll() {
-        MemberLocationEvent heartbeat = MemberLocationEvent.heartbeat();
-        for (Long userId : emitters.keySet()) {
-            broadcast(userId, heartbeat);
+        List<MemberLocationSession> targets = connectionManager.sessionsOf(MemberLocationSession.class);
+        if (targets.isEmpty()) {
+            return;
+        }
+        // heartbeat는 모든 연결에 같으므로 형식별로 한 번만 인코딩합니다.
+        LocationFrame frame;
+        try {
+            frame = encode(MemberLocationEvent.heartbeat(), targets);
+        } catch (IOException e) {
+            log.error("heartbeat 직렬화 실패", e);
+            return;
+        }
+        long now = System.nanoTime();
+        for (MemberLocationSession session : targets) {
+            connectionManager.enqueue(session, frame, now);
         }
     }
 
-    // 특정 사용자가 연결되어 있는지 확인합니다.
+    // 특정 사용자가 위치 스트림에 연결되어 있는지 확인합니다.
     //
     // @param userId 사용자 ID
     // @return 연결 여부
     public boolean hasConnection(Long userId) {
-        List<SseEmitter> userEmitters = emitters.get(userId);
-        return userEmitters != null && !userEmitters.isEmpty();
+        return connectionManager.hasConnection(userId, MemberLocationSession.class);
     }
 
-    // 현재 활성 연결 수를 반환합니다.
+    // 현재 위치 스트림의 활성 연결 수를 반환합니다.
     //
-    // @return 총 활성 연결 수
+    // @return 위치 스트림 연결 수
     public int getTotalConnectionCount() {
-        return emitters.values().stream()
-                .mapToInt(List::size)
-                .sum();
+        return connectionManager.sessionsOf(MemberLocationSession.class).size();
+    }
+
+    // 위치 스트림 송신 대기열에 쌓인 이벤트 수를 반환합니다.
+    //
+    // @return 대기 이벤트 수
+    public int getTotalQueueDepth() {
+        int total = 0;
+        for (MemberLocationSession session : connectionManager.sessionsOf(MemberLocationSession.class)) {
+            total += session.getQueueDepth();
+        }
+        return total;
+    }
+
+    private LocationFrame encode(MemberLocationEvent event, List<MemberLocationSession> userSessions) throws IOException {
+        boolean needsJson = false;
+        boolean needsBinary = false;
+        for (MemberLocationSession session : userSessions) {
+            if (session.format() == Format.BINARY) {
+                needsBinary = true;
+            } else {
+                needsJson = true;
+            }
+        }
+
+        String json = null;
+        if (needsJson) {
+            byte[] serialized = objectMapper.writeValueAsBytes(event);
+            jsonPayloadBytesSummary.record(serialized.length);
+            json = new String(serialized, StandardCharsets.UTF_8);
+        }
+        byte[] binary = null;
+        if (needsBinary) {
+            binary = MemberLocationBinaryEncoder.encode(event);
+            binaryPayloadBytesSummary.record(binary.length);
+        }
+        return new LocationFrame(json, binary);
     }
 }
@@ -0,0 +1,33 @@
+package baro.baro.domain.member.service;
+
+import baro.baro.domain.common.sse.SseSession;
+
+// 구성원 위치 스트림 연결 1개
+// 송신 대기열, 전송, 퇴출은 SseSession/SseConnectionManager가 처리하고,
+// 전송 방식(SSE, WebSocket)은 하위 클래스가 결정합니다.
+// 위치 UPDATE는 매번 전체 목록을 담으므로 대기열이 가득 차면 가장 오래된 이벤트를 버려도 최신 상태는 유지됩니다.
+abstract class MemberLocationSession extends SseSession<MemberLocationSession.LocationFrame> {
+
+    // 연결이 수신하는 이벤트 형식
+    enum Format {
+        JSON,   // SSE 텍스트 이벤트
+        BINARY  // WebSocket 바이너리 프레임
+    }
+
+    protected MemberLocationSession(Long userId, Object connection, int capacity) {
+        super(userId, connection, capacity, OverflowPolicy.DROP_OLDEST);
+    }
+
+    // 이 연결이 수신하는 이벤트 형식
+    abstract Format format();
+
+    @Override
+    protected String streamName() {
+        return "위치";
+    }
+
+    // 브로드캐스트 1회에 대해 한 번만 인코딩된 이벤트
+    // 연결에 필요한 형식만 채워집니다.
+    record LocationFrame(String json, byte[] binary) {
+    }
+}
@@ -47,6 +47,7 @@ public class MemberServiceImpl implements MemberService {
     private final DeviceRepository deviceRepository;
     private final GpsTrackRepository gpsTrackRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final RelationshipGraphCache relationshipGraphCache;
 
     @Override
     @Transactional // 구성원 초대 생성 메서드
@@ -60,8 +61,8 @@ public class MemberServiceImpl implements MemberService {
             throw new MemberException(MemberErrorCode.DUPLICATE_INVITATION);
         }
 
-        // 이미 관계가 존재하는지 확인 (양방향)
-        if (relationshipRepository.existsRelationshipBetween(currentUser.getId(), invitee.getId())) {
+        // 이미 관계가 존재하는지 확인 (양방향, 관계 그래프 캐시)
+        if (relationshipGraphCache.isRelated(currentUser.getId(), invitee.getId())) {
             throw new MemberException(MemberErrorCode.DUPLICATE_INVITATION);
         }
 
@@ -174,10 +175,7 @@ public class MemberServiceImpl implements MemberService {
     // 구성원 위치 응답 목록을 생성하는 공통 메서드
     private List<MemberLocationResponse> buildMemberLocationResponses(User user) {
         // 사용자의 최신 위치 조회 (거리 계산용) - 활성 기기 우선
-        Device userDevice = deviceRepository.findByUser(user).stream()
-                .filter(Device::isActive)
-                .sorted((d1, d2) -> d2.getRegisteredAt().compareTo(d1.getRegisteredAt()))
-                .findFirst()
+        Device userDevice = deviceRepository.findFirstByUserAndIsActiveTrueOrderByRegisteredAtDesc(user)
                 .orElseThrow(() -> new DeviceException(DeviceErrorCode.DEVICE_NOT_FOUND));
 
         GpsTrack userLocation = gpsTrackRepository.findLatestByDevice(userDevice)
@@ -191,17 +189,12 @@ public class MemberServiceImpl implements MemberService {
             User member = relationship.getMember();
 
             // 구성원의 기기 조회 (활성 기기 우선, 최신 등록 순)
-            Device memberDevice = deviceRepository.findByUser(member).stream()
-                    .filter(Device::isActive)  // 활성 기기만
-                    .sorted((d1, d2) -> d2.getRegisteredAt().compareTo(d1.getRegisteredAt()))  // 최신 등록 순
-                    .findFirst()
+            Device memberDevice = deviceRepository.findFirstByUserAndIsActiveTrueOrderByRegisteredAtDesc(member)
                     .orElse(null);
 
             if (memberDevice == null) {
                 // 활성 기기가 없으면 비활성 기기 중 최신 것 선택
-                memberDevice = deviceRepository.findByUser(member).stream()
-                        .sorted((d1, d2) -> d2.getRegisteredAt().compareTo(d1.getRegisteredAt()))
-                        .findFirst()
+                memberDevice = deviceRepository.findFirstByUserOrderByRegisteredAtDesc(member)
                         .orElse(null);
 
                 if (memberDevice == null) {
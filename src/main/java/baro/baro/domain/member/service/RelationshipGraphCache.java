@@ -0,0 +1,144 @@
+package baro.baro.domain.member.service;
+
+import baro.baro.domain.member.dto.event.InvitationResponseEvent;
+import baro.baro.domain.member.repository.RelationshipRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 구성원 관계 그래프 메모리 캐시
+// userId -> 관계를 맺은 사용자 ID 집합(정렬된 long[])을 보관합니다.
+// 초대 수락 시 양방향 Relationship이 함께 생성되므로 인접 집합은 대칭입니다.
+// GPS 업데이트마다 발생하는 브로드캐스트 대상 조회를 DB 없이 처리합니다.
+// 무효화 이벤트는 이 인스턴스에서 커밋된 변경만 받으므로, 다른 인스턴스의 변경은 TTL이 지나 다시 읽을 때 반영됩니다.
+@Slf4j
+@Component
+public class RelationshipGraphCache {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final RelationshipRepository relationshipRepository;
+
+    private final Cache<Long, long[]> adjacency;
+
+    // 무효화 세대 - 조회 중 무효화가 일어나면 오래된 결과를 캐시에 넣지 않습니다.
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public RelationshipGraphCache(
+            RelationshipRepository relationshipRepository,
+            @Value("${member.relationship-cache.ttl-seconds:60}") long ttlSeconds // 항목 유지 시간
+    ) {
+        this(relationshipRepository, Duration.ofSeconds(ttlSeconds), Ticker.systemTicker());
+    }
+
+    RelationshipGraphCache(RelationshipRepository relationshipRepository, Duration ttl, Ticker ticker) {
+        this.relationshipRepository = relationshipRepository;
+        this.adjacency = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .build();
+    }
+
+    // 특정 사용자와 관계를 맺은 모든 사용자 ID를 반환합니다.
+    // 위치 변경 시 브로드캐스트 대상 조회에 사용됩니다.
+    //
+    // @param userId 사용자 ID
+    // @return 관련 사용자 ID (오름차순, 호출자가 수정해도 캐시에 영향 없음)
+    public long[] getRelatedUserIds(Long userId) {
+        return load(userId).clone();
+    }
+
+    // 두 사용자 간 관계가 존재하는지 확인합니다 (양방향).
+    //
+    // @param user1Id 첫 번째 사용자 ID
+    // @param user2Id 두 번째 사용자 ID
+    // @return 관계가 존재하면 true
+    public boolean isRelated(Long user1Id, Long user2Id) {
+        return Arrays.binarySearch(load(user1Id), user2Id) >= 0
+                || Arrays.binarySearch(load(user2Id), user1Id) >= 0;
+    }
+
+    // 초대 수락/거절이 커밋되면 두 사용자의 인접 집합을 무효화합니다.
+    //
+    // @param event 초대 응답 이벤트
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInvitationResponded(InvitationResponseEvent event) {
+        evict(event.getInviter().getId());
+        evict(event.getInvitee().getId());
+    }
+
+    // 관계 변경(삭제 포함) 후 사용자의 캐시를 무효화합니다.
+    //
+    // @param userId 사용자 ID
+    public void evict(Long userId) {
+        generation.incrementAndGet();
+        adjacency.invalidate(userId);
+        log.debug("관계 캐시 무효화 - userId: {}", userId);
+    }
+
+    // 전체 캐시를 무효화합니다.
+    public void evictAll() {
+        generation.incrementAndGet();
+        adjacency.invalidateAll();
+    }
+
+    // 캐시된 사용자 수
+    public long size() {
+        adjacency.cleanUp();
+        return adjacency.estimatedSize();
+    }
+
+    private long[] load(Long userId) {
+        long[] cached = adjacency.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long observedGeneration = generation.get();
+        long[] loaded = toSortedSet(relationshipRepository.findUserIdsByMemberId(userId));
+        // 세대 확인과 저장을 같은 compute 안에서 수행해, 그 사이 무효화가 끼어들어 오래된 결과가 남지 않게 합니다.
+        // (무효화는 세대를 먼저 올리고 항목을 지우므로, compute 이후의 무효화는 저장된 항목을 지웁니다.)
+        long[] stored = adjacency.asMap().compute(userId, (key, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            return generation.get() == observedGeneration ? loaded : null;
+        });
+        return stored != null ? stored : loaded;
+    }
+
+    private static long[] toSortedSet(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return EMPTY;
+        }
+        long[] values = new long[userIds.size()];
+        int size = 0;
+        for (Long id : userIds) {
+            if (id != null) {
+                values[size++] = id;
+            }
+        }
+        Arrays.sort(values, 0, size);
+
+        // 중복 제거
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            if (unique == 0 || values[unique - 1] != values[i]) {
+                values[unique++] = values[i];
+            }
+        }
+        return unique == values.length ? values : Arrays.copyOf(values, unique);
+    }
+}
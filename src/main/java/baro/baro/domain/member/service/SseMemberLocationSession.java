@@ -0,0 +1,33 @@
+package baro.baro.domain.member.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+// SSE 연결 - JSON 텍스트 이벤트로 전송합니다.
+class SseMemberLocationSession extends MemberLocationSession {
+
+    private final SseEmitter emitter;
+
+    SseMemberLocationSession(Long userId, SseEmitter emitter, int capacity) {
+        super(userId, emitter, capacity);
+        this.emitter = emitter;
+    }
+
+    @Override
+    Format format() {
+        return Format.JSON;
+    }
+
+    @Override
+    protected void write(LocationFrame frame) throws IOException {
+        emitter.send(SseEmitter.event()
+                .name("location")
+                .data(frame.json()));
+    }
+
+    @Override
+    protected void closeTransport() {
+        emitter.complete();
+    }
+}
@@ -0,0 +1,35 @@
+package baro.baro.domain.member.service;
+
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+
+// WebSocket 연결 - 바이너리 프레임으로 전송합니다.
+class WebSocketMemberLocationSession extends MemberLocationSession {
+
+    private final WebSocketSession session;
+
+    WebSocketMemberLocationSession(Long userId, WebSocketSession session, int capacity) {
+        super(userId, session, capacity);
+        this.session = session;
+    }
+
+    @Override
+    Format format() {
+        return Format.BINARY;
+    }
+
+    @Override
+    protected void write(LocationFrame frame) throws IOException {
+        session.sendMessage(new BinaryMessage(frame.binary()));
+    }
+
+    @Override
+    protected void closeTransport() throws IOException {
+        if (session.isOpen()) {
+            session.close(CloseStatus.GOING_AWAY);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package baro.baro.domain.member.websocket;
+
+import baro.baro.domain.member.dto.event.MemberLocationEvent;
+import baro.baro.domain.member.dto.res.MemberLocationResponse;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+// 구성원 위치 이벤트 바이너리 인코더 (WebSocket 전용)
+//
+// 프레임 형식 v1 (big-endian)
+// - 헤더 8바이트
+//   u8  version        프로토콜 버전 (1)
+//   u8  type           0: INITIAL, 1: UPDATE, 2: HEARTBEAT
+//   u16 count          구성원 수
+//   i32 timestamp      PROTOCOL_EPOCH 기준 경과 초 (delta)
+// - 구성원당 21바이트
+//   i64 userId         구성원 사용자 ID
+//   i32 latitude       위도 * 1e7 (없으면 Integer.MIN_VALUE)
+//   i32 longitude      경도 * 1e7 (없으면 Integer.MIN_VALUE)
+//   u8  battery        배터리 잔량 0~100 (없으면 0xFF)
+//   i32 distance       거리 (m, 없으면 -1)
+//
+// 이름/관계처럼 자주 바뀌지 않는 값은 연결 직후 INITIAL 텍스트 프레임(JSON)으로만 전송합니다.
+public final class MemberLocationBinaryEncoder {
+
+    public static final byte VERSION = 1;
+    public static final int HEADER_BYTES = 8;
+    public static final int MEMBER_BYTES = 21;
+    public static final double COORDINATE_SCALE = 1e7;
+    public static final int UNKNOWN_COORDINATE = Integer.MIN_VALUE;
+    public static final int UNKNOWN_BATTERY = 0xFF;
+    public static final int UNKNOWN_DISTANCE = -1;
+
+    // 타임스탬프 delta 기준 시각 (2025-01-01T00:00:00Z)
+    public static final long PROTOCOL_EPOCH_SECONDS = 1735689600L;
+
+    private static final int MAX_MEMBERS = 0xFFFF;
+
+    private MemberLocationBinaryEncoder() {
+    }
+
+    // 이벤트를 바이너리 프레임으로 인코딩합니다.
+    //
+    // @param event 위치 이벤트
+    // @return 인코딩된 프레임
+    public static byte[] encode(MemberLocationEvent event) {
+        List<MemberLocationResponse> members = event.getPayload() != null ? event.getPayload() : List.of();
+        int count = Math.min(members.size(), MAX_MEMBERS);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + count * MEMBER_BYTES);
+        buffer.put(VERSION);
+        buffer.put(typeCode(event.getType()));
+        buffer.putShort((short) count);
+        buffer.putInt(timestampDelta(event.getTimestamp()));
+
+        for (int i = 0; i < count; i++) {
+            MemberLocationResponse member = members.get(i);
+            MemberLocationResponse.LocationInfo location = member.getLocation();
+
+            buffer.putLong(member.getUserId() != null ? member.getUserId() : 0L);
+            buffer.putInt(scaleCoordinate(location != null ? location.getLatitude() : null));
+            buffer.putInt(scaleCoordinate(location != null ? location.getLongitude() : null));
+            buffer.put((byte) battery(member.getBatteryLevel()));
+            buffer.putInt(distanceMeters(member.getDistance()));
+        }
+        return buffer.array();
+    }
+
+    // 프레임 타임스탬프를 Instant로 복원합니다.
+    //
+    // @param delta PROTOCOL_EPOCH 기준 경과 초
+    // @return 이벤트 시각
+    public static Instant toInstant(int delta) {
+        return Instant.ofEpochSecond(PROTOCOL_EPOCH_SECONDS + delta);
+    }
+
+    static byte typeCode(MemberLocationEvent.EventType type) {
+        if (type == null) {
+            return 1;
+        }
+        return switch (type) {
+            case INITIAL -> 0;
+            case UPDATE -> 1;
+            case HEARTBEAT -> 2;
+        };
+    }
+
+    private static int timestampDelta(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return 0;
+        }
+        long epochSeconds = timestamp.atZone(ZoneId.systemDefault()).toEpochSecond();
+        return (int) (epochSeconds - PROTOCOL_EPOCH_SECONDS);
+    }
+
+    private static int scaleCoordinate(Double value) {
+        if (value == null) {
+            return UNKNOWN_COORDINATE;
+        }
+        return (int) Math.round(value * COORDINATE_SCALE);
+    }
+
+    private static int battery(Integer batteryLevel) {
+        if (batteryLevel == null || batteryLevel < 0) {
+            return UNKNOWN_BATTERY;
+        }
+        return Math.min(batteryLevel, 100);
+    }
+
+    private static int distanceMeters(Double distanceKm) {
+        if (distanceKm == null) {
+            return UNKNOWN_DISTANCE;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(distanceKm * 1000));
+    }
+}
@@ -0,0 +1,75 @@
+package baro.baro.domain.member.websocket;
+
+import baro.baro.domain.auth.service.JwtTokenProvider;
+import baro.baro.domain.user.entity.User;
+import baro.baro.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+
+// 구성원 위치 WebSocket 핸드셰이크 인증
+// SSE 스트림과 동일하게 token 쿼리 파라미터(또는 Authorization 헤더)의 JWT를 검증합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberLocationHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String USER_ID_ATTRIBUTE = "memberLocation.userId";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String token = extractToken(request);
+        if (!StringUtils.hasText(token) || !jwtTokenProvider.validateToken(token)) {
+            log.debug("WebSocket 핸드셰이크 거부 - 유효하지 않은 토큰");
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        String uid = jwtTokenProvider.getSubjectFromToken(token);
+        User user = userRepository.findByUid(uid).orElse(null);
+        if (user == null || !user.isActive()) {
+            log.debug("WebSocket 핸드셰이크 거부 - 사용자 없음 또는 비활성: {}", uid);
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        attributes.put(USER_ID_ATTRIBUTE, user.getId());
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+        // 후처리 없음
+    }
+
+    private String extractToken(ServerHttpRequest request) {
+        String token = UriComponentsBuilder.fromUri(request.getURI())
+                .build()
+                .getQueryParams()
+                .getFirst("token");
+        if (StringUtils.hasText(token)) {
+            return token;
+        }
+
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(authorization) && authorization.startsWith("Bearer ")) {
+            return authorization.substring(7);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,92 @@
+package baro.baro.domain.member.websocket;
+
+import baro.baro.domain.member.dto.event.MemberLocationEvent;
+import baro.baro.domain.member.dto.res.MemberLocationResponse;
+import baro.baro.domain.member.service.MemberLocationEmitterRegistry;
+import baro.baro.domain.member.service.MemberService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.util.List;
+
+// 구성원 위치 WebSocket 핸들러
+// 연결 직후 INITIAL 이벤트를 JSON 텍스트 프레임으로 1회 전송하고,
+// 이후 UPDATE/HEARTBEAT는 MemberLocationBinaryEncoder 형식의 바이너리 프레임으로 전송합니다.
+// 연결 수 제한, 송신 대기열, 퇴출 규칙은 SSE와 같은 MemberLocationEmitterRegistry를 사용합니다.
+// 유휴 타임아웃 방지용 HEARTBEAT도 공용 heartbeat 타이머(sse.heartbeat-interval-ms)가 레지스트리를 통해 전송합니다.
+@Slf4j
+public class MemberLocationWebSocketHandler extends BinaryWebSocketHandler {
+
+    private static final String DECORATED_SESSION_ATTRIBUTE = "memberLocation.session";
+
+    private final MemberLocationEmitterRegistry emitterRegistry;
+    private final MemberService memberService;
+    private final ObjectMapper objectMapper;
+    private final int sendTimeLimitMillis;
+    private final int bufferSizeLimitBytes;
+
+    public MemberLocationWebSocketHandler(
+            MemberLocationEmitterRegistry emitterRegistry,
+            MemberService memberService,
+            ObjectMapper objectMapper,
+            int sendTimeLimitMillis, // 프레임 1개 전송 제한 시간
+            int bufferSizeLimitBytes // 세션별 미전송 버퍼 한도
+    ) {
+        this.emitterRegistry = emitterRegistry;
+        this.memberService = memberService;
+        this.objectMapper = objectMapper;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.bufferSizeLimitBytes = bufferSizeLimitBytes;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Long userId = getUserId(session);
+        WebSocketSession concurrentSession =
+                new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis, bufferSizeLimitBytes);
+        session.getAttributes().put(DECORATED_SESSION_ATTRIBUTE, concurrentSession);
+
+        // 초기 데이터 전송 (이름/관계 포함 JSON)
+        // UPDATE가 INITIAL보다 먼저 도착하지 않도록 전송을 마친 뒤 레지스트리에 등록합니다.
+        List<MemberLocationResponse> initialData = memberService.getMemberLocationsForUser(userId);
+        String eventData = objectMapper.writeValueAsString(MemberLocationEvent.initial(initialData));
+        concurrentSession.sendMessage(new TextMessage(eventData));
+
+        emitterRegistry.addWebSocketSession(userId, concurrentSession);
+        if (!session.isOpen()) {
+            // 등록 전에 연결이 종료된 경우 - 종료 콜백이 등록을 지우지 못했으므로 직접 제거합니다.
+            unregister(session);
+            return;
+        }
+
+        log.debug("WebSocket 연결 - userId: {}, 구성원 수: {}", userId, initialData.size());
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.warn("WebSocket 오류 - userId: {}, error: {}", getUserId(session), exception.getMessage());
+        unregister(session);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        log.debug("WebSocket 연결 종료 - userId: {}, status: {}", getUserId(session), status);
+        unregister(session);
+    }
+
+    private void unregister(WebSocketSession session) {
+        Object decorated = session.getAttributes().get(DECORATED_SESSION_ATTRIBUTE);
+        if (decorated instanceof WebSocketSession concurrentSession) {
+            emitterRegistry.removeWebSocketSession(getUserId(session), concurrentSession);
+        }
+    }
+
+    private Long getUserId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(MemberLocationHandshakeInterceptor.USER_ID_ATTRIBUTE);
+    }
+}
@@ -21,6 +21,7 @@ import baro.baro.domain.missingperson.repository.SightingRepository;
 import baro.baro.domain.common.util.LocationUtil;
 import baro.baro.domain.common.util.SecurityUtil;
 import baro.baro.domain.notification.dto.event.MissingPersonFoundNotificationEvent;
+import baro.baro.domain.notification.dto.event.MissingPersonRegisteredNotificationEvent;
 import baro.baro.domain.common.monitoring.MetricsService;
 import baro.baro.domain.user.entity.User;
 import baro.baro.domain.user.repository.UserRepository;
@@ -93,6 +94,15 @@ public class MissingPersonServiceImpl implements MissingPersonService {
         missingCaseRepository.save(missingCase);
 
         log.info("실종자 등록 완료: id={}, name={}", missingPerson.getId(), missingPerson.getName());
+
+        // 사건 위치 주변 지역 토픽 알림 (아웃박스 경유)
+        eventPublisher.publishEvent(new MissingPersonRegisteredNotificationEvent(
+                this,
+                missingPerson.getId(),
+                missingPerson.getName(),
+                locationInfo.point(),
+                locationInfo.address()
+        ));
         
         // 메트릭 기록: 실종자 신고
         metricsService.recordMissingPersonReport();
@@ -1,7 +1,17 @@
 package baro.baro.domain.notification.controller;
 
+import baro.baro.domain.auth.service.JwtTokenProvider;
+import baro.baro.domain.notification.dto.event.NotificationStreamEvent;
+import baro.baro.domain.notification.dto.req.DeleteNotificationsRequest;
+import baro.baro.domain.notification.dto.req.MarkNotificationsReadRequest;
+import baro.baro.domain.notification.dto.res.NotificationBulkResponse;
+import baro.baro.domain.notification.dto.res.NotificationPageResponse;
 import baro.baro.domain.notification.dto.res.NotificationResponse;
+import baro.baro.domain.notification.service.NotificationEmitterRegistry;
 import baro.baro.domain.notification.service.NotificationServiceInterface;
+import baro.baro.domain.notification.service.NotificationUnreadCounterService;
+import baro.baro.domain.user.entity.User;
+import baro.baro.domain.user.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,22 +19,33 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
 // 알림 관리 REST API 컨트롤러
 // 사용자의 알림을 조회하고 관리하는 기능을 제공합니다.
-// 모든 엔드포인트는 JWT 인증이 필요합니다.
+// 모든 엔드포인트는 JWT 인증이 필요합니다. (스트림은 쿼리 파라미터 토큰으로 인증)
+@Slf4j
 @Tag(name = "Notification", description = "알림 관리 API")
 @RestController
 @RequestMapping("/notifications")
 @RequiredArgsConstructor
 public class NotificationController {
 
+    private static final long SSE_TIMEOUT = 30 * 60 * 1000L; // 30분
+
     private final NotificationServiceInterface notificationService;
+    private final NotificationEmitterRegistry emitterRegistry;
+    private final NotificationUnreadCounterService unreadCounterService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
 
     @Operation(summary = "내 알림 목록 조회", description = "현재 로그인한 사용자의 모든 알림을 조회합니다.")
     @ApiResponses({
@@ -41,6 +62,27 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @Operation(summary = "내 알림 페이지 조회", description = "현재 로그인한 사용자의 알림을 최신순으로 페이지 단위로 조회합니다. " +
+            "다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "알림 조회 성공",
+            content = @Content(schema = @Schema(implementation = NotificationPageResponse.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "올바르지 않은 커서"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/me/page")
+    public ResponseEntity<NotificationPageResponse> getMyNotificationPage(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        NotificationPageResponse notifications = notificationService.getMyNotificationPage(cursor, size);
+        return ResponseEntity.ok(notifications);
+    }
+
     @Operation(summary = "읽지 않은 알림 목록 조회", description = "현재 로그인한 사용자의 읽지 않은 알림만 조회합니다.")
     @ApiResponses({
         @ApiResponse(
@@ -87,4 +129,92 @@ public class NotificationController {
         notificationService.markAsRead(notificationId);
         return ResponseEntity.ok().build();
     }
+
+    @Operation(summary = "알림 전체 읽음 처리", description = "현재 로그인한 사용자의 읽지 않은 알림을 모두 읽음 처리합니다.")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "읽음 처리 성공",
+            content = @Content(schema = @Schema(implementation = NotificationBulkResponse.class))
+        ),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @PutMapping("/me/read-all")
+    public ResponseEntity<NotificationBulkResponse> markAllAsRead() {
+        return ResponseEntity.ok(notificationService.markAllAsRead());
+    }
+
+    @Operation(summary = "기준 알림까지 읽음 처리",
+            description = "기준 알림과 그보다 먼저 생성된 알림을 모두 읽음 처리합니다. 이후 도착한 알림은 유지됩니다.")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "읽음 처리 성공",
+            content = @Content(schema = @Schema(implementation = NotificationBulkResponse.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "유효하지 않은 요청"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @PutMapping("/me/read-up-to")
+    public ResponseEntity<NotificationBulkResponse> markAsReadUpTo(
+            @Valid @RequestBody MarkNotificationsReadRequest request) {
+        return ResponseEntity.ok(notificationService.markAsReadUpTo(request.getUpToNotificationId()));
+    }
+
+    @Operation(summary = "알림 일괄 삭제", description = "현재 로그인한 사용자의 알림을 ID 목록으로 일괄 삭제합니다. 다른 사용자의 알림 ID는 무시됩니다.")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "삭제 성공",
+            content = @Content(schema = @Schema(implementation = NotificationBulkResponse.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "유효하지 않은 요청"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @PostMapping("/me/delete")
+    public ResponseEntity<NotificationBulkResponse> deleteNotifications(
+            @Valid @RequestBody DeleteNotificationsRequest request) {
+        return ResponseEntity.ok(notificationService.deleteNotifications(request.getNotificationIds()));
+    }
+
+    @Operation(summary = "실시간 알림 스트림 (SSE)",
+            description = "새 알림과 읽지 않은 알림 개수 변경을 Server-Sent Events로 수신합니다. " +
+                    "연결 직후 INITIAL 이벤트로 현재 읽지 않은 알림 개수를 전송합니다. " +
+                    "EventSource는 헤더를 지정할 수 없으므로 token 쿼리 파라미터로 인증합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "스트림 연결 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(
+            @RequestParam("token") String token
+    ) {
+        // 토큰 검증 및 사용자 조회
+        if (!jwtTokenProvider.validateToken(token)) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
+
+        String uid = jwtTokenProvider.getSubjectFromToken(token);
+        User user = userRepository.findByUid(uid)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = user.getId();
+
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
+        // 초기 상태는 새 연결에만, 이후 이벤트보다 먼저 전송합니다.
+        NotificationStreamEvent initial = NotificationStreamEvent.initial(unreadCounterService.getUnreadCount(userId));
+        emitterRegistry.addEmitter(userId, emitter, initial);
+
+        emitter.onCompletion(() -> emitterRegistry.removeEmitter(userId, emitter));
+        emitter.onTimeout(() -> {
+            log.debug("알림 스트림 타임아웃 - userId: {}", userId);
+            emitterRegistry.removeEmitter(userId, emitter);
+            emitter.complete();
+        });
+        emitter.onError(e -> {
+            log.debug("알림 스트림 오류 - userId: {}, error: {}", userId, e.getMessage());
+            emitterRegistry.removeEmitter(userId, emitter);
+        });
+
+        return emitter;
+    }
 }
@@ -0,0 +1,27 @@
+package baro.baro.domain.notification.dto.event;
+
+import lombok.Getter;
+import org.locationtech.jts.geom.Point;
+import org.springframework.context.ApplicationEvent;
+
+// 신규 실종자 등록 지역 알림 이벤트
+@Getter
+public class MissingPersonRegisteredNotificationEvent extends ApplicationEvent {
+
+    private final Long missingPersonId;
+    private final String missingPersonName;
+    private final Point location;
+    private final String address;
+
+    public MissingPersonRegisteredNotificationEvent(Object source,
+                                                    Long missingPersonId,
+                                                    String missingPersonName,
+                                                    Point location,
+                                                    String address) {
+        super(source);
+        this.missingPersonId = missingPersonId;
+        this.missingPersonName = missingPersonName;
+        this.location = location;
+        this.address = address;
+    }
+}
@@ -0,0 +1,25 @@
+package baro.baro.domain.notification.dto.event;
+
+import baro.baro.domain.notification.dto.res.NotificationResponse;
+import org.springframework.context.ApplicationEvent;
+
+// 알림 저장 이벤트 (트랜잭션 커밋 후 실시간 스트림 전송용)
+public class NotificationCreatedEvent extends ApplicationEvent {
+
+    private final Long userId;
+    private final NotificationResponse notification;
+
+    public NotificationCreatedEvent(Object source, Long userId, NotificationResponse notification) {
+        super(source);
+        this.userId = userId;
+        this.notification = notification;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public NotificationResponse getNotification() {
+        return notification;
+    }
+}
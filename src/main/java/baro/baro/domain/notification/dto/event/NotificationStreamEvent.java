@@ -0,0 +1,63 @@
+package baro.baro.domain.notification.dto.event;
+
+import baro.baro.domain.notification.dto.res.NotificationResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 알림 SSE 이벤트 DTO
+// 새 알림과 읽지 않은 알림 수 변경을 클라이언트에 전달합니다.
+@Data
+@Schema(description = "알림 SSE 이벤트")
+public class NotificationStreamEvent {
+
+    @Schema(description = "이벤트 타입", example = "NOTIFICATION",
+            allowableValues = {"INITIAL", "NOTIFICATION", "UNREAD_COUNT", "HEARTBEAT"})
+    private EventType type;
+
+    @Schema(description = "이벤트 발생 시간")
+    private LocalDateTime timestamp;
+
+    @Schema(description = "새 알림 (NOTIFICATION 타입에서만 포함)")
+    private NotificationResponse notification;
+
+    @Schema(description = "읽지 않은 알림 수 (INITIAL, UNREAD_COUNT 타입에서만 포함)", example = "3")
+    private Long unreadCount;
+
+    public enum EventType {
+        INITIAL,        // 연결 직후 현재 읽지 않은 알림 수
+        NOTIFICATION,   // 새 알림 저장
+        UNREAD_COUNT,   // 읽지 않은 알림 수 변경 (다른 기기에서 읽음 처리 포함)
+        HEARTBEAT       // 연결 유지용
+    }
+
+    public static NotificationStreamEvent initial(long unreadCount) {
+        NotificationStreamEvent event = of(EventType.INITIAL);
+        event.unreadCount = unreadCount;
+        return event;
+    }
+
+    public static NotificationStreamEvent notification(NotificationResponse notification) {
+        NotificationStreamEvent event = of(EventType.NOTIFICATION);
+        event.notification = notification;
+        return event;
+    }
+
+    public static NotificationStreamEvent unreadCount(long unreadCount) {
+        NotificationStreamEvent event = of(EventType.UNREAD_COUNT);
+        event.unreadCount = unreadCount;
+        return event;
+    }
+
+    public static NotificationStreamEvent heartbeat() {
+        return of(EventType.HEARTBEAT);
+    }
+
+    private static NotificationStreamEvent of(EventType type) {
+        NotificationStreamEvent event = new NotificationStreamEvent();
+        event.type = type;
+        event.timestamp = LocalDateTime.now();
+        return event;
+    }
+}
@@ -0,0 +1,18 @@
+package baro.baro.domain.notification.dto.event;
+
+import org.springframework.context.ApplicationEvent;
+
+// 읽지 않은 알림 수 변경 이벤트 (트랜잭션 커밋 후 실시간 스트림 전송용)
+public class UnreadCountChangedEvent extends ApplicationEvent {
+
+    private final Long userId;
+
+    public UnreadCountChangedEvent(Object source, Long userId) {
+        super(source);
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,10 @@
+package baro.baro.domain.notification.dto.outbox;
+
+// 초대 요청 알림 아웃박스 payload
+//
+// @param inviteeId 초대받은 사용자 ID
+// @param inviterId 초대한 사용자 ID
+// @param relation 관계
+// @param invitationId 초대 ID
+public record InvitationCreatedPayload(Long inviteeId, Long inviterId, String relation, Long invitationId) {
+}
@@ -0,0 +1,10 @@
+package baro.baro.domain.notification.dto.outbox;
+
+// 초대 응답 알림 아웃박스 payload
+//
+// @param inviterId 초대한 사용자 ID
+// @param inviteeId 초대받은 사용자 ID
+// @param accepted 수락 여부
+// @param relation 관계
+public record InvitationRespondedPayload(Long inviterId, Long inviteeId, boolean accepted, String relation) {
+}
@@ -0,0 +1,12 @@
+package baro.baro.domain.notification.dto.outbox;
+
+// 실종자 발견 신고 알림 아웃박스 payload
+//
+// @param sightingId 목격 ID
+// @param ownerId 실종자 등록자 ID
+// @param missingPersonName 실종자 이름
+// @param reporterName 신고자 이름
+// @param address 발견 위치 주소
+public record MissingPersonFoundPayload(Long sightingId, Long ownerId, String missingPersonName,
+                                        String reporterName, String address) {
+}
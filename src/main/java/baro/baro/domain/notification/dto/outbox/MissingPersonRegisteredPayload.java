@@ -0,0 +1,12 @@
+package baro.baro.domain.notification.dto.outbox;
+
+// 신규 실종자 지역 알림 아웃박스 payload
+//
+// @param missingPersonId 실종자 ID
+// @param missingPersonName 실종자 이름
+// @param latitude 실종 위치 위도 (없으면 null)
+// @param longitude 실종 위치 경도 (없으면 null)
+// @param address 실종 위치 주소
+public record MissingPersonRegisteredPayload(Long missingPersonId, String missingPersonName,
+                                             Double latitude, Double longitude, String address) {
+}
@@ -0,0 +1,13 @@
+package baro.baro.domain.notification.dto.outbox;
+
+// NEARBY_ALERT 알림 아웃박스 payload
+//
+// @param reporterId GPS 업데이트한 사용자 ID
+// @param missingPersonName 실종자 이름
+// @param distance 거리 (미터)
+// @param latitude 사용자 위치 위도 (없으면 null)
+// @param longitude 사용자 위치 경도 (없으면 null)
+// @param missingPersonId 실종자 ID
+public record NearbyAlertPayload(Long reporterId, String missingPersonName, double distance,
+                                 Double latitude, Double longitude, Long missingPersonId) {
+}
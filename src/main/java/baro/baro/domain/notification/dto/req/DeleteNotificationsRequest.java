@@ -0,0 +1,19 @@
+package baro.baro.domain.notification.dto.req;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+// 알림 일괄 삭제 요청 DTO
+@Schema(description = "알림 일괄 삭제 요청")
+@Data
+public class DeleteNotificationsRequest {
+
+    @Schema(description = "삭제할 알림 ID 목록 (최대 500개)", example = "[1, 2, 3]")
+    @NotEmpty(message = "삭제할 알림 ID는 필수입니다.")
+    @Size(max = 500, message = "한 번에 최대 500개까지 삭제할 수 있습니다.")
+    private List<Long> notificationIds;
+}
@@ -0,0 +1,18 @@
+package baro.baro.domain.notification.dto.req;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+// 기준 알림까지 일괄 읽음 처리 요청 DTO
+//
+// 기준 알림과 그보다 먼저 생성된 알림(목록 순서상 아래)을 모두 읽음 처리합니다.
+// 목록을 연 이후 새로 도착한 알림은 읽음 처리되지 않습니다.
+@Schema(description = "기준 알림까지 일괄 읽음 처리 요청")
+@Data
+public class MarkNotificationsReadRequest {
+
+    @Schema(description = "기준 알림 ID (클라이언트가 표시한 가장 최신 알림)", example = "42")
+    @NotNull(message = "기준 알림 ID는 필수입니다.")
+    private Long upToNotificationId;
+}
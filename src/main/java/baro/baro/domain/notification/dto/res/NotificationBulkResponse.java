@@ -0,0 +1,15 @@
+package baro.baro.domain.notification.dto.res;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 알림 일괄 처리 응답 DTO
+@Schema(description = "알림 일괄 처리 응답")
+@Data
+@AllArgsConstructor
+public class NotificationBulkResponse {
+
+    @Schema(description = "처리된 알림 수", example = "12")
+    private int affectedCount;
+}
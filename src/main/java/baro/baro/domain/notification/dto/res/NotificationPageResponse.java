@@ -0,0 +1,25 @@
+package baro.baro.domain.notification.dto.res;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// 알림 목록 페이지 응답 DTO
+//
+// 최신순 알림 목록과 다음 페이지 조회용 커서를 반환합니다.
+@Schema(description = "알림 목록 페이지 응답")
+@Data
+@AllArgsConstructor
+public class NotificationPageResponse {
+
+    @Schema(description = "알림 목록 (최신순)")
+    private List<NotificationResponse> notifications;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0wMS0xNVQxMDozMDowMHw0Mg")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
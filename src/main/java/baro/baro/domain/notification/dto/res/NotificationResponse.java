@@ -2,6 +2,7 @@ package baro.baro.domain.notification.dto.res;
 
 import baro.baro.domain.notification.entity.Notification;
 import baro.baro.domain.notification.entity.NotificationType;
+import baro.baro.domain.notification.repository.NotificationSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
@@ -54,4 +55,21 @@ public class NotificationResponse {
         response.relatedEntityId = notification.getRelatedEntityId();
         return response;
     }
+
+    // 알림 목록 프로젝션으로부터 NotificationResponse를 생성합니다.
+    //
+    // @param summary 알림 목록 프로젝션
+    // @return NotificationResponse
+    public static NotificationResponse from(NotificationSummary summary) {
+        NotificationResponse response = new NotificationResponse();
+        response.id = summary.id();
+        response.type = summary.type();
+        response.title = summary.title();
+        response.message = summary.message();
+        response.isRead = summary.isRead();
+        response.createdAt = summary.createdAt();
+        response.readAt = summary.readAt();
+        response.relatedEntityId = summary.relatedEntityId();
+        return response;
+    }
 }
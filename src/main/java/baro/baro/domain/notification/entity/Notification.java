@@ -68,9 +68,16 @@ public class Notification {
     private Point relatedLocation;
 
     // 알림을 읽음 처리합니다.
-    public void markAsRead() {
+    // 이미 읽은 알림이면 처음 읽은 시간을 유지합니다.
+    //
+    // @return 읽지 않은 상태에서 읽음으로 바뀌었으면 true
+    public boolean markAsRead() {
+        if (this.isRead) {
+            return false;
+        }
         this.isRead = true;
         this.readAt = LocalDateTime.now();
+        return true;
     }
 
     // 알림 소유자인지 확인합니다.
@@ -0,0 +1,129 @@
+package baro.baro.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 알림 아웃박스 엔티티
+//
+// 비즈니스 변경과 같은 트랜잭션에서 기록되어, 커밋된 변경에 대한 알림이 유실되지 않도록 보장합니다.
+// NotificationOutboxProcessor가 FOR UPDATE SKIP LOCKED로 행을 점유해 푸시 발송 경로로 전달합니다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_outbox", schema = "youfi")
+public class NotificationOutbox {
+
+    // 아웃박스 고유 ID (Primary Key, 처리 순서)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 이벤트 타입
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private OutboxEventType eventType;
+
+    // 이벤트 payload (JSON)
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    private String payload;
+
+    // 처리 우선순위 (PushPriority 순서, 작을수록 먼저 점유)
+    @Column(name = "priority", nullable = false)
+    private short priority;
+
+    // 처리 상태
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    // 처리 시도 횟수 (점유할 때마다 증가)
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 처리 가능 시각 (재시도 백오프)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    // 점유 만료 시각 (처리 중 프로세스가 종료되면 이후 다시 점유됨)
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    // 앱내 알림 저장 여부 (재시도 시 앱내 알림과 읽지 않은 수가 중복 저장되지 않도록 함)
+    @Column(name = "in_app_saved", nullable = false)
+    private boolean inAppSaved;
+
+    // 마지막 실패 사유
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // 생성 시간
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 처리 완료 시간
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    // 아웃박스 행 생성 (Factory Method)
+    public static NotificationOutbox create(OutboxEventType eventType, String payload) {
+        if (eventType == null) {
+            throw new IllegalArgumentException("이벤트 타입은 필수입니다.");
+        }
+        if (payload == null) {
+            throw new IllegalArgumentException("payload는 필수입니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        NotificationOutbox outbox = new NotificationOutbox();
+        outbox.eventType = eventType;
+        outbox.payload = payload;
+        outbox.priority = (short) eventType.getPriority().ordinal();
+        outbox.status = OutboxStatus.PENDING;
+        outbox.attempts = 0;
+        outbox.availableAt = now;
+        outbox.createdAt = now;
+        return outbox;
+    }
+
+    // 앱내 알림을 저장했음을 표시합니다 (앱내 알림 저장과 같은 트랜잭션에서 호출).
+    public void markInAppSaved() {
+        this.inAppSaved = true;
+    }
+
+    // 처리 완료로 표시합니다.
+    public void markSent() {
+        this.status = OutboxStatus.SENT;
+        this.processedAt = LocalDateTime.now();
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+
+    // 처리 실패를 기록합니다.
+    // 최대 시도 횟수에 도달했으면 FAILED, 아니면 nextAttemptAt 이후 재시도되도록 PENDING으로 되돌립니다.
+    //
+    // @param error 실패 사유
+    // @param maxAttempts 최대 시도 횟수
+    // @param nextAttemptAt 다음 시도 시각
+    public void markFailure(String error, int maxAttempts, LocalDateTime nextAttemptAt) {
+        this.lastError = truncate(error);
+        this.lockedUntil = null;
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            this.processedAt = LocalDateTime.now();
+        } else {
+            this.status = OutboxStatus.PENDING;
+            this.availableAt = nextAttemptAt;
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= 500) {
+            return error;
+        }
+        return error.substring(0, 500);
+    }
+}
@@ -0,0 +1,33 @@
+package baro.baro.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 사용자별 읽지 않은 알림 수 엔티티
+//
+// 알림 저장/읽음 처리와 같은 트랜잭션에서 원자적으로 증감되어
+// 읽지 않은 알림 수 조회를 COUNT 대신 단일 행 조회로 처리합니다.
+// 값은 NotificationUnreadCounterRepository의 네이티브 쿼리로만 변경합니다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_unread_counters", schema = "youfi")
+public class NotificationUnreadCounter {
+
+    // 사용자 ID (Primary Key)
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 읽지 않은 알림 수
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+
+    // 마지막 변경 시간
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,34 @@
+package baro.baro.domain.notification.entity;
+
+import baro.baro.domain.notification.dto.outbox.InvitationCreatedPayload;
+import baro.baro.domain.notification.dto.outbox.InvitationRespondedPayload;
+import baro.baro.domain.notification.dto.outbox.MissingPersonFoundPayload;
+import baro.baro.domain.notification.dto.outbox.MissingPersonRegisteredPayload;
+import baro.baro.domain.notification.dto.outbox.NearbyAlertPayload;
+import baro.baro.domain.notification.service.PushPriority;
+
+// 알림 아웃박스 이벤트 타입
+// 타입별로 payload(JSON)의 역직렬화 대상 클래스와 처리 우선순위를 지정합니다.
+public enum OutboxEventType {
+    INVITATION_CREATED(InvitationCreatedPayload.class, PushPriority.NORMAL),
+    INVITATION_RESPONDED(InvitationRespondedPayload.class, PushPriority.NORMAL),
+    MISSING_PERSON_FOUND(MissingPersonFoundPayload.class, PushPriority.HIGH),
+    NEARBY_ALERT(NearbyAlertPayload.class, PushPriority.LOW),
+    MISSING_PERSON_REGISTERED(MissingPersonRegisteredPayload.class, PushPriority.HIGH);
+
+    private final Class<?> payloadType;
+    private final PushPriority priority;
+
+    OutboxEventType(Class<?> payloadType, PushPriority priority) {
+        this.payloadType = payloadType;
+        this.priority = priority;
+    }
+
+    public PushPriority getPriority() {
+        return priority;
+    }
+
+    public Class<?> getPayloadType() {
+        return payloadType;
+    }
+}
@@ -0,0 +1,9 @@
+package baro.baro.domain.notification.entity;
+
+// 알림 아웃박스 처리 상태
+public enum OutboxStatus {
+    PENDING,    // 처리 대기 (available_at 이후 처리)
+    PROCESSING, // 처리 중 (locked_until이 지나면 다시 처리 대상)
+    SENT,       // 처리 완료
+    FAILED      // 최대 시도 횟수 초과
+}
@@ -9,6 +9,7 @@ public enum NotificationErrorCode {
     INVALID_NOTIFICATION_TYPE(400, "해당 액션을 수행할 수 없는 알림 타입입니다"),
     RELATED_ENTITY_NOT_FOUND(400, "알림과 연결된 엔티티 정보가 없습니다"),
     SIGHTING_NOT_FOUND(404, "존재하지 않는 발견 신고입니다"),
+    INVALID_CURSOR(400, "올바르지 않은 페이지 커서입니다"),
     PUSH_DELIVERY_FAILED(500, "푸시 알림 전송 중 오류가 발생했습니다.");
 
     private final int status;
@@ -2,42 +2,42 @@ package baro.baro.domain.notification.listener;
 
 import baro.baro.domain.member.dto.event.InvitationCreatedEvent;
 import baro.baro.domain.member.dto.event.InvitationResponseEvent;
-import baro.baro.domain.notification.service.PushNotificationService;
+import baro.baro.domain.notification.dto.outbox.InvitationCreatedPayload;
+import baro.baro.domain.notification.dto.outbox.InvitationRespondedPayload;
+import baro.baro.domain.notification.entity.OutboxEventType;
+import baro.baro.domain.notification.service.NotificationOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-// 초대 관련 푸시 알림을 트랜잭션 커밋 이후에 발송하기 위한 이벤트 리스너
+// 초대 관련 푸시 알림을 도메인 트랜잭션과 같은 트랜잭션에서 아웃박스에 기록하는 이벤트 리스너
+// 실제 발송은 NotificationOutboxProcessor가 커밋된 아웃박스 행을 폴링해 수행합니다.
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class InvitationNotificationEventListener {
 
-    private final PushNotificationService pushNotificationService;
+    private final NotificationOutboxService notificationOutboxService;
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void onInvitationCreated(InvitationCreatedEvent event) {
-        try {
-            pushNotificationService.sendInvitationNotification(
-                    event.getInvitee(), event.getInviter(), event.getRelation(), event.getInvitationId());
-        } catch (Exception e) {
-            log.error("초대 알림 발송 실패 - invitationId: {}", event.getInvitationId(), e);
-        }
+        notificationOutboxService.enqueue(OutboxEventType.INVITATION_CREATED, new InvitationCreatedPayload(
+                event.getInvitee().getId(),
+                event.getInviter().getId(),
+                event.getRelation(),
+                event.getInvitationId()
+        ));
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void onInvitationResponded(InvitationResponseEvent event) {
-        try {
-            pushNotificationService.sendInvitationResponseNotification(
-                    event.getInviter(), event.getInvitee(), event.isAccepted(), event.getRelation());
-        } catch (Exception e) {
-            log.error("초대 응답 알림 발송 실패 - inviterId: {}, inviteeId: {}", 
-                    event.getInviter().getId(), event.getInvitee().getId(), e);
-        }
+        notificationOutboxService.enqueue(OutboxEventType.INVITATION_RESPONDED, new InvitationRespondedPayload(
+                event.getInviter().getId(),
+                event.getInvitee().getId(),
+                event.isAccepted(),
+                event.getRelation()
+        ));
     }
 }
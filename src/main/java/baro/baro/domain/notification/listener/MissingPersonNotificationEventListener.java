@@ -1,53 +1,63 @@
 package baro.baro.domain.notification.listener;
 
+import baro.baro.domain.common.util.LocationUtil;
 import baro.baro.domain.notification.dto.event.MissingPersonFoundNotificationEvent;
+import baro.baro.domain.notification.dto.event.MissingPersonRegisteredNotificationEvent;
 import baro.baro.domain.notification.dto.event.NearbyAlertNotificationEvent;
-import baro.baro.domain.notification.service.PushNotificationService;
+import baro.baro.domain.notification.dto.outbox.MissingPersonFoundPayload;
+import baro.baro.domain.notification.dto.outbox.MissingPersonRegisteredPayload;
+import baro.baro.domain.notification.dto.outbox.NearbyAlertPayload;
+import baro.baro.domain.notification.entity.OutboxEventType;
+import baro.baro.domain.notification.service.NotificationOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.locationtech.jts.geom.Point;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-// 실종자 관련 푸시 알림을 트랜잭션 커밋 이후 비동기로 발송하기 위한 이벤트 리스너
+// 실종자 관련 푸시 알림을 도메인 트랜잭션과 같은 트랜잭션에서 아웃박스에 기록하는 이벤트 리스너
+// 실제 발송은 NotificationOutboxProcessor가 커밋된 아웃박스 행을 폴링해 수행합니다.
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MissingPersonNotificationEventListener {
 
-    private final PushNotificationService pushNotificationService;
+    private final NotificationOutboxService notificationOutboxService;
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void onMissingPersonFound(MissingPersonFoundNotificationEvent event) {
-        try {
-            pushNotificationService.sendMissingPersonFoundNotification(
-                    event.getSightingId(),
-                    event.getMissingPersonOwner(),
-                    event.getMissingPersonName(),
-                    event.getReporterName(),
-                    event.getAddress()
-            );
-        } catch (Exception e) {
-            log.error("실종자 발견 알림 발송 실패 - sightingId: {}", event.getSightingId(), e);
-        }
+        notificationOutboxService.enqueue(OutboxEventType.MISSING_PERSON_FOUND, new MissingPersonFoundPayload(
+                event.getSightingId(),
+                event.getMissingPersonOwner().getId(),
+                event.getMissingPersonName(),
+                event.getReporterName(),
+                event.getAddress()
+        ));
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMissingPersonRegistered(MissingPersonRegisteredNotificationEvent event) {
+        Point location = event.getLocation();
+        notificationOutboxService.enqueue(OutboxEventType.MISSING_PERSON_REGISTERED, new MissingPersonRegisteredPayload(
+                event.getMissingPersonId(),
+                event.getMissingPersonName(),
+                location != null ? LocationUtil.getLatitude(location) : null,
+                location != null ? LocationUtil.getLongitude(location) : null,
+                event.getAddress()
+        ));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void onNearbyAlert(NearbyAlertNotificationEvent event) {
-        try {
-            pushNotificationService.sendNearbyAlertToReporter(
-                    event.getReporter(),
-                    event.getMissingPersonName(),
-                    event.getDistance(),
-                    event.getReporterLocation(),
-                    event.getMissingPersonId()
-            );
-        } catch (Exception e) {
-            log.error("NEARBY_ALERT 알림 발송 실패 - reporterId: {}, missingPersonId: {}",
-                    event.getReporter().getId(), event.getMissingPersonId(), e);
-        }
+        Point location = event.getReporterLocation();
+        notificationOutboxService.enqueue(OutboxEventType.NEARBY_ALERT, new NearbyAlertPayload(
+                event.getReporter().getId(),
+                event.getMissingPersonName(),
+                event.getDistance(),
+                location != null ? LocationUtil.getLatitude(location) : null,
+                location != null ? LocationUtil.getLongitude(location) : null,
+                event.getMissingPersonId()
+        ));
     }
 }
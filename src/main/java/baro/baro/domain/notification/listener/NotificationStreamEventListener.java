@@ -0,0 +1,41 @@
+package baro.baro.domain.notification.listener;
+
+import baro.baro.domain.notification.dto.event.NotificationCreatedEvent;
+import baro.baro.domain.notification.dto.event.NotificationStreamEvent;
+import baro.baro.domain.notification.dto.event.UnreadCountChangedEvent;
+import baro.baro.domain.notification.service.NotificationEmitterRegistry;
+import baro.baro.domain.notification.service.NotificationUnreadCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 커밋된 알림 변경을 실시간 알림 스트림으로 전송하는 이벤트 리스너
+// 연결이 없는 사용자는 건너뛰어 불필요한 조회를 하지 않습니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationStreamEventListener {
+
+    private final NotificationEmitterRegistry emitterRegistry;
+    private final NotificationUnreadCounterService unreadCounterService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        emitterRegistry.push(event.getUserId(), NotificationStreamEvent.notification(event.getNotification()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUnreadCountChanged(UnreadCountChangedEvent event) {
+        if (!emitterRegistry.hasConnection(event.getUserId())) {
+            return;
+        }
+        try {
+            long unreadCount = unreadCounterService.getUnreadCount(event.getUserId());
+            emitterRegistry.push(event.getUserId(), NotificationStreamEvent.unreadCount(unreadCount));
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 스트림 전송 실패 - userId: {}, 이유: {}", event.getUserId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package baro.baro.domain.notification.repository;
+
+import baro.baro.domain.notification.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 처리 가능한 아웃박스 행 ID를 잠그며 조회합니다.
+    // 다른 인스턴스가 잠근 행은 건너뛰므로(SKIP LOCKED) 여러 인스턴스가 동시에 폴링해도 같은 행을 중복 처리하지 않습니다.
+    // 점유 만료(locked_until)가 지난 PROCESSING 행은 처리 도중 종료된 것으로 보고 다시 점유합니다.
+    //
+    // @param now 현재 시각
+    // @param limit 최대 행 수
+    // @return 잠긴 아웃박스 ID 목록 (우선순위, 생성 순)
+    @Query(value = "SELECT o.id FROM youfi.notification_outbox o " +
+                   "WHERE (o.status = 'PENDING' AND o.available_at <= :now) " +
+                   "OR (o.status = 'PROCESSING' AND o.locked_until < :now) " +
+                   "ORDER BY o.priority, o.id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 잠근 행을 PROCESSING으로 점유하고 시도 횟수를 증가시킵니다.
+    //
+    // @param ids 아웃박스 ID 목록
+    // @param lockedUntil 점유 만료 시각
+    // @return 점유된 행 수
+    @Modifying
+    @Query("UPDATE NotificationOutbox o " +
+           "SET o.status = baro.baro.domain.notification.entity.OutboxStatus.PROCESSING, " +
+           "o.lockedUntil = :lockedUntil, o.attempts = o.attempts + 1 " +
+           "WHERE o.id IN :ids")
+    int markProcessing(@Param("ids") Collection<Long> ids, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // 처리 완료된 지 오래된 행을 삭제합니다.
+    //
+    // @param threshold 처리 완료 시각 기준
+    // @return 삭제된 행 수
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o " +
+           "WHERE o.status = baro.baro.domain.notification.entity.OutboxStatus.SENT " +
+           "AND o.processedAt < :threshold")
+    int deleteSentBefore(@Param("threshold") LocalDateTime threshold);
+}
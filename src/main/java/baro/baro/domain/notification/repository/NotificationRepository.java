@@ -4,23 +4,94 @@ package baro.baro.domain.notification.repository;
 import baro.baro.domain.notification.entity.Notification;
 import baro.baro.domain.notification.entity.NotificationType;
 import baro.baro.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    // 사용자의 모든 알림을 조회합니다.
-    List<Notification> findByUserOrderByCreatedAtDesc(User user);
+    // 사용자의 최신 알림 첫 페이지를 조회합니다.
+    // (user_id, created_at DESC, id DESC) 인덱스 순서대로 읽고 목록에 표시할 컬럼만 조회합니다.
+    //
+    // @param userId 사용자 ID
+    // @param pageable 조회 개수 (정렬은 쿼리에 고정)
+    // @return 최신순 알림 목록
+    @Query("SELECT new baro.baro.domain.notification.repository.NotificationSummary(" +
+           "n.id, n.type, n.title, n.message, n.isRead, n.createdAt, n.readAt, n.relatedEntityId) " +
+           "FROM Notification n " +
+           "WHERE n.user.id = :userId " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationSummary> findInboxFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    // 커서 (createdAt, id) 이후의 알림 페이지를 조회합니다 (키셋 페이지네이션).
+    // OFFSET 없이 인덱스에서 커서 위치부터 읽으므로 페이지가 깊어져도 비용이 일정합니다.
+    //
+    // @param userId 사용자 ID
+    // @param createdAt 이전 페이지 마지막 알림의 생성 시간
+    // @param id 이전 페이지 마지막 알림 ID
+    // @param pageable 조회 개수 (정렬은 쿼리에 고정)
+    // @return 최신순 알림 목록
+    @Query("SELECT new baro.baro.domain.notification.repository.NotificationSummary(" +
+           "n.id, n.type, n.title, n.message, n.isRead, n.createdAt, n.readAt, n.relatedEntityId) " +
+           "FROM Notification n " +
+           "WHERE n.user.id = :userId " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationSummary> findInboxPageAfter(
+        @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
 
     // 사용자의 읽지 않은 알림 개수를 조회합니다.
-    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user = :user AND n.isRead = false")
-    long countUnreadByUser(@Param("user") User user);
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    long countUnreadByUserId(@Param("userId") Long userId);
+
+    // 사용자의 읽지 않은 알림을 모두 읽음 처리합니다 (엔티티 로딩 없이 단일 UPDATE).
+    //
+    // @param userId 사용자 ID
+    // @param readAt 읽은 시간
+    // @return 읽음 처리된 알림 수
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt " +
+           "WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+
+    // 기준 알림과 그보다 먼저 생성된 읽지 않은 알림을 읽음 처리합니다 (목록 순서 (created_at, id) 기준).
+    // 기준 알림이 다른 사용자의 알림이면 아무것도 변경하지 않습니다.
+    //
+    // @param userId 사용자 ID
+    // @param anchorId 기준 알림 ID
+    // @param readAt 읽은 시간
+    // @return 읽음 처리된 알림 수
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt " +
+           "WHERE n.user.id = :userId AND n.isRead = false " +
+           "AND EXISTS (SELECT 1 FROM Notification a WHERE a.id = :anchorId AND a.user.id = :userId " +
+           "AND (n.createdAt < a.createdAt OR (n.createdAt = a.createdAt AND n.id <= a.id)))")
+    int markAsReadUpTo(@Param("userId") Long userId, @Param("anchorId") Long anchorId,
+                       @Param("readAt") LocalDateTime readAt);
+
+    // 사용자 소유의 지정 알림 중 읽음 상태가 일치하는 알림을 삭제합니다.
+    // 읽지 않은 알림 수 보정을 위해 읽음 여부별로 나눠 삭제합니다.
+    //
+    // @param userId 사용자 ID
+    // @param ids 알림 ID 목록
+    // @param isRead 읽음 여부
+    // @return 삭제된 알림 수
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.user.id = :userId AND n.id IN :ids AND n.isRead = :isRead")
+    int deleteOwnedByIdsAndReadState(@Param("userId") Long userId, @Param("ids") Collection<Long> ids,
+                                     @Param("isRead") boolean isRead);
 
     // 사용자의 특정 타입 알림을 조회합니다.
     List<Notification> findByUserAndTypeOrderByCreatedAtDesc(User user, String type);
@@ -0,0 +1,65 @@
+package baro.baro.domain.notification.repository;
+
+import baro.baro.domain.notification.entity.Notification;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+// 알림 보관 기간 정리용 리포지토리
+//
+// 각 쿼리는 보관 기간이 지난 알림을 최대 limit건만 잠그고(SKIP LOCKED) 한 문장에서 처리하므로
+// 청크마다 잠금 시간이 짧고, 사용 중인 행과 경합하지 않습니다.
+// 삭제된 읽지 않은 알림 수만큼 사용자별 읽지 않은 알림 카운터도 같은 문장에서 감소시킵니다.
+public interface NotificationRetentionRepository extends Repository<Notification, Long> {
+
+    // 보관 기간이 지난 알림을 아카이브 테이블로 이동합니다.
+    //
+    // @param type 알림 타입
+    // @param threshold 생성 시간 기준 (이전 알림 이동)
+    // @param limit 최대 이동 건수
+    // @return 이동된 알림 수
+    @Query(value = "WITH expired AS (" +
+                   "  DELETE FROM youfi.notifications n " +
+                   "  WHERE n.id IN (SELECT e.id FROM youfi.notifications e " +
+                   "                 WHERE e.type = :type AND e.created_at < :threshold " +
+                   "                 ORDER BY e.created_at LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "  RETURNING n.*" +
+                   "), archived AS (" +
+                   "  INSERT INTO youfi.notifications_archive " +
+                   "  (id, user_id, type, title, message, is_read, created_at, read_at, related_entity_id, related_location, archived_at) " +
+                   "  SELECT id, user_id, type, title, message, is_read, created_at, read_at, related_entity_id, related_location, now() " +
+                   "  FROM expired " +
+                   "  RETURNING id" +
+                   "), adjusted AS (" + UNREAD_COUNTER_ADJUSTMENT + ") " +
+                   "SELECT COUNT(*) FROM archived",
+           nativeQuery = true)
+    long archiveExpired(@Param("type") String type, @Param("threshold") LocalDateTime threshold,
+                        @Param("limit") int limit);
+
+    // 보관 기간이 지난 알림을 삭제합니다 (아카이브 없이).
+    //
+    // @param type 알림 타입
+    // @param threshold 생성 시간 기준 (이전 알림 삭제)
+    // @param limit 최대 삭제 건수
+    // @return 삭제된 알림 수
+    @Query(value = "WITH expired AS (" +
+                   "  DELETE FROM youfi.notifications n " +
+                   "  WHERE n.id IN (SELECT e.id FROM youfi.notifications e " +
+                   "                 WHERE e.type = :type AND e.created_at < :threshold " +
+                   "                 ORDER BY e.created_at LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "  RETURNING n.*" +
+                   "), adjusted AS (" + UNREAD_COUNTER_ADJUSTMENT + ") " +
+                   "SELECT COUNT(*) FROM expired",
+           nativeQuery = true)
+    long deleteExpired(@Param("type") String type, @Param("threshold") LocalDateTime threshold,
+                       @Param("limit") int limit);
+
+    // expired에서 제거된 읽지 않은 알림 수만큼 사용자별 카운터를 감소시킵니다.
+    String UNREAD_COUNTER_ADJUSTMENT =
+            "  UPDATE youfi.notification_unread_counters c " +
+            "  SET unread_count = GREATEST(c.unread_count - d.removed, 0), updated_at = now() " +
+            "  FROM (SELECT user_id, COUNT(*) AS removed FROM expired WHERE is_read = false GROUP BY user_id) d " +
+            "  WHERE c.user_id = d.user_id";
+}
@@ -0,0 +1,19 @@
+package baro.baro.domain.notification.repository;
+
+import baro.baro.domain.notification.entity.NotificationType;
+
+import java.time.LocalDateTime;
+
+// 알림 목록 조회용 프로젝션
+// 목록 화면에 표시하는 컬럼만 조회합니다 (사용자/위치 컬럼 제외).
+public record NotificationSummary(
+        Long id,
+        NotificationType type,
+        String title,
+        String message,
+        boolean isRead,
+        LocalDateTime createdAt,
+        LocalDateTime readAt,
+        Long relatedEntityId
+) {
+}
@@ -0,0 +1,85 @@
+package baro.baro.domain.notification.repository;
+
+import baro.baro.domain.notification.entity.NotificationUnreadCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NotificationUnreadCounterRepository extends JpaRepository<NotificationUnreadCounter, Long> {
+
+    // 사용자의 읽지 않은 알림 수를 조회합니다 (단일 행 조회).
+    //
+    // @param userId 사용자 ID
+    // @return 카운터가 없으면 empty
+    @Query("SELECT c.unreadCount FROM NotificationUnreadCounter c WHERE c.userId = :userId")
+    Optional<Long> findUnreadCount(@Param("userId") Long userId);
+
+    // 읽지 않은 알림 수를 증가시킵니다.
+    // 카운터가 없으면 실제 읽지 않은 알림 수(방금 저장한 알림 포함)로 생성합니다.
+    //
+    // @param userId 사용자 ID
+    // @param delta 증가량
+    @Modifying
+    @Query(value = "INSERT INTO youfi.notification_unread_counters (user_id, unread_count, updated_at) " +
+                   "VALUES (:userId, " +
+                   "(SELECT COUNT(*) FROM youfi.notifications n WHERE n.user_id = :userId AND n.is_read = false), " +
+                   "now()) " +
+                   "ON CONFLICT (user_id) DO UPDATE " +
+                   "SET unread_count = youfi.notification_unread_counters.unread_count + :delta, updated_at = now()",
+           nativeQuery = true)
+    int increment(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // 읽지 않은 알림 수를 감소시킵니다 (0 미만으로 내려가지 않음).
+    // 카운터가 없으면 변경하지 않습니다 (조회 시 COUNT로 대체, 다음 증가 시 생성).
+    //
+    // @param userId 사용자 ID
+    // @param delta 감소량
+    @Modifying
+    @Query(value = "UPDATE youfi.notification_unread_counters " +
+                   "SET unread_count = GREATEST(unread_count - :delta, 0), updated_at = now() " +
+                   "WHERE user_id = :userId",
+           nativeQuery = true)
+    int decrement(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // 커서 이후의 카운터 사용자 ID를 조회합니다 (정합성 검사 청크용).
+    //
+    // @param afterUserId 이전 청크의 마지막 사용자 ID
+    // @param limit 최대 개수
+    @Query(value = "SELECT user_id FROM youfi.notification_unread_counters " +
+                   "WHERE user_id > :afterUserId ORDER BY user_id LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findUserIdsAfter(@Param("afterUserId") long afterUserId, @Param("limit") int limit);
+
+    // 보정할 카운터 행을 잠급니다 (사용자 ID 순서로 잠가 교착 상태 방지).
+    // 잠근 뒤 실행하는 repairDrift는 새 스냅샷으로 COUNT하므로, 잠금 전에 커밋된 증감은 모두 반영되고
+    // 이후의 증감은 보정이 커밋될 때까지 대기합니다.
+    //
+    // @param userIds 검사할 사용자 ID 목록
+    // @return 잠근 카운터의 사용자 ID 목록
+    @Query(value = "SELECT user_id FROM youfi.notification_unread_counters " +
+                   "WHERE user_id IN (:userIds) ORDER BY user_id FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockCounters(@Param("userIds") Collection<Long> userIds);
+
+    // 실제 읽지 않은 알림 수와 다른 카운터를 보정합니다.
+    // lockCounters로 행을 잠근 같은 트랜잭션에서 호출해야 합니다.
+    //
+    // @param userIds 잠근 카운터의 사용자 ID 목록
+    // @return 보정된 카운터 수
+    @Modifying
+    @Query(value = "UPDATE youfi.notification_unread_counters c " +
+                   "SET unread_count = (SELECT COUNT(*) FROM youfi.notifications n " +
+                   "WHERE n.user_id = c.user_id AND n.is_read = false), updated_at = now() " +
+                   "WHERE c.user_id IN (:userIds) " +
+                   "AND c.unread_count <> (SELECT COUNT(*) FROM youfi.notifications n " +
+                   "WHERE n.user_id = c.user_id AND n.is_read = false)",
+           nativeQuery = true)
+    int repairDrift(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,57 @@
+package baro.baro.domain.notification.scheduler;
+
+import baro.baro.domain.notification.repository.NotificationOutboxRepository;
+import baro.baro.domain.notification.service.NotificationOutboxProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 알림 아웃박스를 주기적으로 처리/정리하는 스케줄러
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxScheduler {
+
+    // 한 번의 폴링에서 연속 처리할 최대 배치 수 (다른 스케줄 작업 지연 방지)
+    private static final int MAX_BATCHES_PER_POLL = 10;
+
+    private final NotificationOutboxProcessor notificationOutboxProcessor;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    @Value("${notification.outbox.retention-days:7}")
+    private int retentionDays;
+
+    // 처리 가능한 아웃박스 행을 폴링합니다.
+    // 배치가 가득 차면 대기 중인 행이 더 있다고 보고 이어서 처리합니다.
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void pollOutbox() {
+        int batchSize = notificationOutboxProcessor.getBatchSize();
+        for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+            try {
+                if (notificationOutboxProcessor.processBatch() < batchSize) {
+                    return;
+                }
+            } catch (Exception e) {
+                log.error("알림 아웃박스 폴링 실패", e);
+                return;
+            }
+        }
+    }
+
+    // 매일 새벽 3시 30분에 처리 완료된 지 retentionDays가 지난 아웃박스 행을 삭제합니다.
+    @Scheduled(cron = "0 30 3 * * *")
+    @Transactional
+    public void cleanupSentOutbox() {
+        log.info("처리 완료된 알림 아웃박스 정리 시작");
+
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        int deletedCount = notificationOutboxRepository.deleteSentBefore(threshold);
+
+        log.info("처리 완료된 알림 아웃박스 정리 완료 - 삭제된 행 수: {}", deletedCount);
+    }
+}
@@ -0,0 +1,83 @@
+package baro.baro.domain.notification.scheduler;
+
+import baro.baro.domain.notification.entity.NotificationType;
+import baro.baro.domain.notification.service.NotificationRetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 알림 보관 기간 정리 스케줄러
+// 타입별로 보관 기간이 지난 알림을 청크 단위로 정리하고, 실행마다 처리 건수를 기록합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionScheduler {
+
+    private final NotificationRetentionService retentionService;
+
+    // 한 번 실행에서 타입별 최대 청크 수 (나머지는 다음 실행에서 처리)
+    @Value("${notification.retention.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    // 청크 사이 대기 시간 (다른 트랜잭션에 DB 자원 양보)
+    @Value("${notification.retention.chunk-pause-ms:50}")
+    private long chunkPauseMillis;
+
+    // 매일 새벽 4시에 보관 기간이 지난 알림을 정리합니다.
+    @Scheduled(cron = "${notification.retention.cron:0 0 4 * * *}")
+    public void purgeExpiredNotifications() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<NotificationType, Integer> processedByType = new EnumMap<>(NotificationType.class);
+        long startedAt = System.currentTimeMillis();
+
+        for (NotificationType type : NotificationType.values()) {
+            Optional<LocalDateTime> threshold = retentionService.thresholdOf(type, now);
+            if (threshold.isEmpty()) {
+                continue;
+            }
+            processedByType.put(type, purgeType(type, threshold.get()));
+        }
+
+        log.info("알림 보관 기간 정리 완료 - {}: {}, 소요: {}ms",
+                retentionService.isArchiveEnabled() ? "아카이브" : "삭제",
+                processedByType, System.currentTimeMillis() - startedAt);
+    }
+
+    private int purgeType(NotificationType type, LocalDateTime threshold) {
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int processed;
+            try {
+                processed = retentionService.processChunk(type, threshold);
+            } catch (Exception e) {
+                log.error("알림 보관 기간 정리 실패 - 타입: {}, 처리: {}건", type, total, e);
+                break;
+            }
+            total += processed;
+            if (processed < retentionService.getChunkSize() || !pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        if (chunkPauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
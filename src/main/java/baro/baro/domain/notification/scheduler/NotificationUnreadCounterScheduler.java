@@ -0,0 +1,50 @@
+package baro.baro.domain.notification.scheduler;
+
+import baro.baro.domain.notification.repository.NotificationUnreadCounterRepository;
+import baro.baro.domain.notification.service.NotificationUnreadCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 읽지 않은 알림 카운터 정합성 검사 스케줄러
+// 카운터를 사용자 ID 순으로 청크 단위로 검사하고, 실제 읽지 않은 알림 수와 다르면 보정합니다.
+// 청크마다 별도 트랜잭션으로 처리해 알림 저장/읽음 처리와의 잠금 경합을 짧게 유지합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounterScheduler {
+
+    private final NotificationUnreadCounterRepository counterRepository;
+    private final NotificationUnreadCounterService counterService;
+
+    @Value("${notification.unread-counter.reconcile-batch-size:500}")
+    private int batchSize;
+
+    // 매시 15분에 전체 카운터를 검사합니다.
+    @Scheduled(cron = "${notification.unread-counter.reconcile-cron:0 15 * * * *}")
+    public void reconcileUnreadCounters() {
+        int chunkSize = Math.max(1, batchSize);
+        long afterUserId = 0L;
+        int scanned = 0;
+        int repaired = 0;
+
+        while (true) {
+            List<Long> userIds = counterRepository.findUserIdsAfter(afterUserId, chunkSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            repaired += counterService.repairDrift(userIds);
+            scanned += userIds.size();
+            afterUserId = userIds.get(userIds.size() - 1);
+            if (userIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("읽지 않은 알림 카운터 정합성 검사 완료 - 검사: {}명, 보정: {}명", scanned, repaired);
+    }
+}
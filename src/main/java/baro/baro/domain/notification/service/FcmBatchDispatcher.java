@@ -0,0 +1,637 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.common.monitoring.MetricsService;
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// FCM 배치 전송기
+//
+// 여러 알림 서비스에서 발생한 메시지를 우선순위 레인(HIGH/NORMAL/LOW)별 bounded 대기열에 모아
+// 전용 sender 스레드에서 sendEach로 전송합니다. 알림 리스너(@Async 공용 풀)는 적재만 하고 즉시 반환하므로
+// Firebase가 느리거나 장애여도 다른 비동기 작업이 막히지 않습니다.
+// - 레인마다 대기열 크기와 sender 수(가중치)를 따로 두어, 대량 LOW 알림이 HIGH 알림의 대기열과 sender를 점유하지 못함
+// - 대기 중인 sender가 없으면 첫 메시지 적재 후 레인별 flush-latency-ms 동안 모아서 전송 (HIGH는 기본 0: 즉시 전송)
+// - 일시적 오류(UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED)는 jitter가 적용된 지수 백오프로 재시도
+// - 연속 실패 시 서킷 브레이커가 열려 즉시 실패 처리
+// - 무효 토큰(UNREGISTERED, INVALID_ARGUMENT)은 FcmTokenInvalidationService로 보고
+// 메시지별 결과는 제출 시 전달한 기기 정보와 함께 CompletableFuture로 돌려줍니다.
+@Slf4j
+@Component
+public class FcmBatchDispatcher {
+
+    // FCM sendEach 1회 최대 메시지 수
+    static final int FCM_MAX_BATCH_SIZE = 500;
+
+    private static final Set<MessagingErrorCode> RETRYABLE_MESSAGING_ERRORS = EnumSet.of(
+            MessagingErrorCode.UNAVAILABLE, MessagingErrorCode.INTERNAL, MessagingErrorCode.QUOTA_EXCEEDED);
+    private static final Set<ErrorCode> RETRYABLE_PLATFORM_ERRORS = EnumSet.of(
+            ErrorCode.UNAVAILABLE, ErrorCode.INTERNAL, ErrorCode.RESOURCE_EXHAUSTED, ErrorCode.DEADLINE_EXCEEDED);
+
+    private final FcmDispatchService fcmDispatchService;
+    private final MetricsService metricsService;
+    private final ScheduledExecutorService scheduler;
+    private final Executor senderExecutor;
+    private final Settings settings;
+    private final Map<PushPriority, Lane> lanes = new EnumMap<>(PushPriority.class);
+    private final FcmCircuitBreaker circuitBreaker;
+    private final FcmTokenInvalidationService tokenInvalidationService;
+    // 백오프 대기 중인 재시도 묶음 (종료 시 결과를 완료하기 위해 추적)
+    private final Set<RetryBatch> scheduledRetries = ConcurrentHashMap.newKeySet();
+
+    private final Timer batchSendTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter retryCounter;
+    private final Counter queueFullCounter;
+    private final Counter circuitOpenCounter;
+    private final Counter retryExhaustedCounter;
+
+    @Autowired
+    public FcmBatchDispatcher(
+            FcmDispatchService fcmDispatchService,
+            MetricsService metricsService,
+            FcmTokenInvalidationService tokenInvalidationService,
+            MeterRegistry meterRegistry,
+            @Value("${fcm.batch.max-size:500}") int maxBatchSize, // 배치 1회 최대 메시지 수 (FCM 한도 500)
+            @Value("${fcm.lane.high.workers:2}") int highWorkers, // HIGH 레인 sender 수
+            @Value("${fcm.lane.high.queue-capacity:1000}") int highQueueCapacity, // HIGH 레인 대기 메시지 최대 수
+            @Value("${fcm.lane.high.flush-latency-ms:0}") long highFlushLatencyMillis, // HIGH 레인 모음 대기 시간
+            @Value("${fcm.lane.normal.workers:1}") int normalWorkers,
+            @Value("${fcm.lane.normal.queue-capacity:2000}") int normalQueueCapacity,
+            @Value("${fcm.lane.normal.flush-latency-ms:50}") long normalFlushLatencyMillis,
+            @Value("${fcm.lane.low.workers:1}") int lowWorkers,
+            @Value("${fcm.lane.low.queue-capacity:10000}") int lowQueueCapacity,
+            @Value("${fcm.lane.low.flush-latency-ms:200}") long lowFlushLatencyMillis,
+            @Value("${fcm.dispatch.retry.max-attempts:4}") int maxAttempts, // 최초 전송 포함 최대 시도 횟수
+            @Value("${fcm.dispatch.retry.initial-backoff-ms:500}") long initialBackoffMillis, // 첫 재시도 대기 시간
+            @Value("${fcm.dispatch.retry.max-backoff-ms:30000}") long maxBackoffMillis, // 재시도 대기 시간 상한
+            @Value("${fcm.dispatch.circuit.failure-threshold:5}") int failureThreshold, // 서킷 오픈 연속 실패 수
+            @Value("${fcm.dispatch.circuit.open-ms:30000}") long openMillis // 서킷 오픈 유지 시간
+    ) {
+        this(fcmDispatchService, metricsService, tokenInvalidationService, meterRegistry,
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "fcm-dispatch-scheduler");
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                createSenderExecutor(Math.max(1, highWorkers) + Math.max(1, normalWorkers) + Math.max(1, lowWorkers)),
+                new Settings(maxBatchSize, Map.of(
+                        PushPriority.HIGH, new LaneSettings(highWorkers, highQueueCapacity, highFlushLatencyMillis),
+                        PushPriority.NORMAL, new LaneSettings(normalWorkers, normalQueueCapacity, normalFlushLatencyMillis),
+                        PushPriority.LOW, new LaneSettings(lowWorkers, lowQueueCapacity, lowFlushLatencyMillis)),
+                        maxAttempts, initialBackoffMillis, maxBackoffMillis),
+                new FcmCircuitBreaker(failureThreshold, openMillis));
+    }
+
+    FcmBatchDispatcher(
+            FcmDispatchService fcmDispatchService,
+            MetricsService metricsService,
+            FcmTokenInvalidationService tokenInvalidationService,
+            MeterRegistry meterRegistry,
+            ScheduledExecutorService scheduler,
+            Executor senderExecutor,
+            Settings settings,
+            FcmCircuitBreaker circuitBreaker
+    ) {
+        this.fcmDispatchService = fcmDispatchService;
+        this.metricsService = metricsService;
+        this.scheduler = scheduler;
+        this.senderExecutor = senderExecutor;
+        this.settings = settings;
+        this.circuitBreaker = circuitBreaker;
+        this.tokenInvalidationService = tokenInvalidationService;
+        for (PushPriority priority : PushPriority.values()) {
+            Lane lane = new Lane(priority, settings.lane(priority), meterRegistry);
+            lanes.put(priority, lane);
+            Gauge.builder("fcm_dispatch_queue_depth", this, dispatcher -> dispatcher.getPendingCount(priority))
+                    .description("레인별 전송 대기 중인 FCM 메시지 수")
+                    .tag("lane", lane.name)
+                    .register(meterRegistry);
+        }
+
+        Gauge.builder("fcm_dispatch_circuit_state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("FCM 서킷 브레이커 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(meterRegistry);
+        this.batchSendTimer = Timer.builder("fcm_batch_send_duration_seconds")
+                .description("FCM sendEach 1회 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("fcm_batch_size")
+                .description("FCM sendEach 1회당 메시지 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("fcm_dispatch_retries_total")
+                .description("일시적 오류로 재시도 예약된 FCM 메시지 수")
+                .register(meterRegistry);
+        this.queueFullCounter = Counter.builder("fcm_dispatch_rejected_total")
+                .description("전송 전에 실패 처리된 FCM 메시지 수")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.circuitOpenCounter = Counter.builder("fcm_dispatch_rejected_total")
+                .description("전송 전에 실패 처리된 FCM 메시지 수")
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        this.retryExhaustedCounter = Counter.builder("fcm_dispatch_rejected_total")
+                .description("전송 전에 실패 처리된 FCM 메시지 수")
+                .tag("reason", "retry_exhausted")
+                .register(meterRegistry);
+    }
+
+    // 전송할 메시지를 NORMAL 우선순위로 적재합니다.
+    //
+    // @see #submit(Long, String, String, Message, PushPriority)
+    public CompletableFuture<DeliveryResult> submit(Long deviceId, String fcmToken,
+                                                    String notificationType, Message message) {
+        return submit(deviceId, fcmToken, notificationType, message, PushPriority.NORMAL);
+    }
+
+    // 전송할 메시지를 우선순위 레인의 대기열에 적재합니다.
+    // 레인 대기열이 가득 차면 이 메시지를 실패 처리합니다 (다른 레인에는 영향 없음).
+    //
+    // @param deviceId 대상 기기 ID (결과 매핑용)
+    // @param fcmToken 대상 FCM 토큰
+    // @param notificationType 알림 타입 (메트릭용)
+    // @param message 전송할 FCM 메시지
+    // @param priority 전송 우선순위
+    // @return 메시지별 전송 결과
+    public CompletableFuture<DeliveryResult> submit(Long deviceId, String fcmToken, String notificationType,
+                                                    Message message, PushPriority priority) {
+        PendingDelivery delivery = new PendingDelivery(deviceId, fcmToken, notificationType, message,
+                priority != null ? priority : PushPriority.NORMAL, 1, 0L, new CompletableFuture<>());
+        enqueue(delivery);
+        return delivery.result();
+    }
+
+    // 모든 레인에 적재된 메시지를 즉시 전송합니다.
+    public void flush() {
+        for (Lane lane : lanes.values()) {
+            flush(lane);
+        }
+    }
+
+    // 아직 전송되지 않은 메시지 수
+    public synchronized int getPendingCount() {
+        int pending = 0;
+        for (Lane lane : lanes.values()) {
+            pending += lane.queue.size();
+        }
+        return pending;
+    }
+
+    // 특정 레인에서 아직 전송되지 않은 메시지 수
+    public synchronized int getPendingCount(PushPriority priority) {
+        return lanes.get(priority).queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        // 백오프 대기 중이던 재시도는 더 이상 실행되지 않으므로 SHUTDOWN으로 완료합니다.
+        for (RetryBatch retry : scheduledRetries) {
+            if (scheduledRetries.remove(retry)) {
+                retry.deliveries.forEach(delivery -> fail(delivery, null, "SHUTDOWN"));
+            }
+        }
+        flush();
+        if (senderExecutor instanceof ThreadPoolTaskExecutor executor) {
+            executor.shutdown();
+        }
+    }
+
+    private void flush(Lane lane) {
+        boolean startSender;
+        synchronized (this) {
+            lane.cancelScheduledFlush();
+            startSender = !lane.queue.isEmpty() && lane.reserveSender();
+        }
+        if (startSender) {
+            startSender(lane);
+        }
+    }
+
+    private void enqueue(PendingDelivery delivery) {
+        Lane lane = lanes.get(delivery.priority());
+        boolean rejected = false;
+        boolean startSender = false;
+
+        synchronized (this) {
+            if (lane.queue.size() >= lane.settings.queueCapacity()) {
+                rejected = true;
+            } else {
+                lane.queue.addLast(delivery.enqueuedAt(System.nanoTime()));
+                if (lane.queue.size() >= settings.maxBatchSize() || lane.settings.flushLatencyMillis() == 0) {
+                    lane.cancelScheduledFlush();
+                    startSender = lane.reserveSender();
+                } else if (lane.scheduledFlush == null && lane.activeSenders == 0) {
+                    lane.scheduledFlush = schedule(() -> flush(lane), lane.settings.flushLatencyMillis());
+                }
+            }
+        }
+
+        if (rejected) {
+            queueFullCounter.increment();
+            fail(delivery, null, "QUEUE_FULL");
+        }
+        if (startSender) {
+            startSender(lane);
+        }
+    }
+
+    private void startSender(Lane lane) {
+        try {
+            senderExecutor.execute(() -> drainLoop(lane));
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                lane.activeSenders--;
+            }
+            log.warn("FCM sender 작업 거부 - 레인: {}, 대기 메시지 수: {}", lane.name, getPendingCount(lane.priority));
+        }
+    }
+
+    // 레인 대기열이 빌 때까지 배치를 꺼내 전송합니다.
+    private void drainLoop(Lane lane) {
+        while (true) {
+            List<PendingDelivery> batch = takeBatch(lane);
+            if (batch.isEmpty()) {
+                return;
+            }
+            lane.recordQueueTime(batch, System.nanoTime());
+            try {
+                send(batch);
+            } catch (RuntimeException e) {
+                log.error("FCM 배치 처리 중 예외 발생 - 레인: {}, 메시지 수: {}", lane.name, batch.size(), e);
+                batch.stream()
+                        .filter(delivery -> !delivery.result().isDone())
+                        .forEach(delivery -> fail(delivery, null, "UNKNOWN"));
+            }
+        }
+    }
+
+    // 레인에서 최대 maxBatchSize개를 꺼냅니다.
+    // 비어 있으면 sender를 반납합니다 (확인과 반납을 같은 임계 구역에서 수행하여 유실 방지).
+    private synchronized List<PendingDelivery> takeBatch(Lane lane) {
+        if (lane.queue.isEmpty()) {
+            lane.activeSenders--;
+            return List.of();
+        }
+        List<PendingDelivery> batch = new ArrayList<>(Math.min(lane.queue.size(), settings.maxBatchSize()));
+        while (batch.size() < settings.maxBatchSize() && !lane.queue.isEmpty()) {
+            batch.add(lane.queue.pollFirst());
+        }
+        if (lane.queue.isEmpty()) {
+            lane.cancelScheduledFlush();
+        }
+        return batch;
+    }
+
+    // 배치를 sendEach로 전송하고 메시지별 결과를 기기에 매핑합니다.
+    void send(List<PendingDelivery> batch) {
+        if (!fcmDispatchService.isFirebaseInitialized()) {
+            log.warn("Firebase가 초기화되지 않았습니다. Firebase 설정을 확인해주세요.");
+            batch.forEach(delivery -> fail(delivery, null, "FIREBASE_NOT_INITIALIZED"));
+            return;
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("FCM 서킷 브레이커 OPEN - 배치를 전송하지 않고 실패 처리합니다. 메시지 수: {}", batch.size());
+            circuitOpenCounter.increment(batch.size());
+            batch.forEach(delivery -> fail(delivery, null, "CIRCUIT_OPEN"));
+            return;
+        }
+
+        List<Message> messages = new ArrayList<>(batch.size());
+        for (PendingDelivery delivery : batch) {
+            messages.add(delivery.message());
+        }
+
+        long startTime = System.currentTimeMillis();
+        List<SendResponse> responses;
+        try {
+            responses = fcmDispatchService.sendEach(messages);
+        } catch (Exception e) {
+            handleBatchFailure(batch, e);
+            return;
+        }
+        long duration = System.currentTimeMillis() - startTime;
+        batchSendTimer.record(duration, TimeUnit.MILLISECONDS);
+        batchSizeSummary.record(batch.size());
+        metricsService.recordFcmSendDuration(duration);
+
+        int successCount = 0;
+        int transientFailures = 0;
+        List<PendingDelivery> retries = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingDelivery delivery = batch.get(i);
+            SendResponse response = i < responses.size() ? responses.get(i) : null;
+
+            if (response != null && response.isSuccessful()) {
+                successCount++;
+                metricsService.recordFcmMessageSuccess(delivery.notificationType());
+                delivery.result().complete(DeliveryResult.success(delivery, response.getMessageId()));
+                continue;
+            }
+
+            FirebaseMessagingException exception = response != null ? response.getException() : null;
+            MessagingErrorCode errorCode = exception != null ? exception.getMessagingErrorCode() : null;
+            String errorType = errorCode != null ? errorCode.name() : "UNKNOWN";
+            if (isRetryable(exception)) {
+                transientFailures++;
+                retryOrFail(delivery, errorCode, errorType, retries);
+            } else {
+                // 무효 토큰(UNREGISTERED 등)은 정리 대상으로 보고
+                tokenInvalidationService.report(fail(delivery, errorCode, errorType));
+            }
+        }
+
+        // 모든 메시지가 일시적 오류로 실패한 경우만 Firebase 장애로 간주
+        if (transientFailures == batch.size()) {
+            circuitBreaker.recordFailure();
+        } else {
+            circuitBreaker.recordSuccess();
+        }
+        retryLater(retries);
+
+        log.info("FCM 배치 전송 완료 - 메시지 수: {}, 성공: {}, 재시도: {}, 실패: {}, 소요 시간: {}ms",
+                batch.size(), successCount, retries.size(), batch.size() - successCount - retries.size(), duration);
+    }
+
+    private void handleBatchFailure(List<PendingDelivery> batch, Exception e) {
+        FirebaseMessagingException fme = e instanceof FirebaseMessagingException messagingException
+                ? messagingException : null;
+        MessagingErrorCode errorCode = fme != null ? fme.getMessagingErrorCode() : null;
+        String errorType = errorCode != null ? errorCode.name()
+                : fme != null && fme.getErrorCode() != null ? fme.getErrorCode().name() : "BATCH_SEND_ERROR";
+
+        // Firebase 예외가 아닌 I/O 오류 등은 일시적 오류로 간주합니다.
+        if (fme == null || isRetryable(fme)) {
+            log.warn("FCM 배치 전송 일시적 실패 - 메시지 수: {}, 오류: {}, 이유: {}", batch.size(), errorType, e.getMessage());
+            circuitBreaker.recordFailure();
+            List<PendingDelivery> retries = new ArrayList<>();
+            batch.forEach(delivery -> retryOrFail(delivery, errorCode, errorType, retries));
+            retryLater(retries);
+            return;
+        }
+
+        log.error("FCM 배치 전송 실패 - 메시지 수: {}, 오류: {}, 이유: {}", batch.size(), errorType, e.getMessage());
+        circuitBreaker.recordSuccess();
+        batch.forEach(delivery -> fail(delivery, errorCode, errorType));
+    }
+
+    // 시도 횟수가 남았으면 재시도 목록에 추가하고, 아니면 마지막 오류로 실패 처리합니다.
+    private void retryOrFail(PendingDelivery delivery, MessagingErrorCode errorCode, String errorType,
+                             List<PendingDelivery> retries) {
+        if (delivery.attempt() < settings.maxAttempts()) {
+            retries.add(delivery);
+            return;
+        }
+        retryExhaustedCounter.increment();
+        fail(delivery, errorCode, errorType);
+    }
+
+    // 재시도할 메시지를 시도 횟수별로 묶어 jitter가 적용된 백오프 후 다시 적재합니다.
+    private void retryLater(List<PendingDelivery> deliveries) {
+        Map<Integer, List<PendingDelivery>> byAttempt = new TreeMap<>();
+        for (PendingDelivery delivery : deliveries) {
+            byAttempt.computeIfAbsent(delivery.attempt(), attempt -> new ArrayList<>()).add(delivery.nextAttempt());
+        }
+
+        for (Map.Entry<Integer, List<PendingDelivery>> entry : byAttempt.entrySet()) {
+            RetryBatch retry = new RetryBatch(entry.getValue());
+            retryCounter.increment(retry.deliveries.size());
+            scheduledRetries.add(retry);
+            try {
+                scheduler.schedule(retry, backoffMillis(entry.getKey()), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 재시도하지 않습니다.
+                if (scheduledRetries.remove(retry)) {
+                    retry.deliveries.forEach(delivery -> fail(delivery, null, "SHUTDOWN"));
+                }
+            }
+        }
+    }
+
+    // attempt번째 시도 실패 후 대기 시간 (equal jitter: 상한의 절반 + 0~절반 무작위)
+    long backoffMillis(int attempt) {
+        long cap = settings.initialBackoffMillis() << Math.min(attempt - 1, 20);
+        cap = Math.min(Math.max(cap, 1L), settings.maxBackoffMillis());
+        long half = cap / 2;
+        return half + ThreadLocalRandom.current().nextLong(cap - half + 1);
+    }
+
+    private boolean isRetryable(FirebaseMessagingException exception) {
+        if (exception == null) {
+            return false;
+        }
+        MessagingErrorCode messagingErrorCode = exception.getMessagingErrorCode();
+        if (messagingErrorCode != null) {
+            return RETRYABLE_MESSAGING_ERRORS.contains(messagingErrorCode);
+        }
+        return exception.getErrorCode() != null && RETRYABLE_PLATFORM_ERRORS.contains(exception.getErrorCode());
+    }
+
+    private DeliveryResult fail(PendingDelivery delivery, MessagingErrorCode errorCode, String errorType) {
+        metricsService.recordFcmMessageFailure(delivery.notificationType(), errorType);
+        DeliveryResult result = DeliveryResult.failure(delivery, errorCode, errorType);
+        delivery.result().complete(result);
+        return result;
+    }
+
+    private ScheduledFuture<?> schedule(Runnable task, long delayMillis) {
+        try {
+            return scheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 다음 submit 또는 shutdown에서 전송됩니다.
+            return null;
+        }
+    }
+
+    private static Executor createSenderExecutor(int senderThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, senderThreads));
+        executor.setMaxPoolSize(Math.max(1, senderThreads));
+        // sender 작업은 스레드 수만큼만 예약되므로 대기 큐도 같은 크기로 충분합니다.
+        executor.setQueueCapacity(Math.max(1, senderThreads));
+        executor.setThreadNamePrefix("fcm-sender-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    // 백오프 후 다시 적재할 재시도 묶음
+    // 실행과 종료 처리 중 scheduledRetries에서 먼저 제거한 쪽만 결과를 처리합니다.
+    private final class RetryBatch implements Runnable {
+
+        private final List<PendingDelivery> deliveries;
+
+        private RetryBatch(List<PendingDelivery> deliveries) {
+            this.deliveries = deliveries;
+        }
+
+        @Override
+        public void run() {
+            if (scheduledRetries.remove(this)) {
+                deliveries.forEach(FcmBatchDispatcher.this::enqueue);
+            }
+        }
+    }
+
+    // 우선순위 레인 - 대기열과 sender 수를 레인별로 분리합니다.
+    // 아래 가변 상태는 모두 FcmBatchDispatcher 모니터로 보호됩니다.
+    private final class Lane {
+
+        private final PushPriority priority;
+        private final String name;
+        private final LaneSettings settings;
+        private final Deque<PendingDelivery> queue = new ArrayDeque<>();
+        private final Timer queueTimer;
+        private int activeSenders;
+        private ScheduledFuture<?> scheduledFlush;
+
+        private Lane(PushPriority priority, LaneSettings settings, MeterRegistry meterRegistry) {
+            this.priority = priority;
+            this.name = priority.name().toLowerCase();
+            this.settings = settings;
+            this.queueTimer = Timer.builder("fcm_dispatch_queue_time_seconds")
+                    .description("FCM 메시지가 레인 대기열에 머문 시간")
+                    .tag("lane", name)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        private boolean reserveSender() {
+            if (activeSenders >= settings.workers()) {
+                // 실행 중인 sender가 대기열을 비울 때까지 계속 전송합니다.
+                return false;
+            }
+            activeSenders++;
+            return true;
+        }
+
+        private void cancelScheduledFlush() {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+        }
+
+        private void recordQueueTime(List<PendingDelivery> batch, long nowNanos) {
+            for (PendingDelivery delivery : batch) {
+                queueTimer.record(nowNanos - delivery.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    // 전송기 설정
+    record Settings(int maxBatchSize, Map<PushPriority, LaneSettings> lanes,
+                    int maxAttempts, long initialBackoffMillis, long maxBackoffMillis) {
+
+        Settings {
+            maxBatchSize = Math.max(1, Math.min(maxBatchSize, FCM_MAX_BATCH_SIZE));
+            Map<PushPriority, LaneSettings> normalized = new EnumMap<>(PushPriority.class);
+            for (PushPriority priority : PushPriority.values()) {
+                LaneSettings lane = lanes.get(priority);
+                if (lane == null) {
+                    throw new IllegalArgumentException("레인 설정이 없습니다: " + priority);
+                }
+                normalized.put(priority, new LaneSettings(lane.workers(),
+                        Math.max(maxBatchSize, lane.queueCapacity()), lane.flushLatencyMillis()));
+            }
+            lanes = Map.copyOf(normalized);
+            maxAttempts = Math.max(1, maxAttempts);
+            initialBackoffMillis = Math.max(1L, initialBackoffMillis);
+            maxBackoffMillis = Math.max(initialBackoffMillis, maxBackoffMillis);
+        }
+
+        LaneSettings lane(PushPriority priority) {
+            return lanes.get(priority);
+        }
+    }
+
+    // 레인 설정
+    //
+    // @param workers 레인 전용 sender 수 (동시에 전송 중일 수 있는 배치 수)
+    // @param queueCapacity 레인 대기 메시지 최대 수
+    // @param flushLatencyMillis 첫 메시지 적재 후 모아서 보내기까지의 최대 대기 시간 (0이면 즉시 전송)
+    record LaneSettings(int workers, int queueCapacity, long flushLatencyMillis) {
+
+        LaneSettings {
+            workers = Math.max(1, workers);
+            queueCapacity = Math.max(1, queueCapacity);
+            flushLatencyMillis = Math.max(0L, flushLatencyMillis);
+        }
+    }
+
+    // 메시지별 전송 결과
+    //
+    // @param deviceId 대상 기기 ID
+    // @param fcmToken 대상 FCM 토큰
+    // @param notificationType 알림 타입
+    // @param messageId FCM 메시지 ID (성공 시)
+    // @param errorCode FCM 오류 코드 (실패 시, 알 수 없으면 null)
+    // @param errorType 메트릭용 오류 타입 (실패 시)
+    public record DeliveryResult(Long deviceId, String fcmToken, String notificationType,
+                                 String messageId, MessagingErrorCode errorCode, String errorType) {
+
+        static DeliveryResult success(PendingDelivery delivery, String messageId) {
+            return new DeliveryResult(delivery.deviceId(), delivery.fcmToken(), delivery.notificationType(),
+                    messageId, null, null);
+        }
+
+        static DeliveryResult failure(PendingDelivery delivery, MessagingErrorCode errorCode, String errorType) {
+            return new DeliveryResult(delivery.deviceId(), delivery.fcmToken(), delivery.notificationType(),
+                    null, errorCode, errorType);
+        }
+
+        public boolean isSuccess() {
+            return errorType == null;
+        }
+    }
+
+    record PendingDelivery(Long deviceId, String fcmToken, String notificationType, Message message,
+                           PushPriority priority, int attempt, long enqueuedAtNanos,
+                           CompletableFuture<DeliveryResult> result) {
+
+        PendingDelivery nextAttempt() {
+            return new PendingDelivery(deviceId, fcmToken, notificationType, message, priority, attempt + 1,
+                    enqueuedAtNanos, result);
+        }
+
+        // 대기열 적재 시각을 기록한 사본 (재시도 백오프 시간은 대기 시간에 포함하지 않음)
+        PendingDelivery enqueuedAt(long nanos) {
+            return new PendingDelivery(deviceId, fcmToken, notificationType, message, priority, attempt,
+                    nanos, result);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package baro.baro.domain.notification.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+// FCM 전송 서킷 브레이커
+//
+// 일시적 오류로 실패한 배치가 연속으로 failureThreshold번 발생하면 openMillis 동안 전송을 차단합니다.
+// 차단 시간이 지나면 배치 하나만 시험 전송(HALF_OPEN)하고, 성공하면 닫고 실패하면 다시 엽니다.
+@Slf4j
+class FcmCircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    // 아래 상태는 모두 this 모니터로 보호됩니다.
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntil;
+    private boolean trialInFlight;
+
+    FcmCircuitBreaker(int failureThreshold, long openMillis) {
+        this(failureThreshold, openMillis, System::currentTimeMillis);
+    }
+
+    FcmCircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = Math.max(0L, openMillis);
+        this.clock = clock;
+    }
+
+    // 배치 전송 가능 여부를 확인합니다.
+    // 허용된 호출자는 결과를 recordSuccess 또는 recordFailure로 반드시 보고해야 합니다.
+    //
+    // @return 전송 가능하면 true
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.getAsLong() < openUntil) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                log.info("FCM 서킷 브레이커 HALF_OPEN - 시험 전송을 시작합니다.");
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            log.info("FCM 서킷 브레이커 CLOSED - 전송을 재개합니다.");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    synchronized void recordFailure() {
+        trialInFlight = false;
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntil = clock.getAsLong() + openMillis;
+        log.warn("FCM 서킷 브레이커 OPEN - 연속 실패: {}, {}ms 동안 전송을 차단합니다.", consecutiveFailures, openMillis);
+    }
+}
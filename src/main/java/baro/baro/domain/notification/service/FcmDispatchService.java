@@ -1,26 +1,29 @@
 package baro.baro.domain.notification.service;
 
 import baro.baro.domain.common.monitoring.MetricsService;
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import com.google.firebase.messaging.TopicManagementResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 // FCM 메시지 전송 서비스
 //
 // Firebase Cloud Messaging을 통해 푸시 알림을 전송합니다.
-// 메트릭 수집 및 오류 처리를 담당합니다.
+// 메트릭 수집 및 오류 처리를 담당하고, 실제 전송은 FcmTransport에 위임합니다.
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmDispatchService {
 
     private final MetricsService metricsService;
+    private final FcmTransport fcmTransport;
 
     // FCM 메시지를 전송합니다.
     //
@@ -31,19 +34,54 @@ public class FcmDispatchService {
     public void dispatch(Message message, String notificationType, String fcmToken) {
         long startTime = System.currentTimeMillis();
 
-        if (FirebaseApp.getApps().isEmpty()) {
+        if (!fcmTransport.isAvailable()) {
             log.warn("Firebase가 초기화되지 않았습니다. Firebase 설정을 확인해주세요.");
             metricsService.recordFcmMessageFailure(notificationType, "FIREBASE_NOT_INITIALIZED");
             return;
         }
 
-        String response = FirebaseMessaging.getInstance().send(message);
+        String response = fcmTransport.send(message);
         log.info("FCM 푸시 알림 발송 성공 - 타입: {}, 토큰: {}, 응답: {}", notificationType, fcmToken, response);
 
         metricsService.recordFcmMessageSuccess(notificationType);
         metricsService.recordFcmSendDuration(System.currentTimeMillis() - startTime);
     }
 
+    // 여러 FCM 메시지를 한 번의 sendEach 호출로 전송합니다.
+    // 응답 목록은 요청 메시지와 같은 순서입니다.
+    //
+    // @param messages 전송할 메시지 (최대 500개)
+    // @return 메시지별 전송 결과
+    @SneakyThrows(FirebaseMessagingException.class)
+    public List<SendResponse> sendEach(List<Message> messages) {
+        return fcmTransport.sendEach(messages);
+    }
+
+    // FCM 토큰들을 토픽에 구독시킵니다.
+    //
+    // @param fcmTokens 구독할 토큰 (최대 1000개)
+    // @param topic 토픽 이름
+    // @return 토큰별 구독 결과
+    @SneakyThrows(FirebaseMessagingException.class)
+    public TopicManagementResponse subscribeToTopic(List<String> fcmTokens, String topic) {
+        return fcmTransport.subscribeToTopic(fcmTokens, topic);
+    }
+
+    // FCM 토큰들의 토픽 구독을 해제합니다.
+    //
+    // @param fcmTokens 구독 해제할 토큰 (최대 1000개)
+    // @param topic 토픽 이름
+    // @return 토큰별 구독 해제 결과
+    @SneakyThrows(FirebaseMessagingException.class)
+    public TopicManagementResponse unsubscribeFromTopic(List<String> fcmTokens, String topic) {
+        return fcmTransport.unsubscribeFromTopic(fcmTokens, topic);
+    }
+
+    // Firebase 초기화 여부
+    public boolean isFirebaseInitialized() {
+        return fcmTransport.isAvailable();
+    }
+
     // 초대 요청 FCM 메시지를 생성합니다.
     public Message buildInvitationMessage(String fcmToken, String title, String message,
                                           Long invitationId, String inviterName, String relation) {
@@ -132,4 +170,22 @@ public class FcmDispatchService {
                 .putData("deepLink", "youfi://nearby-alert?id=" + missingPersonId)
                 .build();
     }
+
+    // 신규 실종자 지역 토픽 FCM 메시지를 생성합니다.
+    public Message buildNewCaseRegionMessage(String topic, String title, String message,
+                                             String missingPersonName, Long missingPersonId,
+                                             String address) {
+        return Message.builder()
+                .setTopic(topic)
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(message)
+                        .build())
+                .putData("type", "new_case_region")
+                .putData("missingPersonName", missingPersonName)
+                .putData("missingPersonId", String.valueOf(missingPersonId))
+                .putData("address", address != null ? address : "위치 정보 없음")
+                .putData("deepLink", "youfi://nearby-alert?id=" + missingPersonId)
+                .build();
+    }
 }
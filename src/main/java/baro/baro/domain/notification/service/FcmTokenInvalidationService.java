@@ -0,0 +1,138 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.device.dto.event.DevicePushTargetChangedEvent;
+import baro.baro.domain.device.repository.DeviceRepository;
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 무효 FCM 토큰 정리 서비스
+//
+// 메시지별 전송 결과에서 FCM이 더 이상 도달할 수 없다고 판정한 토큰을 모아
+// 주기적으로 한 번의 UPDATE로 삭제합니다. 삭제된 토큰의 기기는 이후 발송 대상에서 제외되며,
+// 해당 사용자의 푸시 발송 대상 캐시는 커밋 후 무효화됩니다.
+@Slf4j
+@Service
+public class FcmTokenInvalidationService {
+
+    private final DeviceRepository deviceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxBatchSize;
+
+    // 삭제 대기 중인 무효 토큰 (중복 보고는 한 번만 처리)
+    private final Set<String> pendingTokens = ConcurrentHashMap.newKeySet();
+
+    private final Map<MessagingErrorCode, Counter> detectedCounters = new EnumMap<>(MessagingErrorCode.class);
+    private final Counter prunedCounter;
+
+    public FcmTokenInvalidationService(
+            DeviceRepository deviceRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${fcm.token-pruning.batch-size:1000}") int maxBatchSize // UPDATE 1회 최대 토큰 수
+    ) {
+        this.deviceRepository = deviceRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+
+        for (MessagingErrorCode errorCode : MessagingErrorCode.values()) {
+            if (isInvalidToken(errorCode)) {
+                detectedCounters.put(errorCode, Counter.builder("fcm_tokens_invalid_total")
+                        .description("FCM이 무효로 판정한 토큰 수")
+                        .tag("error_code", errorCode.name())
+                        .register(meterRegistry));
+            }
+        }
+        this.prunedCounter = Counter.builder("fcm_tokens_pruned_total")
+                .description("무효 판정으로 삭제된 기기 FCM 토큰 수")
+                .register(meterRegistry);
+        Gauge.builder("fcm_tokens_pending_prune", pendingTokens, Set::size)
+                .description("삭제 대기 중인 무효 FCM 토큰 수")
+                .register(meterRegistry);
+    }
+
+    // 토큰 자체가 무효임을 뜻하는 오류 코드인지 확인합니다.
+    // - UNREGISTERED: 앱 삭제/토큰 만료
+    // - INVALID_ARGUMENT: 토큰 형식 오류 (메시지별 응답 기준, 페이로드는 서버에서 고정 생성)
+    // - SENDER_ID_MISMATCH: 다른 Firebase 프로젝트에서 발급된 토큰
+    //
+    // @param errorCode FCM 오류 코드
+    // @return 토큰을 삭제해야 하면 true
+    public static boolean isInvalidToken(MessagingErrorCode errorCode) {
+        return errorCode == MessagingErrorCode.UNREGISTERED
+                || errorCode == MessagingErrorCode.INVALID_ARGUMENT
+                || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH;
+    }
+
+    // 메시지별 전송 결과를 보고합니다. 무효 토큰이면 삭제 대기열에 추가합니다.
+    //
+    // @param result 전송 결과
+    public void report(FcmBatchDispatcher.DeliveryResult result) {
+        if (result == null || result.isSuccess() || !isInvalidToken(result.errorCode())
+                || !StringUtils.hasText(result.fcmToken())) {
+            return;
+        }
+        if (pendingTokens.add(result.fcmToken())) {
+            detectedCounters.get(result.errorCode()).increment();
+            log.info("무효 FCM 토큰 감지 - deviceId: {}, 오류: {}", result.deviceId(), result.errorCode());
+        }
+    }
+
+    // 삭제 대기 중인 무효 토큰을 일괄 삭제합니다.
+    //
+    // @return 토큰이 삭제된 기기 수
+    @Scheduled(fixedDelayString = "${fcm.token-pruning.interval-ms:5000}")
+    @Transactional
+    public int pruneInvalidTokens() {
+        int prunedCount = 0;
+        while (!pendingTokens.isEmpty()) {
+            List<String> batch = takeBatch();
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Long> affectedUserIds = deviceRepository.findUserIdsByFcmTokens(batch);
+            int updated = deviceRepository.clearFcmTokens(batch);
+            for (Long userId : affectedUserIds) {
+                eventPublisher.publishEvent(new DevicePushTargetChangedEvent(this, userId));
+            }
+            prunedCounter.increment(updated);
+            prunedCount += updated;
+        }
+
+        if (prunedCount > 0) {
+            log.info("무효 FCM 토큰 정리 완료 - 삭제된 토큰 수: {}", prunedCount);
+        }
+        return prunedCount;
+    }
+
+    // 삭제 대기 중인 토큰 수
+    public int getPendingCount() {
+        return pendingTokens.size();
+    }
+
+    private List<String> takeBatch() {
+        List<String> batch = new ArrayList<>(Math.min(pendingTokens.size(), maxBatchSize));
+        Iterator<String> iterator = pendingTokens.iterator();
+        while (iterator.hasNext() && batch.size() < maxBatchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+}
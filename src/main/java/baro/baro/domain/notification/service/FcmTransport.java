@@ -0,0 +1,45 @@
+package baro.baro.domain.notification.service;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import com.google.firebase.messaging.TopicManagementResponse;
+
+import java.util.List;
+
+// FCM 전송 경로
+//
+// FcmDispatchService가 실제 전송을 위임하는 대상입니다.
+// 운영에서는 기본 FirebaseApp을 쓰는 FirebaseFcmTransport를 사용하고,
+// 테스트/벤치마크에서는 로컬 FCM v1 대역을 가리키는 FirebaseApp으로 만든 전송 경로로 교체합니다.
+public interface FcmTransport {
+
+    // 전송 가능 여부 (Firebase 초기화 여부)
+    boolean isAvailable();
+
+    // 메시지 1건을 전송합니다.
+    //
+    // @param message 전송할 메시지
+    // @return FCM 메시지 ID
+    String send(Message message) throws FirebaseMessagingException;
+
+    // 여러 메시지를 전송합니다. 응답 목록은 요청 메시지와 같은 순서입니다.
+    //
+    // @param messages 전송할 메시지 (최대 500개)
+    // @return 메시지별 전송 결과
+    List<SendResponse> sendEach(List<Message> messages) throws FirebaseMessagingException;
+
+    // FCM 토큰들을 토픽에 구독시킵니다.
+    //
+    // @param fcmTokens 구독할 토큰 (최대 1000개)
+    // @param topic 토픽 이름
+    // @return 토큰별 구독 결과
+    TopicManagementResponse subscribeToTopic(List<String> fcmTokens, String topic) throws FirebaseMessagingException;
+
+    // FCM 토큰들의 토픽 구독을 해제합니다.
+    //
+    // @param fcmTokens 구독 해제할 토큰 (최대 1000개)
+    // @param topic 토픽 이름
+    // @return 토큰별 구독 해제 결과
+    TopicManagementResponse unsubscribeFromTopic(List<String> fcmTokens, String topic) throws FirebaseMessagingException;
+}
@@ -0,0 +1,61 @@
+package baro.baro.domain.notification.service;
+
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import com.google.firebase.messaging.TopicManagementResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Firebase Admin SDK 기반 FCM 전송 경로
+//
+// 앱을 지정하지 않으면 FirebaseConfig가 초기화한 기본 FirebaseApp을 사용합니다.
+// 앱을 지정하면 해당 앱의 설정(HTTP transport, 자격 증명)으로 전송하므로 로컬 FCM v1 대역을 가리킬 수 있습니다.
+@Component
+public class FirebaseFcmTransport implements FcmTransport {
+
+    // 전송에 사용할 앱 (null이면 기본 앱)
+    private final FirebaseApp app;
+
+    public FirebaseFcmTransport() {
+        this(null);
+    }
+
+    FirebaseFcmTransport(FirebaseApp app) {
+        this.app = app;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return app != null || !FirebaseApp.getApps().isEmpty();
+    }
+
+    @Override
+    public String send(Message message) throws FirebaseMessagingException {
+        return messaging().send(message);
+    }
+
+    @Override
+    public List<SendResponse> sendEach(List<Message> messages) throws FirebaseMessagingException {
+        return messaging().sendEach(messages).getResponses();
+    }
+
+    @Override
+    public TopicManagementResponse subscribeToTopic(List<String> fcmTokens, String topic)
+            throws FirebaseMessagingException {
+        return messaging().subscribeToTopic(fcmTokens, topic);
+    }
+
+    @Override
+    public TopicManagementResponse unsubscribeFromTopic(List<String> fcmTokens, String topic)
+            throws FirebaseMessagingException {
+        return messaging().unsubscribeFromTopic(fcmTokens, topic);
+    }
+
+    private FirebaseMessaging messaging() {
+        return app != null ? FirebaseMessaging.getInstance(app) : FirebaseMessaging.getInstance();
+    }
+}
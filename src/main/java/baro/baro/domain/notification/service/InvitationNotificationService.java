@@ -1,7 +1,7 @@
 package baro.baro.domain.notification.service;
 
-import baro.baro.domain.device.entity.Device;
 import baro.baro.domain.notification.entity.NotificationType;
+import baro.baro.domain.notification.service.FcmBatchDispatcher.DeliveryResult;
 import baro.baro.domain.user.entity.User;
 import com.google.firebase.messaging.Message;
 import lombok.RequiredArgsConstructor;
@@ -9,69 +9,108 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 // 초대 알림 서비스
 //
 // 구성원 초대 요청 및 응답 알림을 처리합니다.
+// 앱내 알림 저장(save*)과 푸시 발송(send*)을 나누어, 아웃박스 처리기가 앱내 알림은 한 번만 저장하고
+// 푸시는 저장 트랜잭션 커밋 후 발송하도록 합니다.
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class InvitationNotificationService {
 
+    private static final String INVITATION_TITLE = "새로운 구성원 초대 요청";
+
     private final NotificationDeviceService notificationDeviceService;
     private final FcmDispatchService fcmDispatchService;
+    private final FcmBatchDispatcher fcmBatchDispatcher;
     private final NotificationPersistenceService persistenceService;
 
-    // 초대 요청 푸시 알림을 발송합니다.
+    // 초대 요청 앱내 알림을 저장합니다.
     @Transactional
-    public void sendInvitationNotification(User invitee, User inviter, String relation, Long invitationId) {
-        String title = "새로운 구성원 초대 요청";
-        String message = String.format("%s님이 %s로 초대 요청을 보냈습니다.", inviter.getName(), relation);
-
-        persistenceService.save(invitee, NotificationType.INVITE_REQUEST, title, message, invitationId);
+    public void saveInvitationNotification(User invitee, User inviter, String relation, Long invitationId) {
+        persistenceService.save(invitee, NotificationType.INVITE_REQUEST,
+                INVITATION_TITLE, invitationMessage(inviter, relation), invitationId);
+    }
 
-        List<Device> devices = notificationDeviceService.getActiveDevicesWithToken(invitee);
-        if (devices.isEmpty()) {
+    // 초대 요청 푸시 알림을 발송합니다.
+    //
+    // @return 기기별 전송 결과 (활성 기기가 없으면 빈 목록)
+    public List<CompletableFuture<DeliveryResult>> sendInvitationNotification(
+            User invitee, User inviter, String relation, Long invitationId) {
+        PushTargets targets = notificationDeviceService.getPushTargets(invitee);
+        if (targets.isEmpty()) {
             log.warn("초대받은 사용자 {}의 활성 기기가 없습니다. 앱내 알림만 저장됩니다.", invitee.getName());
-            return;
+            return List.of();
         }
 
-        for (Device device : devices) {
+        String title = INVITATION_TITLE;
+        String message = invitationMessage(inviter, relation);
+        List<CompletableFuture<DeliveryResult>> results = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            String fcmToken = targets.fcmToken(i);
             Message fcmMessage = fcmDispatchService.buildInvitationMessage(
-                    device.getFcmToken(), title, message, invitationId, inviter.getName(), relation
+                    fcmToken, title, message, invitationId, inviter.getName(), relation
             );
-            fcmDispatchService.dispatch(fcmMessage, "invitation", device.getFcmToken());
+            results.add(fcmBatchDispatcher.submit(targets.deviceId(i), fcmToken, "invitation", fcmMessage,
+                    PushPriority.NORMAL));
         }
 
         log.info("초대 요청 알림 발송 완료 - 초대받은 사용자: {}, 초대한 사용자: {}", invitee.getName(), inviter.getName());
+        return results;
     }
 
-    // 초대 응답 푸시 알림을 발송합니다.
+    // 초대 응답 앱내 알림을 저장합니다.
     @Transactional
-    public void sendInvitationResponseNotification(User inviter, User invitee, boolean isAccepted, String relation) {
-        String title = isAccepted ? "초대 요청이 수락되었습니다" : "초대 요청이 거절되었습니다";
-        String message = String.format("%s님이 %s 초대 요청을 %s했습니다.",
-                invitee.getName(), relation, isAccepted ? "수락" : "거절");
-
-        persistenceService.save(inviter, NotificationType.INVITE_REQUEST, title, message, null);
+    public void saveInvitationResponseNotification(User inviter, User invitee, boolean isAccepted, String relation) {
+        persistenceService.save(inviter, NotificationType.INVITE_REQUEST,
+                responseTitle(isAccepted), responseMessage(invitee, isAccepted, relation), null);
+    }
 
-        List<Device> devices = notificationDeviceService.getActiveDevicesWithToken(inviter);
-        if (devices.isEmpty()) {
+    // 초대 응답 푸시 알림을 발송합니다.
+    //
+    // @return 기기별 전송 결과 (활성 기기가 없으면 빈 목록)
+    public List<CompletableFuture<DeliveryResult>> sendInvitationResponseNotification(
+            User inviter, User invitee, boolean isAccepted, String relation) {
+        PushTargets targets = notificationDeviceService.getPushTargets(inviter);
+        if (targets.isEmpty()) {
             log.warn("초대한 사용자 {}의 활성 기기가 없습니다. 앱내 알림만 저장됩니다.", inviter.getName());
-            return;
+            return List.of();
         }
 
+        String title = responseTitle(isAccepted);
+        String message = responseMessage(invitee, isAccepted, relation);
         String notificationType = isAccepted ? "invitation_accepted" : "invitation_rejected";
-        for (Device device : devices) {
+        List<CompletableFuture<DeliveryResult>> results = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            String fcmToken = targets.fcmToken(i);
             Message fcmMessage = fcmDispatchService.buildInvitationResponseMessage(
-                    device.getFcmToken(), title, message, notificationType,
+                    fcmToken, title, message, notificationType,
                     invitee.getName(), relation, isAccepted
             );
-            fcmDispatchService.dispatch(fcmMessage, notificationType, device.getFcmToken());
+            results.add(fcmBatchDispatcher.submit(targets.deviceId(i), fcmToken, notificationType, fcmMessage,
+                    PushPriority.NORMAL));
         }
 
         log.info("초대 응답 알림 발송 완료 - 초대한 사용자: {}, 수락여부: {}", inviter.getName(), isAccepted);
+        return results;
+    }
+
+    private static String invitationMessage(User inviter, String relation) {
+        return String.format("%s님이 %s로 초대 요청을 보냈습니다.", inviter.getName(), relation);
+    }
+
+    private static String responseTitle(boolean isAccepted) {
+        return isAccepted ? "초대 요청이 수락되었습니다" : "초대 요청이 거절되었습니다";
+    }
+
+    private static String responseMessage(User invitee, boolean isAccepted, String relation) {
+        return String.format("%s님이 %s 초대 요청을 %s했습니다.",
+                invitee.getName(), relation, isAccepted ? "수락" : "거절");
     }
 
 }
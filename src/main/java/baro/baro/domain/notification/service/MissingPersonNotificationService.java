@@ -1,9 +1,10 @@
 package baro.baro.domain.notification.service;
 
-import baro.baro.domain.device.entity.Device;
+import baro.baro.domain.common.util.GeoHashUtil;
 import baro.baro.domain.notification.entity.NotificationType;
 import baro.baro.domain.notification.exception.NotificationErrorCode;
 import baro.baro.domain.notification.exception.NotificationException;
+import baro.baro.domain.notification.service.FcmBatchDispatcher.DeliveryResult;
 import baro.baro.domain.user.entity.User;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.FirebaseMessagingException;
@@ -13,85 +14,150 @@ import org.locationtech.jts.geom.Point;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 // 실종자 관련 알림 서비스
 //
-// 실종자 발견 신고, NEARBY_ALERT 알림을 처리합니다.
+// 실종자 발견 신고, NEARBY_ALERT, 신규 실종자 지역 알림을 처리합니다.
+// 앱내 알림 저장(save*)과 푸시 발송(send*)을 나누어, 아웃박스 처리기가 앱내 알림은 한 번만 저장하고
+// 푸시는 저장 트랜잭션 커밋 후 발송하도록 합니다.
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MissingPersonNotificationService {
 
+    private static final String FOUND_TITLE = "실종자가 발견되었습니다!";
+    private static final String NEARBY_ALERT_TITLE = "주변에 실종자가 있습니다!";
+
     private final NotificationDeviceService notificationDeviceService;
     private final FcmDispatchService fcmDispatchService;
+    private final FcmBatchDispatcher fcmBatchDispatcher;
     private final NotificationPersistenceService persistenceService;
 
-    // 실종자 발견 신고 푸시 알림을 발송합니다.
+    // 실종자 발견 신고 앱내 알림을 저장합니다.
     @Transactional
-    public void sendMissingPersonFoundNotification(
+    public void saveMissingPersonFoundNotification(
             Long sightingId,
             User missingPersonOwner,
             String missingPersonName,
             String reporterName,
             String address) {
+        persistenceService.save(missingPersonOwner, NotificationType.FOUND_REPORT, FOUND_TITLE,
+                foundMessage(missingPersonName, reporterName, address), sightingId);
+    }
 
-        String title = "실종자가 발견되었습니다!";
-        String message = String.format("실종자 %s님이 발견되었습니다\n\n" +
-                "찾은 팀: %s 님\n" +
-                "발견 위치: %s",
-                missingPersonName,
-                reporterName,
-                address != null ? address : "위치 정보 없음");
-
-        persistenceService.save(missingPersonOwner, NotificationType.FOUND_REPORT, title, message, sightingId);
+    // 실종자 발견 신고 푸시 알림을 발송합니다.
+    //
+    // @return 기기별 전송 결과 (활성 기기가 없으면 빈 목록)
+    public List<CompletableFuture<DeliveryResult>> sendMissingPersonFoundNotification(
+            Long sightingId,
+            User missingPersonOwner,
+            String missingPersonName,
+            String reporterName,
+            String address) {
 
-        List<Device> devices = notificationDeviceService.getActiveDevicesWithToken(missingPersonOwner);
-        if (devices.isEmpty()) {
+        PushTargets targets = notificationDeviceService.getPushTargets(missingPersonOwner);
+        if (targets.isEmpty()) {
             log.warn("실종자 등록자 {}의 활성 기기가 없습니다. 앱내 알림만 저장됩니다.", missingPersonOwner.getName());
-            return;
+            return List.of();
         }
 
-        for (Device device : devices) {
+        String message = foundMessage(missingPersonName, reporterName, address);
+        List<CompletableFuture<DeliveryResult>> results = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            String fcmToken = targets.fcmToken(i);
             Message fcmMessage = fcmDispatchService.buildMissingPersonFoundMessage(
-                    device.getFcmToken(), title, message,
+                    fcmToken, FOUND_TITLE, message,
                     missingPersonName, reporterName, address
             );
-            fcmDispatchService.dispatch(fcmMessage, "missing_person_found", device.getFcmToken());
+            results.add(fcmBatchDispatcher.submit(targets.deviceId(i), fcmToken, "missing_person_found", fcmMessage,
+                    PushPriority.HIGH));
         }
 
         log.info("실종자 발견 신고 알림 발송 완료 - 실종자: {}, 신고자: {}, 등록자: {}",
                 missingPersonName, reporterName, missingPersonOwner.getName());
+        return results;
     }
 
-    // GPS 업데이트한 사용자에게 NEARBY_ALERT 푸시 알림을 발송합니다.
-    @Transactional
-    public void sendNearbyAlertToReporter(User reporter, String missingPersonName,
-                                           double distance, Point reporterLocation,
-                                           Long missingPersonId) {
-        String title = "주변에 실종자가 있습니다!";
-        String message = String.format("실종자 %s가 주변 %.0fm 이내에 있습니다. 주의 깊게 살펴봐 주세요.",
-                missingPersonName, distance);
+    // 신규 실종자를 사건 위치 셀과 주변 8개 셀의 지역 토픽으로 알립니다.
+    // 지역 사용자를 조회해 토큰별로 보내는 대신 토픽 메시지 최대 9건으로 발송합니다.
+    //
+    // @return 토픽별 전송 결과
+    public List<CompletableFuture<DeliveryResult>> sendNewCaseRegionBroadcast(
+            Long missingPersonId, String missingPersonName, double latitude, double longitude, String address) {
+        String title = "근처에서 실종 신고가 접수되었습니다";
+        String message = String.format("실종자 %s님을 찾고 있습니다\n\n" +
+                "실종 위치: %s",
+                missingPersonName,
+                address != null ? address : "위치 정보 없음");
+
+        String center = GeoHashUtil.encode(latitude, longitude, RegionTopicSubscriptionService.REGION_PRECISION);
+        List<String> regions = GeoHashUtil.withNeighbors(center);
+        List<CompletableFuture<DeliveryResult>> results = new ArrayList<>(regions.size());
+        for (String region : regions) {
+            Message fcmMessage = fcmDispatchService.buildNewCaseRegionMessage(
+                    RegionTopicSubscriptionService.topicOf(region), title, message,
+                    missingPersonName, missingPersonId, address
+            );
+            results.add(fcmBatchDispatcher.submit(null, null, "new_case_region", fcmMessage, PushPriority.HIGH));
+        }
+
+        log.info("신규 실종자 지역 알림 발송 - 실종자: {}, 지역: {}, 토픽 수: {}",
+                missingPersonName, center, regions.size());
+        return results;
+    }
 
-        persistenceService.saveWithLocation(reporter, NotificationType.NEARBY_ALERT, title, message,
-                                            missingPersonId, reporterLocation);
+    // NEARBY_ALERT 앱내 알림을 저장합니다.
+    @Transactional
+    public void saveNearbyAlertToReporter(User reporter, String missingPersonName,
+                                          double distance, Point reporterLocation,
+                                          Long missingPersonId) {
+        persistenceService.saveWithLocation(reporter, NotificationType.NEARBY_ALERT, NEARBY_ALERT_TITLE,
+                nearbyAlertMessage(missingPersonName, distance), missingPersonId, reporterLocation);
+    }
 
-        List<Device> devices = notificationDeviceService.getActiveDevicesWithToken(reporter);
-        if (devices.isEmpty()) {
+    // GPS 업데이트한 사용자에게 NEARBY_ALERT 푸시 알림을 발송합니다.
+    //
+    // @return 기기별 전송 결과 (활성 기기가 없으면 빈 목록)
+    public List<CompletableFuture<DeliveryResult>> sendNearbyAlertToReporter(
+            User reporter, String missingPersonName, double distance, Long missingPersonId) {
+        PushTargets targets = notificationDeviceService.getPushTargets(reporter);
+        if (targets.isEmpty()) {
             log.warn("GPS 업데이트 사용자 {}의 활성 기기가 없습니다. 앱내 알림만 저장됩니다.", reporter.getName());
-            return;
+            return List.of();
         }
 
-        for (Device device : devices) {
+        String message = nearbyAlertMessage(missingPersonName, distance);
+        List<CompletableFuture<DeliveryResult>> results = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            String fcmToken = targets.fcmToken(i);
             Message fcmMessage = fcmDispatchService.buildNearbyAlertMessage(
-                    device.getFcmToken(), title, message,
+                    fcmToken, NEARBY_ALERT_TITLE, message,
                     missingPersonName, reporter.getName(), distance, missingPersonId, "reporter"
             );
-            fcmDispatchService.dispatch(fcmMessage, "nearby_alert", device.getFcmToken());
+            results.add(fcmBatchDispatcher.submit(targets.deviceId(i), fcmToken, "nearby_alert", fcmMessage,
+                    PushPriority.LOW));
         }
 
         log.info("NEARBY_ALERT 알림 발송 완료 - 발견자: {}, 실종자: {}, 거리: {}m",
                 reporter.getName(), missingPersonName, distance);
+        return results;
+    }
+
+    private static String foundMessage(String missingPersonName, String reporterName, String address) {
+        return String.format("실종자 %s님이 발견되었습니다\n\n" +
+                "찾은 팀: %s 님\n" +
+                "발견 위치: %s",
+                missingPersonName,
+                reporterName,
+                address != null ? address : "위치 정보 없음");
+    }
+
+    private static String nearbyAlertMessage(String missingPersonName, double distance) {
+        return String.format("실종자 %s가 주변 %.0fm 이내에 있습니다. 주의 깊게 살펴봐 주세요.",
+                missingPersonName, distance);
     }
 
 }
@@ -0,0 +1,49 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.notification.exception.NotificationErrorCode;
+import baro.baro.domain.notification.exception.NotificationException;
+import baro.baro.domain.notification.repository.NotificationSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 알림 목록 키셋 페이지네이션 커서
+// 마지막으로 반환한 알림의 (created_at, id)를 불투명한 문자열로 인코딩합니다.
+//
+// @param createdAt 마지막 알림 생성 시간
+// @param id 마지막 알림 ID (생성 시간이 같은 알림 간 순서 보장)
+record NotificationCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    static NotificationCursor of(NotificationSummary last) {
+        return new NotificationCursor(last.createdAt(), last.id());
+    }
+
+    String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 문자열을 해석합니다.
+    //
+    // @param cursor 인코딩된 커서
+    // @return 커서
+    // @throws NotificationException 형식이 올바르지 않은 경우
+    static NotificationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new NotificationException(NotificationErrorCode.INVALID_CURSOR);
+            }
+            return new NotificationCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new NotificationException(NotificationErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -1,24 +1,20 @@
 package baro.baro.domain.notification.service;
 
-import baro.baro.domain.device.entity.Device;
-import baro.baro.domain.device.repository.DeviceRepository;
 import baro.baro.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
-
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationDeviceService {
 
-    private final DeviceRepository deviceRepository;
+    private final PushTargetCache pushTargetCache;
 
-    public List<Device> getActiveDevicesWithToken(User user) {
-        return deviceRepository.findByUser(user).stream()
-                .filter(Device::isActive)
-                .filter(device -> StringUtils.hasText(device.getFcmToken()))
-                .toList();
+    // 사용자의 푸시 발송 대상(활성 기기 + FCM 토큰)을 조회합니다.
+    //
+    // @param user 수신 사용자
+    // @return 발송 대상 (없으면 비어 있음)
+    public PushTargets getPushTargets(User user) {
+        return pushTargetCache.get(user.getId());
     }
 }
@@ -0,0 +1,129 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.common.sse.SseConnectionManager;
+import baro.baro.domain.common.sse.SseHeartbeatTarget;
+import baro.baro.domain.notification.dto.event.NotificationStreamEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+// 알림 SSE Emitter 레지스트리
+// 사용자별 알림 스트림 연결을 관리하고, 새 알림과 읽지 않은 알림 수 변경을 전송합니다.
+// 연결 수 제한, 송신 대기열, writer 풀, 퇴출 규칙은 위치 스트림과 함께 SseConnectionManager가 적용하고,
+// 이 레지스트리는 알림 이벤트를 한 번 직렬화해 사용자의 알림 스트림 연결에 적재합니다.
+@Slf4j
+@Component
+public class NotificationEmitterRegistry implements SseHeartbeatTarget {
+
+    private final SseConnectionManager connectionManager;
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+
+    public NotificationEmitterRegistry(
+            SseConnectionManager connectionManager,
+            ObjectMapper objectMapper,
+            @Value("${notification.stream.queue-capacity:64}") int queueCapacity // 연결별 대기열 크기
+    ) {
+        this.connectionManager = connectionManager;
+        this.objectMapper = objectMapper;
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    // 새로운 SSE Emitter를 등록합니다.
+    // 사용자별 또는 전체 연결 수 제한에 도달하면 가장 오래된 연결을 퇴출한 뒤 등록합니다.
+    //
+    // @param userId 사용자 ID
+    // @param emitter SSE Emitter
+    public void addEmitter(Long userId, SseEmitter emitter) {
+        connectionManager.register(new NotificationStreamSession(userId, emitter, queueCapacity));
+    }
+
+    // 새로운 SSE Emitter를 등록하고, 초기 상태 이벤트를 이 연결에만 전송합니다.
+    // 초기 이벤트를 등록 전에 대기열 맨 앞에 넣으므로 이후 이벤트보다 먼저 전송됩니다.
+    //
+    // @param userId 사용자 ID
+    // @param emitter SSE Emitter
+    // @param initialEvent 새 연결에 가장 먼저 보낼 INITIAL 이벤트
+    public void addEmitter(Long userId, SseEmitter emitter, NotificationStreamEvent initialEvent) {
+        NotificationStreamSession session = new NotificationStreamSession(userId, emitter, queueCapacity);
+        String json = serialize(initialEvent, userId);
+        if (json == null) {
+            connectionManager.register(session);
+            return;
+        }
+        connectionManager.register(session, json);
+    }
+
+    // SSE Emitter를 제거합니다.
+    //
+    // @param userId 사용자 ID
+    // @param emitter 제거할 SSE Emitter
+    public void removeEmitter(Long userId, SseEmitter emitter) {
+        connectionManager.remove(userId, emitter);
+    }
+
+    // 특정 사용자가 알림 스트림에 연결되어 있는지 확인합니다.
+    //
+    // @param userId 사용자 ID
+    // @return 연결 여부
+    public boolean hasConnection(Long userId) {
+        return connectionManager.hasConnection(userId, NotificationStreamSession.class);
+    }
+
+    // 특정 사용자의 모든 알림 스트림 연결에 이벤트를 전송합니다. 연결별 대기열에 적재한 후 즉시 반환합니다.
+    //
+    // @param userId 사용자 ID
+    // @param event 전송할 이벤트
+    public void push(Long userId, NotificationStreamEvent event) {
+        List<NotificationStreamSession> targets = connectionManager.sessionsOf(userId, NotificationStreamSession.class);
+        if (targets.isEmpty()) {
+            return;
+        }
+        String json = serialize(event, userId);
+        if (json == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (NotificationStreamSession session : targets) {
+            connectionManager.enqueue(session, json, now);
+        }
+    }
+
+    // 모든 알림 스트림 연결에 heartbeat를 전송합니다. 공용 heartbeat 타이머가 호출합니다.
+    @Override
+    public void sendHeartbeatToAll() {
+        List<NotificationStreamSession> targets = connectionManager.sessionsOf(NotificationStreamSession.class);
+        if (targets.isEmpty()) {
+            return;
+        }
+        String json = serialize(NotificationStreamEvent.heartbeat(), null);
+        if (json == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (NotificationStreamSession session : targets) {
+            connectionManager.enqueue(session, json, now);
+        }
+    }
+
+    // 현재 알림 스트림의 활성 연결 수를 반환합니다.
+    //
+    // @return 알림 스트림 연결 수
+    public int getTotalConnectionCount() {
+        return connectionManager.sessionsOf(NotificationStreamSession.class).size();
+    }
+
+    private String serialize(NotificationStreamEvent event, Long userId) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("알림 스트림 이벤트 직렬화 실패 - userId: {}", userId, e);
+            return null;
+        }
+    }
+}
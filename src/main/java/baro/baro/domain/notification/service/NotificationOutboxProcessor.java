@@ -0,0 +1,374 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.common.util.LocationUtil;
+import baro.baro.domain.notification.dto.outbox.InvitationCreatedPayload;
+import baro.baro.domain.notification.dto.outbox.InvitationRespondedPayload;
+import baro.baro.domain.notification.dto.outbox.MissingPersonFoundPayload;
+import baro.baro.domain.notification.dto.outbox.MissingPersonRegisteredPayload;
+import baro.baro.domain.notification.dto.outbox.NearbyAlertPayload;
+import baro.baro.domain.notification.entity.NotificationOutbox;
+import baro.baro.domain.notification.entity.OutboxStatus;
+import baro.baro.domain.notification.repository.NotificationOutboxRepository;
+import baro.baro.domain.notification.service.FcmBatchDispatcher.DeliveryResult;
+import baro.baro.domain.user.entity.User;
+import baro.baro.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 알림 아웃박스 처리기
+//
+// 1. 짧은 트랜잭션에서 처리 가능한 행을 FOR UPDATE SKIP LOCKED로 잠그고 PROCESSING으로 점유합니다.
+// 2. 점유한 행마다 별도 트랜잭션에서 앱내 알림을 저장하고 저장했음을 행에 표시합니다 (재시도 시 다시 저장하지 않음).
+// 3. 저장 트랜잭션이 커밋된 뒤 푸시 발송 경로(PushNotificationService)로 전달하고,
+//    점유 만료보다 짧은 제한 시간 안에서 기기별 전송 결과를 기다립니다.
+// 4. 모든 메시지가 전송되었거나 무효 토큰으로 영구 실패했으면 SENT로 표시하고,
+//    일시적 실패(대기열 가득 참, 서킷 오픈, 재시도 소진, 시간 초과 등)는 지수 백오프 후 재시도합니다.
+//    최대 시도 횟수를 넘으면 FAILED로 남깁니다.
+// 처리 도중 프로세스가 종료되면 점유 만료(lease) 이후 다른 인스턴스가 다시 처리합니다 (at-least-once).
+// 일부 기기만 일시적으로 실패한 행을 재시도하면 이미 받은 기기에도 푸시가 다시 발송될 수 있습니다.
+@Slf4j
+@Service
+public class NotificationOutboxProcessor {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UserRepository userRepository;
+    private final PushNotificationService pushNotificationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long leaseMillis;
+    private final long retryBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long deliveryTimeoutMillis;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Timer deliveryLagTimer;
+
+    public NotificationOutboxProcessor(
+            NotificationOutboxRepository notificationOutboxRepository,
+            UserRepository userRepository,
+            PushNotificationService pushNotificationService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${notification.outbox.batch-size:100}") int batchSize,             // 1회 점유 최대 행 수
+            @Value("${notification.outbox.max-attempts:5}") int maxAttempts,           // 최대 시도 횟수
+            @Value("${notification.outbox.lease-ms:60000}") long leaseMillis,          // 점유 만료 시간
+            @Value("${notification.outbox.retry-backoff-ms:5000}") long retryBackoffMillis,  // 첫 재시도 대기
+            @Value("${notification.outbox.max-backoff-ms:600000}") long maxBackoffMillis,    // 최대 재시도 대기
+            @Value("${notification.outbox.delivery-timeout-ms:30000}") long deliveryTimeoutMillis // 전송 결과 대기 시간
+    ) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.userRepository = userRepository;
+        this.pushNotificationService = pushNotificationService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.leaseMillis = Math.max(1000L, leaseMillis);
+        this.retryBackoffMillis = Math.max(0L, retryBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.retryBackoffMillis, maxBackoffMillis);
+        // 결과 확인과 상태 기록이 점유 만료 전에 끝나도록 점유 시간의 절반을 넘지 않게 합니다.
+        this.deliveryTimeoutMillis = Math.min(Math.max(0L, deliveryTimeoutMillis), this.leaseMillis / 2);
+
+        this.sentCounter = processedCounter(meterRegistry, "sent");
+        this.retryCounter = processedCounter(meterRegistry, "retry");
+        this.failedCounter = processedCounter(meterRegistry, "failed");
+        this.deliveryLagTimer = Timer.builder("notification_outbox_delivery_lag_seconds")
+                .description("아웃박스 기록부터 발송 완료까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    // 처리 가능한 아웃박스 행을 한 배치 처리합니다.
+    // 점유한 행을 모두 발송 경로에 전달한 뒤 전송 결과를 한 번에 기다리므로,
+    // 배치 전체의 대기 시간이 delivery-timeout-ms를 넘지 않습니다.
+    //
+    // @return 점유한 행 수 (batchSize와 같으면 대기 중인 행이 더 있을 수 있음)
+    public int processBatch() {
+        List<Long> ids = transactionTemplate.execute(status -> claimBatch());
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deliveryTimeoutMillis);
+        List<InFlight> inFlight = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            InFlight sent = send(id);
+            if (sent != null) {
+                inFlight.add(sent);
+            }
+        }
+        for (InFlight sent : inFlight) {
+            complete(sent, deadline);
+        }
+        return ids.size();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    private List<Long> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = notificationOutboxRepository.lockNextBatch(now, batchSize);
+        if (!ids.isEmpty()) {
+            notificationOutboxRepository.markProcessing(ids, now.plus(Duration.ofMillis(leaseMillis)));
+        }
+        return ids;
+    }
+
+    // 앱내 알림을 저장하고 커밋한 뒤 푸시 발송 경로에 전달합니다.
+    //
+    // @return 전송 결과를 기다릴 행 (발송하지 않았거나 실패를 기록했으면 null)
+    private InFlight send(Long id) {
+        Delivery delivery;
+        try {
+            delivery = transactionTemplate.execute(status ->
+                    notificationOutboxRepository.findById(id).map(this::prepare).orElse(null));
+        } catch (RuntimeException e) {
+            log.warn("알림 아웃박스 처리 실패 - id: {}, 오류: {}", id, e.getMessage());
+            recordFailure(id, e.toString());
+            return null;
+        }
+        if (delivery == null) {
+            return null;
+        }
+
+        try {
+            return new InFlight(id, delivery.push().get());
+        } catch (RuntimeException e) {
+            log.warn("알림 아웃박스 발송 실패 - id: {}, 오류: {}", id, e.getMessage());
+            recordFailure(id, e.toString());
+            return null;
+        }
+    }
+
+    // 발송할 내용을 준비하고, 아직 저장하지 않았으면 앱내 알림을 저장합니다.
+    //
+    // @return 발송할 푸시 (발송할 수 없으면 실패를 기록하고 null)
+    private Delivery prepare(NotificationOutbox outbox) {
+        Delivery delivery = dispatch(outbox);
+        if (delivery.skipReason() != null) {
+            // 재시도해도 해결되지 않는 경우 (사용자 삭제, payload 손상)
+            log.warn("알림 아웃박스 발송 불가 - id: {}, type: {}, 사유: {}",
+                    outbox.getId(), outbox.getEventType(), delivery.skipReason());
+            outbox.markFailure(delivery.skipReason(), 0, null);
+            failedCounter.increment();
+            return null;
+        }
+
+        if (!outbox.isInAppSaved()) {
+            delivery.saveInApp().run();
+            outbox.markInAppSaved();
+        }
+        return delivery;
+    }
+
+    // 전송 결과를 기다린 뒤 행의 처리 결과를 기록합니다.
+    private void complete(InFlight sent, long deadline) {
+        String transientError = awaitResults(sent.results(), deadline);
+        if (transientError != null) {
+            log.warn("알림 아웃박스 일시적 발송 실패 - id: {}, 오류: {}", sent.id(), transientError);
+            recordFailure(sent.id(), transientError);
+            return;
+        }
+        recordSent(sent.id());
+    }
+
+    // 기한까지 전송 결과를 기다립니다.
+    // 성공과 무효 토큰 실패(재시도해도 전송될 수 없음)는 완료로 보고, 그 밖의 실패는 일시적 실패로 봅니다.
+    //
+    // @return 일시적 실패 사유 (모두 완료되었으면 null)
+    private String awaitResults(List<CompletableFuture<DeliveryResult>> results, long deadline) {
+        String transientError = null;
+        for (CompletableFuture<DeliveryResult> result : results) {
+            DeliveryResult delivery;
+            try {
+                delivery = result.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return "DELIVERY_TIMEOUT";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return "INTERRUPTED";
+            } catch (ExecutionException e) {
+                transientError = String.valueOf(e.getCause());
+                continue;
+            }
+            if (!delivery.isSuccess() && !FcmTokenInvalidationService.isInvalidToken(delivery.errorCode())) {
+                transientError = delivery.errorType();
+            }
+        }
+        return transientError;
+    }
+
+    private void recordSent(Long id) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    notificationOutboxRepository.findById(id).ifPresent(outbox -> {
+                        outbox.markSent();
+                        sentCounter.increment();
+                        deliveryLagTimer.record(Duration.between(outbox.getCreatedAt(), outbox.getProcessedAt()));
+                    }));
+        } catch (RuntimeException e) {
+            // 기록하지 못하면 점유 만료 이후 다시 발송됩니다 (앱내 알림은 다시 저장하지 않음).
+            log.error("알림 아웃박스 완료 기록 실패 - id: {}", id, e);
+        }
+    }
+
+    // 이벤트 타입에 맞는 앱내 알림 저장과 푸시 발송을 준비합니다.
+    //
+    // @return 발송할 수 없으면 사유를 담은 Delivery
+    private Delivery dispatch(NotificationOutbox outbox) {
+        Object payload;
+        try {
+            payload = objectMapper.readValue(outbox.getPayload(), outbox.getEventType().getPayloadType());
+        } catch (JsonProcessingException e) {
+            return Delivery.skip("INVALID_PAYLOAD");
+        }
+
+        switch (outbox.getEventType()) {
+            case INVITATION_CREATED: {
+                InvitationCreatedPayload p = (InvitationCreatedPayload) payload;
+                User invitee = findUser(p.inviteeId());
+                User inviter = findUser(p.inviterId());
+                if (invitee == null || inviter == null) {
+                    return Delivery.skip("USER_NOT_FOUND");
+                }
+                return new Delivery(null,
+                        () -> pushNotificationService.saveInvitationNotification(
+                                invitee, inviter, p.relation(), p.invitationId()),
+                        () -> pushNotificationService.sendInvitationNotification(
+                                invitee, inviter, p.relation(), p.invitationId()));
+            }
+            case INVITATION_RESPONDED: {
+                InvitationRespondedPayload p = (InvitationRespondedPayload) payload;
+                User inviter = findUser(p.inviterId());
+                User invitee = findUser(p.inviteeId());
+                if (inviter == null || invitee == null) {
+                    return Delivery.skip("USER_NOT_FOUND");
+                }
+                return new Delivery(null,
+                        () -> pushNotificationService.saveInvitationResponseNotification(
+                                inviter, invitee, p.accepted(), p.relation()),
+                        () -> pushNotificationService.sendInvitationResponseNotification(
+                                inviter, invitee, p.accepted(), p.relation()));
+            }
+            case MISSING_PERSON_FOUND: {
+                MissingPersonFoundPayload p = (MissingPersonFoundPayload) payload;
+                User owner = findUser(p.ownerId());
+                if (owner == null) {
+                    return Delivery.skip("USER_NOT_FOUND");
+                }
+                return new Delivery(null,
+                        () -> pushNotificationService.saveMissingPersonFoundNotification(
+                                p.sightingId(), owner, p.missingPersonName(), p.reporterName(), p.address()),
+                        () -> pushNotificationService.sendMissingPersonFoundNotification(
+                                p.sightingId(), owner, p.missingPersonName(), p.reporterName(), p.address()));
+            }
+            case NEARBY_ALERT: {
+                NearbyAlertPayload p = (NearbyAlertPayload) payload;
+                User reporter = findUser(p.reporterId());
+                if (reporter == null) {
+                    return Delivery.skip("USER_NOT_FOUND");
+                }
+                Point location = p.latitude() != null && p.longitude() != null
+                        ? LocationUtil.createPoint(p.latitude(), p.longitude())
+                        : null;
+                return new Delivery(null,
+                        () -> pushNotificationService.saveNearbyAlertToReporter(
+                                reporter, p.missingPersonName(), p.distance(), location, p.missingPersonId()),
+                        () -> pushNotificationService.sendNearbyAlertToReporter(
+                                reporter, p.missingPersonName(), p.distance(), p.missingPersonId()));
+            }
+            case MISSING_PERSON_REGISTERED: {
+                MissingPersonRegisteredPayload p = (MissingPersonRegisteredPayload) payload;
+                if (p.latitude() == null || p.longitude() == null) {
+                    return Delivery.skip("LOCATION_NOT_FOUND");
+                }
+                // 지역 토픽 알림은 앱내 알림을 저장하지 않습니다.
+                return new Delivery(null, () -> { },
+                        () -> pushNotificationService.sendNewCaseRegionBroadcast(
+                                p.missingPersonId(), p.missingPersonName(), p.latitude(), p.longitude(), p.address()));
+            }
+            default:
+                return Delivery.skip("UNSUPPORTED_EVENT_TYPE");
+        }
+    }
+
+    private User findUser(Long userId) {
+        return userId == null ? null : userRepository.findById(userId).orElse(null);
+    }
+
+    private void recordFailure(Long id, String error) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    notificationOutboxRepository.findById(id).ifPresent(outbox -> {
+                        outbox.markFailure(error, maxAttempts,
+                                LocalDateTime.now().plus(Duration.ofMillis(backoffMillis(outbox.getAttempts()))));
+                        if (outbox.getStatus() == OutboxStatus.FAILED) {
+                            failedCounter.increment();
+                            log.error("알림 아웃박스 최종 실패 - id: {}, type: {}, 시도: {}",
+                                    id, outbox.getEventType(), outbox.getAttempts());
+                        } else {
+                            retryCounter.increment();
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            // 기록하지 못해도 점유 만료 이후 다시 처리됩니다.
+            log.error("알림 아웃박스 실패 기록 실패 - id: {}", id, e);
+        }
+    }
+
+    // 시도 횟수에 따른 재시도 대기 시간 (지수 백오프)
+    long backoffMillis(int attempts) {
+        int exponent = Math.min(Math.max(0, attempts - 1), 20);
+        return Math.min(maxBackoffMillis, retryBackoffMillis << exponent);
+    }
+
+    private static Counter processedCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("notification_outbox_processed_total")
+                .description("처리된 알림 아웃박스 행 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 이벤트 타입별 앱내 알림 저장과 푸시 발송
+    //
+    // @param skipReason 발송할 수 없는 사유 (발송 가능하면 null)
+    // @param saveInApp 앱내 알림 저장 (행 처리 트랜잭션 안에서 실행)
+    // @param push 푸시 발송 (커밋 후 실행, 메시지별 전송 결과 반환)
+    private record Delivery(String skipReason, Runnable saveInApp,
+                            Supplier<List<CompletableFuture<DeliveryResult>>> push) {
+
+        static Delivery skip(String reason) {
+            return new Delivery(reason, null, null);
+        }
+    }
+
+    // 전송 결과를 기다리는 행
+    private record InFlight(Long id, List<CompletableFuture<DeliveryResult>> results) {
+    }
+}
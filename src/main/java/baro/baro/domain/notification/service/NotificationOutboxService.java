@@ -0,0 +1,48 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.notification.entity.NotificationOutbox;
+import baro.baro.domain.notification.entity.OutboxEventType;
+import baro.baro.domain.notification.repository.NotificationOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 알림 아웃박스 기록 서비스
+//
+// 호출자의 트랜잭션에 참여해 아웃박스 행을 기록하므로, 비즈니스 변경이 커밋될 때만 알림이 발송 대상이 됩니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    // 아웃박스에 알림 이벤트를 기록합니다.
+    //
+    // @param eventType 이벤트 타입
+    // @param payload 이벤트 payload (eventType의 payload 타입)
+    // @return 기록된 아웃박스 행
+    @Transactional
+    public NotificationOutbox enqueue(OutboxEventType eventType, Object payload) {
+        if (!eventType.getPayloadType().isInstance(payload)) {
+            throw new IllegalArgumentException("payload 타입이 이벤트 타입과 일치하지 않습니다: " + eventType);
+        }
+
+        NotificationOutbox outbox = notificationOutboxRepository.save(
+                NotificationOutbox.create(eventType, serialize(payload)));
+        log.debug("알림 아웃박스 기록 - id: {}, type: {}", outbox.getId(), eventType);
+        return outbox;
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 payload 직렬화 실패", e);
+        }
+    }
+}
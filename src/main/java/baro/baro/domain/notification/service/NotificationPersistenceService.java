@@ -1,5 +1,7 @@
 package baro.baro.domain.notification.service;
 
+import baro.baro.domain.notification.dto.event.NotificationCreatedEvent;
+import baro.baro.domain.notification.dto.res.NotificationResponse;
 import baro.baro.domain.notification.entity.Notification;
 import baro.baro.domain.notification.entity.NotificationType;
 import baro.baro.domain.notification.repository.NotificationRepository;
@@ -7,19 +9,23 @@ import baro.baro.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Point;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 
 // 알림 저장 서비스
 //
-// 알림 이력을 데이터베이스에 저장합니다.
+// 알림 이력을 데이터베이스에 저장하고, 같은 트랜잭션에서 읽지 않은 알림 수를 증가시킵니다.
+// 저장된 알림은 NotificationCreatedEvent로 발행되어 커밋 후 알림 스트림으로 전달됩니다.
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationPersistenceService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationUnreadCounterService unreadCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 알림 이력을 데이터베이스에 저장합니다.
     //
@@ -40,6 +46,8 @@ public class NotificationPersistenceService {
                 .build();
 
         notificationRepository.save(notification);
+        unreadCounterService.increment(user.getId());
+        eventPublisher.publishEvent(new NotificationCreatedEvent(this, user.getId(), NotificationResponse.from(notification)));
         log.info("알림 이력 저장 완료 - 사용자: {}, 타입: {}", user.getName(), type);
     }
 
@@ -65,6 +73,8 @@ public class NotificationPersistenceService {
                 .build();
 
         notificationRepository.save(notification);
+        unreadCounterService.increment(user.getId());
+        eventPublisher.publishEvent(new NotificationCreatedEvent(this, user.getId(), NotificationResponse.from(notification)));
         log.info("알림 이력 저장 완료 (위치 포함) - 사용자: {}, 타입: {}, 관련 ID: {}",
                  user.getName(), type, relatedEntityId);
     }
@@ -0,0 +1,91 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.notification.entity.NotificationType;
+import baro.baro.domain.notification.repository.NotificationRetentionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 알림 보관 기간 정책 서비스
+//
+// 알림 타입별 보관 기간이 지난 알림을 청크 단위로 아카이브 테이블로 이동(또는 삭제)합니다.
+// 청크마다 별도 트랜잭션으로 처리해 잠금을 짧게 유지합니다.
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    private final NotificationRetentionRepository retentionRepository;
+    private final boolean archiveEnabled;
+    private final int chunkSize;
+
+    // 타입별 보관 기간 (일, 0 이하면 무기한 보관)
+    private final Map<NotificationType, Integer> retentionDays = new EnumMap<>(NotificationType.class);
+    private final Map<NotificationType, Counter> processedCounters = new EnumMap<>(NotificationType.class);
+
+    public NotificationRetentionService(
+            NotificationRetentionRepository retentionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${notification.retention.nearby-alert-days:30}") int nearbyAlertDays,
+            @Value("${notification.retention.invite-request-days:180}") int inviteRequestDays,
+            @Value("${notification.retention.found-report-days:365}") int foundReportDays,
+            @Value("${notification.retention.archive-enabled:true}") boolean archiveEnabled,  // false면 아카이브 없이 삭제
+            @Value("${notification.retention.chunk-size:1000}") int chunkSize                // 청크당 최대 건수
+    ) {
+        this.retentionRepository = retentionRepository;
+        this.archiveEnabled = archiveEnabled;
+        this.chunkSize = Math.max(1, chunkSize);
+
+        retentionDays.put(NotificationType.NEARBY_ALERT, nearbyAlertDays);
+        retentionDays.put(NotificationType.INVITE_REQUEST, inviteRequestDays);
+        retentionDays.put(NotificationType.FOUND_REPORT, foundReportDays);
+
+        String action = archiveEnabled ? "archive" : "delete";
+        for (NotificationType type : NotificationType.values()) {
+            processedCounters.put(type, Counter.builder("notification_retention_rows_total")
+                    .description("보관 기간 정책으로 정리된 알림 수")
+                    .tag("type", type.name())
+                    .tag("action", action)
+                    .register(meterRegistry));
+        }
+    }
+
+    // 타입별 보관 기준 시각을 계산합니다.
+    //
+    // @param type 알림 타입
+    // @param now 현재 시각
+    // @return 이 시각 이전에 생성된 알림이 정리 대상 (무기한 보관이면 empty)
+    public Optional<LocalDateTime> thresholdOf(NotificationType type, LocalDateTime now) {
+        int days = retentionDays.getOrDefault(type, 0);
+        return days > 0 ? Optional.of(now.minusDays(days)) : Optional.empty();
+    }
+
+    // 보관 기간이 지난 알림을 한 청크 정리합니다.
+    //
+    // @param type 알림 타입
+    // @param threshold 보관 기준 시각
+    // @return 정리된 알림 수 (chunkSize보다 작으면 남은 대상 없음)
+    @Transactional
+    public int processChunk(NotificationType type, LocalDateTime threshold) {
+        long processed = archiveEnabled
+                ? retentionRepository.archiveExpired(type.name(), threshold, chunkSize)
+                : retentionRepository.deleteExpired(type.name(), threshold, chunkSize);
+        processedCounters.get(type).increment(processed);
+        return (int) processed;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public boolean isArchiveEnabled() {
+        return archiveEnabled;
+    }
+}
@@ -12,17 +12,26 @@ import baro.baro.domain.missingperson.dto.res.SightingDetailResponse;
 import baro.baro.domain.notification.entity.Notification;
 import baro.baro.domain.notification.entity.NotificationType;
 import baro.baro.domain.notification.repository.NotificationRepository;
+import baro.baro.domain.notification.repository.NotificationSummary;
 import baro.baro.domain.common.util.SecurityUtil;
+import baro.baro.domain.notification.dto.res.NotificationBulkResponse;
+import baro.baro.domain.notification.dto.res.NotificationPageResponse;
 import baro.baro.domain.notification.dto.res.NotificationResponse;
 import baro.baro.domain.notification.exception.NotificationErrorCode;
 import baro.baro.domain.notification.exception.NotificationException;
 import baro.baro.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 // 알림 서비스 구현체 - 사용자의 알림 조회 및 관리
@@ -31,24 +40,61 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationServiceInterface {
 
+    // 알림 목록 페이지 최대 크기
+    static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
     private final MemberService memberService;
     private final MissingPersonService missingPersonService;
     private final SightingRepository sightingRepository;
+    private final NotificationUnreadCounterService unreadCounterService;
 
-    // 현재 로그인한 사용자의 모든 알림 조회
+    // 현재 로그인한 사용자의 모든 알림 조회 (최신순)
+    // 페이지 조회와 같은 인덱스 순서로 목록에 표시할 컬럼만 조회합니다.
     @Transactional(readOnly = true)
     public List<NotificationResponse> getMyNotifications() {
         User currentUser = SecurityUtil.getCurrentUser();
-        List<Notification> notifications = notificationRepository.findByUserOrderByCreatedAtDesc(currentUser);
+        List<NotificationSummary> rows = notificationRepository.findInboxFirstPage(currentUser.getId(), Pageable.unpaged());
 
-        log.info("사용자 {}의 알림 조회 - 총 {}건", currentUser.getName(), notifications.size());
+        log.info("사용자 {}의 알림 조회 - 총 {}건", currentUser.getName(), rows.size());
 
-        return notifications.stream()
+        return rows.stream()
                 .map(NotificationResponse::from)
                 .collect(Collectors.toList());
     }
 
+    // 현재 로그인한 사용자의 알림 조회 (최신순, 커서 기반 페이지네이션)
+    //
+    // @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+    // @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+    // @return 알림 목록과 다음 페이지 커서
+    @Transactional(readOnly = true)
+    public NotificationPageResponse getMyNotificationPage(String cursor, int size) {
+        User currentUser = SecurityUtil.getCurrentUser();
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<NotificationSummary> rows;
+        if (StringUtils.hasText(cursor)) {
+            NotificationCursor after = NotificationCursor.decode(cursor);
+            rows = notificationRepository.findInboxPageAfter(currentUser.getId(), after.createdAt(), after.id(), limit);
+        } else {
+            rows = notificationRepository.findInboxFirstPage(currentUser.getId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<NotificationSummary> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? NotificationCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        log.info("사용자 {}의 알림 조회 - {}건, 다음 페이지: {}", currentUser.getName(), page.size(), hasNext);
+
+        List<NotificationResponse> notifications = page.stream()
+                .map(NotificationResponse::from)
+                .collect(Collectors.toList());
+        return new NotificationPageResponse(notifications, nextCursor, hasNext);
+    }
+
     // 현재 로그인한 사용자의 읽지 않은 알림만 조회
     @Transactional(readOnly = true)
     public List<NotificationResponse> getUnreadNotifications() {
@@ -66,7 +112,7 @@ public class NotificationServiceImpl implements NotificationServiceInterface {
     @Transactional(readOnly = true)
     public long getUnreadCount() {
         User currentUser = SecurityUtil.getCurrentUser();
-        long unreadCount = notificationRepository.countUnreadByUser(currentUser);
+        long unreadCount = unreadCounterService.getUnreadCount(currentUser.getId());
 
         log.info("사용자 {}의 읽지 않은 알림 개수: {}", currentUser.getName(), unreadCount);
 
@@ -87,12 +133,50 @@ public class NotificationServiceImpl implements NotificationServiceInterface {
             throw new NotificationException(NotificationErrorCode.NOTIFICATION_NOT_OWNED_BY_USER);
         }
 
-        notification.markAsRead();
-        notificationRepository.save(notification);
+        markNotificationAsRead(notification, currentUser);
 
         log.info("알림 읽음 처리 완료 - 알림 ID: {}, 사용자: {}", notificationId, currentUser.getName());
     }
 
+    // 현재 로그인한 사용자의 읽지 않은 알림 전체 읽음 처리
+    @Transactional
+    public NotificationBulkResponse markAllAsRead() {
+        User currentUser = SecurityUtil.getCurrentUser();
+        int updated = notificationRepository.markAllAsRead(currentUser.getId(), LocalDateTime.now());
+        unreadCounterService.decrement(currentUser.getId(), updated);
+
+        log.info("알림 전체 읽음 처리 완료 - 사용자: {}, 처리: {}건", currentUser.getName(), updated);
+        return new NotificationBulkResponse(updated);
+    }
+
+    // 기준 알림과 그보다 먼저 생성된 알림 읽음 처리
+    // 기준 알림이 없거나 다른 사용자의 알림이면 아무것도 처리하지 않습니다.
+    @Transactional
+    public NotificationBulkResponse markAsReadUpTo(Long upToNotificationId) {
+        User currentUser = SecurityUtil.getCurrentUser();
+        int updated = notificationRepository.markAsReadUpTo(currentUser.getId(), upToNotificationId, LocalDateTime.now());
+        unreadCounterService.decrement(currentUser.getId(), updated);
+
+        log.info("알림 일괄 읽음 처리 완료 - 사용자: {}, 기준 알림 ID: {}, 처리: {}건",
+                currentUser.getName(), upToNotificationId, updated);
+        return new NotificationBulkResponse(updated);
+    }
+
+    // 현재 로그인한 사용자의 알림 일괄 삭제
+    // 다른 사용자의 알림 ID는 무시됩니다.
+    @Transactional
+    public NotificationBulkResponse deleteNotifications(List<Long> notificationIds) {
+        User currentUser = SecurityUtil.getCurrentUser();
+        Set<Long> ids = new HashSet<>(notificationIds);
+        int deletedUnread = notificationRepository.deleteOwnedByIdsAndReadState(currentUser.getId(), ids, false);
+        int deletedRead = notificationRepository.deleteOwnedByIdsAndReadState(currentUser.getId(), ids, true);
+        unreadCounterService.decrement(currentUser.getId(), deletedUnread);
+
+        int deleted = deletedUnread + deletedRead;
+        log.info("알림 일괄 삭제 완료 - 사용자: {}, 요청: {}건, 삭제: {}건", currentUser.getName(), ids.size(), deleted);
+        return new NotificationBulkResponse(deleted);
+    }
+
     // 알림을 통한 초대 수락
     @Transactional
     public AcceptInvitationResponse acceptInvitationFromNotification(Long notificationId, String relation) {
@@ -102,8 +186,7 @@ public class NotificationServiceImpl implements NotificationServiceInterface {
         AcceptInvitationResponse response = memberService.acceptInvitation(new AcceptInvitationRequest(notification.getRelatedEntityId(),relation));
 
         // 알림을 읽음 처리
-        notification.markAsRead();
-        notificationRepository.save(notification);
+        markNotificationAsRead(notification, currentUser);
 
         log.info("알림을 통한 초대 수락 완료 - 알림 ID: {}, 초대 ID: {}, 사용자: {}",
                 notificationId, notification.getRelatedEntityId(), currentUser.getName());
@@ -123,13 +206,20 @@ public class NotificationServiceImpl implements NotificationServiceInterface {
         memberService.rejectInvitation(request);
 
         // 알림을 읽음 처리
-        notification.markAsRead();
-        notificationRepository.save(notification);
+        markNotificationAsRead(notification, currentUser);
 
         log.info("알림을 통한 초대 거절 완료 - 알림 ID: {}, 초대 ID: {}, 사용자: {}",
                 notificationId, notification.getRelatedEntityId(), currentUser.getName());
     }
 
+    // 알림을 읽음 처리하고, 읽지 않은 상태였으면 읽지 않은 알림 수를 감소시킵니다.
+    private void markNotificationAsRead(Notification notification, User currentUser) {
+        if (notification.markAsRead()) {
+            unreadCounterService.decrement(currentUser.getId(), 1L);
+        }
+        notificationRepository.save(notification);
+    }
+
     // 알림을 통한 실종자 상세 조회
     @Transactional(readOnly = true)
     public MissingPersonDetailResponse getMissingPersonDetailFromNotification(Long notificationId) {
@@ -2,6 +2,8 @@ package baro.baro.domain.notification.service;
 
 import baro.baro.domain.member.dto.res.AcceptInvitationResponse;
 import baro.baro.domain.missingperson.dto.res.MissingPersonDetailResponse;
+import baro.baro.domain.notification.dto.res.NotificationBulkResponse;
+import baro.baro.domain.notification.dto.res.NotificationPageResponse;
 import baro.baro.domain.notification.dto.res.NotificationResponse;
 import baro.baro.domain.missingperson.dto.res.SightingDetailResponse;
 
@@ -13,6 +15,9 @@ public interface NotificationServiceInterface {
     // 현재 로그인한 사용자의 모든 알림 조회
     List<NotificationResponse> getMyNotifications();
 
+    // 현재 로그인한 사용자의 알림 조회 (최신순, 커서 기반 페이지네이션)
+    NotificationPageResponse getMyNotificationPage(String cursor, int size);
+
     // 현재 로그인한 사용자의 읽지 않은 알림만 조회
     List<NotificationResponse> getUnreadNotifications();
 
@@ -22,6 +27,15 @@ public interface NotificationServiceInterface {
     // 알림 읽음 처리
     void markAsRead(Long notificationId);
 
+    // 현재 로그인한 사용자의 읽지 않은 알림 전체 읽음 처리
+    NotificationBulkResponse markAllAsRead();
+
+    // 기준 알림과 그보다 먼저 생성된 알림 읽음 처리
+    NotificationBulkResponse markAsReadUpTo(Long upToNotificationId);
+
+    // 현재 로그인한 사용자의 알림 일괄 삭제
+    NotificationBulkResponse deleteNotifications(List<Long> notificationIds);
+
     // 알림을 통한 초대 수락
     AcceptInvitationResponse acceptInvitationFromNotification(Long notificationId, String relation);
 
@@ -0,0 +1,42 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.common.sse.SseSession;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+// 알림 스트림 연결 1개
+// 송신 대기열, 전송, 퇴출은 SseSession/SseConnectionManager가 처리합니다.
+// 위치 이벤트와 달리 알림 이벤트는 이전 이벤트를 대체하지 않으므로, 대기열이 가득 차면
+// 이벤트를 버리지 않고 연결을 퇴출합니다. 클라이언트는 재연결 시 INITIAL 이벤트로 상태를 맞춥니다.
+class NotificationStreamSession extends SseSession<String> {
+
+    private final SseEmitter emitter;
+
+    NotificationStreamSession(Long userId, SseEmitter emitter, int capacity) {
+        super(userId, emitter, capacity, OverflowPolicy.EVICT);
+        this.emitter = emitter;
+    }
+
+    @Override
+    protected String streamName() {
+        return "알림";
+    }
+
+    @Override
+    protected void write(String json) throws IOException {
+        emitter.send(SseEmitter.event()
+                .name("notification")
+                .data(json));
+    }
+
+    @Override
+    protected void closeTransport() {
+        emitter.complete();
+    }
+
+    @Override
+    protected void onWriteFailure(Exception cause) {
+        emitter.completeWithError(cause);
+    }
+}
@@ -0,0 +1,116 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.notification.dto.event.UnreadCountChangedEvent;
+import baro.baro.domain.notification.repository.NotificationRepository;
+import baro.baro.domain.notification.repository.NotificationUnreadCounterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+// 사용자별 읽지 않은 알림 수 관리 서비스
+//
+// 알림 저장/읽음 처리와 같은 트랜잭션에서 카운터를 증감하고, 조회는 카운터 단일 행으로 처리합니다.
+// 카운터가 아직 없는 사용자는 COUNT로 대체하며, 어긋난 값은 NotificationUnreadCounterScheduler가 보정합니다.
+// 카운터가 바뀌면 UnreadCountChangedEvent를 발행해 커밋 후 알림 스트림으로 전달합니다.
+@Slf4j
+@Service
+public class NotificationUnreadCounterService {
+
+    private final NotificationUnreadCounterRepository counterRepository;
+    private final NotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Counter counterHitCounter;
+    private final Counter countFallbackCounter;
+    private final Counter repairedCounter;
+
+    public NotificationUnreadCounterService(
+            NotificationUnreadCounterRepository counterRepository,
+            NotificationRepository notificationRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.counterRepository = counterRepository;
+        this.notificationRepository = notificationRepository;
+        this.eventPublisher = eventPublisher;
+        this.counterHitCounter = readCounter(meterRegistry, "counter");
+        this.countFallbackCounter = readCounter(meterRegistry, "count");
+        this.repairedCounter = Counter.builder("notification_unread_counter_repaired_total")
+                .description("정합성 검사로 보정된 읽지 않은 알림 카운터 수")
+                .register(meterRegistry);
+    }
+
+    // 알림 저장 후 호출합니다 (호출자 트랜잭션에 참여).
+    //
+    // @param userId 수신 사용자 ID
+    @Transactional
+    public void increment(Long userId) {
+        counterRepository.increment(userId, 1L);
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(this, userId));
+    }
+
+    // 읽지 않은 알림을 읽음 처리한 후 호출합니다 (호출자 트랜잭션에 참여).
+    //
+    // @param userId 사용자 ID
+    // @param count 읽음 처리된 알림 수
+    @Transactional
+    public void decrement(Long userId, long count) {
+        if (count <= 0) {
+            return;
+        }
+        counterRepository.decrement(userId, count);
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(this, userId));
+    }
+
+    // 사용자의 읽지 않은 알림 수를 조회합니다.
+    //
+    // @param userId 사용자 ID
+    // @return 읽지 않은 알림 수
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long userId) {
+        return counterRepository.findUnreadCount(userId)
+                .map(count -> {
+                    counterHitCounter.increment();
+                    return count;
+                })
+                .orElseGet(() -> {
+                    countFallbackCounter.increment();
+                    return notificationRepository.countUnreadByUserId(userId);
+                });
+    }
+
+    // 실제 읽지 않은 알림 수와 다른 카운터를 보정합니다.
+    // 카운터 행을 먼저 잠근 뒤 다시 세므로, 검사 도중 커밋된 증감을 덮어쓰지 않습니다.
+    //
+    // @param userIds 검사할 사용자 ID 목록
+    // @return 보정된 카운터 수
+    @Transactional
+    public int repairDrift(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> locked = counterRepository.lockCounters(userIds);
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        int repaired = counterRepository.repairDrift(locked);
+        if (repaired > 0) {
+            repairedCounter.increment(repaired);
+            log.warn("읽지 않은 알림 카운터 보정 - 검사: {}명, 보정: {}명", userIds.size(), repaired);
+        }
+        return repaired;
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("notification_unread_count_reads_total")
+                .description("읽지 않은 알림 수 조회 (counter: 카운터 행, count: COUNT 대체)")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -1,5 +1,6 @@
 package baro.baro.domain.notification.service;
 
+import baro.baro.domain.notification.service.FcmBatchDispatcher.DeliveryResult;
 import baro.baro.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,9 +8,15 @@ import org.locationtech.jts.geom.Point;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 // 푸시 알림 서비스 Facade
 // 기존 호출 코드와의 호환성을 유지하면서
 // 실제 구현을 전문화된 서비스들에 위임합니다.
+//
+// 알림마다 앱내 알림 저장(save*)과 푸시 발송(send*)을 따로 제공합니다.
+// save*는 호출한 트랜잭션에 참여하고, send*는 트랜잭션 밖에서 호출해 기기별 전송 결과를 돌려받습니다.
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -18,15 +25,38 @@ public class PushNotificationService {
     private final InvitationNotificationService invitationNotificationService;
     private final MissingPersonNotificationService missingPersonNotificationService;
 
+    // 초대 요청 앱내 알림을 저장합니다.
+    //
+    // @param invitee 초대받은 사용자
+    // @param inviter 초대한 사용자
+    // @param relation 관계
+    // @param invitationId 초대 ID
+    @Transactional
+    public void saveInvitationNotification(User invitee, User inviter, String relation, Long invitationId) {
+        invitationNotificationService.saveInvitationNotification(invitee, inviter, relation, invitationId);
+    }
+
     // 초대 요청 푸시 알림을 발송합니다.
     //
     // @param invitee 초대받은 사용자
     // @param inviter 초대한 사용자
     // @param relation 관계
     // @param invitationId 초대 ID
+    // @return 기기별 전송 결과
+    public List<CompletableFuture<DeliveryResult>> sendInvitationNotification(
+            User invitee, User inviter, String relation, Long invitationId) {
+        return invitationNotificationService.sendInvitationNotification(invitee, inviter, relation, invitationId);
+    }
+
+    // 초대 응답 앱내 알림을 저장합니다.
+    //
+    // @param inviter 초대한 사용자
+    // @param invitee 초대받은 사용자
+    // @param isAccepted 수락 여부
+    // @param relation 관계
     @Transactional
-    public void sendInvitationNotification(User invitee, User inviter, String relation, Long invitationId) {
-        invitationNotificationService.sendInvitationNotification(invitee, inviter, relation, invitationId);
+    public void saveInvitationResponseNotification(User inviter, User invitee, boolean isAccepted, String relation) {
+        invitationNotificationService.saveInvitationResponseNotification(inviter, invitee, isAccepted, relation);
     }
 
     // 초대 응답 푸시 알림을 발송합니다.
@@ -35,9 +65,28 @@ public class PushNotificationService {
     // @param invitee 초대받은 사용자
     // @param isAccepted 수락 여부
     // @param relation 관계
+    // @return 기기별 전송 결과
+    public List<CompletableFuture<DeliveryResult>> sendInvitationResponseNotification(
+            User inviter, User invitee, boolean isAccepted, String relation) {
+        return invitationNotificationService.sendInvitationResponseNotification(inviter, invitee, isAccepted, relation);
+    }
+
+    // 실종자 발견 신고 앱내 알림을 저장합니다.
+    //
+    // @param sightingId 목격 ID
+    // @param missingPersonOwner 실종자 등록자
+    // @param missingPersonName 실종자 이름
+    // @param reporterName 신고자 이름
+    // @param address 발견 위치 주소
     @Transactional
-    public void sendInvitationResponseNotification(User inviter, User invitee, boolean isAccepted, String relation) {
-        invitationNotificationService.sendInvitationResponseNotification(inviter, invitee, isAccepted, relation);
+    public void saveMissingPersonFoundNotification(
+            Long sightingId,
+            User missingPersonOwner,
+            String missingPersonName,
+            String reporterName,
+            String address) {
+        missingPersonNotificationService.saveMissingPersonFoundNotification(
+                sightingId, missingPersonOwner, missingPersonName, reporterName, address);
     }
 
     // 실종자 발견 신고 푸시 알림을 발송합니다.
@@ -47,18 +96,32 @@ public class PushNotificationService {
     // @param missingPersonName 실종자 이름
     // @param reporterName 신고자 이름
     // @param address 발견 위치 주소
-    @Transactional
-    public void sendMissingPersonFoundNotification(
+    // @return 기기별 전송 결과
+    public List<CompletableFuture<DeliveryResult>> sendMissingPersonFoundNotification(
             Long sightingId,
             User missingPersonOwner,
             String missingPersonName,
             String reporterName,
             String address) {
-        missingPersonNotificationService.sendMissingPersonFoundNotification(
+        return missingPersonNotificationService.sendMissingPersonFoundNotification(
                 sightingId, missingPersonOwner, missingPersonName, reporterName, address);
     }
 
-    // GPS 업데이트한 사용자에게 NEARBY_ALERT 푸시 알림을 발송합니다.
+    // 신규 실종자를 사건 위치 주변 지역 토픽으로 알립니다.
+    //
+    // @param missingPersonId 실종자 ID
+    // @param missingPersonName 실종자 이름
+    // @param latitude 실종 위치 위도
+    // @param longitude 실종 위치 경도
+    // @param address 실종 위치 주소
+    // @return 토픽별 전송 결과
+    public List<CompletableFuture<DeliveryResult>> sendNewCaseRegionBroadcast(
+            Long missingPersonId, String missingPersonName, double latitude, double longitude, String address) {
+        return missingPersonNotificationService.sendNewCaseRegionBroadcast(
+                missingPersonId, missingPersonName, latitude, longitude, address);
+    }
+
+    // NEARBY_ALERT 앱내 알림을 저장합니다.
     //
     // @param reporter GPS 업데이트한 사용자
     // @param missingPersonName 실종자 이름
@@ -66,10 +129,23 @@ public class PushNotificationService {
     // @param reporterLocation 사용자 현재 위치
     // @param missingPersonId 실종자 ID
     @Transactional
-    public void sendNearbyAlertToReporter(User reporter, String missingPersonName,
-                                           double distance, Point reporterLocation,
-                                           Long missingPersonId) {
-        missingPersonNotificationService.sendNearbyAlertToReporter(
+    public void saveNearbyAlertToReporter(User reporter, String missingPersonName,
+                                          double distance, Point reporterLocation,
+                                          Long missingPersonId) {
+        missingPersonNotificationService.saveNearbyAlertToReporter(
                 reporter, missingPersonName, distance, reporterLocation, missingPersonId);
     }
+
+    // GPS 업데이트한 사용자에게 NEARBY_ALERT 푸시 알림을 발송합니다.
+    //
+    // @param reporter GPS 업데이트한 사용자
+    // @param missingPersonName 실종자 이름
+    // @param distance 거리 (미터)
+    // @param missingPersonId 실종자 ID
+    // @return 기기별 전송 결과
+    public List<CompletableFuture<DeliveryResult>> sendNearbyAlertToReporter(
+            User reporter, String missingPersonName, double distance, Long missingPersonId) {
+        return missingPersonNotificationService.sendNearbyAlertToReporter(
+                reporter, missingPersonName, distance, missingPersonId);
+    }
 }
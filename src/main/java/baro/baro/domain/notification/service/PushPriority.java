@@ -0,0 +1,9 @@
+package baro.baro.domain.notification.service;
+
+// 푸시 알림 전송 우선순위
+// 우선순위마다 별도의 전송 레인(대기열, sender)을 사용하므로 대량 LOW 알림이 HIGH 알림을 지연시키지 않습니다.
+public enum PushPriority {
+    HIGH,   // 실종자 발견 등 긴급 사건 알림
+    NORMAL, // 초대 요청/응답
+    LOW     // 주변 실종자 알림 등 대량 발송
+}
@@ -0,0 +1,133 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.device.dto.event.DevicePushTargetChangedEvent;
+import baro.baro.domain.device.repository.DeviceRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자별 푸시 발송 대상 메모리 캐시
+// userId -> PushTargets(활성 기기 ID/FCM 토큰/플랫폼 배열)를 보관합니다.
+// 기기 등록, 토큰 갱신, 로그인/로그아웃, 무효 토큰 정리가 커밋되면 DevicePushTargetChangedEvent로 무효화됩니다.
+// 무효화 이벤트는 이 인스턴스에서 커밋된 변경만 받으므로, 다른 인스턴스의 변경은 TTL이 지나 다시 읽을 때 반영됩니다.
+// 최대 크기를 넘으면 최근에 덜 사용된 사용자부터 제거합니다.
+@Slf4j
+@Component
+public class PushTargetCache {
+
+    private final DeviceRepository deviceRepository;
+
+    private final Cache<Long, PushTargets> targets;
+
+    // 무효화 세대 - 조회 중 무효화가 일어나면 오래된 결과를 캐시에 넣지 않습니다.
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public PushTargetCache(
+            DeviceRepository deviceRepository,
+            MeterRegistry meterRegistry,
+            @Value("${notification.push-target-cache.max-size:100000}") int maxSize,   // 최대 캐시 사용자 수
+            @Value("${notification.push-target-cache.ttl-seconds:300}") long ttlSeconds // 항목 유지 시간
+    ) {
+        this(deviceRepository, meterRegistry, maxSize, Duration.ofSeconds(ttlSeconds), Ticker.systemTicker());
+    }
+
+    PushTargetCache(
+            DeviceRepository deviceRepository,
+            MeterRegistry meterRegistry,
+            int maxSize,
+            Duration ttl,
+            Ticker ticker
+    ) {
+        this.deviceRepository = deviceRepository;
+        this.targets = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, maxSize))
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .build();
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        Gauge.builder("push_target_cache_size", targets, Cache::estimatedSize)
+                .description("푸시 발송 대상이 캐시된 사용자 수")
+                .register(meterRegistry);
+    }
+
+    // 사용자의 푸시 발송 대상을 반환합니다.
+    //
+    // @param userId 사용자 ID
+    // @return 발송 대상 (없으면 PushTargets.EMPTY)
+    public PushTargets get(Long userId) {
+        PushTargets cached = targets.getIfPresent(userId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+
+        long observedGeneration = generation.get();
+        PushTargets loaded = PushTargets.from(deviceRepository.findPushTargetsByUserId(userId));
+        // 세대 확인과 저장을 같은 compute 안에서 수행해, 그 사이 무효화가 끼어들어 오래된 결과가 남지 않게 합니다.
+        // (무효화는 세대를 먼저 올리고 항목을 지우므로, compute 이후의 무효화는 저장된 항목을 지웁니다.)
+        PushTargets stored = targets.asMap().compute(userId, (key, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            return generation.get() == observedGeneration ? loaded : null;
+        });
+        return stored != null ? stored : loaded;
+    }
+
+    // 푸시 발송 대상 변경이 커밋되면 사용자의 캐시를 무효화합니다.
+    //
+    // @param event 푸시 발송 대상 변경 이벤트
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPushTargetChanged(DevicePushTargetChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    // 사용자의 캐시를 무효화합니다.
+    //
+    // @param userId 사용자 ID
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        targets.invalidate(userId);
+        log.debug("푸시 발송 대상 캐시 무효화 - userId: {}", userId);
+    }
+
+    // 전체 캐시를 무효화합니다.
+    public void evictAll() {
+        generation.incrementAndGet();
+        targets.invalidateAll();
+    }
+
+    // 캐시된 사용자 수
+    public long size() {
+        targets.cleanUp();
+        return targets.estimatedSize();
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("push_target_cache_requests_total")
+                .description("푸시 발송 대상 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
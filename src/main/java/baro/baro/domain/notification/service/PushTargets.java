@@ -0,0 +1,63 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.device.repository.DevicePushTarget;
+
+import java.util.List;
+
+// 사용자 한 명의 푸시 발송 대상 (불변)
+// 기기 ID, FCM 토큰, 플랫폼을 같은 인덱스의 배열로 보관해 캐시 항목당 객체 수를 줄입니다.
+public final class PushTargets {
+
+    public static final PushTargets EMPTY = new PushTargets(new long[0], new String[0], new String[0]);
+
+    private final long[] deviceIds;
+    private final String[] fcmTokens;
+    private final String[] platforms;
+
+    private PushTargets(long[] deviceIds, String[] fcmTokens, String[] platforms) {
+        this.deviceIds = deviceIds;
+        this.fcmTokens = fcmTokens;
+        this.platforms = platforms;
+    }
+
+    // 조회된 발송 대상 기기 목록으로부터 생성합니다.
+    //
+    // @param targets 발송 대상 기기 프로젝션
+    // @return 발송 대상 (비어 있으면 EMPTY)
+    public static PushTargets from(List<DevicePushTarget> targets) {
+        if (targets == null || targets.isEmpty()) {
+            return EMPTY;
+        }
+        int size = targets.size();
+        long[] deviceIds = new long[size];
+        String[] fcmTokens = new String[size];
+        String[] platforms = new String[size];
+        for (int i = 0; i < size; i++) {
+            DevicePushTarget target = targets.get(i);
+            deviceIds[i] = target.deviceId();
+            fcmTokens[i] = target.fcmToken();
+            platforms[i] = target.osType();
+        }
+        return new PushTargets(deviceIds, fcmTokens, platforms);
+    }
+
+    public int size() {
+        return deviceIds.length;
+    }
+
+    public boolean isEmpty() {
+        return deviceIds.length == 0;
+    }
+
+    public long deviceId(int index) {
+        return deviceIds[index];
+    }
+
+    public String fcmToken(int index) {
+        return fcmTokens[index];
+    }
+
+    public String platform(int index) {
+        return platforms[index];
+    }
+}
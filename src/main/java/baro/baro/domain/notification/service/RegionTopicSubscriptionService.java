@@ -0,0 +1,428 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.device.dto.event.DeviceRegionChangedEvent;
+import com.google.firebase.messaging.TopicManagementResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// FCM 지역 토픽 구독 관리 서비스
+//
+// 기기가 geohash 셀(정밀도 5, 약 4.9km)을 벗어날 때마다 region_<geohash> 토픽 구독을 옮깁니다.
+// 구독 변경은 기기별로 대기열에 모아 두었다가 주기적으로 토픽별 토큰 묶음(최대 1000개)으로 요청합니다.
+// - 같은 기기의 연속 변경은 하나로 합침 (A → B → C 이동은 A 해제 + C 구독 한 번)
+// - 1회 flush에서 보내는 FCM 요청 수를 제한하고, 남은 변경은 다음 flush로 미룸
+// - 요청 실패나 토큰별 일시 오류는 해당 기기의 변경만 지수 백오프로 다시 대기열에 적재
+// - 이전 셀 해제가 반영된 뒤에만 새 셀을 구독해, 재시도 중인 변경이 항상 "이전 셀 → 현재 셀" 형태를 유지
+// - 대기열이 가득 차면 GPS 셀 갱신 자체를 보류해, 다음 GPS 업데이트에서 다시 변경을 요청
+// 신규 실종자 알림은 사건 위치 셀과 주변 8개 셀 토픽으로 보내 토큰별 발송을 대신합니다.
+@Slf4j
+@Service
+public class RegionTopicSubscriptionService {
+
+    // 지역 토픽 geohash 정밀도 (바꾸면 기존 구독이 모두 무효가 되므로 고정)
+    public static final int REGION_PRECISION = 5;
+
+    // FCM 토픽 구독/해제 1회 최대 토큰 수
+    static final int FCM_MAX_TOKENS_PER_REQUEST = 1000;
+
+    private static final String TOPIC_PREFIX = "region_";
+
+    // 다시 요청하면 성공할 수 있는 토큰별 오류 (그 외 토큰 무효/토픽 초과 등은 재시도하지 않음)
+    private static final Set<String> RETRYABLE_ERRORS = Set.of("internal-error", "unknown-error");
+
+    private final FcmDispatchService fcmDispatchService;
+    private final int maxRequestsPerFlush;
+    private final int maxPending;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long maxBackoffMillis;
+    private final LongSupplier clock;
+
+    // 기기 ID -> 아직 FCM에 반영되지 않은 구독 변경
+    private final Map<Long, RegionChange> pending = new ConcurrentHashMap<>();
+
+    private final Counter subscribeSuccessCounter;
+    private final Counter subscribeFailureCounter;
+    private final Counter unsubscribeSuccessCounter;
+    private final Counter unsubscribeFailureCounter;
+    private final Counter retriedCounter;
+    private final Counter droppedCounter;
+    private final Counter postponedCounter;
+
+    @Autowired
+    public RegionTopicSubscriptionService(
+            FcmDispatchService fcmDispatchService,
+            MeterRegistry meterRegistry,
+            @Value("${fcm.region-topic.max-requests-per-flush:20}") int maxRequestsPerFlush, // flush 1회 최대 FCM 요청 수
+            @Value("${fcm.region-topic.max-pending:100000}") int maxPending,                 // 구독 변경 대기 기기 최대 수
+            @Value("${fcm.region-topic.max-attempts:8}") int maxAttempts,                    // 기기별 최대 시도 횟수
+            @Value("${fcm.region-topic.retry-backoff-ms:10000}") long retryBackoffMillis,    // 첫 재시도 대기
+            @Value("${fcm.region-topic.max-backoff-ms:600000}") long maxBackoffMillis        // 최대 재시도 대기
+    ) {
+        this(fcmDispatchService, meterRegistry, maxRequestsPerFlush, maxPending, maxAttempts,
+                retryBackoffMillis, maxBackoffMillis, System::currentTimeMillis);
+    }
+
+    RegionTopicSubscriptionService(
+            FcmDispatchService fcmDispatchService,
+            MeterRegistry meterRegistry,
+            int maxRequestsPerFlush,
+            int maxPending,
+            int maxAttempts,
+            long retryBackoffMillis,
+            long maxBackoffMillis,
+            LongSupplier clock
+    ) {
+        this.fcmDispatchService = fcmDispatchService;
+        this.maxRequestsPerFlush = Math.max(1, maxRequestsPerFlush);
+        this.maxPending = Math.max(1, maxPending);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = Math.max(0L, retryBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.retryBackoffMillis, maxBackoffMillis);
+        this.clock = clock;
+
+        this.subscribeSuccessCounter = tokenCounter(meterRegistry, "subscribe", "success");
+        this.subscribeFailureCounter = tokenCounter(meterRegistry, "subscribe", "failed");
+        this.unsubscribeSuccessCounter = tokenCounter(meterRegistry, "unsubscribe", "success");
+        this.unsubscribeFailureCounter = tokenCounter(meterRegistry, "unsubscribe", "failed");
+        this.retriedCounter = Counter.builder("fcm_region_topic_changes_retried_total")
+                .description("실패해 백오프 후 다시 요청하는 지역 토픽 구독 변경 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("fcm_region_topic_changes_dropped_total")
+                .description("최대 시도 횟수를 넘겨 버려진 지역 토픽 구독 변경 수")
+                .register(meterRegistry);
+        this.postponedCounter = Counter.builder("fcm_region_topic_changes_postponed_total")
+                .description("대기열이 가득 차 다음 GPS 업데이트로 미룬 지역 변경 수")
+                .register(meterRegistry);
+        Gauge.builder("fcm_region_topic_pending", pending, Map::size)
+                .description("지역 토픽 구독 변경 대기 중인 기기 수")
+                .register(meterRegistry);
+    }
+
+    // geohash 셀의 FCM 토픽 이름
+    //
+    // @param geohash geohash 셀
+    // @return 토픽 이름
+    public static String topicOf(String geohash) {
+        return TOPIC_PREFIX + geohash;
+    }
+
+    // GPS 셀 변경을 받을 수 있는지 확인합니다.
+    // 대기열이 가득 차면 false를 반환하고, 호출자는 기기의 셀을 갱신하지 않아 다음 GPS 업데이트에서 다시 시도합니다.
+    // 이미 대기 중인 기기는 변경이 합쳐지므로 항상 받습니다.
+    //
+    // @param deviceId 기기 ID
+    // @return 셀을 갱신해도 되면 true
+    public boolean admitRegionChange(Long deviceId) {
+        if (pending.size() < maxPending || pending.containsKey(deviceId)) {
+            return true;
+        }
+        postponedCounter.increment();
+        log.debug("지역 토픽 구독 변경 대기열 초과로 셀 갱신 보류 - deviceId: {}", deviceId);
+        return false;
+    }
+
+    // 기기 지역 변경이 커밋되면 구독 변경을 대기열에 적재합니다.
+    //
+    // @param event 기기 지역 변경 이벤트
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeviceRegionChanged(DeviceRegionChangedEvent event) {
+        request(new RegionChange(
+                event.getDeviceId(),
+                event.getPreviousFcmToken(),
+                event.getPreviousRegion() != null ? topicOf(event.getPreviousRegion()) : null,
+                event.getCurrentFcmToken(),
+                event.getCurrentRegion() != null ? topicOf(event.getCurrentRegion()) : null));
+    }
+
+    // 대기 중인 구독 변경을 토픽별로 묶어 FCM에 요청합니다.
+    //
+    // @return 처리한 기기 수
+    @Scheduled(fixedDelayString = "${fcm.region-topic.flush-interval-ms:10000}")
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        if (!fcmDispatchService.isFirebaseInitialized()) {
+            log.debug("Firebase가 초기화되지 않아 지역 토픽 구독 변경 {}건을 버립니다.", pending.size());
+            pending.clear();
+            return 0;
+        }
+
+        long now = clock.getAsLong();
+        List<RegionChange> changes = drainDue(now);
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        List<TopicRequest> requests = toRequests(changes);
+
+        // 해제를 먼저 보내 이동 중인 기기가 두 지역 알림을 함께 받는 시간을 줄입니다.
+        // 해제가 반영되지 않은 기기는 구독을 보내지 않고 변경 전체를 재시도합니다.
+        int sent = 0;
+        Set<RegionChange> unsubscribed = identitySet();
+        Set<RegionChange> subscribed = identitySet();
+        Set<RegionChange> failed = identitySet();
+        for (TopicRequest request : requests) {
+            List<RegionChange> targets = request.subscribe()
+                    ? readyToSubscribe(request.changes(), unsubscribed)
+                    : request.changes();
+            if (targets.isEmpty() || sent >= maxRequestsPerFlush) {
+                continue;
+            }
+            Set<RegionChange> requestFailed = execute(request.topic(), request.subscribe(), targets);
+            sent++;
+            failed.addAll(requestFailed);
+            // 재시도하지 않는 토큰 오류(무효 토큰 등)는 반영된 것으로 봅니다.
+            Set<RegionChange> applied = request.subscribe() ? subscribed : unsubscribed;
+            for (RegionChange change : targets) {
+                if (!requestFailed.contains(change)) {
+                    applied.add(change);
+                }
+            }
+        }
+
+        // 반영되지 않은 변경은 이후에 들어온 변경보다 앞선 것으로 합쳐 다시 적재합니다.
+        // 해제만 반영된 변경은 구독만 남긴 형태로 적재합니다.
+        int deferred = 0;
+        int retried = 0;
+        for (RegionChange change : changes) {
+            boolean unsubscribeDone = !change.unsubscribes() || unsubscribed.contains(change);
+            boolean subscribeDone = !change.subscribes() || subscribed.contains(change);
+            if (unsubscribeDone && subscribeDone) {
+                continue;
+            }
+            RegionChange remaining = unsubscribed.contains(change) ? change.withoutUnsubscribe() : change;
+            if (failed.contains(change)) {
+                if (retry(remaining, now)) {
+                    retried++;
+                }
+            } else {
+                request(remaining, true);
+                deferred++;
+            }
+        }
+
+        if (deferred > 0) {
+            log.info("지역 토픽 구독 변경 요청 한도 도달 - 요청: {}, 이월 기기 수: {}", sent, deferred);
+        }
+        if (retried > 0) {
+            log.info("지역 토픽 구독 변경 실패 - 재시도 예정 기기 수: {}", retried);
+        }
+        return changes.size() - deferred - retried;
+    }
+
+    // 구독 변경 대기 중인 기기 수
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    // 구독 변경을 대기열에 적재합니다. 같은 기기의 대기 중인 변경이 있으면 하나로 합칩니다.
+    void request(RegionChange change) {
+        request(change, false);
+    }
+
+    // 대기열 크기는 admitRegionChange로 GPS 셀 변경 단계에서 제한합니다.
+    // 토큰 갱신/로그아웃과 flush에서 이월된 변경은 버리면 구독 상태가 어긋나므로 항상 적재합니다.
+    //
+    // @param change 구독 변경
+    // @param deferred flush에서 이월된 변경이면 true (대기 중인 변경보다 앞선 것으로 합침)
+    private void request(RegionChange change, boolean deferred) {
+        if (change.deviceId() == null || change.isNoop()) {
+            return;
+        }
+        pending.compute(change.deviceId(), (deviceId, existing) -> {
+            RegionChange merged;
+            if (existing == null) {
+                merged = change;
+            } else {
+                merged = deferred ? change.then(existing) : existing.then(change);
+            }
+            return merged.isNoop() ? null : merged;
+        });
+    }
+
+    // 실패한 변경을 백오프 후 다시 요청하도록 적재합니다.
+    //
+    // @return 다시 적재했으면 true, 최대 시도 횟수를 넘겨 버렸으면 false
+    private boolean retry(RegionChange change, long now) {
+        int attempts = change.attempts() + 1;
+        if (attempts >= maxAttempts) {
+            droppedCounter.increment();
+            log.warn("지역 토픽 구독 변경 최대 시도 초과 - deviceId: {}, 시도: {}", change.deviceId(), attempts);
+            return false;
+        }
+        retriedCounter.increment();
+        request(change.retried(attempts, now + backoffMillis(attempts)), true);
+        return true;
+    }
+
+    // 시도 횟수에 따른 재시도 대기 시간 (지수 백오프)
+    long backoffMillis(int attempts) {
+        int exponent = Math.min(Math.max(0, attempts - 1), 20);
+        return Math.min(maxBackoffMillis, retryBackoffMillis << exponent);
+    }
+
+    // 재시도 대기 시간이 지난 변경만 꺼냅니다.
+    private List<RegionChange> drainDue(long now) {
+        List<RegionChange> changes = new ArrayList<>(pending.size());
+        for (Long deviceId : new ArrayList<>(pending.keySet())) {
+            RegionChange change = pending.get(deviceId);
+            if (change != null && change.retryAt() <= now && pending.remove(deviceId, change)) {
+                changes.add(change);
+            }
+        }
+        return changes;
+    }
+
+    // 이전 셀 해제가 필요 없거나 이미 반영된 변경만 구독 대상으로 남깁니다.
+    private static List<RegionChange> readyToSubscribe(List<RegionChange> changes, Set<RegionChange> unsubscribed) {
+        List<RegionChange> ready = new ArrayList<>(changes.size());
+        for (RegionChange change : changes) {
+            if (!change.unsubscribes() || unsubscribed.contains(change)) {
+                ready.add(change);
+            }
+        }
+        return ready;
+    }
+
+    private static Set<RegionChange> identitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    // 변경 목록을 토픽별 해제/구독 요청으로 묶습니다 (요청당 최대 1000개 토큰).
+    private List<TopicRequest> toRequests(List<RegionChange> changes) {
+        Map<String, List<RegionChange>> unsubscribes = new LinkedHashMap<>();
+        Map<String, List<RegionChange>> subscribes = new LinkedHashMap<>();
+        for (RegionChange change : changes) {
+            if (change.unsubscribes()) {
+                unsubscribes.computeIfAbsent(change.previousTopic(), topic -> new ArrayList<>()).add(change);
+            }
+            if (change.subscribes()) {
+                subscribes.computeIfAbsent(change.currentTopic(), topic -> new ArrayList<>()).add(change);
+            }
+        }
+
+        List<TopicRequest> requests = new ArrayList<>();
+        addRequests(requests, unsubscribes, false);
+        addRequests(requests, subscribes, true);
+        return requests;
+    }
+
+    private void addRequests(List<TopicRequest> requests, Map<String, List<RegionChange>> byTopic, boolean subscribe) {
+        for (Map.Entry<String, List<RegionChange>> entry : byTopic.entrySet()) {
+            List<RegionChange> topicChanges = entry.getValue();
+            for (int from = 0; from < topicChanges.size(); from += FCM_MAX_TOKENS_PER_REQUEST) {
+                int to = Math.min(from + FCM_MAX_TOKENS_PER_REQUEST, topicChanges.size());
+                requests.add(new TopicRequest(entry.getKey(), subscribe, topicChanges.subList(from, to)));
+            }
+        }
+    }
+
+    // 토픽 하나에 대한 구독 또는 해제를 요청합니다.
+    //
+    // @return 재시도가 필요한 변경 (요청 실패 시 전체, 일부 실패 시 일시 오류 토큰의 변경)
+    private Set<RegionChange> execute(String topic, boolean subscribe, List<RegionChange> changes) {
+        List<String> tokens = new ArrayList<>(changes.size());
+        for (RegionChange change : changes) {
+            tokens.add(subscribe ? change.currentToken() : change.previousToken());
+        }
+
+        Counter successCounter = subscribe ? subscribeSuccessCounter : unsubscribeSuccessCounter;
+        Counter failureCounter = subscribe ? subscribeFailureCounter : unsubscribeFailureCounter;
+        Set<RegionChange> failed = identitySet();
+        try {
+            TopicManagementResponse response = subscribe
+                    ? fcmDispatchService.subscribeToTopic(tokens, topic)
+                    : fcmDispatchService.unsubscribeFromTopic(tokens, topic);
+            successCounter.increment(response.getSuccessCount());
+            if (response.getFailureCount() > 0) {
+                failureCounter.increment(response.getFailureCount());
+                for (TopicManagementResponse.Error error : response.getErrors()) {
+                    int index = error.getIndex();
+                    if (index >= 0 && index < changes.size() && RETRYABLE_ERRORS.contains(error.getReason())) {
+                        failed.add(changes.get(index));
+                    }
+                }
+                log.debug("지역 토픽 {} 일부 실패 - 토픽: {}, 실패: {}/{}, 재시도: {}",
+                        subscribe ? "구독" : "해제", topic, response.getFailureCount(), tokens.size(), failed.size());
+            }
+        } catch (Exception e) {
+            // 요청 전체가 실패하면 모든 기기의 변경을 백오프 후 다시 요청합니다.
+            failureCounter.increment(tokens.size());
+            failed.addAll(changes);
+            log.warn("지역 토픽 {} 요청 실패 - 토픽: {}, 토큰 수: {}",
+                    subscribe ? "구독" : "해제", topic, tokens.size(), e);
+        }
+        return failed;
+    }
+
+    private static Counter tokenCounter(MeterRegistry meterRegistry, String operation, String result) {
+        return Counter.builder("fcm_region_topic_tokens_total")
+                .description("지역 토픽 구독/해제 요청 토큰 수")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 기기 하나의 구독 변경 (previous* 구독 해제, current* 구독)
+    // attempts/retryAt은 실패한 변경의 시도 횟수와 다음 요청 가능 시각(epoch millis)입니다.
+    record RegionChange(Long deviceId, String previousToken, String previousTopic,
+                        String currentToken, String currentTopic, int attempts, long retryAt) {
+
+        RegionChange(Long deviceId, String previousToken, String previousTopic,
+                     String currentToken, String currentTopic) {
+            this(deviceId, previousToken, previousTopic, currentToken, currentTopic, 0, 0L);
+        }
+
+        // 이 변경 이후 next가 일어난 것으로 합칩니다. 재시도 상태는 앞선 변경을 따릅니다.
+        RegionChange then(RegionChange next) {
+            return new RegionChange(deviceId, previousToken, previousTopic,
+                    next.currentToken(), next.currentTopic(), attempts, retryAt);
+        }
+
+        // 이전 구독 해제가 이미 반영된 변경
+        RegionChange withoutUnsubscribe() {
+            return new RegionChange(deviceId, null, null, currentToken, currentTopic, attempts, retryAt);
+        }
+
+        // 실패 후 retryAt 이후에 다시 요청할 변경
+        RegionChange retried(int attempts, long retryAt) {
+            return new RegionChange(deviceId, previousToken, previousTopic, currentToken, currentTopic, attempts, retryAt);
+        }
+
+        boolean isNoop() {
+            return Objects.equals(previousToken, currentToken) && Objects.equals(previousTopic, currentTopic);
+        }
+
+        boolean unsubscribes() {
+            return previousToken != null && previousTopic != null;
+        }
+
+        boolean subscribes() {
+            return currentToken != null && currentTopic != null;
+        }
+    }
+
+    // 토픽 하나에 대한 구독 또는 해제 요청
+    private record TopicRequest(String topic, boolean subscribe, List<RegionChange> changes) {
+    }
+}
@@ -3,13 +3,17 @@ package baro.baro.domain.ai.client;
 import baro.baro.domain.ai.exception.AiErrorCode;
 import baro.baro.domain.ai.exception.AiException;
 import baro.baro.domain.ai.processing.ImageProcessingService;
-import baro.baro.domain.ai.service.RateLimiter;
+import baro.baro.domain.ai.service.GeminiQuotaScheduler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -17,11 +21,15 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Base64;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,16 +38,26 @@ class GeminiApiClientTest {
     @Mock
     private ImageProcessingService imageProcessingService;
 
+    @Mock
+    private GeminiQuotaScheduler quotaScheduler;
+
+    @TempDir
+    Path tempDir;
+
     private GeminiApiClient geminiApiClient;
     private MockWebServer mockWebServer;
+    private Path sourceImage;
 
     @BeforeEach
     void setUp() throws IOException {
         mockWebServer = new MockWebServer();
         mockWebServer.start();
+        sourceImage = Files.write(tempDir.resolve("source.jpg"), "source-image".getBytes(StandardCharsets.UTF_8));
 
         WebClient webClient = WebClient.builder().build();
-        geminiApiClient = new GeminiApiClient(webClient, new RateLimiter(), imageProcessingService);
+        ObjectMapper objectMapper = new ObjectMapper();
+        geminiApiClient = new GeminiApiClient(webClient, quotaScheduler, new GeminiRequestBodyWriter(objectMapper),
+                new GeminiResponseReader(objectMapper), imageProcessingService);
 
         ReflectionTestUtils.setField(geminiApiClient, "geminiApiKey", "dummy-key");
         ReflectionTestUtils.setField(geminiApiClient, "geminiImageUrl", mockWebServer.url("/v1beta").toString());
@@ -79,22 +97,56 @@ class GeminiApiClientTest {
                 .addHeader("Content-Type", "application/json")
                 .setBody(body));
 
-        byte[] result = geminiApiClient.generateImage("input", "image/png", "prompt text");
+        byte[] result = geminiApiClient.generateImage(sourceImage, "image/png", "prompt text");
 
         assertThat(result).isEqualTo(Base64.getDecoder().decode(expectedBase64));
     }
 
+    @Test
+    void generateImageStreamsSourceFileAsInlineData() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .addHeader("Content-Type", "application/json")
+                .setBody("""
+                    {"candidates":[{"content":{"parts":[{"inlineData":{"mimeType":"image/png","data":"aW1n"}}]}}]}
+                    """));
+
+        geminiApiClient.generateImage(sourceImage, "image/jpeg", "prompt \"quoted\"");
+
+        RecordedRequest request = mockWebServer.takeRequest();
+        JsonNode body = new ObjectMapper().readTree(request.getBody().readUtf8());
+        JsonNode parts = body.path("contents").path(0).path("parts");
+        assertThat(parts.path(0).path("inlineData").path("mimeType").asText()).isEqualTo("image/jpeg");
+        assertThat(Base64.getDecoder().decode(parts.path(0).path("inlineData").path("data").asText()))
+                .isEqualTo(Files.readAllBytes(sourceImage));
+        assertThat(parts.path(1).path("text").asText()).isEqualTo("prompt \"quoted\"");
+        assertThat(request.getHeader("Content-Length")).isEqualTo(String.valueOf(request.getBodySize()));
+    }
+
     @Test
     void generateImageReturnsPlaceholderWhenApiKeyMissing() {
         byte[] placeholder = "fallback".getBytes(StandardCharsets.UTF_8);
         lenient().when(imageProcessingService.generatePlaceholderImage()).thenReturn(placeholder);
         ReflectionTestUtils.setField(geminiApiClient, "geminiApiKey", "");
 
-        byte[] result = geminiApiClient.generateImage("ignored", "image/png", "prompt");
+        byte[] result = geminiApiClient.generateImage(sourceImage, "image/png", "prompt");
 
         assertThat(result).isEqualTo(placeholder);
     }
 
+    @Test
+    void generateImageReturnsPlaceholderWithoutCallingApiWhenQuotaWaitTimesOut() {
+        byte[] placeholder = "fallback".getBytes(StandardCharsets.UTF_8);
+        when(imageProcessingService.generatePlaceholderImage()).thenReturn(placeholder);
+        when(quotaScheduler.acquire()).thenReturn(false);
+        ReflectionTestUtils.setField(geminiApiClient, "quotaCheckEnabled", true);
+
+        byte[] result = geminiApiClient.generateImage(sourceImage, "image/png", "prompt");
+
+        assertThat(result).isEqualTo(placeholder);
+        assertThat(mockWebServer.getRequestCount()).isZero();
+        verify(quotaScheduler, times(1)).acquire();
+    }
+
     @Test
     void generateImageThrowsWhenResponseHasNoImage() {
         String emptyBody = """
@@ -118,9 +170,39 @@ class GeminiApiClientTest {
                 .setBody(emptyBody));
 
         assertThatThrownBy(() ->
-                geminiApiClient.generateImage("input", "image/png", "prompt")
+                geminiApiClient.generateImage(sourceImage, "image/png", "prompt")
         ).isInstanceOf(AiException.class)
          .extracting(ex -> ((AiException) ex).getAiErrorCode())
          .isEqualTo(AiErrorCode.EMPTY_RESPONSE);
     }
+
+    @Test
+    void generateImageRetriesWhenFinishReasonIsNoImage() {
+        byte[] placeholder = "fallback".getBytes(StandardCharsets.UTF_8);
+        when(imageProcessingService.generatePlaceholderImage()).thenReturn(placeholder);
+        for (int i = 0; i < 2; i++) {
+            mockWebServer.enqueue(new MockResponse()
+                    .addHeader("Content-Type", "application/json")
+                    .setBody("{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"blocked\"}]},"
+                            + "\"finishReason\":\"NO_IMAGE\"}]}"));
+        }
+
+        byte[] result = geminiApiClient.generateImage(sourceImage, "image/png", "prompt");
+
+        assertThat(result).isEqualTo(placeholder);
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void generateImageReturnsPlaceholderWhenResponseIsNotJson() {
+        byte[] placeholder = "fallback".getBytes(StandardCharsets.UTF_8);
+        when(imageProcessingService.generatePlaceholderImage()).thenReturn(placeholder);
+        mockWebServer.enqueue(new MockResponse()
+                .addHeader("Content-Type", "application/json")
+                .setBody("<html>bad gateway</html>"));
+
+        byte[] result = geminiApiClient.generateImage(sourceImage, "image/png", "prompt");
+
+        assertThat(result).isEqualTo(placeholder);
+    }
 }
@@ -0,0 +1,74 @@
+package baro.baro.domain.ai.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiRequestBodyWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GeminiRequestBodyWriter writer = new GeminiRequestBodyWriter(objectMapper);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void imageEdit_encodesFileAcrossChunksIntoInlineData() throws Exception {
+        byte[] image = new byte[GeminiRequestBodyWriter.CHUNK_SIZE * 2 + 1];
+        new Random(42).nextBytes(image);
+        Path imagePath = Files.write(tempDir.resolve("large.jpg"), image);
+
+        GeminiRequestBodyWriter.RequestBody body = writer.imageEdit(imagePath, "image/jpeg", "prompt");
+        List<DataBuffer> buffers = body.content().collectList().block();
+
+        // 접두/접미 JSON과 이미지 청크 3개 (마지막 청크만 패딩)
+        assertThat(buffers).hasSize(5);
+        String json = join(buffers);
+        assertThat((long) json.getBytes(StandardCharsets.UTF_8).length).isEqualTo(body.contentLength());
+
+        JsonNode parts = objectMapper.readTree(json).path("contents").path(0).path("parts");
+        assertThat(Base64.getDecoder().decode(parts.path(0).path("inlineData").path("data").asText()))
+                .isEqualTo(image);
+        assertThat(parts.path(1).path("text").asText()).isEqualTo("prompt");
+        assertThat(objectMapper.readTree(json).path("generationConfig").path("responseModalities").path(0).asText())
+                .isEqualTo("Image");
+    }
+
+    @Test
+    void imageEdit_canBeSubscribedAgainForRetry() throws Exception {
+        Path imagePath = Files.write(tempDir.resolve("small.png"), "abcd".getBytes(StandardCharsets.UTF_8));
+
+        GeminiRequestBodyWriter.RequestBody body = writer.imageEdit(imagePath, "image/png", "prompt");
+
+        assertThat(join(body.content().collectList().block())).isEqualTo(join(body.content().collectList().block()));
+    }
+
+    @Test
+    void base64Length_matchesEncoderOutput() {
+        for (int size = 0; size < 10; size++) {
+            assertThat(GeminiRequestBodyWriter.base64Length(size))
+                    .isEqualTo(Base64.getEncoder().encode(new byte[size]).length);
+        }
+    }
+
+    private static String join(List<DataBuffer> buffers) {
+        StringBuilder json = new StringBuilder();
+        for (DataBuffer buffer : buffers) {
+            json.append(buffer.toString(StandardCharsets.UTF_8));
+            DataBufferUtils.release(buffer);
+        }
+        return json.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package baro.baro.domain.ai.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiResponseReaderTest {
+
+    private final GeminiResponseReader reader = new GeminiResponseReader(new ObjectMapper());
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void read_decodesFirstInlineImageAndSkipsOtherFields() throws Exception {
+        byte[] image = new byte[200_000];
+        new Random(7).nextBytes(image);
+        Path response = write("""
+                {"candidates":[{"content":{"role":"model","parts":[
+                    {"text":"here you go"},
+                    {"inlineData":{"mimeType":"image/png","data":"%s"}},
+                    {"inlineData":{"mimeType":"image/jpeg","data":"c2Vjb25k"}}]},
+                  "finishReason":"STOP","safetyRatings":[{"category":"x"}]},
+                  {"content":{"parts":[{"text":"second candidate"}]},"finishReason":"SAFETY"}],
+                 "usageMetadata":{"promptTokenCount":10}}
+                """.formatted(Base64.getEncoder().encodeToString(image)));
+
+        GeminiResponseReader.GeminiImageResult result = reader.read(response);
+
+        assertThat(result.image()).isEqualTo(image);
+        assertThat(result.mimeType()).isEqualTo("image/png");
+        assertThat(result.finishReason()).isEqualTo("STOP");
+        assertThat(result.textMessage()).isEqualTo("here you go");
+        assertThat(result.isBlockedByFilter()).isFalse();
+    }
+
+    @Test
+    void read_whenNoImage_returnsFinishReasonAndText() throws Exception {
+        Path response = write("""
+                {"candidates":[{"content":{"parts":[{"text":"policy warning"}]},"finishReason":"NO_IMAGE"}]}
+                """);
+
+        GeminiResponseReader.GeminiImageResult result = reader.read(response);
+
+        assertThat(result.hasImage()).isFalse();
+        assertThat(result.image()).isNull();
+        assertThat(result.isBlockedByFilter()).isTrue();
+        assertThat(result.textMessage()).isEqualTo("policy warning");
+    }
+
+    @Test
+    void read_whenInlineDataIsEmpty_reportsNoImage() throws Exception {
+        Path response = write("""
+                {"candidates":[{"content":{"parts":[{"inlineData":{"mimeType":"image/png","data":""}}]}}]}
+                """);
+
+        assertThat(reader.read(response).hasImage()).isFalse();
+    }
+
+    @Test
+    void read_whenBodyIsNotJsonObject_throws() throws Exception {
+        Path response = write("<html>bad gateway</html>");
+
+        assertThatThrownBy(() -> reader.read(response)).isInstanceOf(IOException.class);
+    }
+
+    private Path write(String json) throws IOException {
+        return Files.write(tempDir.resolve("response.json"), json.getBytes(StandardCharsets.UTF_8));
+    }
+}
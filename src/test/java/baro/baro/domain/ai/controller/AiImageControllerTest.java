@@ -1,11 +1,15 @@
 package baro.baro.domain.ai.controller;
 
 import baro.baro.config.JwtAuthenticationFilter;
+import baro.baro.domain.ai.dto.res.AiImageJobResponse;
 import baro.baro.domain.ai.dto.res.ApplyAiImageResponse;
+import baro.baro.domain.ai.entity.AiImageJobStatus;
 import baro.baro.domain.ai.dto.res.GenerateAiImageResponse;
 import baro.baro.domain.ai.entity.AssetType;
 import baro.baro.domain.ai.service.AiImageService;
+import baro.baro.domain.auth.service.JwtTokenProvider;
 import baro.baro.domain.common.monitoring.MetricsService;
+import baro.baro.domain.user.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,7 +29,9 @@ import java.util.Map;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -55,6 +61,12 @@ class AiImageControllerTest {
     @MockitoBean
     private MetricsService metricsService;
 
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
     @Test
     @DisplayName("AI 이미지 생성 성공 시 200과 이미지 URL 목록을 반환한다")
     void generateAiImage_success_returns200() throws Exception {
@@ -113,4 +125,47 @@ class AiImageControllerTest {
 
         verify(aiImageService).applySelectedImage(any());
     }
+
+    @Test
+    @DisplayName("AI 이미지 생성 작업 등록 시 202와 작업 ID, 조회 위치를 반환한다")
+    void submitAiImageJob_returns202WithJobLocation() throws Exception {
+        // Given
+        AiImageJobResponse response = new AiImageJobResponse();
+        response.setJobId("job-1");
+        response.setStatus(AiImageJobStatus.QUEUED);
+        response.setMissingPersonId(1L);
+        response.setAssetType(AssetType.AGE_PROGRESSION);
+        when(aiImageService.submitImageJob(any())).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/ai/images/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "missingPersonId", 1L,
+                                "assetType", "AGE_PROGRESSION"
+                        ))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/ai/images/jobs/job-1"))
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        verify(aiImageService).submitImageJob(any());
+    }
+
+    @Test
+    @DisplayName("AI 이미지 생성 작업 조회 시 200과 작업 상태를 반환한다")
+    void getAiImageJob_returns200() throws Exception {
+        // Given
+        AiImageJobResponse response = new AiImageJobResponse();
+        response.setJobId("job-1");
+        response.setStatus(AiImageJobStatus.SUCCEEDED);
+        response.setImageUrls(List.of("http://localhost:8080/images/ai/image1.png"));
+        when(aiImageService.getImageJob("job-1")).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/ai/images/jobs/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.imageUrls[0]").value("http://localhost:8080/images/ai/image1.png"));
+    }
 }
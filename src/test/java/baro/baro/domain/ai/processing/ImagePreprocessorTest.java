@@ -0,0 +1,148 @@
+package baro.baro.domain.ai.processing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImagePreprocessor 테스트")
+class ImagePreprocessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("큰 PNG - 긴 변을 최대 크기로 줄인 JPEG로 변환하고 다음 요청은 캐시 재사용")
+    void normalize_downscalesAndCachesByContentHash() throws IOException {
+        // given
+        ImagePreprocessor preprocessor = newPreprocessor(true);
+        SourceImage source = writeSource("large.png", encode(new BufferedImage(3000, 1500, BufferedImage.TYPE_INT_ARGB), "png"),
+                "image/png");
+
+        // when
+        SourceImage normalized = preprocessor.normalize(source);
+        SourceImage reused = preprocessor.normalize(source);
+
+        // then
+        BufferedImage result = ImageIO.read(normalized.path().toFile());
+        assertThat(normalized.mimeType()).isEqualTo("image/jpeg");
+        assertThat(normalized.path()).startsWith(tempDir.resolve("cache"));
+        assertThat(normalized.temporary()).isFalse();
+        assertThat(result.getWidth()).isEqualTo(1024);
+        assertThat(result.getHeight()).isEqualTo(512);
+        assertThat(normalized.contentHash()).isNotEqualTo(source.contentHash());
+        assertThat(reused.path()).isEqualTo(normalized.path());
+        assertThat(reused.contentHash()).isEqualTo(normalized.contentHash());
+        assertThat(meterRegistry.counter("ai_image_preprocess_total", "result", "cached").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("EXIF 회전(6) JPEG - 회전을 픽셀에 반영하고 메타데이터 제거")
+    void normalize_appliesExifOrientation() throws IOException {
+        // given
+        ImagePreprocessor preprocessor = newPreprocessor(true);
+        byte[] jpeg = withExifOrientation(encode(new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB), "jpeg"), 6);
+        SourceImage source = writeSource("rotated.jpg", jpeg, "image/jpeg");
+        assertThat(ImagePreprocessor.readExifOrientation(source.path())).isEqualTo(6);
+
+        // when
+        SourceImage normalized = preprocessor.normalize(source);
+
+        // then
+        BufferedImage result = ImageIO.read(normalized.path().toFile());
+        assertThat(result.getWidth()).isEqualTo(200);
+        assertThat(result.getHeight()).isEqualTo(400);
+        assertThat(ImagePreprocessor.readExifOrientation(normalized.path())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 형식 - 원본 그대로 사용")
+    void normalize_whenUndecodable_returnsOriginal() throws IOException {
+        // given
+        ImagePreprocessor preprocessor = newPreprocessor(true);
+        SourceImage source = writeSource("photo.webp", "not an image".getBytes(), "image/webp");
+
+        // when & then
+        assertThat(preprocessor.normalize(source)).isSameAs(source);
+        assertThat(meterRegistry.counter("ai_image_preprocess_total", "result", "skipped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("전처리 비활성화 - 원본 그대로 사용")
+    void normalize_whenDisabled_returnsOriginal() throws IOException {
+        // given
+        ImagePreprocessor preprocessor = newPreprocessor(false);
+        SourceImage source = writeSource("large.png", encode(new BufferedImage(3000, 1500, BufferedImage.TYPE_INT_RGB), "png"),
+                "image/png");
+
+        // when & then
+        assertThat(preprocessor.normalize(source)).isSameAs(source);
+        assertThat(tempDir.resolve("cache")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("보관 기간 동안 사용되지 않은 캐시 파일 정리")
+    void evictUnused_deletesStaleCacheFiles() throws IOException {
+        // given
+        ImagePreprocessor preprocessor = newPreprocessor(true);
+        Path cacheDir = Files.createDirectories(tempDir.resolve("cache"));
+        Path stale = Files.write(cacheDir.resolve("stale.jpg"), new byte[]{1});
+        Path recent = Files.write(cacheDir.resolve("recent.jpg"), new byte[]{1});
+        Files.setLastModifiedTime(stale, FileTime.from(Instant.now().minus(31, ChronoUnit.DAYS)));
+
+        // when & then
+        assertThat(preprocessor.evictUnused()).isEqualTo(1);
+        assertThat(stale).doesNotExist();
+        assertThat(recent).exists();
+    }
+
+    private ImagePreprocessor newPreprocessor(boolean enabled) {
+        return new ImagePreprocessor(meterRegistry, enabled, 1024, 0.85f, tempDir.resolve("cache").toString(), 30);
+    }
+
+    private SourceImage writeSource(String name, byte[] content, String mimeType) throws IOException {
+        Path path = Files.write(tempDir.resolve(name), content);
+        return new SourceImage(path, mimeType, content.length, "hash-" + name, false);
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+
+    // SOI 바로 뒤에 Orientation 태그 하나만 가진 APP1(Exif, big-endian) 세그먼트를 넣습니다.
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] exif = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        int length = exif.length + 2;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(jpeg, 0, 2);
+        output.write(0xFF);
+        output.write(0xE1);
+        output.write(length >> 8);
+        output.write(length & 0xFF);
+        output.write(exif, 0, exif.length);
+        output.write(jpeg, 2, jpeg.length - 2);
+        return output.toByteArray();
+    }
+}
@@ -2,6 +2,9 @@ package baro.baro.domain.ai.processing;
 
 import baro.baro.domain.ai.exception.AiErrorCode;
 import baro.baro.domain.ai.exception.AiException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,7 +14,10 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.HexFormat;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -111,37 +117,40 @@ class ImageProcessingServiceTest {
     }
 
     @Test
-    @DisplayName("로컬 파일에서 이미지 로드 성공 - Base64 반환")
-    void loadImageAsBase64_localFile_success() throws IOException {
+    @DisplayName("로컬 파일에서 이미지 로드 성공 - 원본 파일 경로와 내용 해시 반환")
+    void openSourceImage_localFile_success() throws Exception {
         // given
         Path testImagePath = tempDir.resolve("test-image.jpg");
         byte[] testImageBytes = "test image content".getBytes();
         Files.write(testImagePath, testImageBytes);
 
         // when
-        String base64 = imageProcessingService.loadImageAsBase64(testImagePath.toString());
-
-        // then
-        assertThat(base64).isNotBlank();
-        byte[] decodedBytes = Base64.getDecoder().decode(base64);
-        assertThat(decodedBytes).isEqualTo(testImageBytes);
+        try (SourceImage source = imageProcessingService.openSourceImage(testImagePath.toString())) {
+            // then
+            assertThat(source.path()).isEqualTo(testImagePath);
+            assertThat(source.mimeType()).isEqualTo("image/jpeg");
+            assertThat(source.size()).isEqualTo(testImageBytes.length);
+            assertThat(source.contentHash()).isEqualTo(sha256Hex(testImageBytes));
+            assertThat(source.temporary()).isFalse();
+        }
+        assertThat(testImagePath).exists();
     }
 
     @Test
     @DisplayName("로컬 파일 없음 - IMAGE_FILE_NOT_FOUND 예외 발생")
-    void loadImageAsBase64_localFile_notFound() {
+    void openSourceImage_localFile_notFound() {
         // given
         String nonExistentPath = tempDir.resolve("non-existent.jpg").toString();
 
         // when & then
-        assertThatThrownBy(() -> imageProcessingService.loadImageAsBase64(nonExistentPath))
+        assertThatThrownBy(() -> imageProcessingService.openSourceImage(nonExistentPath))
                 .isInstanceOf(AiException.class)
                 .hasFieldOrPropertyWithValue("aiErrorCode", AiErrorCode.IMAGE_FILE_NOT_FOUND);
     }
 
     @Test
     @DisplayName("서버 로컬 경로에서 이미지 로드 성공 (/images/ 경로)")
-    void loadImageAsBase64_serverLocalPath_success() throws IOException {
+    void openSourceImage_serverLocalPath_success() throws IOException {
         // given
         Path imagesDir = tempDir.resolve("images");
         Files.createDirectories(imagesDir);
@@ -152,65 +161,88 @@ class ImageProcessingServiceTest {
         String serverUrl = "http://localhost:8080/images/test.jpg";
 
         // when
-        String base64 = imageProcessingService.loadImageAsBase64(serverUrl);
-
-        // then
-        assertThat(base64).isNotBlank();
-        byte[] decodedBytes = Base64.getDecoder().decode(base64);
-        assertThat(decodedBytes).isEqualTo(testImageBytes);
+        try (SourceImage source = imageProcessingService.openSourceImage(serverUrl)) {
+            // then
+            assertThat(Files.readAllBytes(source.path())).isEqualTo(testImageBytes);
+            assertThat(source.temporary()).isFalse();
+        }
     }
 
     @Test
     @DisplayName("서버 로컬 파일 없음 - IMAGE_FILE_NOT_FOUND 예외 발생")
-    void loadImageAsBase64_serverLocalPath_notFound() {
+    void openSourceImage_serverLocalPath_notFound() {
         // given
         String serverUrl = "http://localhost:8080/images/non-existent.jpg";
 
         // when & then
-        assertThatThrownBy(() -> imageProcessingService.loadImageAsBase64(serverUrl))
+        assertThatThrownBy(() -> imageProcessingService.openSourceImage(serverUrl))
                 .isInstanceOf(AiException.class)
                 .hasFieldOrPropertyWithValue("aiErrorCode", AiErrorCode.IMAGE_FILE_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("외부 HTTP URL 이미지 - 임시 파일로 내려받고 close() 시 삭제")
+    void openSourceImage_externalUrl_downloadsToTemporaryFile() throws Exception {
+        // given
+        byte[] remoteBytes = "remote image content".getBytes();
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(new Buffer().write(remoteBytes)));
+            server.start();
+            String remoteUrl = server.url("/photos/remote.png").toString();
+
+            // when
+            SourceImage source = imageProcessingService.openSourceImage(remoteUrl);
+
+            // then
+            assertThat(source.temporary()).isTrue();
+            assertThat(source.mimeType()).isEqualTo("image/png");
+            assertThat(Files.readAllBytes(source.path())).isEqualTo(remoteBytes);
+            assertThat(source.contentHash()).isEqualTo(sha256Hex(remoteBytes));
+
+            source.close();
+            assertThat(source.path()).doesNotExist();
+        }
+    }
+
     @Test
     @DisplayName("외부 HTTP URL에서 이미지 로드 실패 - IMAGE_LOAD_FAILED 예외 발생")
-    void loadImageAsBase64_externalUrl_failed() {
+    void openSourceImage_externalUrl_failed() {
         // given
         String invalidUrl = "http://invalid-domain-that-does-not-exist-12345.com/image.jpg";
 
         // when & then
-        assertThatThrownBy(() -> imageProcessingService.loadImageAsBase64(invalidUrl))
+        assertThatThrownBy(() -> imageProcessingService.openSourceImage(invalidUrl))
                 .isInstanceOf(AiException.class)
                 .hasFieldOrPropertyWithValue("aiErrorCode", AiErrorCode.IMAGE_LOAD_FAILED);
     }
 
     @Test
     @DisplayName("잘못된 프로토콜 URL - IMAGE_FILE_NOT_FOUND 예외 발생 (로컬 파일로 취급됨)")
-    void loadImageAsBase64_invalidProtocol() {
+    void openSourceImage_invalidProtocol() {
         // given
         String invalidUrl = "ftp://example.com/image.jpg";
 
         // when & then
         // FTP 프로토콜은 http/https가 아니므로 로컬 파일 경로로 취급되어 IMAGE_FILE_NOT_FOUND 발생
-        assertThatThrownBy(() -> imageProcessingService.loadImageAsBase64(invalidUrl))
+        assertThatThrownBy(() -> imageProcessingService.openSourceImage(invalidUrl))
                 .isInstanceOf(AiException.class)
                 .hasFieldOrPropertyWithValue("aiErrorCode", AiErrorCode.IMAGE_FILE_NOT_FOUND);
     }
 
     @Test
     @DisplayName("빈 파일 경로 - 예외 발생")
-    void loadImageAsBase64_emptyPath() {
+    void openSourceImage_emptyPath() {
         // given
         String emptyPath = "";
 
         // when & then
-        assertThatThrownBy(() -> imageProcessingService.loadImageAsBase64(emptyPath))
+        assertThatThrownBy(() -> imageProcessingService.openSourceImage(emptyPath))
                 .isInstanceOf(AiException.class);
     }
 
     @Test
     @DisplayName("다양한 이미지 포맷 로드 성공")
-    void loadImageAsBase64_variousFormats() throws IOException {
+    void openSourceImage_variousFormats() throws IOException {
         // given
         String[] formats = {"test.jpg", "test.jpeg", "test.png", "test.gif", "test.webp"};
 
@@ -220,18 +252,17 @@ class ImageProcessingServiceTest {
             Files.write(imagePath, imageBytes);
 
             // when
-            String base64 = imageProcessingService.loadImageAsBase64(imagePath.toString());
-
-            // then
-            assertThat(base64).isNotBlank();
-            byte[] decodedBytes = Base64.getDecoder().decode(base64);
-            assertThat(decodedBytes).isEqualTo(imageBytes);
+            try (SourceImage source = imageProcessingService.openSourceImage(imagePath.toString())) {
+                // then
+                assertThat(source.mimeType()).isEqualTo(imageProcessingService.detectMimeType(format));
+                assertThat(Files.readAllBytes(source.path())).isEqualTo(imageBytes);
+            }
         }
     }
 
     @Test
-    @DisplayName("큰 이미지 파일 로드 성공")
-    void loadImageAsBase64_largeFile() throws IOException {
+    @DisplayName("큰 이미지 파일 로드 성공 - 파일을 메모리에 올리지 않고 크기와 해시만 계산")
+    void openSourceImage_largeFile() throws Exception {
         // given
         Path largeImagePath = tempDir.resolve("large-image.jpg");
         byte[] largeImageBytes = new byte[1024 * 1024]; // 1MB
@@ -241,31 +272,14 @@ class ImageProcessingServiceTest {
         Files.write(largeImagePath, largeImageBytes);
 
         // when
-        String base64 = imageProcessingService.loadImageAsBase64(largeImagePath.toString());
-
-        // then
-        assertThat(base64).isNotBlank();
-        byte[] decodedBytes = Base64.getDecoder().decode(base64);
-        assertThat(decodedBytes).hasSize(largeImageBytes.length);
+        try (SourceImage source = imageProcessingService.openSourceImage(largeImagePath.toString())) {
+            // then
+            assertThat(source.size()).isEqualTo(largeImageBytes.length);
+            assertThat(source.contentHash()).isEqualTo(sha256Hex(largeImageBytes));
+        }
     }
 
-    @Test
-    @DisplayName("Base64 인코딩 결과 검증")
-    void loadImageAsBase64_validBase64Format() throws IOException {
-        // given
-        Path testImagePath = tempDir.resolve("test.jpg");
-        byte[] testBytes = "Hello, World!".getBytes();
-        Files.write(testImagePath, testBytes);
-
-        // when
-        String base64 = imageProcessingService.loadImageAsBase64(testImagePath.toString());
-
-        // then
-        assertThat(base64).isNotBlank();
-        assertThat(base64).matches("^[A-Za-z0-9+/]+=*$"); // Base64 패턴 검증
-
-        // 디코딩 가능 여부 확인
-        assertThatCode(() -> Base64.getDecoder().decode(base64))
-                .doesNotThrowAnyException();
+    private static String sha256Hex(byte[] bytes) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
     }
 }
@@ -0,0 +1,80 @@
+package baro.baro.domain.ai.service;
+
+import baro.baro.domain.ai.exception.AiErrorCode;
+import baro.baro.domain.ai.exception.AiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiCallExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+
+    @Test
+    void supplyAsync_runsCallOnExecutorAndTracksQueuedAndActive() {
+        AiCallExecutor executor = new AiCallExecutor(meterRegistry, queuedTasks::add);
+        List<Double> activeDuringCall = new ArrayList<>();
+
+        CompletableFuture<String> future = executor.supplyAsync(() -> {
+            activeDuringCall.add(gauge("ai_call_executor_active"));
+            return "image";
+        });
+
+        assertThat(future).isNotDone();
+        assertThat(gauge("ai_call_executor_queued")).isEqualTo(1.0);
+        queuedTasks.forEach(Runnable::run);
+
+        assertThat(future.join()).isEqualTo("image");
+        assertThat(activeDuringCall).containsExactly(1.0);
+        assertThat(gauge("ai_call_executor_queued")).isZero();
+        assertThat(gauge("ai_call_executor_active")).isZero();
+        assertThat(submissions("accepted")).isEqualTo(1.0);
+    }
+
+    @Test
+    void supplyAsync_whenCallFails_releasesActiveSlot() {
+        AiCallExecutor executor = new AiCallExecutor(meterRegistry, Runnable::run);
+
+        CompletableFuture<String> future = executor.supplyAsync(() -> {
+            throw new AiException(AiErrorCode.API_CALL_FAILED);
+        });
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(AiException.class);
+        assertThat(gauge("ai_call_executor_active")).isZero();
+    }
+
+    @Test
+    void supplyAsync_whenExecutorRejects_returnsQueueFullFailure() {
+        AiCallExecutor executor = new AiCallExecutor(meterRegistry, task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        CompletableFuture<String> future = executor.supplyAsync(() -> "image");
+
+        assertThatThrownBy(future::join)
+                .hasCauseInstanceOf(AiException.class)
+                .satisfies(e -> assertThat(((AiException) e.getCause()).getAiErrorCode())
+                        .isEqualTo(AiErrorCode.IMAGE_JOB_QUEUE_FULL));
+        assertThat(gauge("ai_call_executor_queued")).isZero();
+        assertThat(submissions("rejected")).isEqualTo(1.0);
+        assertThat(submissions("accepted")).isZero();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double submissions(String result) {
+        return meterRegistry.get("ai_call_executor_submissions_total").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,113 @@
+package baro.baro.domain.ai.service;
+
+import baro.baro.domain.ai.entity.AiGenerationCache;
+import baro.baro.domain.ai.entity.AssetType;
+import baro.baro.domain.ai.repository.AiGenerationCacheRepository;
+import baro.baro.domain.image.service.ImageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AiGenerationCacheServiceTest {
+
+    @Mock
+    private AiGenerationCacheRepository cacheRepository;
+
+    @Mock
+    private ImageService imageService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiGenerationCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheService = new AiGenerationCacheService(cacheRepository, imageService, meterRegistry, true, 90);
+    }
+
+    @Test
+    void keyOf_differsByEveryComponent() {
+        String source = "source-hash";
+        String key = cacheService.keyOf(source, "model", AssetType.AGE_PROGRESSION, 0, "prompt");
+
+        assertThat(key).hasSize(64)
+                .isEqualTo(cacheService.keyOf(source, "model", AssetType.AGE_PROGRESSION, 0, "prompt"))
+                .isNotEqualTo(cacheService.keyOf("other-hash", "model", AssetType.AGE_PROGRESSION, 0, "prompt"))
+                .isNotEqualTo(cacheService.keyOf(source, "model-2", AssetType.AGE_PROGRESSION, 0, "prompt"))
+                .isNotEqualTo(cacheService.keyOf(source, "model", AssetType.GENERATED_IMAGE, 0, "prompt"))
+                .isNotEqualTo(cacheService.keyOf(source, "model", AssetType.AGE_PROGRESSION, 1, "prompt"))
+                .isNotEqualTo(cacheService.keyOf(source, "model", AssetType.AGE_PROGRESSION, 0, "prompt2"));
+    }
+
+    @Test
+    void find_whenStoredFileExists_recordsHitAndReturnsUrl() {
+        AiGenerationCache cached = AiGenerationCache.create("key", AssetType.AGE_PROGRESSION, "model", "http://cdn/a.png");
+        when(cacheRepository.findById("key")).thenReturn(Optional.of(cached));
+        when(imageService.existsStoredImage("http://cdn/a.png")).thenReturn(true);
+
+        assertThat(cacheService.find("key")).contains("http://cdn/a.png");
+        verify(cacheRepository).recordHit(eq("key"), any(LocalDateTime.class));
+        assertThat(meterRegistry.counter("ai_generation_cache_requests_total", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void find_whenStoredFileMissing_deletesEntryAndMisses() {
+        AiGenerationCache cached = AiGenerationCache.create("key", AssetType.AGE_PROGRESSION, "model", "http://cdn/a.png");
+        when(cacheRepository.findById("key")).thenReturn(Optional.of(cached));
+        when(imageService.existsStoredImage("http://cdn/a.png")).thenReturn(false);
+
+        assertThat(cacheService.find("key")).isEmpty();
+        verify(cacheRepository).delete(cached);
+        verify(cacheRepository, never()).recordHit(any(), any());
+        assertThat(meterRegistry.counter("ai_generation_cache_requests_total", "result", "stale").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void find_whenDisabled_skipsRepository() {
+        AiGenerationCacheService disabled =
+                new AiGenerationCacheService(cacheRepository, imageService, meterRegistry, false, 90);
+
+        assertThat(disabled.find("key")).isEmpty();
+        disabled.put("key", AssetType.AGE_PROGRESSION, "model", "http://cdn/a.png");
+        verifyNoInteractions(cacheRepository, imageService);
+    }
+
+    @Test
+    void put_whenKeyAlreadyStored_keepsFirstUrl() {
+        // ON CONFLICT (cache_key) DO NOTHING 동작을 흉내 내는 저장소
+        Map<String, AiGenerationCache> rows = new HashMap<>();
+        when(cacheRepository.insertIfAbsent(anyString(), anyString(), anyString(), anyString(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    String key = invocation.getArgument(0);
+                    AiGenerationCache row = AiGenerationCache.create(key,
+                            AssetType.valueOf(invocation.getArgument(1)), invocation.getArgument(2), invocation.getArgument(3));
+                    return rows.putIfAbsent(key, row) == null ? 1 : 0;
+                });
+        when(cacheRepository.findById("key")).thenAnswer(invocation -> Optional.ofNullable(rows.get("key")));
+        when(imageService.existsStoredImage("http://cdn/first.png")).thenReturn(true);
+
+        cacheService.put("key", AssetType.AGE_PROGRESSION, "model", "http://cdn/first.png");
+        cacheService.put("key", AssetType.AGE_PROGRESSION, "model", "http://cdn/second.png");
+
+        assertThat(cacheService.find("key")).contains("http://cdn/first.png");
+        verify(cacheRepository, never()).save(any(AiGenerationCache.class));
+    }
+}
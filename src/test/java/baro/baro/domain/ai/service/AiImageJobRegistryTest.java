@@ -0,0 +1,132 @@
+package baro.baro.domain.ai.service;
+
+import baro.baro.domain.ai.entity.AiImageJobStatus;
+import baro.baro.domain.ai.entity.AssetType;
+import baro.baro.domain.ai.exception.AiErrorCode;
+import baro.baro.domain.ai.exception.AiException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AiImageJobRegistryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+
+    @Test
+    void submit_runsGenerationOnWorkerAndStoresResult() {
+        AiImageJobRegistry registry = newRegistry(3_600_000L);
+
+        AiImageJob job = registry.submit(1L, 10L, AssetType.AGE_PROGRESSION, () -> List.of("url1", "url2", "url3"));
+
+        assertThat(job.getStatus()).isEqualTo(AiImageJobStatus.QUEUED);
+        runQueuedTasks();
+        assertThat(registry.find(job.getId())).isSameAs(job);
+        assertThat(job.getStatus()).isEqualTo(AiImageJobStatus.SUCCEEDED);
+        assertThat(job.getImageUrls()).containsExactly("url1", "url2", "url3");
+        assertThat(job.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void submit_whenSameTargetInProgress_returnsExistingJob() {
+        AiImageJobRegistry registry = newRegistry(3_600_000L);
+
+        AiImageJob first = registry.submit(1L, 10L, AssetType.AGE_PROGRESSION, () -> List.of("url"));
+        AiImageJob second = registry.submit(2L, 10L, AssetType.AGE_PROGRESSION, () -> List.of("other"));
+        AiImageJob otherType = registry.submit(1L, 10L, AssetType.GENERATED_IMAGE, () -> List.of("appearance"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(otherType).isNotSameAs(first);
+        assertThat(queuedTasks).hasSize(2);
+    }
+
+    @Test
+    void submit_whenGenerationFails_marksJobFailedWithErrorCode() {
+        AiImageJobRegistry registry = newRegistry(3_600_000L);
+
+        AiImageJob job = registry.submit(1L, 10L, AssetType.AGE_PROGRESSION, () -> {
+            throw new AiException(AiErrorCode.INSUFFICIENT_IMAGES_GENERATED);
+        });
+        runQueuedTasks();
+
+        assertThat(job.getStatus()).isEqualTo(AiImageJobStatus.FAILED);
+        assertThat(job.getErrorCode()).isEqualTo(AiErrorCode.INSUFFICIENT_IMAGES_GENERATED.name());
+        assertThat(job.getImageUrls()).isEmpty();
+    }
+
+    @Test
+    void submit_whenWorkerQueueFull_throwsAndForgetsJob() {
+        AiImageJobRegistry registry = new AiImageJobRegistry(objectMapper, new SimpleMeterRegistry(), task -> {
+            throw new RejectedExecutionException("full");
+        }, 3_600_000L);
+
+        assertThatThrownBy(() -> registry.submit(1L, 10L, AssetType.AGE_PROGRESSION, List::of))
+                .isInstanceOfSatisfying(AiException.class, e ->
+                        assertThat(e.getAiErrorCode()).isEqualTo(AiErrorCode.IMAGE_JOB_QUEUE_FULL));
+        assertThat(registry.evictExpired()).isZero();
+    }
+
+    @Test
+    void subscribe_sendsCompletionWhenJobFinishes() throws Exception {
+        AiImageJobRegistry registry = newRegistry(3_600_000L);
+        AiImageJob job = registry.submit(1L, 10L, AssetType.GENERATED_IMAGE, () -> List.of("appearance"));
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        registry.subscribe(job, emitter);
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+
+        runQueuedTasks();
+        verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).complete();
+        assertThat(job.getEmitters()).isEmpty();
+    }
+
+    @Test
+    void subscribe_whenJobAlreadyDone_sendsCompletionImmediately() throws Exception {
+        AiImageJobRegistry registry = newRegistry(3_600_000L);
+        AiImageJob job = registry.submit(1L, 10L, AssetType.GENERATED_IMAGE, () -> List.of("appearance"));
+        runQueuedTasks();
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        registry.subscribe(job, emitter);
+
+        verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).complete();
+        assertThat(job.getEmitters()).isEmpty();
+    }
+
+    @Test
+    void evictExpired_removesOnlyCompletedJobsPastRetention() {
+        AiImageJobRegistry registry = newRegistry(0L);
+        AiImageJob done = registry.submit(1L, 10L, AssetType.AGE_PROGRESSION, () -> List.of("url"));
+        runQueuedTasks();
+        AiImageJob pending = registry.submit(1L, 11L, AssetType.AGE_PROGRESSION, () -> List.of("url"));
+
+        assertThat(registry.evictExpired()).isEqualTo(1);
+        assertThat(registry.find(done.getId())).isNull();
+        assertThat(registry.find(pending.getId())).isSameAs(pending);
+    }
+
+    private AiImageJobRegistry newRegistry(long retentionMillis) {
+        return new AiImageJobRegistry(objectMapper, new SimpleMeterRegistry(), queuedTasks::add, retentionMillis);
+    }
+
+    private void runQueuedTasks() {
+        List<Runnable> tasks = new ArrayList<>(queuedTasks);
+        queuedTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
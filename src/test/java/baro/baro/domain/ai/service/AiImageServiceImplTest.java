@@ -2,6 +2,7 @@ package baro.baro.domain.ai.service;
 
 import baro.baro.domain.ai.dto.req.ApplyAiImageRequest;
 import baro.baro.domain.ai.dto.req.GenerateAiImageRequest;
+import baro.baro.domain.ai.dto.res.AiImageJobResponse;
 import baro.baro.domain.ai.dto.res.ApplyAiImageResponse;
 import baro.baro.domain.ai.dto.res.GenerateAiImageResponse;
 import baro.baro.domain.ai.entity.AssetType;
@@ -16,20 +17,24 @@ import baro.baro.domain.user.entity.User;
 import baro.baro.domain.user.entity.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +49,12 @@ class AiImageServiceImplTest {
     @Mock
     private GoogleGenAiService googleGenAiService;
 
+    @Mock
+    private AiImageJobRegistry aiImageJobRegistry;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private AiImageServiceImpl aiImageService;
 
@@ -92,6 +103,55 @@ class AiImageServiceImplTest {
         }
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void submitImageJobRegistersJobThatGeneratesAndSavesAssets() {
+        MissingPerson missingPerson = createMissingPerson();
+        MissingCase missingCase = createMissingCase(missingPerson);
+        User owner = missingCase.getReportedBy();
+        AiImageJob job = new AiImageJob(owner.getId(), 11L, AssetType.AGE_PROGRESSION);
+        when(missingCaseRepository.findByMissingPersonId(11L)).thenReturn(Optional.of(missingCase));
+        when(aiImageJobRegistry.submit(eq(owner.getId()), eq(11L), eq(AssetType.AGE_PROGRESSION), any()))
+                .thenReturn(job);
+
+        GenerateAiImageRequest request = GenerateAiImageRequest.create(11L, AssetType.AGE_PROGRESSION);
+
+        try (MockedStatic<baro.baro.domain.common.util.SecurityUtil> mockedStatic = mockStatic(baro.baro.domain.common.util.SecurityUtil.class)) {
+            mockedStatic.when(baro.baro.domain.common.util.SecurityUtil::getCurrentUser)
+                    .thenReturn(owner);
+
+            AiImageJobResponse response = aiImageService.submitImageJob(request);
+
+            assertThat(response.getJobId()).isEqualTo(job.getId());
+            verifyNoInteractions(googleGenAiService, aiAssetRepository);
+        }
+
+        // 작업자 스레드에서 실행될 생성 작업
+        ArgumentCaptor<Supplier<List<String>>> generation = ArgumentCaptor.forClass(Supplier.class);
+        verify(aiImageJobRegistry).submit(eq(owner.getId()), eq(11L), eq(AssetType.AGE_PROGRESSION), generation.capture());
+        when(googleGenAiService.generateImages(missingPerson, AssetType.AGE_PROGRESSION))
+                .thenReturn(List.of("url1", "url2", "url3"));
+        when(aiAssetRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(generation.getValue().get()).containsExactly("url1", "url2", "url3");
+        verify(aiAssetRepository, times(3)).save(any());
+    }
+
+    @Test
+    void getImageJobThrowsWhenJobBelongsToAnotherUser() {
+        AiImageJob job = new AiImageJob(1L, 12L, AssetType.AGE_PROGRESSION);
+        when(aiImageJobRegistry.find(job.getId())).thenReturn(job);
+
+        try (MockedStatic<baro.baro.domain.common.util.SecurityUtil> mockedStatic = mockStatic(baro.baro.domain.common.util.SecurityUtil.class)) {
+            mockedStatic.when(baro.baro.domain.common.util.SecurityUtil::getCurrentUser)
+                    .thenReturn(createUser(99L));
+
+            assertThatThrownBy(() -> aiImageService.getImageJob(job.getId()))
+                    .isInstanceOfSatisfying(AiException.class, e ->
+                            assertThat(e.getAiErrorCode()).isEqualTo(AiErrorCode.IMAGE_JOB_NOT_FOUND));
+        }
+    }
+
     @Test
     void applySelectedImageUpdatesPredictedUrlForAgeProgression() {
         MissingPerson missingPerson = createMissingPerson();
@@ -0,0 +1,154 @@
+package baro.baro.domain.ai.service;
+
+import baro.baro.domain.ai.entity.AiQuotaBucket;
+import baro.baro.domain.ai.repository.AiQuotaBucketRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GeminiQuotaSchedulerTest {
+
+    private static final ZoneId RESET_ZONE = ZoneId.of("America/Los_Angeles");
+    private static final Instant START = Instant.parse("2026-10-19T10:00:00Z");
+
+    @Mock
+    private AiQuotaBucketRepository bucketRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Duration> pauses = new ArrayList<>();
+    private Instant now = START;
+
+    @Test
+    void acquire_whenTokensAvailable_grantsImmediately() {
+        AiQuotaBucket bucket = AiQuotaBucket.create(GeminiQuotaScheduler.BUCKET_KEY, 2, START, RESET_ZONE);
+        when(bucketRepository.findForUpdate(GeminiQuotaScheduler.BUCKET_KEY)).thenReturn(Optional.of(bucket));
+        GeminiQuotaScheduler scheduler = newScheduler(2, 100, Duration.ofSeconds(30));
+
+        assertThat(scheduler.acquire()).isTrue();
+        assertThat(scheduler.acquire()).isTrue();
+
+        assertThat(pauses).isEmpty();
+        assertThat(bucket.getDailyUsed()).isEqualTo(2);
+        assertThat(meterRegistry.counter("ai_quota_acquire_total", "result", "granted").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void acquire_whenMinuteBucketEmpty_waitsForRefillInsteadOfFailing() {
+        AiQuotaBucket bucket = AiQuotaBucket.create(GeminiQuotaScheduler.BUCKET_KEY, 10, START, RESET_ZONE);
+        when(bucketRepository.findForUpdate(GeminiQuotaScheduler.BUCKET_KEY)).thenReturn(Optional.of(bucket));
+        GeminiQuotaScheduler scheduler = newScheduler(10, 100, Duration.ofSeconds(30));
+        for (int i = 0; i < 10; i++) {
+            assertThat(scheduler.acquire()).isTrue();
+        }
+
+        assertThat(scheduler.acquire()).isTrue();
+
+        // 10 RPM이면 토큰 하나가 6초마다 충전됩니다.
+        assertThat(pauses).containsExactly(Duration.ofSeconds(6));
+        assertThat(bucket.getDailyUsed()).isEqualTo(11);
+    }
+
+    @Test
+    void acquire_whenWaitExceedsDeadline_returnsFalseWithoutWaiting() {
+        AiQuotaBucket bucket = AiQuotaBucket.create(GeminiQuotaScheduler.BUCKET_KEY, 1, START, RESET_ZONE);
+        when(bucketRepository.findForUpdate(GeminiQuotaScheduler.BUCKET_KEY)).thenReturn(Optional.of(bucket));
+        GeminiQuotaScheduler scheduler = newScheduler(1, 100, Duration.ofSeconds(5));
+        assertThat(scheduler.acquire()).isTrue();
+
+        assertThat(scheduler.acquire()).isFalse();
+
+        assertThat(pauses).isEmpty();
+        assertThat(meterRegistry.counter("ai_quota_acquire_total", "result", "timeout").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void acquire_whenDailyQuotaExhausted_failsUntilResetZoneMidnight() {
+        AiQuotaBucket bucket = AiQuotaBucket.create(GeminiQuotaScheduler.BUCKET_KEY, 10, START, RESET_ZONE);
+        when(bucketRepository.findForUpdate(GeminiQuotaScheduler.BUCKET_KEY)).thenReturn(Optional.of(bucket));
+        GeminiQuotaScheduler scheduler = newScheduler(10, 2, Duration.ofSeconds(30));
+        assertThat(scheduler.acquire()).isTrue();
+        assertThat(scheduler.acquire()).isTrue();
+
+        assertThat(scheduler.acquire()).isFalse();
+
+        // 태평양 시간 자정(= 07:00Z, 서머타임)이 지나면 일일 사용량이 초기화됩니다.
+        now = Instant.parse("2026-10-20T07:00:00Z");
+        assertThat(scheduler.acquire()).isTrue();
+        assertThat(bucket.getDailyUsed()).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_whenBucketMissing_createsFullBucket() {
+        AiQuotaBucket created = AiQuotaBucket.create(GeminiQuotaScheduler.BUCKET_KEY, 10, START, RESET_ZONE);
+        when(bucketRepository.findForUpdate(GeminiQuotaScheduler.BUCKET_KEY))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(created));
+        GeminiQuotaScheduler scheduler = newScheduler(10, 100, Duration.ofSeconds(30));
+
+        assertThat(scheduler.acquire()).isTrue();
+
+        verify(bucketRepository).insertIfAbsent(eq(GeminiQuotaScheduler.BUCKET_KEY), anyDouble(), any(), any());
+        assertThat(created.getTokens()).isEqualTo(9.0);
+    }
+
+    @Test
+    void acquire_whenQuotaStoreFails_deniesRequest() {
+        when(bucketRepository.findForUpdate(GeminiQuotaScheduler.BUCKET_KEY))
+                .thenThrow(new QueryTimeoutException("lock timeout"));
+        GeminiQuotaScheduler scheduler = newScheduler(10, 100, Duration.ofSeconds(30));
+
+        assertThat(scheduler.acquire()).isFalse();
+        assertThat(meterRegistry.counter("ai_quota_acquire_total", "result", "error").count()).isEqualTo(1.0);
+    }
+
+    private GeminiQuotaScheduler newScheduler(int rpm, int rpd, Duration maxWait) {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+        return new GeminiQuotaScheduler(bucketRepository, transactionManager, meterRegistry, clock,
+                rpm, rpd, maxWait, RESET_ZONE) {
+            @Override
+            void pause(Duration wait) {
+                pauses.add(wait);
+                now = now.plus(wait);
+            }
+        };
+    }
+}
@@ -4,13 +4,16 @@ import baro.baro.domain.ai.client.GeminiApiClient;
 import baro.baro.domain.ai.entity.AssetType;
 import baro.baro.domain.ai.exception.AiErrorCode;
 import baro.baro.domain.ai.exception.AiException;
+import baro.baro.domain.ai.processing.ImagePreprocessor;
 import baro.baro.domain.ai.processing.ImageProcessingService;
+import baro.baro.domain.ai.processing.SourceImage;
 import baro.baro.domain.ai.prompt.PromptGeneratorService;
 import baro.baro.domain.ai.service.generator.AgeProgressionGenerationStrategy;
 import baro.baro.domain.ai.service.generator.DescriptionImageGenerationStrategy;
 import baro.baro.domain.common.monitoring.MetricsService;
 import baro.baro.domain.image.service.ImageService;
 import baro.baro.domain.missingperson.entity.MissingPerson;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,12 +23,17 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,28 +55,41 @@ class GoogleGenAiServiceTest {
     @Mock
     private ImageProcessingService imageProcessingService;
 
+    @Mock
+    private AiGenerationCacheService generationCacheService;
+
+    @Mock
+    private ImagePreprocessor imagePreprocessor;
+
     private GoogleGenAiService googleGenAiService;
 
     @BeforeEach
     void setupMocks() {
-        when(imageProcessingService.loadImageAsBase64(anyString())).thenReturn("base64");
-        when(imageProcessingService.detectMimeType(anyString())).thenReturn("image/png");
+        when(imageProcessingService.openSourceImage(anyString()))
+                .thenReturn(new SourceImage(Path.of("source.png"), "image/png", 5L, "source-hash", false));
+        when(imagePreprocessor.normalize(any(SourceImage.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(promptGeneratorService.buildAgeProgressionPrompt(any(MissingPerson.class), anyString()))
                 .thenReturn("prompt");
         when(promptGeneratorService.buildDescriptionPrompt(any(MissingPerson.class)))
                 .thenReturn("prompt");
-        when(geminiApiClient.generateImage(anyString(), anyString(), anyString()))
+        when(geminiApiClient.generateImage(any(Path.class), anyString(), anyString()))
                 .thenReturn("image".getBytes(StandardCharsets.UTF_8));
 
+        when(geminiApiClient.getModel()).thenReturn("gemini-2.5-flash-image");
+        when(generationCacheService.keyOf(anyString(), anyString(), any(AssetType.class), anyInt(), anyString()))
+                .thenAnswer(invocation -> "key-" + invocation.getArgument(2) + "-" + invocation.getArgument(3));
+
         AtomicInteger counter = new AtomicInteger();
         when(imageService.saveImageFromBytes(any(byte[].class), anyString(), anyString()))
                 .thenAnswer(invocation -> "http://cdn/" + counter.getAndIncrement());
 
         AgeProgressionGenerationStrategy ageStrategy = new AgeProgressionGenerationStrategy(
-                geminiApiClient, imageProcessingService, promptGeneratorService, imageService, metricsService
+                geminiApiClient, imageProcessingService, promptGeneratorService, imageService, metricsService,
+                generationCacheService, imagePreprocessor, new AiCallExecutor(new SimpleMeterRegistry(), Runnable::run)
         );
         DescriptionImageGenerationStrategy descriptionStrategy = new DescriptionImageGenerationStrategy(
-                geminiApiClient, imageProcessingService, promptGeneratorService, imageService, metricsService
+                geminiApiClient, imageProcessingService, promptGeneratorService, imageService, metricsService,
+                generationCacheService, imagePreprocessor
         );
         googleGenAiService = new GoogleGenAiService(List.of(ageStrategy, descriptionStrategy));
     }
@@ -102,7 +123,8 @@ class GoogleGenAiServiceTest {
     @Test
     void generateImagesThrowsWhenAssetTypeIsUnsupported() {
         AgeProgressionGenerationStrategy ageStrategyOnly = new AgeProgressionGenerationStrategy(
-                geminiApiClient, imageProcessingService, promptGeneratorService, imageService, metricsService
+                geminiApiClient, imageProcessingService, promptGeneratorService, imageService, metricsService,
+                generationCacheService, imagePreprocessor, new AiCallExecutor(new SimpleMeterRegistry(), Runnable::run)
         );
         googleGenAiService = new GoogleGenAiService(List.of(ageStrategyOnly));
 
@@ -116,4 +138,68 @@ class GoogleGenAiServiceTest {
 
         assertThat(exception.getAiErrorCode()).isEqualTo(AiErrorCode.INVALID_ASSET_TYPE);
     }
+
+    @Test
+    void generateImagesReusesCachedResultWithoutCallingGemini() {
+        when(generationCacheService.find("key-GENERATED_IMAGE-0")).thenReturn(Optional.of("http://cdn/cached"));
+        MissingPerson missingPerson = MissingPerson.builder()
+                .id(13L)
+                .photoUrl("http://localhost/images/test.jpg")
+                .build();
+
+        List<String> imageUrls = googleGenAiService.generateImages(missingPerson, AssetType.GENERATED_IMAGE);
+
+        assertThat(imageUrls).containsExactly("http://cdn/cached");
+        verify(geminiApiClient, never()).generateImage(any(Path.class), anyString(), anyString());
+        verify(generationCacheService, never()).put(anyString(), any(AssetType.class), anyString(), anyString());
+    }
+
+    @Test
+    void generateImagesStoresEachVariantUnderItsOwnKey() {
+        MissingPerson missingPerson = MissingPerson.builder()
+                .id(14L)
+                .photoUrl("http://localhost/images/test.jpg")
+                .build();
+
+        googleGenAiService.generateImages(missingPerson, AssetType.AGE_PROGRESSION);
+
+        for (int variant = 0; variant < 4; variant++) {
+            verify(generationCacheService).put(eq("key-AGE_PROGRESSION-" + variant), eq(AssetType.AGE_PROGRESSION),
+                    eq("gemini-2.5-flash-image"), startsWith("http://cdn/"));
+        }
+    }
+
+    @Test
+    void generateImagesDoesNotCachePlaceholderResult() {
+        when(imageProcessingService.isPlaceholderImage(any(byte[].class))).thenReturn(true);
+        MissingPerson missingPerson = MissingPerson.builder()
+                .id(15L)
+                .photoUrl("http://localhost/images/test.jpg")
+                .build();
+
+        googleGenAiService.generateImages(missingPerson, AssetType.GENERATED_IMAGE);
+
+        verify(generationCacheService, never()).put(anyString(), any(AssetType.class), anyString(), anyString());
+    }
+
+    @Test
+    void generateAgeProgressionImagesThrowsQueueFullWhenCallExecutorRejects() {
+        AgeProgressionGenerationStrategy saturatedStrategy = new AgeProgressionGenerationStrategy(
+                geminiApiClient, imageProcessingService, promptGeneratorService, imageService, metricsService,
+                generationCacheService, imagePreprocessor, new AiCallExecutor(new SimpleMeterRegistry(), task -> {
+                    throw new RejectedExecutionException("full");
+                })
+        );
+        googleGenAiService = new GoogleGenAiService(List.of(saturatedStrategy));
+        MissingPerson missingPerson = MissingPerson.builder()
+                .id(16L)
+                .photoUrl("http://localhost/images/test.jpg")
+                .build();
+
+        AiException exception = assertThrows(AiException.class,
+                () -> googleGenAiService.generateImages(missingPerson, AssetType.AGE_PROGRESSION));
+
+        assertThat(exception.getAiErrorCode()).isEqualTo(AiErrorCode.IMAGE_JOB_QUEUE_FULL);
+        verify(geminiApiClient, never()).generateImage(any(Path.class), anyString(), anyString());
+    }
 }
@@ -23,7 +23,6 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -77,7 +76,7 @@ class AuthServiceImplTest {
         when(userRepository.findByUid("user")).thenReturn(Optional.of(activeUser));
         when(passwordEncoder.matches("password", activeUser.getPasswordHash())).thenReturn(true);
         Device activeDevice = createDevice(10L, true);
-        when(deviceRepository.findByUser(activeUser)).thenReturn(List.of(activeDevice, createDevice(11L, false)));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByIdAsc(activeUser)).thenReturn(Optional.of(activeDevice));
         when(jwtTokenProvider.createAccessToken(eq("user"), anyString(), eq(10L))).thenReturn("access");
         when(jwtTokenProvider.createRefreshToken("user")).thenReturn("refresh");
         when(jwtTokenProvider.getAccessTokenValiditySeconds()).thenReturn(3600L);
@@ -136,7 +135,7 @@ class AuthServiceImplTest {
         User activeUser = createUser("user", true);
         when(userRepository.findByUid("user")).thenReturn(Optional.of(activeUser));
         when(passwordEncoder.matches("password", activeUser.getPasswordHash())).thenReturn(true);
-        when(deviceRepository.findByUser(activeUser)).thenReturn(List.of(createDevice(1L, false)));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByIdAsc(activeUser)).thenReturn(Optional.empty());
         when(jwtTokenProvider.createAccessToken(eq("user"), anyString(), eq(null))).thenReturn("access");
         when(jwtTokenProvider.createRefreshToken("user")).thenReturn("refresh");
         when(jwtTokenProvider.getAccessTokenValiditySeconds()).thenReturn(1000L);
@@ -188,7 +187,7 @@ class AuthServiceImplTest {
         when(jwtTokenProvider.getSubjectFromToken(refresh)).thenReturn(user.getUid());
         when(userRepository.findByUid(user.getUid())).thenReturn(Optional.of(user));
         when(jwtTokenProvider.getRefreshTokenValidityMs()).thenReturn(2000L);
-        when(deviceRepository.findByUser(user)).thenReturn(List.of(createDevice(20L, true)));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByIdAsc(user)).thenReturn(Optional.of(createDevice(20L, true)));
         when(jwtTokenProvider.createAccessToken(eq(user.getUid()), anyString(), eq(20L))).thenReturn("access-2");
         when(jwtTokenProvider.createRefreshToken(user.getUid())).thenReturn("refresh-2");
         when(jwtTokenProvider.getAccessTokenValiditySeconds()).thenReturn(7200L);
@@ -228,7 +227,7 @@ class AuthServiceImplTest {
 
         when(userRepository.findByUid("user")).thenReturn(Optional.of(activeUser));
         when(passwordEncoder.matches("password", activeUser.getPasswordHash())).thenReturn(true);
-        when(deviceRepository.findByUser(activeUser)).thenReturn(List.of(activeDevice));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByIdAsc(activeUser)).thenReturn(Optional.of(activeDevice));
         when(jwtTokenProvider.createAccessToken(eq("user"), anyString(), eq(124L))).thenReturn("access");
         when(jwtTokenProvider.createRefreshToken("user")).thenReturn("refresh");
         when(jwtTokenProvider.getAccessTokenValiditySeconds()).thenReturn(3600L);
@@ -250,7 +249,7 @@ class AuthServiceImplTest {
 
         when(userRepository.findByUid("user")).thenReturn(Optional.of(activeUser));
         when(passwordEncoder.matches("password", activeUser.getPasswordHash())).thenReturn(true);
-        when(deviceRepository.findByUser(activeUser)).thenReturn(List.of(activeDevice));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByIdAsc(activeUser)).thenReturn(Optional.of(activeDevice));
         when(jwtTokenProvider.createAccessToken(eq("user"), anyString(), eq(125L))).thenReturn("access");
         when(jwtTokenProvider.createRefreshToken("user")).thenReturn("refresh");
         when(jwtTokenProvider.getAccessTokenValiditySeconds()).thenReturn(3600L);
@@ -0,0 +1,42 @@
+package baro.baro.domain.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeoHashUtilTest {
+
+    @Test
+    void encode_returnsStandardGeohash() {
+        assertThat(GeoHashUtil.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHashUtil.encode(37.5665, 126.9780, 5)).isEqualTo("wydm9");
+    }
+
+    @Test
+    void encode_whenPrecisionOutOfRange_throwsException() {
+        assertThatThrownBy(() -> GeoHashUtil.encode(37.5, 127.0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GeoHashUtil.encode(37.5, 127.0, 13))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void withNeighbors_returnsCenterFirstAndEightAdjacentCells() {
+        assertThat(GeoHashUtil.withNeighbors("ezs42")).containsExactly(
+                "ezs42", "ezefp", "ezs40", "ezs41", "ezefr", "ezs43", "ezefx", "ezs48", "ezs49");
+    }
+
+    @Test
+    void withNeighbors_nearPole_skipsCellsBeyondLatitudeRange() {
+        assertThat(GeoHashUtil.withNeighbors("b")).hasSize(6).startsWith("b");
+    }
+
+    @Test
+    void decodeBounds_containsEncodedCoordinate() {
+        double[] bounds = GeoHashUtil.decodeBounds(GeoHashUtil.encode(35.1796, 129.0756, 6));
+
+        assertThat(35.1796).isBetween(bounds[0], bounds[1]);
+        assertThat(129.0756).isBetween(bounds[2], bounds[3]);
+    }
+}
@@ -1,5 +1,6 @@
 package baro.baro.domain.device.service;
 
+import baro.baro.domain.device.dto.event.DevicePushTargetChangedEvent;
 import baro.baro.domain.device.dto.event.LoginSuccessEvent;
 import baro.baro.domain.device.entity.Device;
 import baro.baro.domain.device.repository.DeviceRepository;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
@@ -27,6 +29,8 @@ class DeviceLoginEventHandlerTest {
     private DeviceRepository deviceRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private DeviceServiceImpl deviceService;
 
@@ -35,7 +39,7 @@ class DeviceLoginEventHandlerTest {
         deviceService = spy(new DeviceServiceImpl(
                 deviceRepository,
                 userRepository,
-                null, null, null, null, null, null
+                null, null, null, null, null, eventPublisher, null
         ));
     }
 
@@ -52,6 +56,7 @@ class DeviceLoginEventHandlerTest {
 
         verify(inactiveDevice).reactivate();
         verify(deviceRepository).save(inactiveDevice);
+        verify(eventPublisher).publishEvent(any(DevicePushTargetChangedEvent.class));
     }
 
     @Test
@@ -2,6 +2,8 @@ package baro.baro.domain.device.service;
 
 import baro.baro.domain.common.monitoring.MetricsService;
 import baro.baro.domain.common.util.SecurityUtil;
+import baro.baro.domain.device.dto.event.DevicePushTargetChangedEvent;
+import baro.baro.domain.device.dto.event.DeviceRegionChangedEvent;
 import baro.baro.domain.device.dto.req.DeviceRegisterRequest;
 import baro.baro.domain.device.dto.req.FcmTokenUpdateRequest;
 import baro.baro.domain.device.dto.req.GpsUpdateRequest;
@@ -21,6 +23,7 @@ import baro.baro.domain.missingperson.repository.MissingPersonRepository;
 import baro.baro.domain.notification.entity.Notification;
 import baro.baro.domain.notification.entity.NotificationType;
 import baro.baro.domain.notification.repository.NotificationRepository;
+import baro.baro.domain.notification.service.RegionTopicSubscriptionService;
 import baro.baro.domain.notification.dto.event.NearbyAlertNotificationEvent;
 import baro.baro.domain.user.entity.User;
 import baro.baro.domain.user.exception.UserException;
@@ -35,6 +38,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -53,6 +57,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -84,6 +89,9 @@ class DeviceServiceImplTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private RegionTopicSubscriptionService regionTopicSubscriptionService;
+
     private DeviceServiceImpl deviceService;
 
     private final GeometryFactory geometryFactory = new GeometryFactory();
@@ -98,7 +106,8 @@ class DeviceServiceImplTest {
                 missingCaseRepository,
                 notificationRepository,
                 metricsService,
-                eventPublisher
+                eventPublisher,
+                regionTopicSubscriptionService
         );
         ReflectionTestUtils.setField(deviceService, "nearbyAlertRadiusMeters", 1000);
         ReflectionTestUtils.setField(deviceService, "nearbyAlertCooldownHours", 24);
@@ -158,6 +167,7 @@ class DeviceServiceImplTest {
             when(missingPersonRepository.findNearbyMissingPersons(anyDouble(), anyDouble(), anyInt()))
                     .thenReturn(List.of());
             when(gpsTrackRepository.save(any(GpsTrack.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(regionTopicSubscriptionService.admitRegionChange(device.getId())).thenReturn(true);
 
             GpsUpdateResponse response = deviceService.updateGps(request);
 
@@ -171,10 +181,16 @@ class DeviceServiceImplTest {
             assertThat(savedPoint.getX()).isEqualTo(request.getLongitude());
             assertThat(savedPoint.getY()).isEqualTo(request.getLatitude());
 
-            ArgumentCaptor<MemberLocationChangedEvent> eventCaptor =
-                    ArgumentCaptor.forClass(MemberLocationChangedEvent.class);
-            verify(eventPublisher).publishEvent(eventCaptor.capture());
-            assertThat(eventCaptor.getValue().getUserId()).isEqualTo(currentUser.getId());
+            ArgumentCaptor<ApplicationEvent> eventCaptor = ArgumentCaptor.forClass(ApplicationEvent.class);
+            verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+            DeviceRegionChangedEvent regionEvent = (DeviceRegionChangedEvent) eventCaptor.getAllValues().get(0);
+            assertThat(device.getRegionGeohash()).isEqualTo("wydm3");
+            assertThat(regionEvent.getDeviceId()).isEqualTo(device.getId());
+            assertThat(regionEvent.getPreviousRegion()).isNull();
+            assertThat(regionEvent.getCurrentFcmToken()).isEqualTo("fcm-20");
+            assertThat(regionEvent.getCurrentRegion()).isEqualTo("wydm3");
+            MemberLocationChangedEvent locationEvent = (MemberLocationChangedEvent) eventCaptor.getAllValues().get(1);
+            assertThat(locationEvent.getUserId()).isEqualTo(currentUser.getId());
 
             verify(metricsService).recordGpsLocationUpdate();
             verify(metricsService).recordGpsUpdateDuration(anyLong());
@@ -184,6 +200,55 @@ class DeviceServiceImplTest {
         }
     }
 
+    @Test
+    void updateGpsWithinSameRegionDoesNotChangeTopicSubscription() {
+        GpsUpdateRequest request = createGpsRequest(37.501, 127.001, null);
+        User currentUser = createUser(12L, "Walker");
+        Device device = createDevice(21L, currentUser);
+        device.updateRegionGeohash("wydm3");
+
+        try (MockedStatic<SecurityUtil> mockedStatic = mockStatic(SecurityUtil.class)) {
+            mockedStatic.when(SecurityUtil::getCurrentUser).thenReturn(currentUser);
+            mockedStatic.when(SecurityUtil::getCurrentDeviceId).thenReturn(device.getId());
+
+            when(deviceRepository.findByIdAndUser(device.getId(), currentUser))
+                    .thenReturn(Optional.of(device));
+            when(missingPersonRepository.findNearbyMissingPersons(anyDouble(), anyDouble(), anyInt()))
+                    .thenReturn(List.of());
+
+            deviceService.updateGps(request);
+
+            verify(eventPublisher).publishEvent(any(MemberLocationChangedEvent.class));
+            verify(eventPublisher, never()).publishEvent(any(DeviceRegionChangedEvent.class));
+            assertThat(device.getRegionGeohash()).isEqualTo("wydm3");
+        }
+    }
+
+    @Test
+    void updateGpsKeepsPreviousRegionWhenSubscriptionQueueIsFull() {
+        GpsUpdateRequest request = createGpsRequest(37.5, 127.0, null);
+        User currentUser = createUser(13L, "Mover");
+        Device device = createDevice(22L, currentUser);
+        device.updateRegionGeohash("wydm9");
+
+        try (MockedStatic<SecurityUtil> mockedStatic = mockStatic(SecurityUtil.class)) {
+            mockedStatic.when(SecurityUtil::getCurrentUser).thenReturn(currentUser);
+            mockedStatic.when(SecurityUtil::getCurrentDeviceId).thenReturn(device.getId());
+
+            when(deviceRepository.findByIdAndUser(device.getId(), currentUser))
+                    .thenReturn(Optional.of(device));
+            when(missingPersonRepository.findNearbyMissingPersons(anyDouble(), anyDouble(), anyInt()))
+                    .thenReturn(List.of());
+            when(regionTopicSubscriptionService.admitRegionChange(device.getId())).thenReturn(false);
+
+            deviceService.updateGps(request);
+
+            // 셀을 갱신하지 않아 다음 GPS 업데이트에서 다시 구독 변경을 요청합니다.
+            verify(eventPublisher, never()).publishEvent(any(DeviceRegionChangedEvent.class));
+            assertThat(device.getRegionGeohash()).isEqualTo("wydm9");
+        }
+    }
+
     @Test
     void updateGpsThrowsWhenDeviceIdMissing() {
         GpsUpdateRequest request = createGpsRequest(36.0, 128.0, null);
@@ -221,13 +286,17 @@ class DeviceServiceImplTest {
         Device activeDevice = createDevice(200L, user);
 
         when(userRepository.findByUid("owner-uid")).thenReturn(Optional.of(user));
-        when(deviceRepository.findByUser(user)).thenReturn(List.of(activeDevice));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByIdAsc(user))
+                .thenReturn(Optional.of(activeDevice));
         when(deviceRepository.save(activeDevice)).thenReturn(activeDevice);
 
         deviceService.updateFcmToken("owner-uid", request);
 
         assertThat(activeDevice.getFcmToken()).isEqualTo("new-token");
         verify(deviceRepository).save(activeDevice);
+        ArgumentCaptor<DevicePushTargetChangedEvent> captor = ArgumentCaptor.forClass(DevicePushTargetChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getUserId()).isEqualTo(40L);
     }
 
     @Test
@@ -246,13 +315,8 @@ class DeviceServiceImplTest {
         request.setFcmToken("token");
 
         when(userRepository.findByUid("owner")).thenReturn(Optional.of(user));
-        Device inactiveDevice = Device.builder()
-                .id(1L)
-                .user(user)
-                .deviceUuid("inactive")
-                .isActive(false)
-                .build();
-        when(deviceRepository.findByUser(user)).thenReturn(List.of(inactiveDevice));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByIdAsc(user))
+                .thenReturn(Optional.empty());
 
         assertThrows(DeviceException.class, () -> deviceService.updateFcmToken("owner", request));
     }
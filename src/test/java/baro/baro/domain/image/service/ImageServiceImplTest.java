@@ -20,6 +20,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.mockito.MockedStatic;
@@ -75,6 +76,18 @@ class ImageServiceImplTest {
         assertTrue(Files.exists(storedFile));
     }
 
+    @Test
+    void existsStoredImageChecksFileUnderUploadRoot() throws Exception {
+        String publicUrl = imageService.saveImageFromBytes("fake".getBytes(StandardCharsets.UTF_8), "payload.png", "image/png");
+
+        assertTrue(imageService.existsStoredImage(publicUrl));
+
+        Files.delete(Paths.get(tempDir.toString(), publicUrl.replace("http://localhost:8080/", "")));
+        assertFalse(imageService.existsStoredImage(publicUrl));
+        assertFalse(imageService.existsStoredImage("http://other-host/images/ai/payload.png"));
+        assertFalse(imageService.existsStoredImage("http://localhost:8080/../outside.png"));
+    }
+
     @Test
     void uploadImageRejectsEmptyFile() {
         MockMultipartFile empty = new MockMultipartFile("file", "empty.png", "image/png", new byte[0]);
@@ -0,0 +1,40 @@
+package baro.baro.domain.member.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+// 전송된 SSE 이벤트 수와 실제 전송 바이트(이벤트 구분자 포함)를 세는 메모리 emitter
+class CountingSseEmitter extends SseEmitter {
+
+    private long sendCount;
+    private long byteCount;
+
+    CountingSseEmitter() {
+        super(Long.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized void send(SseEventBuilder builder) {
+        Set<ResponseBodyEmitter.DataWithMediaType> parts = builder.build();
+        for (ResponseBodyEmitter.DataWithMediaType part : parts) {
+            Object data = part.getData();
+            if (data instanceof String text) {
+                byteCount += text.getBytes(StandardCharsets.UTF_8).length;
+            } else if (data instanceof byte[] bytes) {
+                byteCount += bytes.length;
+            }
+        }
+        sendCount++;
+    }
+
+    synchronized long getSendCount() {
+        return sendCount;
+    }
+
+    synchronized long getByteCount() {
+        return byteCount;
+    }
+}
@@ -0,0 +1,126 @@
+package baro.baro.domain.member.service;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 전송된 프레임 수와 실제 전송 바이트(WebSocket 프레임 헤더 포함)를 세는 메모리 세션
+class CountingWebSocketSession implements WebSocketSession {
+
+    private final String id = UUID.randomUUID().toString();
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private long sendCount;
+    private long byteCount;
+    private boolean open = true;
+
+    @Override
+    public synchronized void sendMessage(WebSocketMessage<?> message) {
+        int payloadLength = message.getPayloadLength();
+        byteCount += frameHeaderLength(payloadLength) + payloadLength;
+        sendCount++;
+    }
+
+    synchronized long getSendCount() {
+        return sendCount;
+    }
+
+    synchronized long getByteCount() {
+        return byteCount;
+    }
+
+    // 서버 → 클라이언트 프레임 헤더 길이 (마스킹 없음, RFC 6455)
+    private static int frameHeaderLength(int payloadLength) {
+        if (payloadLength < 126) {
+            return 2;
+        }
+        return payloadLength <= 0xFFFF ? 4 : 10;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public URI getUri() {
+        return URI.create("ws://localhost/members/locations/ws");
+    }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() {
+        return new HttpHeaders();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Principal getPrincipal() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return null;
+    }
+
+    @Override
+    public String getAcceptedProtocol() {
+        return null;
+    }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getTextMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getBinaryMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() {
+        return List.of();
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public synchronized void close(CloseStatus status) {
+        open = false;
+    }
+}
@@ -1,33 +1,53 @@
 package baro.baro.domain.member.service;
 
+import baro.baro.domain.common.sse.SseConnectionManager;
 import baro.baro.domain.member.dto.event.MemberLocationEvent;
 import baro.baro.domain.member.dto.res.MemberLocationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketSession;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("MemberLocationEmitterRegistry 테스트")
 class MemberLocationEmitterRegistryTest {
 
+    private ObjectMapper mapper;
+    private MeterRegistry meterRegistry;
     private MemberLocationEmitterRegistry registry;
     private MemberLocationEvent sampleEvent;
 
     @BeforeEach
     void setUp() {
-        ObjectMapper mapper = new ObjectMapper();
+        mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        registry = new MemberLocationEmitterRegistry(mapper);
+        // 동기 executor로 전송하여 기존 동작과 동일하게 검증
+        registry = createRegistry(mapper, Runnable::run, 16, 10_000L, 3, 100);
         MemberLocationResponse.LocationInfo location = MemberLocationResponse.LocationInfo.create(37.0, 127.0);
         MemberLocationResponse response = MemberLocationResponse.create(10L, "구성원", "가족", 90, 0.0, location);
         sampleEvent = MemberLocationEvent.update(List.of(response));
@@ -101,6 +121,205 @@ class MemberLocationEmitterRegistryTest {
         assertThat(emitter2.getSendCount()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("대기열이 가득 차면 가장 오래된 이벤트를 버리고 최신 이벤트를 유지한다")
+    void broadcastDropsOldestWhenQueueIsFull() {
+        ManualExecutor executor = new ManualExecutor();
+        registry = createRegistry(mapper, executor, 2, 10_000L, 3, 100);
+        RecordingEmitter emitter = new RecordingEmitter();
+        registry.addEmitter(1L, emitter);
+
+        registry.broadcast(1L, sampleEvent);
+        registry.broadcast(1L, sampleEvent);
+        registry.broadcast(1L, sampleEvent);
+
+        assertThat(registry.getTotalQueueDepth()).isEqualTo(2);
+        assertThat(meterRegistry.get("sse_outbound_dropped_total").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("sse_outbound_queue_depth").gauge().value()).isEqualTo(2.0);
+
+        executor.runAll();
+
+        assertThat(emitter.getSendCount()).isEqualTo(2);
+        assertThat(registry.getTotalQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("지연 임계치를 넘긴 연결은 퇴출되고 메트릭이 기록된다")
+    void broadcastEvictsLaggingEmitter() throws InterruptedException {
+        ManualExecutor executor = new ManualExecutor();
+        registry = createRegistry(mapper, executor, 16, 1L, 3, 100);
+        RecordingEmitter emitter = new RecordingEmitter();
+        registry.addEmitter(1L, emitter);
+
+        registry.broadcast(1L, sampleEvent);
+        Thread.sleep(20);
+        registry.broadcast(1L, sampleEvent);
+
+        assertThat(registry.hasConnection(1L)).isFalse();
+        assertThat(meterRegistry.get("sse_outbound_evictions_total").tag("reason", "lag").counter().count())
+                .isEqualTo(1.0);
+
+        executor.runAll();
+
+        assertThat(emitter.getSendCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("느린 연결이 같은 사용자의 다른 연결 전송을 막지 않는다")
+    void slowEmitterDoesNotBlockOthers() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            registry = createRegistry(mapper, executor, 16, 10_000L, 3, 100);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch delivered = new CountDownLatch(1);
+            registry.addEmitter(1L, new BlockingEmitter(release));
+            registry.addEmitter(1L, new RecordingEmitter() {
+                @Override
+                public void send(SseEventBuilder builder) {
+                    super.send(builder);
+                    delivered.countDown();
+                }
+            });
+
+            registry.broadcast(1L, sampleEvent);
+
+            assertThat(delivered.await(2, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("사용자별 연결 수 제한을 넘으면 가장 오래된 연결을 퇴출한다")
+    void addEmitterEvictsOldestWhenPerUserLimitReached() {
+        registry = createRegistry(mapper, Runnable::run, 16, 10_000L, 2, 100);
+        RecordingEmitter oldest = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        RecordingEmitter newest = new RecordingEmitter();
+
+        registry.addEmitter(1L, oldest);
+        registry.addEmitter(1L, second);
+        registry.addEmitter(1L, newest);
+        registry.broadcast(1L, sampleEvent);
+
+        assertThat(registry.getTotalConnectionCount()).isEqualTo(2);
+        assertThat(oldest.getSendCount()).isZero();
+        assertThat(second.getSendCount()).isEqualTo(1);
+        assertThat(newest.getSendCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("sse_connection_evictions_total")
+                .tag("reason", "per_user_limit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("전체 연결 수 제한을 넘으면 전체에서 가장 오래된 연결을 퇴출한다")
+    void addEmitterEvictsGloballyOldestWhenTotalLimitReached() {
+        registry = createRegistry(mapper, Runnable::run, 16, 10_000L, 3, 2);
+
+        registry.addEmitter(1L, new RecordingEmitter());
+        registry.addEmitter(2L, new RecordingEmitter());
+        registry.addEmitter(3L, new RecordingEmitter());
+
+        assertThat(registry.getTotalConnectionCount()).isEqualTo(2);
+        assertThat(registry.hasConnection(1L)).isFalse();
+        assertThat(registry.hasConnection(2L)).isTrue();
+        assertThat(registry.hasConnection(3L)).isTrue();
+        assertThat(meterRegistry.get("sse_connection_evictions_total")
+                .tag("reason", "global_limit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("전체 제한 퇴출 시 이미 종료된 연결은 등록 순서에서 제외된다")
+    void addEmitterSkipsRemovedSessionsWhenEvictingGloballyOldest() {
+        registry = createRegistry(mapper, Runnable::run, 16, 10_000L, 3, 2);
+        RecordingEmitter first = new RecordingEmitter();
+
+        registry.addEmitter(1L, first);
+        registry.addEmitter(2L, new RecordingEmitter());
+        registry.removeEmitter(1L, first);
+        registry.addEmitter(3L, new RecordingEmitter());
+        registry.addEmitter(4L, new RecordingEmitter());
+
+        assertThat(registry.getTotalConnectionCount()).isEqualTo(2);
+        assertThat(registry.hasConnection(2L)).isFalse();
+        assertThat(registry.hasConnection(3L)).isTrue();
+        assertThat(registry.hasConnection(4L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("연결 수, 연결 시간, 전송 지연, 페이로드 크기, fan-out 메트릭을 기록한다")
+    void recordsConnectionAndBroadcastMetrics() {
+        RecordingEmitter emitter1 = new RecordingEmitter();
+        RecordingEmitter emitter2 = new RecordingEmitter();
+        registry.addEmitter(1L, emitter1);
+        registry.addEmitter(1L, emitter2);
+
+        assertThat(meterRegistry.get("sse_connections_active").gauge().value()).isEqualTo(2.0);
+
+        registry.broadcast(1L, sampleEvent);
+
+        assertThat(meterRegistry.get("sse_event_send_latency_seconds").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("sse_event_payload_bytes").tag("format", "json").summary().totalAmount()).isPositive();
+        assertThat(meterRegistry.get("sse_broadcast_fanout").summary().max()).isEqualTo(2.0);
+
+        registry.removeEmitter(1L, emitter1);
+
+        assertThat(meterRegistry.get("sse_connection_lifetime_seconds").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("sse_connections_active").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("WebSocket 연결에는 바이너리 프레임을, SSE 연결에는 JSON을 전송한다")
+    void broadcastEncodesPerTransportFormat() throws IOException {
+        RecordingEmitter sseEmitter = new RecordingEmitter();
+        WebSocketSession webSocketSession = mock(WebSocketSession.class);
+        registry.addEmitter(1L, sseEmitter);
+        registry.addWebSocketSession(1L, webSocketSession);
+
+        registry.broadcast(1L, sampleEvent);
+
+        assertThat(sseEmitter.getSendCount()).isEqualTo(1);
+        verify(webSocketSession, times(1)).sendMessage(any(BinaryMessage.class));
+        assertThat(meterRegistry.get("sse_event_payload_bytes").tag("format", "binary").summary().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("sse_event_payload_bytes").tag("format", "json").summary().count())
+                .isEqualTo(1);
+
+        registry.removeWebSocketSession(1L, webSocketSession);
+        assertThat(registry.getTotalConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("직렬화 중 추가된 연결에는 직렬화되지 않은 프레임을 보내지 않는다")
+    void broadcastUsesSingleSnapshotForEncodingAndFanOut() throws IOException {
+        WebSocketSession lateSession = mock(WebSocketSession.class);
+        ObjectMapper addingMapper = new ObjectMapper() {
+            @Override
+            public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+                registry.addWebSocketSession(1L, lateSession);
+                return mapper.writeValueAsBytes(value);
+            }
+        };
+        registry = createRegistry(addingMapper, Runnable::run, 16, 10_000L, 3, 100);
+        RecordingEmitter sseEmitter = new RecordingEmitter();
+        registry.addEmitter(1L, sseEmitter);
+
+        registry.broadcast(1L, sampleEvent);
+
+        assertThat(sseEmitter.getSendCount()).isEqualTo(1);
+        verify(lateSession, times(0)).sendMessage(any());
+        assertThat(registry.getTotalConnectionCount()).isEqualTo(2);
+    }
+
+    // 테스트마다 새 MeterRegistry와 연결 관리자를 만들어 메트릭이 이전 레지스트리와 섞이지 않도록 합니다.
+    private MemberLocationEmitterRegistry createRegistry(ObjectMapper objectMapper, Executor executor, int queueCapacity,
+                                                         long maxLagMillis, int maxPerUser, int maxTotal) {
+        meterRegistry = new SimpleMeterRegistry();
+        SseConnectionManager connectionManager =
+                new SseConnectionManager(meterRegistry, executor, maxLagMillis, maxPerUser, maxTotal);
+        return new MemberLocationEmitterRegistry(connectionManager, objectMapper, meterRegistry, queueCapacity);
+    }
+
     private static class RecordingEmitter extends SseEmitter {
         private final List<SseEventBuilder> sentEvents = new CopyOnWriteArrayList<>();
 
@@ -128,4 +347,40 @@ class MemberLocationEmitterRegistryTest {
             throw new IOException("전송 실패");
         }
     }
+
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+
+        BlockingEmitter(CountDownLatch release) {
+            super(Long.MAX_VALUE);
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("중단됨", e);
+            }
+        }
+    }
+
+    // 예약된 작업을 테스트에서 직접 실행하는 executor
+    private static class ManualExecutor implements Executor {
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
 }
@@ -0,0 +1,200 @@
+package baro.baro.domain.member.service;
+
+import baro.baro.domain.common.sse.SseConnectionManager;
+import baro.baro.domain.member.dto.event.MemberLocationEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 다수 연결에 대한 broadcast / broadcastToUsers / heartbeat 경로의 처리량과 할당량 측정
+// 실행: ./gradlew benchmark -Dbenchmark.users=5000 -Dbenchmark.emittersPerUser=2 -Dbenchmark.members=1,5,20
+//
+// 회귀 감지용 상한 (선택, 미지정 시 출력만):
+//   -Dbenchmark.maxAllocBytesPerSend=4096 -Dbenchmark.maxHeartbeatSweepMs=200
+@Tag("benchmark")
+@DisplayName("구성원 위치 fan-out 벤치마크")
+class MemberLocationFanOutBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 3;
+
+    @Test
+    @DisplayName("사용자/연결/구성원 수별 broadcast 처리량과 할당량, heartbeat sweep 시간을 측정한다")
+    void measureFanOut() {
+        int users = Integer.getInteger("benchmark.users", 2_000);
+        int emittersPerUser = Integer.getInteger("benchmark.emittersPerUser", 2);
+        int rounds = Integer.getInteger("benchmark.rounds", 10);
+        int[] memberCounts = MemberLocationTransportBenchmarkTest.parseMemberCounts(
+                System.getProperty("benchmark.members", "1,5,20"));
+        long maxAllocBytesPerSend = Long.getLong("benchmark.maxAllocBytesPerSend", Long.MAX_VALUE);
+        long maxHeartbeatSweepMs = Long.getLong("benchmark.maxHeartbeatSweepMs", Long.MAX_VALUE);
+
+        Meter meter = new Meter();
+        System.out.printf("users=%d, emittersPerUser=%d, rounds=%d, allocation tracking=%s%n",
+                users, emittersPerUser, rounds, meter.allocationSupported() ? "on" : "off");
+        System.out.printf("%-8s %-16s %14s %14s %16s%n",
+                "members", "scenario", "sends/sec", "ns/send", "alloc-bytes/send");
+
+        for (int members : memberCounts) {
+            Fixture fixture = new Fixture(users, emittersPerUser);
+            MemberLocationEvent event = MemberLocationEvent.update(
+                    MemberLocationTransportBenchmarkTest.createMembers(members));
+            long sendsPerRound = (long) users * emittersPerUser;
+
+            // 사용자별 broadcast (위치 리스너 경로: 사용자마다 직렬화)
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                fixture.broadcastEach(event);
+            }
+            Sample perUser = meter.measure(() -> {
+                for (int i = 0; i < rounds; i++) {
+                    fixture.broadcastEach(event);
+                }
+            });
+            print(members, "broadcast", perUser, sendsPerRound * rounds);
+
+            // broadcastToUsers (동일 이벤트 다수 사용자)
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                fixture.registry.broadcastToUsers(fixture.userIds, event);
+            }
+            Sample toUsers = meter.measure(() -> {
+                for (int i = 0; i < rounds; i++) {
+                    fixture.registry.broadcastToUsers(fixture.userIds, event);
+                }
+            });
+            print(members, "broadcastToUsers", toUsers, sendsPerRound * rounds);
+
+            // Jackson 직렬화 단독 비용 (broadcast 1회당 발생)
+            for (int i = 0; i < WARMUP_ROUNDS * users; i++) {
+                fixture.serialize(event);
+            }
+            Sample serialization = meter.measure(() -> {
+                for (int i = 0; i < rounds * users; i++) {
+                    fixture.serialize(event);
+                }
+            });
+            print(members, "jackson-only", serialization, (long) rounds * users);
+
+            long expectedSends = sendsPerRound * (WARMUP_ROUNDS + rounds) * 2;
+            assertThat(fixture.totalSends()).isEqualTo(expectedSends);
+            assertThat(perUser.allocatedBytes() / (double) (sendsPerRound * rounds))
+                    .isLessThanOrEqualTo(maxAllocBytesPerSend);
+        }
+
+        // heartbeat sweep (전체 연결 1회 순회)
+        Fixture fixture = new Fixture(users, emittersPerUser);
+        fixture.registry.sendHeartbeatToAll();
+        Sample sweep = meter.measure(() -> {
+            for (int i = 0; i < rounds; i++) {
+                fixture.registry.sendHeartbeatToAll();
+            }
+        });
+        double sweepMillis = sweep.elapsedNanos() / 1_000_000.0 / rounds;
+        System.out.printf("heartbeat sweep: %.2f ms/sweep over %d connections, %.0f alloc-bytes/connection%n",
+                sweepMillis, users * emittersPerUser,
+                (double) sweep.allocatedBytes() / rounds / (users * emittersPerUser));
+
+        assertThat(fixture.totalSends()).isEqualTo((long) users * emittersPerUser * (rounds + 1));
+        assertThat(sweepMillis).isLessThanOrEqualTo(maxHeartbeatSweepMs);
+    }
+
+    private void print(int members, String scenario, Sample sample, long sends) {
+        double seconds = sample.elapsedNanos() / 1_000_000_000.0;
+        System.out.printf("%-8d %-16s %14.0f %14.0f %16.0f%n",
+                members, scenario, sends / seconds,
+                (double) sample.elapsedNanos() / sends,
+                (double) sample.allocatedBytes() / sends);
+    }
+
+    // 연결 수만큼 바이트 카운팅 emitter를 등록한 레지스트리
+    // writer 풀 대신 호출 스레드에서 전송하여 fan-out 1회의 전체 비용(직렬화 + 적재 + 전송)을 측정
+    private static final class Fixture {
+
+        private final ObjectMapper mapper;
+        private final MemberLocationEmitterRegistry registry;
+        private final List<Long> userIds;
+        private final List<CountingSseEmitter> emitters;
+
+        private Fixture(int users, int emittersPerUser) {
+            this.mapper = new ObjectMapper();
+            mapper.registerModule(new JavaTimeModule());
+            mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            SseConnectionManager connectionManager = new SseConnectionManager(meterRegistry, Runnable::run,
+                    10_000L, emittersPerUser, users * emittersPerUser);
+            this.registry = new MemberLocationEmitterRegistry(connectionManager, mapper, meterRegistry, 16);
+            this.userIds = new ArrayList<>(users);
+            this.emitters = new ArrayList<>(users * emittersPerUser);
+
+            for (long userId = 1; userId <= users; userId++) {
+                userIds.add(userId);
+                for (int i = 0; i < emittersPerUser; i++) {
+                    CountingSseEmitter emitter = new CountingSseEmitter();
+                    registry.addEmitter(userId, emitter);
+                    emitters.add(emitter);
+                }
+            }
+        }
+
+        private void broadcastEach(MemberLocationEvent event) {
+            for (Long userId : userIds) {
+                registry.broadcast(userId, event);
+            }
+        }
+
+        private void serialize(MemberLocationEvent event) {
+            try {
+                mapper.writeValueAsBytes(event);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private long totalSends() {
+            return emitters.stream().mapToLong(CountingSseEmitter::getSendCount).sum();
+        }
+    }
+
+    // 현재 스레드의 경과 시간과 힙 할당량 측정 (HotSpot 확장 API 사용 가능 시)
+    private static final class Meter {
+
+        private final com.sun.management.ThreadMXBean threadBean;
+
+        private Meter() {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean hotspot && hotspot.isThreadAllocatedMemorySupported()) {
+                hotspot.setThreadAllocatedMemoryEnabled(true);
+                this.threadBean = hotspot;
+            } else {
+                this.threadBean = null;
+            }
+        }
+
+        private boolean allocationSupported() {
+            return threadBean != null;
+        }
+
+        private Sample measure(Runnable work) {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            work.run();
+            long elapsed = System.nanoTime() - start;
+            return new Sample(elapsed, allocatedBytes() - allocatedBefore);
+        }
+
+        private long allocatedBytes() {
+            return threadBean != null ? threadBean.getCurrentThreadAllocatedBytes() : 0L;
+        }
+    }
+
+    private record Sample(long elapsedNanos, long allocatedBytes) {
+    }
+}
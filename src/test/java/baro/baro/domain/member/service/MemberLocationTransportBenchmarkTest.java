@@ -0,0 +1,120 @@
+package baro.baro.domain.member.service;
+
+import baro.baro.domain.common.sse.SseConnectionManager;
+import baro.baro.domain.member.dto.event.MemberLocationEvent;
+import baro.baro.domain.member.dto.res.MemberLocationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// SSE(JSON) 대비 WebSocket(바이너리) 경로의 업데이트당 전송 바이트와 서버 CPU 시간 비교
+// 실행: ./gradlew benchmark -Dbenchmark.iterations=20000 -Dbenchmark.members=1,5,20
+@Tag("benchmark")
+@DisplayName("구성원 위치 전송 방식 벤치마크")
+class MemberLocationTransportBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+
+    @Test
+    @DisplayName("업데이트당 전송 바이트와 CPU 시간을 SSE/WebSocket 경로별로 측정한다")
+    void compareSseAndWebSocketPerUpdateCost() {
+        int iterations = Integer.getInteger("benchmark.iterations", 20_000);
+        int[] memberCounts = parseMemberCounts(System.getProperty("benchmark.members", "1,5,20"));
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        System.out.printf("%-8s %-10s %14s %14s%n", "members", "transport", "bytes/update", "cpu-ns/update");
+        for (int members : memberCounts) {
+            MemberLocationEvent event = MemberLocationEvent.update(createMembers(members));
+
+            Result sse = measureSse(event, iterations, threadBean);
+            Result webSocket = measureWebSocket(event, iterations, threadBean);
+
+            System.out.printf("%-8d %-10s %14.1f %14.0f%n", members, "sse-json", sse.bytesPerUpdate(), sse.cpuNanosPerUpdate());
+            System.out.printf("%-8d %-10s %14.1f %14.0f%n", members, "ws-binary", webSocket.bytesPerUpdate(), webSocket.cpuNanosPerUpdate());
+
+            assertThat(webSocket.bytesPerUpdate()).isLessThan(sse.bytesPerUpdate());
+        }
+    }
+
+    private Result measureSse(MemberLocationEvent event, int iterations, ThreadMXBean threadBean) {
+        MemberLocationEmitterRegistry registry = newRegistry();
+        CountingSseEmitter emitter = new CountingSseEmitter();
+        registry.addEmitter(1L, emitter);
+
+        runBroadcasts(registry, event, WARMUP_ITERATIONS);
+        long bytesBefore = emitter.getByteCount();
+        long cpuBefore = threadBean.getCurrentThreadCpuTime();
+        runBroadcasts(registry, event, iterations);
+        long cpuNanos = threadBean.getCurrentThreadCpuTime() - cpuBefore;
+
+        return new Result((double) (emitter.getByteCount() - bytesBefore) / iterations, (double) cpuNanos / iterations);
+    }
+
+    private Result measureWebSocket(MemberLocationEvent event, int iterations, ThreadMXBean threadBean) {
+        MemberLocationEmitterRegistry registry = newRegistry();
+        CountingWebSocketSession session = new CountingWebSocketSession();
+        registry.addWebSocketSession(1L, session);
+
+        runBroadcasts(registry, event, WARMUP_ITERATIONS);
+        long bytesBefore = session.getByteCount();
+        long cpuBefore = threadBean.getCurrentThreadCpuTime();
+        runBroadcasts(registry, event, iterations);
+        long cpuNanos = threadBean.getCurrentThreadCpuTime() - cpuBefore;
+
+        return new Result((double) (session.getByteCount() - bytesBefore) / iterations, (double) cpuNanos / iterations);
+    }
+
+    private void runBroadcasts(MemberLocationEmitterRegistry registry, MemberLocationEvent event, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            registry.broadcast(1L, event);
+        }
+    }
+
+    // writer 풀 대신 호출 스레드에서 전송하여 업데이트 1건의 서버 CPU 비용 전체를 측정
+    private MemberLocationEmitterRegistry newRegistry() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SseConnectionManager connectionManager =
+                new SseConnectionManager(meterRegistry, Runnable::run, 10_000L, 3, 10_000);
+        return new MemberLocationEmitterRegistry(connectionManager, mapper, meterRegistry, 16);
+    }
+
+    static List<MemberLocationResponse> createMembers(int count) {
+        List<MemberLocationResponse> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            members.add(MemberLocationResponse.create(
+                    1000L + i,
+                    "구성원" + i,
+                    "가족",
+                    50 + (i % 50),
+                    1.25 + i,
+                    MemberLocationResponse.LocationInfo.create(37.5665 + i * 0.001, 126.9780 + i * 0.001)));
+        }
+        return members;
+    }
+
+    static int[] parseMemberCounts(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+
+    private record Result(double bytesPerUpdate, double cpuNanosPerUpdate) {
+    }
+}
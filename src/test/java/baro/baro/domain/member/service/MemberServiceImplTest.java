@@ -38,7 +38,6 @@ import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -74,6 +73,9 @@ class MemberServiceImplTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private RelationshipGraphCache relationshipGraphCache;
+
     @InjectMocks
     private MemberServiceImpl memberService;
 
@@ -136,6 +138,28 @@ class MemberServiceImplTest {
         }
     }
 
+    @Test
+    @DisplayName("초대 생성 실패 - 이미 관계가 존재함 (관계 그래프 캐시)")
+    void makeInvitation_AlreadyRelated() {
+        // given
+        InvitationRequest request = new InvitationRequest();
+        request.setInviteeUserId(2L);
+
+        when(userRepository.findById(2L)).thenReturn(Optional.of(invitee));
+        when(relationshipGraphCache.isRelated(1L, 2L)).thenReturn(true);
+
+        // when & then
+        try (MockedStatic<SecurityUtil> securityUtil =
+                     mockStatic(SecurityUtil.class)) {
+            securityUtil.when(SecurityUtil::getCurrentUser).thenReturn(inviter);
+
+            assertThatThrownBy(() -> memberService.makeInvitation(request))
+                    .isInstanceOf(MemberException.class);
+            verify(relationshipRepository, never()).existsRelationshipBetween(any(), any());
+            verify(invitationRepository, never()).save(any(Invitation.class));
+        }
+    }
+
     @Test
     @DisplayName("초대 생성 실패 - 피초대자를 찾을 수 없음")
     void makeInvitation_UserNotFound() {
@@ -276,8 +300,8 @@ class MemberServiceImplTest {
         GpsTrack inviterTrack = gpsTrack(inviterDevice, 37.5665, 126.9780);
         GpsTrack inviteeTrack = gpsTrack(inviteeDevice, 37.5700, 126.9820);
 
-        when(deviceRepository.findByUser(inviter)).thenReturn(List.of(inviterDevice));
-        when(deviceRepository.findByUser(invitee)).thenReturn(List.of(inviteeDevice));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByRegisteredAtDesc(inviter)).thenReturn(Optional.of(inviterDevice));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByRegisteredAtDesc(invitee)).thenReturn(Optional.of(inviteeDevice));
         when(gpsTrackRepository.findLatestByDevice(inviterDevice)).thenReturn(Optional.of(inviterTrack));
         when(gpsTrackRepository.findLatestByDevice(inviteeDevice)).thenReturn(Optional.of(inviteeTrack));
         when(relationshipRepository.findByUserWithMember(inviter)).thenReturn(List.of(relationship));
@@ -313,15 +337,17 @@ class MemberServiceImplTest {
         Device memberDeviceNoLocation = deviceWithBattery(memberWithoutLocation, 60);
         Device memberDeviceWithLocation = deviceWithBattery(memberWithLocation, 30);
 
-        when(deviceRepository.findByUser(inviter)).thenReturn(List.of(inviterDevice));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByRegisteredAtDesc(inviter)).thenReturn(Optional.of(inviterDevice));
         when(gpsTrackRepository.findLatestByDevice(inviterDevice)).thenReturn(Optional.empty());
 
-        when(deviceRepository.findByUser(memberWithoutDevice)).thenReturn(Collections.emptyList());
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByRegisteredAtDesc(memberWithoutDevice))
+                .thenReturn(Optional.empty());
+        when(deviceRepository.findFirstByUserOrderByRegisteredAtDesc(memberWithoutDevice)).thenReturn(Optional.empty());
 
-        when(deviceRepository.findByUser(memberWithoutLocation)).thenReturn(List.of(memberDeviceNoLocation));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByRegisteredAtDesc(memberWithoutLocation)).thenReturn(Optional.of(memberDeviceNoLocation));
         when(gpsTrackRepository.findLatestByDevice(memberDeviceNoLocation)).thenReturn(Optional.empty());
 
-        when(deviceRepository.findByUser(memberWithLocation)).thenReturn(List.of(memberDeviceWithLocation));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByRegisteredAtDesc(memberWithLocation)).thenReturn(Optional.of(memberDeviceWithLocation));
         when(gpsTrackRepository.findLatestByDevice(memberDeviceWithLocation))
                 .thenReturn(Optional.of(gpsTrack(memberDeviceWithLocation, 35.0, 129.0)));
 
@@ -354,8 +380,8 @@ class MemberServiceImplTest {
         GpsTrack inviteeTrack = gpsTrack(inviteeDevice, 37.7, 127.1);
 
         when(userRepository.findById(inviter.getId())).thenReturn(Optional.of(inviter));
-        when(deviceRepository.findByUser(inviter)).thenReturn(List.of(inviterDevice));
-        when(deviceRepository.findByUser(invitee)).thenReturn(List.of(inviteeDevice));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByRegisteredAtDesc(inviter)).thenReturn(Optional.of(inviterDevice));
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByRegisteredAtDesc(invitee)).thenReturn(Optional.of(inviteeDevice));
         when(gpsTrackRepository.findLatestByDevice(inviterDevice)).thenReturn(Optional.of(inviterTrack));
         when(gpsTrackRepository.findLatestByDevice(inviteeDevice)).thenReturn(Optional.of(inviteeTrack));
         when(relationshipRepository.findByUserWithMember(inviter)).thenReturn(List.of(relationship));
@@ -382,7 +408,7 @@ class MemberServiceImplTest {
     @Test
     @DisplayName("구성원 위치 조회 - 사용자 기기가 없으면 예외")
     void getMemberLocations_userWithoutDeviceThrowsException() {
-        when(deviceRepository.findByUser(inviter)).thenReturn(Collections.emptyList());
+        when(deviceRepository.findFirstByUserAndIsActiveTrueOrderByRegisteredAtDesc(inviter)).thenReturn(Optional.empty());
 
         try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
             securityUtil.when(SecurityUtil::getCurrentUser).thenReturn(inviter);
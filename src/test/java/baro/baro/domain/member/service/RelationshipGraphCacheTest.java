@@ -0,0 +1,159 @@
+package baro.baro.domain.member.service;
+
+import baro.baro.domain.member.dto.event.InvitationResponseEvent;
+import baro.baro.domain.member.repository.RelationshipRepository;
+import baro.baro.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RelationshipGraphCache 테스트")
+class RelationshipGraphCacheTest {
+
+    @Mock
+    private RelationshipRepository relationshipRepository;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private RelationshipGraphCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RelationshipGraphCache(relationshipRepository, Duration.ofSeconds(60), nanos::get);
+    }
+
+    @Test
+    @DisplayName("관련 사용자 조회 - 정렬/중복 제거 후 캐시하여 DB를 한 번만 조회")
+    void getRelatedUserIds_cachesSortedUniqueIds() {
+        // given
+        when(relationshipRepository.findUserIdsByMemberId(1L)).thenReturn(List.of(5L, 3L, 5L, 2L));
+
+        // when
+        long[] first = cache.getRelatedUserIds(1L);
+        long[] second = cache.getRelatedUserIds(1L);
+
+        // then
+        assertThat(first).containsExactly(2L, 3L, 5L);
+        assertThat(second).containsExactly(2L, 3L, 5L);
+        verify(relationshipRepository, times(1)).findUserIdsByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("관련 사용자 조회 - 반환된 배열을 수정해도 캐시에 영향 없음")
+    void getRelatedUserIds_returnsDefensiveCopy() {
+        // given
+        when(relationshipRepository.findUserIdsByMemberId(1L)).thenReturn(List.of(2L, 3L));
+
+        // when
+        long[] ids = cache.getRelatedUserIds(1L);
+        Arrays.fill(ids, 99L);
+
+        // then
+        assertThat(cache.getRelatedUserIds(1L)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("관계 여부 확인 - 양방향 확인")
+    void isRelated_checksBothDirections() {
+        // given
+        when(relationshipRepository.findUserIdsByMemberId(1L)).thenReturn(List.of());
+        when(relationshipRepository.findUserIdsByMemberId(2L)).thenReturn(List.of(1L));
+        when(relationshipRepository.findUserIdsByMemberId(3L)).thenReturn(List.of());
+
+        // when & then
+        assertThat(cache.isRelated(1L, 2L)).isTrue();
+        assertThat(cache.isRelated(1L, 3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("초대 응답 이벤트 - 초대자/피초대자 캐시 무효화")
+    void onInvitationResponded_evictsBothUsers() {
+        // given
+        when(relationshipRepository.findUserIdsByMemberId(1L)).thenReturn(List.of(), List.of(2L));
+        when(relationshipRepository.findUserIdsByMemberId(2L)).thenReturn(List.of(), List.of(1L));
+        assertThat(cache.getRelatedUserIds(1L)).isEmpty();
+        assertThat(cache.getRelatedUserIds(2L)).isEmpty();
+
+        // when
+        cache.onInvitationResponded(new InvitationResponseEvent(this, user(1L), user(2L), true, "가족"));
+
+        // then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getRelatedUserIds(1L)).containsExactly(2L);
+        assertThat(cache.getRelatedUserIds(2L)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("전체 무효화 - 다음 조회 시 다시 로드")
+    void evictAll_reloadsOnNextRead() {
+        // given
+        when(relationshipRepository.findUserIdsByMemberId(1L)).thenReturn(List.of(2L));
+        cache.getRelatedUserIds(1L);
+
+        // when
+        cache.evictAll();
+        cache.getRelatedUserIds(1L);
+
+        // then
+        verify(relationshipRepository, times(2)).findUserIdsByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("TTL 경과 - 다른 인스턴스의 변경이 다시 로드되어 반영")
+    void getRelatedUserIds_reloadsAfterTtl() {
+        // given
+        when(relationshipRepository.findUserIdsByMemberId(1L)).thenReturn(List.of(2L), List.of(2L, 3L));
+        assertThat(cache.getRelatedUserIds(1L)).containsExactly(2L);
+
+        // when
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+
+        // then
+        assertThat(cache.getRelatedUserIds(1L)).containsExactly(2L, 3L);
+        verify(relationshipRepository, times(2)).findUserIdsByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화 - 오래된 결과를 캐시에 남기지 않음")
+    void getRelatedUserIds_doesNotCacheResultLoadedBeforeEviction() {
+        // given
+        when(relationshipRepository.findUserIdsByMemberId(1L)).thenAnswer(invocation -> {
+            cache.evict(1L);
+            return List.of(2L);
+        });
+
+        // when
+        cache.getRelatedUserIds(1L);
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    private User user(Long id) {
+        User user = User.builder()
+                .uid("uid_" + id)
+                .name("사용자" + id)
+                .phoneE164("+8210000000" + id)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .encodedPassword("hashedPassword")
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,66 @@
+package baro.baro.domain.member.websocket;
+
+import baro.baro.domain.member.dto.event.MemberLocationEvent;
+import baro.baro.domain.member.dto.res.MemberLocationResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MemberLocationBinaryEncoder 테스트")
+class MemberLocationBinaryEncoderTest {
+
+    @Test
+    @DisplayName("UPDATE 이벤트를 고정 길이 바이너리 프레임으로 인코딩한다")
+    void encodeUpdateEvent() {
+        MemberLocationResponse member = MemberLocationResponse.create(
+                42L, "구성원", "가족", 87, 1.234,
+                MemberLocationResponse.LocationInfo.create(37.5665123, 126.9780456));
+        MemberLocationEvent event = MemberLocationEvent.update(List.of(member));
+
+        byte[] frame = MemberLocationBinaryEncoder.encode(event);
+
+        assertThat(frame).hasSize(MemberLocationBinaryEncoder.HEADER_BYTES + MemberLocationBinaryEncoder.MEMBER_BYTES);
+
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        assertThat(buffer.get()).isEqualTo(MemberLocationBinaryEncoder.VERSION);
+        assertThat(buffer.get()).isEqualTo((byte) 1);
+        assertThat(buffer.getShort()).isEqualTo((short) 1);
+        long expectedEpochSeconds = event.getTimestamp().atZone(ZoneId.systemDefault()).toEpochSecond();
+        assertThat(MemberLocationBinaryEncoder.toInstant(buffer.getInt()).getEpochSecond()).isEqualTo(expectedEpochSeconds);
+
+        assertThat(buffer.getLong()).isEqualTo(42L);
+        assertThat(buffer.getInt()).isEqualTo(375665123);
+        assertThat(buffer.getInt()).isEqualTo(1269780456);
+        assertThat(buffer.get() & 0xFF).isEqualTo(87);
+        assertThat(buffer.getInt()).isEqualTo(1234);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("HEARTBEAT 이벤트는 헤더만 전송한다")
+    void encodeHeartbeatEvent() {
+        byte[] frame = MemberLocationBinaryEncoder.encode(MemberLocationEvent.heartbeat());
+
+        assertThat(frame).hasSize(MemberLocationBinaryEncoder.HEADER_BYTES);
+        assertThat(frame[1]).isEqualTo((byte) 2);
+    }
+
+    @Test
+    @DisplayName("누락된 값은 약속된 sentinel 값으로 인코딩한다")
+    void encodeMissingValuesAsSentinels() {
+        MemberLocationResponse member = MemberLocationResponse.create(7L, "구성원", "가족", null, null, null);
+
+        ByteBuffer buffer = ByteBuffer.wrap(MemberLocationBinaryEncoder.encode(MemberLocationEvent.update(List.of(member))));
+        buffer.position(MemberLocationBinaryEncoder.HEADER_BYTES + Long.BYTES);
+
+        assertThat(buffer.getInt()).isEqualTo(MemberLocationBinaryEncoder.UNKNOWN_COORDINATE);
+        assertThat(buffer.getInt()).isEqualTo(MemberLocationBinaryEncoder.UNKNOWN_COORDINATE);
+        assertThat(buffer.get() & 0xFF).isEqualTo(MemberLocationBinaryEncoder.UNKNOWN_BATTERY);
+        assertThat(buffer.getInt()).isEqualTo(MemberLocationBinaryEncoder.UNKNOWN_DISTANCE);
+    }
+}
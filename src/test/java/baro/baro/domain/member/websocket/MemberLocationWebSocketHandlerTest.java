@@ -0,0 +1,70 @@
+package baro.baro.domain.member.websocket;
+
+import baro.baro.domain.member.service.MemberLocationEmitterRegistry;
+import baro.baro.domain.member.service.MemberService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MemberLocationWebSocketHandler 테스트")
+class MemberLocationWebSocketHandlerTest {
+
+    private MemberLocationEmitterRegistry emitterRegistry;
+    private MemberLocationWebSocketHandler handler;
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() {
+        emitterRegistry = mock(MemberLocationEmitterRegistry.class);
+        MemberService memberService = mock(MemberService.class);
+        when(memberService.getMemberLocationsForUser(1L)).thenReturn(List.of());
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        handler = new MemberLocationWebSocketHandler(emitterRegistry, memberService, objectMapper, 1000, 65536);
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(MemberLocationHandshakeInterceptor.USER_ID_ATTRIBUTE, 1L);
+        session = mock(WebSocketSession.class);
+        when(session.getAttributes()).thenReturn(attributes);
+    }
+
+    @Test
+    @DisplayName("INITIAL 프레임을 보낸 뒤 레지스트리에 등록한다")
+    void afterConnectionEstablishedSendsInitialBeforeRegistering() throws Exception {
+        when(session.isOpen()).thenReturn(true);
+
+        handler.afterConnectionEstablished(session);
+
+        InOrder order = inOrder(session, emitterRegistry);
+        order.verify(session).sendMessage(any(TextMessage.class));
+        order.verify(emitterRegistry).addWebSocketSession(eq(1L), any(WebSocketSession.class));
+    }
+
+    @Test
+    @DisplayName("INITIAL 전송 중 연결이 종료되면 등록을 되돌린다")
+    void afterConnectionEstablishedUnregistersWhenClosedMeanwhile() throws Exception {
+        when(session.isOpen()).thenReturn(false);
+
+        handler.afterConnectionEstablished(session);
+
+        verify(emitterRegistry).removeWebSocketSession(eq(1L), any(WebSocketSession.class));
+    }
+}
@@ -1,5 +1,7 @@
 package baro.baro.domain.notification.controller;
 
+import baro.baro.domain.notification.dto.res.NotificationPageResponse;
+import baro.baro.domain.notification.dto.res.NotificationBulkResponse;
 import baro.baro.domain.notification.dto.res.NotificationResponse;
 import baro.baro.domain.notification.entity.NotificationType;
 import baro.baro.domain.notification.service.NotificationServiceInterface;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -16,8 +19,10 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.util.List;
 
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -49,6 +54,30 @@ class NotificationControllerTest {
                 .andExpect(jsonPath("$[0].type").value("INVITE_REQUEST"));
     }
 
+    @Test
+    void getMyNotificationPageReturnsPage() throws Exception {
+        NotificationResponse response = createNotificationResponse(1L, "INVITE_REQUEST");
+        when(notificationService.getMyNotificationPage("next-cursor", 10))
+                .thenReturn(new NotificationPageResponse(List.of(response), "cursor-2", true));
+
+        mockMvc.perform(get("/notifications/me/page").param("cursor", "next-cursor").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notifications[0].id").value(1L))
+                .andExpect(jsonPath("$.notifications[0].type").value("INVITE_REQUEST"))
+                .andExpect(jsonPath("$.nextCursor").value("cursor-2"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void getMyNotificationPageUsesDefaultPageSize() throws Exception {
+        when(notificationService.getMyNotificationPage(null, 20))
+                .thenReturn(new NotificationPageResponse(List.of(), null, false));
+
+        mockMvc.perform(get("/notifications/me/page"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
     @Test
     void getUnreadNotificationsReturnsList() throws Exception {
         NotificationResponse response = createNotificationResponse(2L, "NEARBY_ALERT");
@@ -76,6 +105,47 @@ class NotificationControllerTest {
         verify(notificationService).markAsRead(5L);
     }
 
+    @Test
+    void markAllAsReadReturnsAffectedCount() throws Exception {
+        when(notificationService.markAllAsRead()).thenReturn(new NotificationBulkResponse(12));
+
+        mockMvc.perform(put("/notifications/me/read-all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affectedCount").value(12));
+    }
+
+    @Test
+    void markAsReadUpToPassesAnchorId() throws Exception {
+        when(notificationService.markAsReadUpTo(42L)).thenReturn(new NotificationBulkResponse(3));
+
+        mockMvc.perform(put("/notifications/me/read-up-to")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"upToNotificationId\":42}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affectedCount").value(3));
+    }
+
+    @Test
+    void deleteNotificationsReturnsDeletedCount() throws Exception {
+        when(notificationService.deleteNotifications(List.of(1L, 2L))).thenReturn(new NotificationBulkResponse(2));
+
+        mockMvc.perform(post("/notifications/me/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"notificationIds\":[1,2]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affectedCount").value(2));
+    }
+
+    @Test
+    void deleteNotificationsRejectsEmptyIds() throws Exception {
+        mockMvc.perform(post("/notifications/me/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"notificationIds\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(notificationService);
+    }
+
     private NotificationResponse createNotificationResponse(Long id, String type) {
         NotificationResponse response = new NotificationResponse();
         ReflectionTestUtils.setField(response, "id", id);
@@ -0,0 +1,271 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.common.monitoring.MetricsService;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FcmBatchDispatcherTest {
+
+    @Mock
+    private FcmDispatchService fcmDispatchService;
+    @Mock
+    private MetricsService metricsService;
+    @Mock
+    private ScheduledExecutorService flushScheduler;
+    @Mock
+    private FcmTokenInvalidationService tokenInvalidationService;
+
+    private FcmBatchDispatcher dispatcher;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = newDispatcher(Runnable::run, 10);
+    }
+
+    @Test
+    void submitSendsImmediatelyWhenBatchIsFull() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        List<SendResponse> responses = List.of(success("m-1"), success("m-2"), success("m-3"));
+        when(fcmDispatchService.sendEach(anyList())).thenReturn(responses);
+
+        CompletableFuture<FcmBatchDispatcher.DeliveryResult> first = dispatcher.submit(1L, "token-1", "invitation", message("token-1"));
+        CompletableFuture<FcmBatchDispatcher.DeliveryResult> second = dispatcher.submit(2L, "token-2", "invitation", message("token-2"));
+        assertThat(first).isNotDone();
+
+        CompletableFuture<FcmBatchDispatcher.DeliveryResult> third = dispatcher.submit(3L, "token-3", "nearby_alert", message("token-3"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+        verify(fcmDispatchService, times(1)).sendEach(captor.capture());
+        assertThat(captor.getValue()).hasSize(3);
+        assertThat(first.join().deviceId()).isEqualTo(1L);
+        assertThat(first.join().messageId()).isEqualTo("m-1");
+        assertThat(third.join().isSuccess()).isTrue();
+        assertThat(second.join().fcmToken()).isEqualTo("token-2");
+        assertThat(dispatcher.getPendingCount()).isZero();
+        verify(metricsService, times(2)).recordFcmMessageSuccess("invitation");
+        verify(metricsService).recordFcmMessageSuccess("nearby_alert");
+    }
+
+    @Test
+    void submitSchedulesFlushWithinLatencyWindow() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        List<SendResponse> responses = List.of(success("m-1"));
+        when(fcmDispatchService.sendEach(anyList())).thenReturn(responses);
+
+        CompletableFuture<FcmBatchDispatcher.DeliveryResult> result = dispatcher.submit(1L, "token-1", "invitation", message("token-1"));
+        verify(fcmDispatchService, never()).sendEach(anyList());
+
+        ArgumentCaptor<Runnable> flushTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(flushScheduler).schedule(flushTask.capture(), eq(50L), eq(TimeUnit.MILLISECONDS));
+
+        flushTask.getValue().run();
+
+        assertThat(result.join().isSuccess()).isTrue();
+        verify(fcmDispatchService).sendEach(anyList());
+    }
+
+    @Test
+    void sendMapsPerTokenFailuresBackToDevices() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        List<SendResponse> responses = List.of(success("m-1"), failure(MessagingErrorCode.UNREGISTERED));
+        when(fcmDispatchService.sendEach(anyList())).thenReturn(responses);
+
+        CompletableFuture<FcmBatchDispatcher.DeliveryResult> ok = dispatcher.submit(1L, "token-1", "invitation", message("token-1"));
+        CompletableFuture<FcmBatchDispatcher.DeliveryResult> failed = dispatcher.submit(2L, "token-2", "invitation", message("token-2"));
+        dispatcher.flush();
+
+        assertThat(ok.join().isSuccess()).isTrue();
+        assertThat(failed.join().isSuccess()).isFalse();
+        assertThat(failed.join().deviceId()).isEqualTo(2L);
+        assertThat(failed.join().errorCode()).isEqualTo(MessagingErrorCode.UNREGISTERED);
+        verify(metricsService).recordFcmMessageFailure("invitation", "UNREGISTERED");
+        verify(tokenInvalidationService).report(failed.join());
+    }
+
+    @Test
+    void sendFailsWholeBatchWhenFirebaseNotInitialized() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(false);
+
+        CompletableFuture<FcmBatchDispatcher.DeliveryResult> result = dispatcher.submit(1L, "token-1", "invitation", message("token-1"));
+        dispatcher.flush();
+
+        assertThat(result.join().errorType()).isEqualTo("FIREBASE_NOT_INITIALIZED");
+        verify(fcmDispatchService, never()).sendEach(anyList());
+        verify(metricsService).recordFcmMessageFailure("invitation", "FIREBASE_NOT_INITIALIZED");
+    }
+
+    @Test
+    void retryableFailureIsRetriedWithJitteredBackoff() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        List<SendResponse> firstAttempt = List.of(failure(MessagingErrorCode.UNAVAILABLE));
+        List<SendResponse> secondAttempt = List.of(success("m-1"));
+        when(fcmDispatchService.sendEach(anyList())).thenReturn(firstAttempt, secondAttempt);
+
+        CompletableFuture<FcmBatchDispatcher.DeliveryResult> result = dispatcher.submit(1L, "token-1", "invitation", message("token-1"));
+        dispatcher.flush();
+        assertThat(result).isNotDone();
+
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Long> delays = ArgumentCaptor.forClass(Long.class);
+        verify(flushScheduler, times(2)).schedule(tasks.capture(), delays.capture(), eq(TimeUnit.MILLISECONDS));
+        // 첫 재시도: 상한 100ms의 절반 이상, 상한 이하
+        assertThat(delays.getAllValues().get(1)).isBetween(50L, 100L);
+
+        tasks.getAllValues().get(1).run();
+        dispatcher.flush();
+
+        assertThat(result.join().isSuccess()).isTrue();
+        verify(fcmDispatchService, times(2)).sendEach(anyList());
+        verify(metricsService, never()).recordFcmMessageFailure(anyString(), anyString());
+    }
+
+    @Test
+    void shutdownCompletesRetriesWaitingForBackoff() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        List<SendResponse> responses = List.of(failure(MessagingErrorCode.UNAVAILABLE));
+        when(fcmDispatchService.sendEach(anyList())).thenReturn(responses);
+
+        CompletableFuture<FcmBatchDispatcher.DeliveryResult> result = dispatcher.submit(1L, "token-1", "invitation", message("token-1"));
+        dispatcher.flush();
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        verify(flushScheduler, times(2)).schedule(tasks.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        assertThat(result).isNotDone();
+
+        dispatcher.shutdown();
+
+        verify(flushScheduler).shutdownNow();
+        assertThat(result.join().isSuccess()).isFalse();
+        assertThat(result.join().errorType()).isEqualTo("SHUTDOWN");
+
+        // 종료 후 늦게 실행된 재시도 작업은 아무것도 다시 보내지 않습니다.
+        tasks.getAllValues().get(1).run();
+        dispatcher.flush();
+        verify(fcmDispatchService, times(1)).sendEach(anyList());
+    }
+
+    @Test
+    void retryableFailureFailsAfterMaxAttempts() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        List<SendResponse> responses = List.of(failure(MessagingErrorCode.QUOTA_EXCEEDED));
+        when(fcmDispatchService.sendEach(anyList())).thenReturn(responses);
+
+        CompletableFuture<FcmBatchDispatcher.DeliveryResult> result = dispatcher.submit(1L, "token-1", "invitation", message("token-1"));
+        dispatcher.flush();
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        verify(flushScheduler, times(2)).schedule(tasks.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        tasks.getAllValues().get(1).run();
+        dispatcher.flush();
+
+        assertThat(result.join().isSuccess()).isFalse();
+        assertThat(result.join().errorCode()).isEqualTo(MessagingErrorCode.QUOTA_EXCEEDED);
+        verify(fcmDispatchService, times(2)).sendEach(anyList());
+        verify(metricsService).recordFcmMessageFailure("invitation", "QUOTA_EXCEEDED");
+    }
+
+    @Test
+    void circuitOpensAfterRepeatedBatchFailures() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        FirebaseMessagingException unavailable = mock(FirebaseMessagingException.class);
+        when(unavailable.getMessagingErrorCode()).thenReturn(MessagingErrorCode.UNAVAILABLE);
+        doAnswer(invocation -> {
+            throw unavailable;
+        }).when(fcmDispatchService).sendEach(anyList());
+
+        dispatcher.submit(1L, "token-1", "invitation", message("token-1"));
+        dispatcher.flush();
+        dispatcher.submit(2L, "token-2", "invitation", message("token-2"));
+        dispatcher.flush();
+
+        CompletableFuture<FcmBatchDispatcher.DeliveryResult> blocked = dispatcher.submit(3L, "token-3", "invitation", message("token-3"));
+        dispatcher.flush();
+
+        assertThat(blocked.join().errorType()).isEqualTo("CIRCUIT_OPEN");
+        verify(fcmDispatchService, times(2)).sendEach(anyList());
+    }
+
+    @Test
+    void highPriorityLaneBypassesFullLowPriorityLane() {
+        List<Runnable> senders = new ArrayList<>();
+        dispatcher = newDispatcher(senders::add, 3);
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        List<SendResponse> responses = List.of(success("m-1"));
+        when(fcmDispatchService.sendEach(anyList())).thenReturn(responses);
+
+        dispatcher.submit(1L, "low-1", "nearby_alert", message("low-1"), PushPriority.LOW);
+        dispatcher.submit(2L, "low-2", "nearby_alert", message("low-2"), PushPriority.LOW);
+        dispatcher.submit(3L, "low-3", "nearby_alert", message("low-3"), PushPriority.LOW);
+        CompletableFuture<FcmBatchDispatcher.DeliveryResult> rejectedLow = dispatcher.submit(4L, "low-4", "nearby_alert", message("low-4"), PushPriority.LOW);
+        CompletableFuture<FcmBatchDispatcher.DeliveryResult> high = dispatcher.submit(5L, "high", "missing_person_found", message("high"), PushPriority.HIGH);
+
+        // LOW 레인 초과분만 거부되고, HIGH 레인은 자체 sender로 즉시 전송
+        assertThat(rejectedLow.join().errorType()).isEqualTo("QUEUE_FULL");
+        assertThat(senders).hasSize(2);
+        assertThat(dispatcher.getPendingCount(PushPriority.LOW)).isEqualTo(3);
+
+        senders.get(1).run();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+        verify(fcmDispatchService).sendEach(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(high.join().deviceId()).isEqualTo(5L);
+        assertThat(high.join().messageId()).isEqualTo("m-1");
+        assertThat(dispatcher.getPendingCount(PushPriority.LOW)).isEqualTo(3);
+        assertThat(meterRegistry.get("fcm_dispatch_queue_time_seconds").tag("lane", "high").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("fcm_dispatch_queue_time_seconds").tag("lane", "low").timer().count()).isZero();
+    }
+
+    private FcmBatchDispatcher newDispatcher(java.util.concurrent.Executor senderExecutor, int queueCapacity) {
+        FcmBatchDispatcher.Settings settings = new FcmBatchDispatcher.Settings(3, Map.of(
+                PushPriority.HIGH, new FcmBatchDispatcher.LaneSettings(1, queueCapacity, 0L),
+                PushPriority.NORMAL, new FcmBatchDispatcher.LaneSettings(1, queueCapacity, 50L),
+                PushPriority.LOW, new FcmBatchDispatcher.LaneSettings(1, queueCapacity, 50L)),
+                2, 100L, 1_000L);
+        meterRegistry = new SimpleMeterRegistry();
+        return new FcmBatchDispatcher(fcmDispatchService, metricsService, tokenInvalidationService, meterRegistry,
+                flushScheduler, senderExecutor, settings, new FcmCircuitBreaker(2, 60_000L));
+    }
+
+    private Message message(String token) {
+        return Message.builder().setToken(token).build();
+    }
+
+    private SendResponse success(String messageId) {
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(true);
+        when(response.getMessageId()).thenReturn(messageId);
+        return response;
+    }
+
+    private SendResponse failure(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(errorCode);
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(false);
+        when(response.getException()).thenReturn(exception);
+        return response;
+    }
+}
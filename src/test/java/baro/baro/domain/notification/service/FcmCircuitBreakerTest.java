@@ -0,0 +1,71 @@
+package baro.baro.domain.notification.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FcmCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000L);
+    private final FcmCircuitBreaker circuitBreaker = new FcmCircuitBreaker(3, 5_000L, clock::get);
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsUntilOpenPeriodElapses() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.recordFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FcmCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        clock.addAndGet(4_999L);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void successResetsConsecutiveFailureCount() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FcmCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenAllowsSingleTrialAndClosesOnSuccess() {
+        openCircuit();
+        clock.addAndGet(5_000L);
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(FcmCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        circuitBreaker.recordSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FcmCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void halfOpenTrialFailureReopensCircuit() {
+        openCircuit();
+        clock.addAndGet(5_000L);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.recordFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FcmCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.recordFailure();
+        }
+    }
+}
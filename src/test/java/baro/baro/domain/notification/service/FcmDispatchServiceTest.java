@@ -1,18 +1,14 @@
 package baro.baro.domain.notification.service;
 
 import baro.baro.domain.common.monitoring.MetricsService;
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.Message;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,44 +21,39 @@ class FcmDispatchServiceTest {
     @Mock
     private MetricsService metricsService;
 
+    @Mock
+    private FcmTransport fcmTransport;
+
     private FcmDispatchService fcmDispatchService;
 
     @BeforeEach
     void setUp() {
-        fcmDispatchService = new FcmDispatchService(metricsService);
+        fcmDispatchService = new FcmDispatchService(metricsService, fcmTransport);
     }
 
     @Test
-    void dispatchRecordsFailureWhenFirebaseNotInitialized() {
+    void dispatchRecordsFailureWhenFirebaseNotInitialized() throws Exception {
         Message message = Message.builder().setToken("token").build();
+        when(fcmTransport.isAvailable()).thenReturn(false);
 
-        try (MockedStatic<FirebaseApp> firebaseAppMock = mockStatic(FirebaseApp.class)) {
-            firebaseAppMock.when(FirebaseApp::getApps).thenReturn(List.of());
+        fcmDispatchService.dispatch(message, "invitation", "token");
 
-            fcmDispatchService.dispatch(message, "invitation", "token");
-
-            verify(metricsService).recordFcmMessageFailure("invitation", "FIREBASE_NOT_INITIALIZED");
-            verify(metricsService, never()).recordFcmMessageSuccess(anyString());
-        }
+        verify(metricsService).recordFcmMessageFailure("invitation", "FIREBASE_NOT_INITIALIZED");
+        verify(metricsService, never()).recordFcmMessageSuccess(anyString());
+        verify(fcmTransport, never()).send(any());
     }
 
     @Test
     void dispatchSendsMessageAndRecordsMetrics() throws Exception {
         Message message = Message.builder().setToken("token").build();
-        FirebaseMessaging firebaseMessaging = mock(FirebaseMessaging.class);
-
-        try (MockedStatic<FirebaseApp> firebaseAppMock = mockStatic(FirebaseApp.class);
-             MockedStatic<FirebaseMessaging> firebaseMessagingMock = mockStatic(FirebaseMessaging.class)) {
-            firebaseAppMock.when(FirebaseApp::getApps).thenReturn(List.of(mock(FirebaseApp.class)));
-            firebaseMessagingMock.when(FirebaseMessaging::getInstance).thenReturn(firebaseMessaging);
-            when(firebaseMessaging.send(message)).thenReturn("ok");
+        when(fcmTransport.isAvailable()).thenReturn(true);
+        when(fcmTransport.send(message)).thenReturn("ok");
 
-            fcmDispatchService.dispatch(message, "missing_person_found", "token");
+        fcmDispatchService.dispatch(message, "missing_person_found", "token");
 
-            verify(firebaseMessaging).send(message);
-            verify(metricsService).recordFcmMessageSuccess("missing_person_found");
-            verify(metricsService).recordFcmSendDuration(anyLong());
-        }
+        verify(fcmTransport).send(message);
+        verify(metricsService).recordFcmMessageSuccess("missing_person_found");
+        verify(metricsService).recordFcmSendDuration(anyLong());
     }
 
     @Test
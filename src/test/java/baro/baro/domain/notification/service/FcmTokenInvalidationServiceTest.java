@@ -0,0 +1,83 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.device.dto.event.DevicePushTargetChangedEvent;
+import baro.baro.domain.device.repository.DeviceRepository;
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FcmTokenInvalidationServiceTest {
+
+    @Mock
+    private DeviceRepository deviceRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FcmTokenInvalidationService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new FcmTokenInvalidationService(deviceRepository, eventPublisher, meterRegistry, 2);
+    }
+
+    @Test
+    void reportQueuesOnlyInvalidTokenFailures() {
+        service.report(failure(1L, "dead-1", MessagingErrorCode.UNREGISTERED));
+        service.report(failure(2L, "dead-2", MessagingErrorCode.INVALID_ARGUMENT));
+        service.report(failure(3L, "alive", MessagingErrorCode.UNAVAILABLE));
+        service.report(new FcmBatchDispatcher.DeliveryResult(4L, "ok", "invitation", "m-1", null, null));
+        service.report(failure(1L, "dead-1", MessagingErrorCode.UNREGISTERED));
+
+        assertThat(service.getPendingCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("fcm_tokens_invalid_total").tag("error_code", "UNREGISTERED").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pruneInvalidTokensClearsTokensInBatches() {
+        when(deviceRepository.clearFcmTokens(anyCollection())).thenReturn(2, 1);
+        when(deviceRepository.findUserIdsByFcmTokens(anyCollection())).thenReturn(List.of(7L), List.of(8L));
+        service.report(failure(1L, "dead-1", MessagingErrorCode.UNREGISTERED));
+        service.report(failure(2L, "dead-2", MessagingErrorCode.UNREGISTERED));
+        service.report(failure(3L, "dead-3", MessagingErrorCode.SENDER_ID_MISMATCH));
+
+        int pruned = service.pruneInvalidTokens();
+
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(deviceRepository, times(2)).clearFcmTokens(captor.capture());
+        assertThat(captor.getAllValues().get(0)).hasSize(2);
+        assertThat(captor.getAllValues().get(1)).hasSize(1);
+        assertThat(pruned).isEqualTo(3);
+        assertThat(service.getPendingCount()).isZero();
+        assertThat(meterRegistry.get("fcm_tokens_pruned_total").counter().count()).isEqualTo(3.0);
+        verify(eventPublisher, times(2)).publishEvent(any(DevicePushTargetChangedEvent.class));
+    }
+
+    @Test
+    void pruneInvalidTokensSkipsUpdateWhenNothingPending() {
+        assertThat(service.pruneInvalidTokens()).isZero();
+        verify(deviceRepository, never()).clearFcmTokens(anyCollection());
+    }
+
+    private FcmBatchDispatcher.DeliveryResult failure(Long deviceId, String token, MessagingErrorCode errorCode) {
+        return new FcmBatchDispatcher.DeliveryResult(deviceId, token, "invitation", null, errorCode, errorCode.name());
+    }
+}
@@ -0,0 +1,159 @@
+package baro.baro.domain.notification.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 로컬 FCM v1 API 대역
+//
+// messages:send(v1)와 토픽 구독(iid batchAdd/batchRemove) 요청에 FCM과 같은 형식으로 응답합니다.
+// createApp()으로 만든 FirebaseApp은 모든 요청을 이 서버로 보내므로 Admin SDK 경로를 그대로 거칩니다.
+// - latencyMillis: 응답 헤더 전 지연 (FCM 왕복 시간 모사)
+// - errorRate: QUOTA_EXCEEDED(429) 응답 비율. SDK는 500/503만 자체 재시도하므로 디스패처의 재시도 경로를 거칩니다.
+// - unregisteredTokens: 항상 UNREGISTERED(404)로 응답할 토큰
+class FcmV1StandIn implements AutoCloseable {
+
+    static final String PROJECT_ID = "stand-in-project";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MockWebServer server = new MockWebServer();
+    private final Set<String> unregisteredTokens = ConcurrentHashMap.newKeySet();
+    private final AtomicLong messageSequence = new AtomicLong();
+    private final AtomicLong sendRequests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    private volatile long latencyMillis;
+    private volatile double errorRate;
+
+    FcmV1StandIn() throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return respond(request);
+            }
+        });
+        server.start();
+    }
+
+    void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = Math.max(0L, latencyMillis);
+    }
+
+    void setErrorRate(double errorRate) {
+        this.errorRate = Math.min(1.0, Math.max(0.0, errorRate));
+    }
+
+    void markUnregistered(String fcmToken) {
+        unregisteredTokens.add(fcmToken);
+    }
+
+    long getSendRequestCount() {
+        return sendRequests.get();
+    }
+
+    long getInjectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    // 이 대역으로 요청을 보내는 FirebaseApp을 만듭니다. 사용 후 delete()해야 합니다.
+    //
+    // @param name 앱 이름 (기본 앱과 겹치지 않도록 지정)
+    FirebaseApp createApp(String name) {
+        NetHttpTransport transport = new NetHttpTransport.Builder()
+                .setConnectionFactory(url -> (HttpURLConnection) rewrite(url).openConnection())
+                .build();
+        FirebaseOptions options = FirebaseOptions.builder()
+                .setProjectId(PROJECT_ID)
+                .setCredentials(GoogleCredentials.create(new AccessToken("stand-in", new Date(Long.MAX_VALUE))))
+                .setHttpTransport(transport)
+                .build();
+        return FirebaseApp.initializeApp(options, name);
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private URL rewrite(URL url) throws IOException {
+        return new URL("http", server.getHostName(), server.getPort(), url.getFile());
+    }
+
+    private MockResponse respond(RecordedRequest request) {
+        String path = request.getPath() != null ? request.getPath() : "";
+        JsonNode body;
+        try {
+            body = objectMapper.readTree(request.getBody().readUtf8());
+        } catch (IOException e) {
+            return error(400, "INVALID_ARGUMENT", "INVALID_ARGUMENT", "요청 본문 파싱 실패");
+        }
+
+        if (path.endsWith("/messages:send")) {
+            return respondToSend(body.path("message"));
+        }
+        if (path.endsWith(":batchAdd") || path.endsWith(":batchRemove")) {
+            return respondToTopicManagement(body.path("registration_tokens"));
+        }
+        return new MockResponse().setResponseCode(404);
+    }
+
+    private MockResponse respondToSend(JsonNode message) {
+        sendRequests.incrementAndGet();
+        MockResponse response;
+        String token = message.path("token").asText(null);
+        if (token != null && unregisteredTokens.contains(token)) {
+            response = error(404, "NOT_FOUND", "UNREGISTERED", "Requested entity was not found.");
+        } else if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.incrementAndGet();
+            response = error(429, "RESOURCE_EXHAUSTED", "QUOTA_EXCEEDED", "Quota exceeded.");
+        } else {
+            response = json(200, "{\"name\":\"projects/" + PROJECT_ID + "/messages/"
+                    + messageSequence.incrementAndGet() + "\"}");
+        }
+        return delayed(response);
+    }
+
+    private MockResponse respondToTopicManagement(JsonNode tokens) {
+        StringBuilder results = new StringBuilder("{\"results\":[");
+        for (int i = 0; i < tokens.size(); i++) {
+            results.append(i == 0 ? "{}" : ",{}");
+        }
+        return delayed(json(200, results.append("]}").toString()));
+    }
+
+    private MockResponse delayed(MockResponse response) {
+        long latency = latencyMillis;
+        return latency > 0 ? response.setHeadersDelay(latency, TimeUnit.MILLISECONDS) : response;
+    }
+
+    private static MockResponse error(int code, String status, String fcmErrorCode, String message) {
+        return json(code, "{\"error\":{\"code\":" + code + ",\"message\":\"" + message + "\",\"status\":\"" + status
+                + "\",\"details\":[{\"@type\":\"type.googleapis.com/google.firebase.fcm.v1.FcmError\","
+                + "\"errorCode\":\"" + fcmErrorCode + "\"}]}}");
+    }
+
+    private static MockResponse json(int code, String body) {
+        return new MockResponse()
+                .setResponseCode(code)
+                .setHeader("Content-Type", "application/json; charset=UTF-8")
+                .setBody(body);
+    }
+}
@@ -0,0 +1,79 @@
+package baro.baro.domain.notification.service;
+
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import com.google.firebase.messaging.TopicManagementResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FirebaseFcmTransportTest {
+
+    private FcmV1StandIn standIn;
+    private FirebaseApp app;
+    private FirebaseFcmTransport transport;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        standIn = new FcmV1StandIn();
+        app = standIn.createApp("fcm-transport-test");
+        transport = new FirebaseFcmTransport(app);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        app.delete();
+        standIn.close();
+    }
+
+    @Test
+    void send_returnsMessageIdFromStandIn() throws Exception {
+        String messageId = transport.send(Message.builder().setToken("token-1").build());
+
+        assertThat(messageId).startsWith("projects/" + FcmV1StandIn.PROJECT_ID + "/messages/");
+        assertThat(standIn.getSendRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void send_whenTokenUnregistered_throwsWithMessagingErrorCode() {
+        standIn.markUnregistered("stale-token");
+
+        assertThatThrownBy(() -> transport.send(Message.builder().setToken("stale-token").build()))
+                .isInstanceOfSatisfying(FirebaseMessagingException.class, e ->
+                        assertThat(e.getMessagingErrorCode()).isEqualTo(MessagingErrorCode.UNREGISTERED));
+    }
+
+    @Test
+    void sendEach_returnsResponsesInRequestOrder() throws Exception {
+        standIn.markUnregistered("stale-token");
+
+        List<SendResponse> responses = transport.sendEach(List.of(
+                Message.builder().setToken("token-1").build(),
+                Message.builder().setToken("stale-token").build(),
+                Message.builder().setToken("token-2").build()));
+
+        assertThat(responses).extracting(SendResponse::isSuccessful).containsExactly(true, false, true);
+        assertThat(responses.get(1).getException().getMessagingErrorCode()).isEqualTo(MessagingErrorCode.UNREGISTERED);
+    }
+
+    @Test
+    void subscribeToTopic_reportsEveryTokenAsSubscribed() throws Exception {
+        TopicManagementResponse response = transport.subscribeToTopic(List.of("token-1", "token-2"), "region_wydm9");
+
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailureCount()).isZero();
+    }
+
+    @Test
+    void isAvailable_whenAppGiven_returnsTrue() {
+        assertThat(transport.isAvailable()).isTrue();
+    }
+}
@@ -1,7 +1,8 @@
 package baro.baro.domain.notification.service;
 
-import baro.baro.domain.device.entity.Device;
+import baro.baro.domain.device.repository.DevicePushTarget;
 import baro.baro.domain.notification.entity.NotificationType;
+import baro.baro.domain.notification.service.FcmBatchDispatcher.DeliveryResult;
 import baro.baro.domain.user.entity.User;
 import com.google.firebase.messaging.Message;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -24,6 +28,8 @@ class InvitationNotificationServiceTest {
     @Mock
     private FcmDispatchService fcmDispatchService;
     @Mock
+    private FcmBatchDispatcher fcmBatchDispatcher;
+    @Mock
     private NotificationPersistenceService notificationPersistenceService;
 
     private InvitationNotificationService invitationNotificationService;
@@ -33,6 +39,7 @@ class InvitationNotificationServiceTest {
         invitationNotificationService = new InvitationNotificationService(
                 notificationDeviceService,
                 fcmDispatchService,
+                fcmBatchDispatcher,
                 notificationPersistenceService
         );
     }
@@ -41,13 +48,9 @@ class InvitationNotificationServiceTest {
     void sendInvitationNotificationDispatchesForEachDevice() {
         User invitee = createUser(1L, "수신자");
         User inviter = createUser(2L, "초대한 사람");
-        Device device = Device.builder()
-                .user(invitee)
-                .fcmToken("token-123")
-                .isActive(true)
-                .build();
-        when(notificationDeviceService.getActiveDevicesWithToken(invitee))
-                .thenReturn(List.of(device));
+        DevicePushTarget device = new DevicePushTarget(201L, "token-123", "Android");
+        when(notificationDeviceService.getPushTargets(invitee))
+                .thenReturn(PushTargets.from(List.of(device)));
         String relation = "아버지";
         Long invitationId = 77L;
         String expectedMessage = String.format("%s님이 %s로 초대 요청을 보냈습니다.",
@@ -56,38 +59,38 @@ class InvitationNotificationServiceTest {
         when(fcmDispatchService.buildInvitationMessage("token-123", "새로운 구성원 초대 요청",
                 expectedMessage, invitationId, inviter.getName(), relation)).thenReturn(fcmMessage);
 
-        invitationNotificationService.sendInvitationNotification(invitee, inviter, relation, invitationId);
+        invitationNotificationService.saveInvitationNotification(invitee, inviter, relation, invitationId);
+        List<CompletableFuture<DeliveryResult>> results =
+                invitationNotificationService.sendInvitationNotification(invitee, inviter, relation, invitationId);
 
         verify(notificationPersistenceService).save(invitee, NotificationType.INVITE_REQUEST,
                 "새로운 구성원 초대 요청", expectedMessage, invitationId);
-        verify(fcmDispatchService).dispatch(fcmMessage, "invitation", "token-123");
+        verify(fcmBatchDispatcher).submit(201L, "token-123", "invitation", fcmMessage, PushPriority.NORMAL);
+        assertThat(results).hasSize(1);
     }
 
     @Test
     void sendInvitationNotificationSkipsDispatchWhenNoDevices() {
         User invitee = createUser(3L, "기기 없음");
         User inviter = createUser(4L, "초대자");
-        when(notificationDeviceService.getActiveDevicesWithToken(invitee))
-                .thenReturn(List.of());
+        when(notificationDeviceService.getPushTargets(invitee))
+                .thenReturn(PushTargets.EMPTY);
 
-        invitationNotificationService.sendInvitationNotification(invitee, inviter, "자녀", 1L);
+        List<CompletableFuture<DeliveryResult>> results =
+                invitationNotificationService.sendInvitationNotification(invitee, inviter, "자녀", 1L);
 
-        verify(notificationPersistenceService).save(eq(invitee), eq(NotificationType.INVITE_REQUEST),
-                anyString(), anyString(), eq(1L));
-        verify(fcmDispatchService, never()).dispatch(any(), anyString(), anyString());
+        assertThat(results).isEmpty();
+        verify(fcmBatchDispatcher, never()).submit(any(), anyString(), anyString(), any(), any());
+        verifyNoInteractions(notificationPersistenceService);
     }
 
     @Test
     void sendInvitationResponseNotificationBuildsMessageByAcceptance() {
         User inviter = createUser(5L, "초대한 사용자");
         User invitee = createUser(6L, "수락한 사용자");
-        Device device = Device.builder()
-                .user(inviter)
-                .fcmToken("token-77")
-                .isActive(true)
-                .build();
-        when(notificationDeviceService.getActiveDevicesWithToken(inviter))
-                .thenReturn(List.of(device));
+        DevicePushTarget device = new DevicePushTarget(202L, "token-77", "Android");
+        when(notificationDeviceService.getPushTargets(inviter))
+                .thenReturn(PushTargets.from(List.of(device)));
         Message fcmMessage = Message.builder().setToken("token-77").build();
         String relation = "딸";
         String expectedMessage = String.format("%s님이 %s 초대 요청을 수락했습니다.",
@@ -102,11 +105,12 @@ class InvitationNotificationServiceTest {
                 true
         )).thenReturn(fcmMessage);
 
+        invitationNotificationService.saveInvitationResponseNotification(inviter, invitee, true, relation);
         invitationNotificationService.sendInvitationResponseNotification(inviter, invitee, true, relation);
 
         verify(notificationPersistenceService).save(inviter, NotificationType.INVITE_REQUEST,
                 "초대 요청이 수락되었습니다", expectedMessage, null);
-        verify(fcmDispatchService).dispatch(fcmMessage, "invitation_accepted", "token-77");
+        verify(fcmBatchDispatcher).submit(202L, "token-77", "invitation_accepted", fcmMessage, PushPriority.NORMAL);
     }
 
     private User createUser(Long id, String name) {
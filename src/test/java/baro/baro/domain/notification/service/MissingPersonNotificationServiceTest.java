@@ -1,7 +1,8 @@
 package baro.baro.domain.notification.service;
 
-import baro.baro.domain.device.entity.Device;
+import baro.baro.domain.device.repository.DevicePushTarget;
 import baro.baro.domain.notification.entity.NotificationType;
+import baro.baro.domain.notification.service.FcmBatchDispatcher.DeliveryResult;
 import baro.baro.domain.user.entity.User;
 import com.google.firebase.messaging.Message;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,7 +16,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -27,6 +30,8 @@ class MissingPersonNotificationServiceTest {
     @Mock
     private FcmDispatchService fcmDispatchService;
     @Mock
+    private FcmBatchDispatcher fcmBatchDispatcher;
+    @Mock
     private NotificationPersistenceService notificationPersistenceService;
 
     private MissingPersonNotificationService missingPersonNotificationService;
@@ -36,6 +41,7 @@ class MissingPersonNotificationServiceTest {
         missingPersonNotificationService = new MissingPersonNotificationService(
                 notificationDeviceService,
                 fcmDispatchService,
+                fcmBatchDispatcher,
                 notificationPersistenceService
         );
     }
@@ -43,10 +49,10 @@ class MissingPersonNotificationServiceTest {
     @Test
     void sendMissingPersonFoundNotificationDispatchesForEachDevice() {
         User owner = createUser(1L, "등록자");
-        Device first = Device.builder().user(owner).fcmToken("token-1").isActive(true).build();
-        Device second = Device.builder().user(owner).fcmToken("token-2").isActive(true).build();
-        when(notificationDeviceService.getActiveDevicesWithToken(owner))
-                .thenReturn(List.of(first, second));
+        DevicePushTarget first = new DevicePushTarget(101L, "token-1", "Android");
+        DevicePushTarget second = new DevicePushTarget(102L, "token-2", "Android");
+        when(notificationDeviceService.getPushTargets(owner))
+                .thenReturn(PushTargets.from(List.of(first, second)));
         Message message1 = Message.builder().setToken("token-1").build();
         Message message2 = Message.builder().setToken("token-2").build();
         when(fcmDispatchService.buildMissingPersonFoundMessage(
@@ -62,36 +68,57 @@ class MissingPersonNotificationServiceTest {
         String expectedMessage = String.format("실종자 %s님이 발견되었습니다\n\n찾은 팀: %s 님\n발견 위치: %s",
                 missingPersonName, reporterName, address);
 
-        missingPersonNotificationService.sendMissingPersonFoundNotification(
+        missingPersonNotificationService.saveMissingPersonFoundNotification(
                 10L, owner, missingPersonName, reporterName, address
         );
+        List<CompletableFuture<DeliveryResult>> results = missingPersonNotificationService
+                .sendMissingPersonFoundNotification(10L, owner, missingPersonName, reporterName, address);
 
         verify(notificationPersistenceService).save(owner, NotificationType.FOUND_REPORT,
                 "실종자가 발견되었습니다!", expectedMessage, 10L);
-        verify(fcmDispatchService).dispatch(message1, "missing_person_found", "token-1");
-        verify(fcmDispatchService).dispatch(message2, "missing_person_found", "token-2");
+        verify(fcmBatchDispatcher).submit(101L, "token-1", "missing_person_found", message1, PushPriority.HIGH);
+        verify(fcmBatchDispatcher).submit(102L, "token-2", "missing_person_found", message2, PushPriority.HIGH);
+        assertThat(results).hasSize(2);
+    }
+
+    @Test
+    void sendNewCaseRegionBroadcastSendsOneTopicMessagePerSurroundingCell() {
+        Message message = Message.builder().setTopic("region").build();
+        when(fcmDispatchService.buildNewCaseRegionMessage(
+                anyString(), anyString(), anyString(), eq("실종자"), eq(30L), eq("서울시")))
+                .thenReturn(message);
+
+        List<CompletableFuture<DeliveryResult>> results = missingPersonNotificationService
+                .sendNewCaseRegionBroadcast(30L, "실종자", 37.5665, 126.9780, "서울시");
+
+        verify(fcmDispatchService).buildNewCaseRegionMessage(
+                eq("region_wydm9"), anyString(), anyString(), eq("실종자"), eq(30L), eq("서울시"));
+        verify(fcmDispatchService, times(9)).buildNewCaseRegionMessage(
+                startsWith("region_"), anyString(), anyString(), anyString(), anyLong(), anyString());
+        verify(fcmBatchDispatcher, times(9)).submit(null, null, "new_case_region", message, PushPriority.HIGH);
+        verifyNoInteractions(notificationDeviceService, notificationPersistenceService);
+        assertThat(results).hasSize(9);
     }
 
     @Test
     void sendMissingPersonFoundNotificationSkipsDispatchWhenNoDevices() {
         User owner = createUser(2L, "등록자");
-        when(notificationDeviceService.getActiveDevicesWithToken(owner)).thenReturn(List.of());
+        when(notificationDeviceService.getPushTargets(owner)).thenReturn(PushTargets.EMPTY);
 
-        missingPersonNotificationService.sendMissingPersonFoundNotification(
-                11L, owner, "실종자", "제보자", "서울"
-        );
+        List<CompletableFuture<DeliveryResult>> results = missingPersonNotificationService
+                .sendMissingPersonFoundNotification(11L, owner, "실종자", "제보자", "서울");
 
-        verify(notificationPersistenceService).save(eq(owner), eq(NotificationType.FOUND_REPORT),
-                anyString(), anyString(), eq(11L));
-        verify(fcmDispatchService, never()).dispatch(any(), anyString(), anyString());
+        assertThat(results).isEmpty();
+        verify(fcmBatchDispatcher, never()).submit(any(), anyString(), anyString(), any(), any());
+        verifyNoInteractions(notificationPersistenceService);
     }
 
     @Test
     void sendNearbyAlertToReporterPersistsLocationAndDispatches() {
         User reporter = createUser(3L, "제보자");
-        Device device = Device.builder().user(reporter).fcmToken("token-3").isActive(true).build();
-        when(notificationDeviceService.getActiveDevicesWithToken(reporter))
-                .thenReturn(List.of(device));
+        DevicePushTarget device = new DevicePushTarget(103L, "token-3", "Android");
+        when(notificationDeviceService.getPushTargets(reporter))
+                .thenReturn(PushTargets.from(List.of(device)));
         Message message = Message.builder().setToken("token-3").build();
         when(fcmDispatchService.buildNearbyAlertMessage(
                 eq("token-3"), anyString(), anyString(), anyString(), eq("제보자"),
@@ -104,14 +131,15 @@ class MissingPersonNotificationServiceTest {
         String expectedMessage = String.format("실종자 %s가 주변 %.0fm 이내에 있습니다. 주의 깊게 살펴봐 주세요.",
                 missingPersonName, distance);
 
-        missingPersonNotificationService.sendNearbyAlertToReporter(
+        missingPersonNotificationService.saveNearbyAlertToReporter(
                 reporter, missingPersonName, distance, location, 55L
         );
+        missingPersonNotificationService.sendNearbyAlertToReporter(reporter, missingPersonName, distance, 55L);
 
         verify(notificationPersistenceService).saveWithLocation(reporter, NotificationType.NEARBY_ALERT,
                 "주변에 실종자가 있습니다!", expectedMessage,
                 55L, location);
-        verify(fcmDispatchService).dispatch(message, "nearby_alert", "token-3");
+        verify(fcmBatchDispatcher).submit(103L, "token-3", "nearby_alert", message, PushPriority.LOW);
     }
 
     private User createUser(Long id, String name) {
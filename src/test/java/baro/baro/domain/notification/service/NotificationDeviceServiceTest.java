@@ -1,18 +1,25 @@
 package baro.baro.domain.notification.service;
 
-import baro.baro.domain.device.entity.Device;
+import baro.baro.domain.device.dto.event.DevicePushTargetChangedEvent;
+import baro.baro.domain.device.repository.DevicePushTarget;
 import baro.baro.domain.device.repository.DeviceRepository;
 import baro.baro.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,33 +28,89 @@ class NotificationDeviceServiceTest {
     @Mock
     private DeviceRepository deviceRepository;
 
+    private final AtomicLong nanos = new AtomicLong();
+    private PushTargetCache pushTargetCache;
     private NotificationDeviceService notificationDeviceService;
 
     @BeforeEach
     void setUp() {
-        notificationDeviceService = new NotificationDeviceService(deviceRepository);
+        pushTargetCache = new PushTargetCache(deviceRepository, new SimpleMeterRegistry(), 100, Duration.ofSeconds(60), nanos::get);
+        notificationDeviceService = new NotificationDeviceService(pushTargetCache);
     }
 
     @Test
-    void returnsOnlyActiveDevicesWithTokens() {
-        User user = mock(User.class);
-        Device active = Device.builder().isActive(true).fcmToken("token-a").build();
-        Device withoutToken = Device.builder().isActive(true).fcmToken("").build();
-        Device inactive = Device.builder().isActive(false).fcmToken("token-b").build();
-        when(deviceRepository.findByUser(user)).thenReturn(List.of(active, withoutToken, inactive));
+    void returnsPushTargetsLoadedFromQuery() {
+        User user = createUser(1L);
+        when(deviceRepository.findPushTargetsByUserId(1L)).thenReturn(List.of(
+                new DevicePushTarget(10L, "token-a", "iOS"),
+                new DevicePushTarget(11L, "token-b", "Android")));
 
-        List<Device> result = notificationDeviceService.getActiveDevicesWithToken(user);
+        PushTargets result = notificationDeviceService.getPushTargets(user);
 
-        assertThat(result).containsExactly(active);
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.deviceId(0)).isEqualTo(10L);
+        assertThat(result.fcmToken(1)).isEqualTo("token-b");
+        assertThat(result.platform(1)).isEqualTo("Android");
     }
 
     @Test
-    void returnsEmptyListWhenNoDevicesAvailable() {
-        User user = mock(User.class);
-        when(deviceRepository.findByUser(user)).thenReturn(List.of());
+    void returnsEmptyTargetsWhenNoDevicesAvailable() {
+        User user = createUser(2L);
+        when(deviceRepository.findPushTargetsByUserId(2L)).thenReturn(List.of());
 
-        List<Device> result = notificationDeviceService.getActiveDevicesWithToken(user);
+        PushTargets result = notificationDeviceService.getPushTargets(user);
 
-        assertThat(result).isEmpty();
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void cachesTargetsUntilPushTargetChanges() {
+        User user = createUser(3L);
+        when(deviceRepository.findPushTargetsByUserId(3L))
+                .thenReturn(List.of(new DevicePushTarget(30L, "old-token", "iOS")))
+                .thenReturn(List.of(new DevicePushTarget(30L, "new-token", "iOS")));
+
+        notificationDeviceService.getPushTargets(user);
+        PushTargets cached = notificationDeviceService.getPushTargets(user);
+        pushTargetCache.onPushTargetChanged(new DevicePushTargetChangedEvent(this, 3L));
+        PushTargets reloaded = notificationDeviceService.getPushTargets(user);
+
+        assertThat(cached.fcmToken(0)).isEqualTo("old-token");
+        assertThat(reloaded.fcmToken(0)).isEqualTo("new-token");
+        verify(deviceRepository, times(2)).findPushTargetsByUserId(3L);
+    }
+
+    @Test
+    void reloadsTargetsAfterTtl() {
+        User user = createUser(4L);
+        when(deviceRepository.findPushTargetsByUserId(4L))
+                .thenReturn(List.of(new DevicePushTarget(40L, "old-token", "iOS")))
+                .thenReturn(List.of(new DevicePushTarget(40L, "new-token", "iOS")));
+
+        notificationDeviceService.getPushTargets(user);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        PushTargets reloaded = notificationDeviceService.getPushTargets(user);
+
+        assertThat(reloaded.fcmToken(0)).isEqualTo("new-token");
+        verify(deviceRepository, times(2)).findPushTargetsByUserId(4L);
+    }
+
+    @Test
+    void doesNotCacheTargetsLoadedBeforeEviction() {
+        User user = createUser(5L);
+        when(deviceRepository.findPushTargetsByUserId(5L)).thenAnswer(invocation -> {
+            pushTargetCache.evict(5L);
+            return List.of(new DevicePushTarget(50L, "stale-token", "iOS"));
+        });
+
+        notificationDeviceService.getPushTargets(user);
+
+        assertThat(pushTargetCache.size()).isZero();
+    }
+
+    private User createUser(Long id) {
+        User user = new User();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
     }
 }
@@ -0,0 +1,182 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.common.sse.SseConnectionManager;
+import baro.baro.domain.member.service.MemberLocationEmitterRegistry;
+import baro.baro.domain.notification.dto.event.NotificationStreamEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class NotificationEmitterRegistryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private SimpleMeterRegistry meterRegistry;
+    private SseConnectionManager connectionManager;
+    private NotificationEmitterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = createRegistry(Runnable::run, 16, 2, 3);
+    }
+
+    @Test
+    void pushSendsToAllConnectionsOfUser() throws IOException {
+        SseEmitter first = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+        registry.addEmitter(1L, first);
+        registry.addEmitter(1L, second);
+
+        registry.push(1L, NotificationStreamEvent.unreadCount(3L));
+
+        verify(first).send(any(SseEmitter.SseEventBuilder.class));
+        verify(second).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(meterRegistry.get("sse_events_total").tag("result", "sent").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void pushSkipsUsersWithoutConnection() throws IOException {
+        SseEmitter emitter = mock(SseEmitter.class);
+        registry.addEmitter(1L, emitter);
+
+        registry.push(2L, NotificationStreamEvent.unreadCount(3L));
+
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void addEmitterSendsInitialOnlyToNewConnection() throws IOException {
+        SseEmitter existing = mock(SseEmitter.class);
+        SseEmitter added = mock(SseEmitter.class);
+        registry.addEmitter(1L, existing);
+
+        registry.addEmitter(1L, added, NotificationStreamEvent.initial(5L));
+
+        verify(existing, never()).send(any(SseEmitter.SseEventBuilder.class));
+        verify(added).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void initialIsSentBeforeEventsPushedAfterRegistration() throws IOException {
+        List<Runnable> tasks = new ArrayList<>();
+        NotificationEmitterRegistry queued = createRegistry(tasks::add, 16, 2, 3);
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        queued.addEmitter(1L, emitter, NotificationStreamEvent.initial(5L));
+        queued.push(1L, NotificationStreamEvent.unreadCount(6L));
+        tasks.forEach(Runnable::run);
+
+        ArgumentCaptor<SseEmitter.SseEventBuilder> sent = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, times(2)).send(sent.capture());
+        assertThat(payload(sent.getAllValues().get(0))).contains("\"INITIAL\"");
+        assertThat(payload(sent.getAllValues().get(1))).contains("\"UNREAD_COUNT\"");
+    }
+
+    @Test
+    void failedSendRemovesEmitter() throws IOException {
+        SseEmitter emitter = mock(SseEmitter.class);
+        doThrow(new IOException("broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        registry.addEmitter(1L, emitter);
+
+        registry.sendHeartbeatToAll();
+
+        assertThat(registry.hasConnection(1L)).isFalse();
+        assertThat(registry.getTotalConnectionCount()).isZero();
+        assertThat(meterRegistry.get("sse_events_total").tag("result", "failed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void addEmitterEvictsOldestWhenLimitReached() {
+        SseEmitter oldest = mock(SseEmitter.class);
+        registry.addEmitter(1L, oldest);
+        registry.addEmitter(1L, mock(SseEmitter.class));
+        registry.addEmitter(1L, mock(SseEmitter.class));
+
+        verify(oldest).complete();
+        assertThat(registry.getTotalConnectionCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("sse_connections_active").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void addEmitterEvictsOldestConnectionWhenGlobalLimitReached() {
+        SseEmitter oldest = mock(SseEmitter.class);
+        registry.addEmitter(1L, oldest);
+        registry.addEmitter(2L, mock(SseEmitter.class));
+        registry.addEmitter(3L, mock(SseEmitter.class));
+        registry.addEmitter(4L, mock(SseEmitter.class));
+
+        verify(oldest).complete();
+        assertThat(registry.hasConnection(1L)).isFalse();
+        assertThat(registry.getTotalConnectionCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("sse_connection_evictions_total").tag("reason", "global_limit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void connectionLimitsAreSharedWithLocationStream() {
+        MemberLocationEmitterRegistry locationRegistry =
+                new MemberLocationEmitterRegistry(connectionManager, objectMapper, meterRegistry, 16);
+        SseEmitter locationEmitter = mock(SseEmitter.class);
+        locationRegistry.addEmitter(1L, locationEmitter);
+        registry.addEmitter(1L, mock(SseEmitter.class));
+
+        // 사용자별 제한(2)은 위치/알림 스트림 연결 합계에 적용됩니다.
+        registry.addEmitter(1L, mock(SseEmitter.class));
+
+        verify(locationEmitter).complete();
+        assertThat(locationRegistry.hasConnection(1L)).isFalse();
+        assertThat(registry.getTotalConnectionCount()).isEqualTo(2);
+        assertThat(connectionManager.getTotalConnectionCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("sse_connection_evictions_total").tag("reason", "per_user_limit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void pushEvictsConnectionWhenQueueIsFull() throws IOException {
+        List<Runnable> tasks = new ArrayList<>();
+        NotificationEmitterRegistry queued = createRegistry(tasks::add, 1, 2, 3);
+        SseEmitter slow = mock(SseEmitter.class);
+        queued.addEmitter(1L, slow);
+
+        queued.push(1L, NotificationStreamEvent.unreadCount(1L));
+        queued.push(1L, NotificationStreamEvent.unreadCount(2L));
+
+        assertThat(queued.hasConnection(1L)).isFalse();
+        assertThat(meterRegistry.get("sse_outbound_evictions_total").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1.0);
+
+        // 대기 중이던 writer 작업은 이벤트를 보내지 않고 연결만 종료합니다.
+        tasks.forEach(Runnable::run);
+        verify(slow, never()).send(any(SseEmitter.SseEventBuilder.class));
+        verify(slow).complete();
+    }
+
+    private NotificationEmitterRegistry createRegistry(Executor executor, int queueCapacity, int maxPerUser, int maxTotal) {
+        meterRegistry = new SimpleMeterRegistry();
+        connectionManager = new SseConnectionManager(meterRegistry, executor, 10_000L, maxPerUser, maxTotal);
+        return new NotificationEmitterRegistry(connectionManager, objectMapper, queueCapacity);
+    }
+
+    private static String payload(SseEmitter.SseEventBuilder builder) {
+        return builder.build().stream()
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .map(String::valueOf)
+                .collect(Collectors.joining());
+    }
+}
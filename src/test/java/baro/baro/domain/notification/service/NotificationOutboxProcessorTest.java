@@ -0,0 +1,278 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.notification.dto.outbox.InvitationCreatedPayload;
+import baro.baro.domain.notification.dto.outbox.MissingPersonRegisteredPayload;
+import baro.baro.domain.notification.dto.outbox.NearbyAlertPayload;
+import baro.baro.domain.notification.entity.NotificationOutbox;
+import baro.baro.domain.notification.entity.OutboxEventType;
+import baro.baro.domain.notification.entity.OutboxStatus;
+import baro.baro.domain.notification.repository.NotificationOutboxRepository;
+import baro.baro.domain.notification.service.FcmBatchDispatcher.DeliveryResult;
+import baro.baro.domain.user.entity.User;
+import baro.baro.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Point;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxProcessorTest {
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PushNotificationService pushNotificationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        processor = new NotificationOutboxProcessor(notificationOutboxRepository, userRepository,
+                pushNotificationService, objectMapper, transactionManager, meterRegistry,
+                10, 3, 60000L, 1000L, 8000L, 30000L);
+    }
+
+    @Test
+    void processBatchClaimsRowsAndDeliversThroughPushPath() throws Exception {
+        NotificationOutbox outbox = claimed(1L, OutboxEventType.INVITATION_CREATED,
+                new InvitationCreatedPayload(10L, 20L, "가족", 99L), 1);
+        User invitee = createUser(10L);
+        User inviter = createUser(20L);
+        when(notificationOutboxRepository.lockNextBatch(any(LocalDateTime.class), eq(10))).thenReturn(List.of(1L));
+        when(notificationOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        when(userRepository.findById(10L)).thenReturn(Optional.of(invitee));
+        when(userRepository.findById(20L)).thenReturn(Optional.of(inviter));
+
+        when(pushNotificationService.sendInvitationNotification(invitee, inviter, "가족", 99L))
+                .thenReturn(List.of(CompletableFuture.completedFuture(success())));
+
+        int claimed = processor.processBatch();
+
+        assertThat(claimed).isEqualTo(1);
+        verify(notificationOutboxRepository).markProcessing(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(pushNotificationService).saveInvitationNotification(invitee, inviter, "가족", 99L);
+        verify(pushNotificationService).sendInvitationNotification(invitee, inviter, "가족", 99L);
+        assertThat(outbox.isInAppSaved()).isTrue();
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(outbox.getProcessedAt()).isNotNull();
+        assertThat(meterRegistry.get("notification_outbox_processed_total").tag("result", "sent").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void processBatchSkipsWhenNothingAvailable() {
+        when(notificationOutboxRepository.lockNextBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of());
+
+        assertThat(processor.processBatch()).isZero();
+        verify(notificationOutboxRepository, never()).markProcessing(anyCollection(), any());
+    }
+
+    @Test
+    void failedDeliveryIsRescheduledWithBackoff() throws Exception {
+        NotificationOutbox outbox = claimed(2L, OutboxEventType.INVITATION_CREATED,
+                new InvitationCreatedPayload(10L, 20L, "가족", 99L), 1);
+        when(notificationOutboxRepository.lockNextBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(2L));
+        when(notificationOutboxRepository.findById(2L)).thenReturn(Optional.of(outbox));
+        when(userRepository.findById(anyLong())).thenAnswer(inv -> Optional.of(createUser(inv.getArgument(0))));
+        doThrow(new IllegalStateException("db down"))
+                .when(pushNotificationService).saveInvitationNotification(any(), any(), any(), any());
+
+        LocalDateTime before = LocalDateTime.now();
+        processor.processBatch();
+
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outbox.getAvailableAt()).isAfterOrEqualTo(before.plusSeconds(1));
+        assertThat(outbox.getLastError()).contains("db down");
+        assertThat(meterRegistry.get("notification_outbox_processed_total").tag("result", "retry").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void deliveryFailsPermanentlyAfterMaxAttempts() throws Exception {
+        NotificationOutbox outbox = claimed(3L, OutboxEventType.INVITATION_CREATED,
+                new InvitationCreatedPayload(10L, 20L, "가족", 99L), 3);
+        when(notificationOutboxRepository.lockNextBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(3L));
+        when(notificationOutboxRepository.findById(3L)).thenReturn(Optional.of(outbox));
+        when(userRepository.findById(anyLong())).thenAnswer(inv -> Optional.of(createUser(inv.getArgument(0))));
+        doThrow(new IllegalStateException("db down"))
+                .when(pushNotificationService).saveInvitationNotification(any(), any(), any(), any());
+
+        processor.processBatch();
+
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(meterRegistry.get("notification_outbox_processed_total").tag("result", "failed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void missingUserFailsWithoutRetry() throws Exception {
+        NotificationOutbox outbox = claimed(4L, OutboxEventType.INVITATION_CREATED,
+                new InvitationCreatedPayload(10L, 20L, "가족", 99L), 1);
+        when(notificationOutboxRepository.lockNextBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(4L));
+        when(notificationOutboxRepository.findById(4L)).thenReturn(Optional.of(outbox));
+        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        processor.processBatch();
+
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(outbox.getLastError()).isEqualTo("USER_NOT_FOUND");
+        verifyNoInteractions(pushNotificationService);
+    }
+
+    @Test
+    void nearbyAlertRestoresReporterLocation() throws Exception {
+        NotificationOutbox outbox = claimed(5L, OutboxEventType.NEARBY_ALERT,
+                new NearbyAlertPayload(30L, "홍길동", 120.5, 37.5665, 126.978, 7L), 1);
+        User reporter = createUser(30L);
+        when(notificationOutboxRepository.lockNextBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(5L));
+        when(notificationOutboxRepository.findById(5L)).thenReturn(Optional.of(outbox));
+        when(userRepository.findById(30L)).thenReturn(Optional.of(reporter));
+
+        processor.processBatch();
+
+        ArgumentCaptor<Point> captor = ArgumentCaptor.forClass(Point.class);
+        verify(pushNotificationService).saveNearbyAlertToReporter(
+                eq(reporter), eq("홍길동"), eq(120.5), captor.capture(), eq(7L));
+        verify(pushNotificationService).sendNearbyAlertToReporter(reporter, "홍길동", 120.5, 7L);
+        assertThat(captor.getValue().getY()).isEqualTo(37.5665);
+        assertThat(captor.getValue().getX()).isEqualTo(126.978);
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.SENT);
+    }
+
+    @Test
+    void missingPersonRegisteredBroadcastsToRegionTopics() throws Exception {
+        NotificationOutbox outbox = claimed(6L, OutboxEventType.MISSING_PERSON_REGISTERED,
+                new MissingPersonRegisteredPayload(8L, "홍길동", 37.5665, 126.978, "서울시 중구"), 1);
+        when(notificationOutboxRepository.lockNextBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(6L));
+        when(notificationOutboxRepository.findById(6L)).thenReturn(Optional.of(outbox));
+
+        processor.processBatch();
+
+        verify(pushNotificationService).sendNewCaseRegionBroadcast(8L, "홍길동", 37.5665, 126.978, "서울시 중구");
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(outbox.getPriority()).isEqualTo((short) PushPriority.HIGH.ordinal());
+    }
+
+    @Test
+    void transientDeliveryFailureIsRetriedWithoutSavingInAppAgain() throws Exception {
+        NotificationOutbox outbox = claimed(7L, OutboxEventType.INVITATION_CREATED,
+                new InvitationCreatedPayload(10L, 20L, "가족", 99L), 1);
+        when(notificationOutboxRepository.lockNextBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(7L));
+        when(notificationOutboxRepository.findById(7L)).thenReturn(Optional.of(outbox));
+        when(userRepository.findById(anyLong())).thenAnswer(inv -> Optional.of(createUser(inv.getArgument(0))));
+        when(pushNotificationService.sendInvitationNotification(any(), any(), any(), any()))
+                .thenReturn(List.of(CompletableFuture.completedFuture(success()),
+                        CompletableFuture.completedFuture(failure(null, "QUEUE_FULL"))))
+                .thenReturn(List.of(CompletableFuture.completedFuture(success())));
+
+        processor.processBatch();
+
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outbox.getLastError()).isEqualTo("QUEUE_FULL");
+        assertThat(outbox.isInAppSaved()).isTrue();
+
+        // 백오프 후 다시 점유된 상태
+        ReflectionTestUtils.setField(outbox, "status", OutboxStatus.PROCESSING);
+        ReflectionTestUtils.setField(outbox, "attempts", 2);
+        processor.processBatch();
+
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.SENT);
+        verify(pushNotificationService, times(1)).saveInvitationNotification(any(), any(), any(), any());
+        verify(pushNotificationService, times(2)).sendInvitationNotification(any(), any(), any(), any());
+    }
+
+    @Test
+    void invalidTokenFailureCompletesDelivery() throws Exception {
+        NotificationOutbox outbox = claimed(8L, OutboxEventType.INVITATION_CREATED,
+                new InvitationCreatedPayload(10L, 20L, "가족", 99L), 1);
+        when(notificationOutboxRepository.lockNextBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(8L));
+        when(notificationOutboxRepository.findById(8L)).thenReturn(Optional.of(outbox));
+        when(userRepository.findById(anyLong())).thenAnswer(inv -> Optional.of(createUser(inv.getArgument(0))));
+        when(pushNotificationService.sendInvitationNotification(any(), any(), any(), any()))
+                .thenReturn(List.of(CompletableFuture.completedFuture(
+                        failure(MessagingErrorCode.UNREGISTERED, "UNREGISTERED"))));
+
+        processor.processBatch();
+
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.SENT);
+    }
+
+    @Test
+    void unfinishedDeliveryIsRetriedAfterTimeout() throws Exception {
+        processor = new NotificationOutboxProcessor(notificationOutboxRepository, userRepository,
+                pushNotificationService, objectMapper, transactionManager, meterRegistry,
+                10, 3, 60000L, 1000L, 8000L, 50L);
+        NotificationOutbox outbox = claimed(9L, OutboxEventType.INVITATION_CREATED,
+                new InvitationCreatedPayload(10L, 20L, "가족", 99L), 1);
+        when(notificationOutboxRepository.lockNextBatch(any(LocalDateTime.class), anyInt())).thenReturn(List.of(9L));
+        when(notificationOutboxRepository.findById(9L)).thenReturn(Optional.of(outbox));
+        when(userRepository.findById(anyLong())).thenAnswer(inv -> Optional.of(createUser(inv.getArgument(0))));
+        when(pushNotificationService.sendInvitationNotification(any(), any(), any(), any()))
+                .thenReturn(List.of(new CompletableFuture<>()));
+
+        processor.processBatch();
+
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outbox.getLastError()).isEqualTo("DELIVERY_TIMEOUT");
+        assertThat(meterRegistry.get("notification_outbox_processed_total").tag("result", "retry").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void backoffGrowsExponentiallyUpToMax() {
+        assertThat(processor.backoffMillis(1)).isEqualTo(1000L);
+        assertThat(processor.backoffMillis(2)).isEqualTo(2000L);
+        assertThat(processor.backoffMillis(3)).isEqualTo(4000L);
+        assertThat(processor.backoffMillis(10)).isEqualTo(8000L);
+    }
+
+    // markProcessing 이후 상태의 아웃박스 행 (attempts 증가, PROCESSING)
+    private NotificationOutbox claimed(Long id, OutboxEventType type, Object payload, int attempts) throws Exception {
+        NotificationOutbox outbox = NotificationOutbox.create(type, objectMapper.writeValueAsString(payload));
+        ReflectionTestUtils.setField(outbox, "id", id);
+        ReflectionTestUtils.setField(outbox, "status", OutboxStatus.PROCESSING);
+        ReflectionTestUtils.setField(outbox, "attempts", attempts);
+        return outbox;
+    }
+
+    private static DeliveryResult success() {
+        return new DeliveryResult(1L, "token", "invitation", "message-id", null, null);
+    }
+
+    private static DeliveryResult failure(MessagingErrorCode errorCode, String errorType) {
+        return new DeliveryResult(1L, "token", "invitation", null, errorCode, errorType);
+    }
+
+    private User createUser(Long id) {
+        User user = new User();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
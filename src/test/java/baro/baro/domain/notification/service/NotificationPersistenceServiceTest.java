@@ -1,5 +1,6 @@
 package baro.baro.domain.notification.service;
 
+import baro.baro.domain.notification.dto.event.NotificationCreatedEvent;
 import baro.baro.domain.notification.entity.Notification;
 import baro.baro.domain.notification.entity.NotificationType;
 import baro.baro.domain.notification.repository.NotificationRepository;
@@ -13,6 +14,7 @@ import org.locationtech.jts.geom.Point;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,11 +26,17 @@ class NotificationPersistenceServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private NotificationUnreadCounterService unreadCounterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private NotificationPersistenceService notificationPersistenceService;
 
     @BeforeEach
     void setUp() {
-        notificationPersistenceService = new NotificationPersistenceService(notificationRepository);
+        notificationPersistenceService = new NotificationPersistenceService(notificationRepository, unreadCounterService, eventPublisher);
     }
 
     @Test
@@ -49,6 +57,12 @@ class NotificationPersistenceServiceTest {
         assertThat(saved.getRelatedLocation()).isNull();
         assertThat(saved.isRead()).isFalse();
         assertThat(saved.getCreatedAt()).isNotNull();
+        verify(unreadCounterService).increment(1L);
+
+        ArgumentCaptor<NotificationCreatedEvent> eventCaptor = ArgumentCaptor.forClass(NotificationCreatedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getUserId()).isEqualTo(1L);
+        assertThat(eventCaptor.getValue().getNotification().getTitle()).isEqualTo("제목");
     }
 
     @Test
@@ -67,6 +81,7 @@ class NotificationPersistenceServiceTest {
         assertThat(saved.getRelatedEntityId()).isEqualTo(300L);
         assertThat(saved.getRelatedLocation()).isEqualTo(point);
         assertThat(saved.isRead()).isFalse();
+        verify(unreadCounterService).increment(2L);
     }
 
     private User createUser(Long id, String name) {
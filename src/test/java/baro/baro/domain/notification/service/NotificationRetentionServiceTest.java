@@ -0,0 +1,60 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.notification.entity.NotificationType;
+import baro.baro.domain.notification.repository.NotificationRetentionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionServiceTest {
+
+    @Mock
+    private NotificationRetentionRepository retentionRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void thresholdFollowsPerTypeRetention() {
+        NotificationRetentionService service = newService(true);
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 4, 0);
+
+        assertThat(service.thresholdOf(NotificationType.NEARBY_ALERT, now)).contains(now.minusDays(30));
+        assertThat(service.thresholdOf(NotificationType.INVITE_REQUEST, now)).contains(now.minusDays(180));
+        assertThat(service.thresholdOf(NotificationType.FOUND_REPORT, now)).isEmpty();
+    }
+
+    @Test
+    void processChunkArchivesWhenEnabled() {
+        NotificationRetentionService service = newService(true);
+        LocalDateTime threshold = LocalDateTime.of(2025, 1, 1, 0, 0);
+        when(retentionRepository.archiveExpired("NEARBY_ALERT", threshold, 100)).thenReturn(100L);
+
+        assertThat(service.processChunk(NotificationType.NEARBY_ALERT, threshold)).isEqualTo(100);
+        verify(retentionRepository, never()).deleteExpired(anyString(), any(), anyInt());
+        assertThat(meterRegistry.get("notification_retention_rows_total")
+                .tag("type", "NEARBY_ALERT").tag("action", "archive").counter().count()).isEqualTo(100.0);
+    }
+
+    @Test
+    void processChunkDeletesWhenArchiveDisabled() {
+        NotificationRetentionService service = newService(false);
+        LocalDateTime threshold = LocalDateTime.of(2025, 1, 1, 0, 0);
+        when(retentionRepository.deleteExpired("INVITE_REQUEST", threshold, 100)).thenReturn(7L);
+
+        assertThat(service.processChunk(NotificationType.INVITE_REQUEST, threshold)).isEqualTo(7);
+        verify(retentionRepository, never()).archiveExpired(anyString(), any(), anyInt());
+    }
+
+    private NotificationRetentionService newService(boolean archiveEnabled) {
+        return new NotificationRetentionService(retentionRepository, meterRegistry, 30, 180, 0, archiveEnabled, 100);
+    }
+}
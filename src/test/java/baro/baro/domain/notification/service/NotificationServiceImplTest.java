@@ -11,11 +11,13 @@ import baro.baro.domain.missingperson.entity.MissingCase;
 import baro.baro.domain.missingperson.entity.MissingPerson;
 import baro.baro.domain.missingperson.repository.SightingRepository;
 import baro.baro.domain.missingperson.service.MissingPersonService;
+import baro.baro.domain.notification.dto.res.NotificationPageResponse;
 import baro.baro.domain.notification.dto.res.NotificationResponse;
 import baro.baro.domain.notification.entity.Notification;
 import baro.baro.domain.notification.entity.NotificationType;
 import baro.baro.domain.notification.exception.NotificationException;
 import baro.baro.domain.notification.repository.NotificationRepository;
+import baro.baro.domain.notification.repository.NotificationSummary;
 import baro.baro.domain.user.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -46,6 +49,8 @@ class NotificationServiceImplTest {
     private MissingPersonService missingPersonService;
     @Mock
     private SightingRepository sightingRepository;
+    @Mock
+    private NotificationUnreadCounterService unreadCounterService;
 
     private NotificationServiceImpl notificationService;
 
@@ -55,27 +60,79 @@ class NotificationServiceImplTest {
                 notificationRepository,
                 memberService,
                 missingPersonService,
-                sightingRepository
+                sightingRepository,
+                unreadCounterService
         );
     }
 
     @Test
-    void getMyNotificationsReturnsMappedResponses() {
+    void getMyNotificationsReturnsAllSummariesUnpaged() {
         User currentUser = createUser(1L, "알림 사용자");
-        Notification first = createNotification(10L, currentUser, NotificationType.INVITE_REQUEST, false, 100L);
-        Notification second = createNotification(11L, currentUser, NotificationType.FOUND_REPORT, true, 101L);
-        when(notificationRepository.findByUserOrderByCreatedAtDesc(currentUser))
-                .thenReturn(List.of(first, second));
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 10, 30);
+        NotificationSummary first = createSummary(12L, NotificationType.INVITE_REQUEST, now);
+        NotificationSummary second = createSummary(11L, NotificationType.FOUND_REPORT, now.minusMinutes(1));
+        when(notificationRepository.findInboxFirstPage(1L, Pageable.unpaged())).thenReturn(List.of(first, second));
 
         try (MockedStatic<SecurityUtil> mocked = mockCurrentUser(currentUser)) {
-            List<NotificationResponse> responses = notificationService.getMyNotifications();
+            List<NotificationResponse> response = notificationService.getMyNotifications();
 
-            assertThat(responses).hasSize(2);
-            assertThat(responses.get(0).getId()).isEqualTo(first.getId());
-            assertThat(responses.get(1).getType()).isEqualTo(NotificationType.FOUND_REPORT);
+            assertThat(response).extracting(NotificationResponse::getId).containsExactly(12L, 11L);
         }
     }
 
+    @Test
+    void getMyNotificationPageReturnsFirstPageWithNextCursor() {
+        User currentUser = createUser(1L, "알림 사용자");
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 10, 30);
+        NotificationSummary first = createSummary(12L, NotificationType.INVITE_REQUEST, now);
+        NotificationSummary second = createSummary(11L, NotificationType.FOUND_REPORT, now.minusMinutes(1));
+        NotificationSummary extra = createSummary(10L, NotificationType.NEARBY_ALERT, now.minusMinutes(2));
+        when(notificationRepository.findInboxFirstPage(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(first, second, extra));
+
+        try (MockedStatic<SecurityUtil> mocked = mockCurrentUser(currentUser)) {
+            NotificationPageResponse response = notificationService.getMyNotificationPage(null, 2);
+
+            assertThat(response.getNotifications()).extracting(NotificationResponse::getId).containsExactly(12L, 11L);
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(response.getNextCursor()).isNotBlank();
+        }
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(notificationRepository).findInboxFirstPage(eq(1L), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(3);
+    }
+
+    @Test
+    void getMyNotificationPageContinuesAfterCursor() {
+        User currentUser = createUser(1L, "알림 사용자");
+        LocalDateTime cursorTime = LocalDateTime.of(2025, 1, 15, 10, 29, 0, 123456000);
+        String cursor = new NotificationCursor(cursorTime, 11L).encode();
+        NotificationSummary last = createSummary(10L, NotificationType.NEARBY_ALERT, cursorTime.minusMinutes(1));
+        when(notificationRepository.findInboxPageAfter(eq(1L), eq(cursorTime), eq(11L), any(Pageable.class)))
+                .thenReturn(List.of(last));
+
+        try (MockedStatic<SecurityUtil> mocked = mockCurrentUser(currentUser)) {
+            NotificationPageResponse response = notificationService.getMyNotificationPage(cursor, 2);
+
+            assertThat(response.getNotifications()).singleElement()
+                    .satisfies(it -> assertThat(it.getType()).isEqualTo(NotificationType.NEARBY_ALERT));
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
+        }
+    }
+
+    @Test
+    void getMyNotificationPageRejectsMalformedCursor() {
+        User currentUser = createUser(1L, "알림 사용자");
+
+        try (MockedStatic<SecurityUtil> mocked = mockCurrentUser(currentUser)) {
+            assertThatThrownBy(() -> notificationService.getMyNotificationPage("not-a-cursor", 20))
+                    .isInstanceOf(NotificationException.class);
+        }
+        verify(notificationRepository, never()).findInboxPageAfter(any(), any(), any(), any());
+    }
+
     @Test
     void getUnreadNotificationsReturnsOnlyUnreadResponses() {
         User currentUser = createUser(2L, "유저");
@@ -94,9 +151,9 @@ class NotificationServiceImplTest {
     }
 
     @Test
-    void getUnreadCountDelegatesToRepository() {
+    void getUnreadCountDelegatesToCounter() {
         User currentUser = createUser(3L, "카운터");
-        when(notificationRepository.countUnreadByUser(currentUser)).thenReturn(3L);
+        when(unreadCounterService.getUnreadCount(3L)).thenReturn(3L);
 
         try (MockedStatic<SecurityUtil> mocked = mockCurrentUser(currentUser)) {
             long result = notificationService.getUnreadCount();
@@ -117,6 +174,59 @@ class NotificationServiceImplTest {
 
         assertThat(notification.isRead()).isTrue();
         verify(notificationRepository).save(notification);
+        verify(unreadCounterService).decrement(4L, 1L);
+    }
+
+    @Test
+    void markAsReadDoesNotDecrementAlreadyReadNotification() {
+        User currentUser = createUser(4L, "소유자");
+        Notification notification = createNotification(32L, currentUser, NotificationType.NEARBY_ALERT, true, 302L);
+        when(notificationRepository.findById(32L)).thenReturn(Optional.of(notification));
+
+        try (MockedStatic<SecurityUtil> mocked = mockCurrentUser(currentUser)) {
+            notificationService.markAsRead(32L);
+        }
+
+        verify(unreadCounterService, never()).decrement(anyLong(), anyLong());
+    }
+
+    @Test
+    void markAllAsReadDecrementsCounterByUpdatedRows() {
+        User currentUser = createUser(5L, "일괄");
+        when(notificationRepository.markAllAsRead(eq(5L), any(LocalDateTime.class))).thenReturn(7);
+
+        try (MockedStatic<SecurityUtil> mocked = mockCurrentUser(currentUser)) {
+            assertThat(notificationService.markAllAsRead().getAffectedCount()).isEqualTo(7);
+        }
+
+        verify(unreadCounterService).decrement(5L, 7L);
+        verify(notificationRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void markAsReadUpToScopesUpdateToCurrentUser() {
+        User currentUser = createUser(5L, "일괄");
+        when(notificationRepository.markAsReadUpTo(eq(5L), eq(42L), any(LocalDateTime.class))).thenReturn(3);
+
+        try (MockedStatic<SecurityUtil> mocked = mockCurrentUser(currentUser)) {
+            assertThat(notificationService.markAsReadUpTo(42L).getAffectedCount()).isEqualTo(3);
+        }
+
+        verify(unreadCounterService).decrement(5L, 3L);
+    }
+
+    @Test
+    void deleteNotificationsDecrementsOnlyDeletedUnread() {
+        User currentUser = createUser(6L, "삭제");
+        when(notificationRepository.deleteOwnedByIdsAndReadState(eq(6L), anyCollection(), eq(false))).thenReturn(1);
+        when(notificationRepository.deleteOwnedByIdsAndReadState(eq(6L), anyCollection(), eq(true))).thenReturn(2);
+
+        try (MockedStatic<SecurityUtil> mocked = mockCurrentUser(currentUser)) {
+            assertThat(notificationService.deleteNotifications(List.of(1L, 2L, 3L, 3L)).getAffectedCount())
+                    .isEqualTo(3);
+        }
+
+        verify(unreadCounterService).decrement(6L, 1L);
     }
 
     @Test
@@ -268,6 +378,10 @@ class NotificationServiceImplTest {
                 .build();
     }
 
+    private NotificationSummary createSummary(Long id, NotificationType type, LocalDateTime createdAt) {
+        return new NotificationSummary(id, type, "title-" + id, "message-" + id, false, createdAt, null, null);
+    }
+
     private User createUser(Long id, String name) {
         User user = new User();
         ReflectionTestUtils.setField(user, "id", id);
@@ -0,0 +1,306 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.common.monitoring.MetricsService;
+import baro.baro.domain.common.util.LocationUtil;
+import baro.baro.domain.device.repository.DevicePushTarget;
+import baro.baro.domain.device.repository.DeviceRepository;
+import baro.baro.domain.notification.dto.event.NearbyAlertNotificationEvent;
+import baro.baro.domain.notification.entity.NotificationOutbox;
+import baro.baro.domain.notification.listener.MissingPersonNotificationEventListener;
+import baro.baro.domain.notification.repository.NotificationOutboxRepository;
+import baro.baro.domain.notification.scheduler.NotificationOutboxScheduler;
+import baro.baro.domain.user.entity.User;
+import baro.baro.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import com.google.firebase.messaging.TopicManagementResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// NEARBY_ALERT 이벤트를 리스너 → 아웃박스 → 아웃박스 스케줄러 → 배치 디스패처 → Admin SDK → 로컬 FCM v1 대역까지 흘려
+// 초당 전송 수, 이벤트 발행부터 FCM 응답까지의 지연, 스레드 사용량을 측정합니다. DB는 메모리 저장소로 대체합니다.
+// 실행: ./gradlew benchmark -Dbenchmark.events=2000 -Dbenchmark.devices=2 -Dbenchmark.fcm.latency-ms=30 -Dbenchmark.fcm.error-rate=0.01
+@Tag("benchmark")
+@DisplayName("푸시 알림 전송 처리량 벤치마크")
+class NotificationThroughputBenchmarkTest {
+
+    private static final long TIMEOUT_MILLIS = 120_000L;
+
+    @Test
+    @DisplayName("알림 이벤트 N건의 초당 전송 수, 종단 지연, 스레드 사용량을 측정한다")
+    void measureNotificationThroughput() throws Exception {
+        int events = Integer.getInteger("benchmark.events", 2_000);
+        int devicesPerUser = Integer.getInteger("benchmark.devices", 2);
+        long fcmLatencyMillis = Long.getLong("benchmark.fcm.latency-ms", 30L);
+        double fcmErrorRate = Double.parseDouble(System.getProperty("benchmark.fcm.error-rate", "0.01"));
+        long pollIntervalMillis = Long.getLong("benchmark.outbox.poll-ms", 100L);
+        int lowWorkers = Integer.getInteger("benchmark.lane.low.workers", 1);
+        int expectedMessages = events * devicesPerUser;
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        try (FcmV1StandIn standIn = new FcmV1StandIn()) {
+            standIn.setLatencyMillis(fcmLatencyMillis);
+            standIn.setErrorRate(fcmErrorRate);
+            FirebaseApp app = standIn.createApp("notification-throughput-benchmark");
+
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            TimedTransport transport = new TimedTransport(new FirebaseFcmTransport(app));
+            Pipeline pipeline = new Pipeline(meterRegistry, transport, devicesPerUser, lowWorkers,
+                    Math.max(10_000, expectedMessages));
+            ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(
+                    runnable -> new Thread(runnable, "outbox-poller"));
+
+            int threadsBefore = threadBean.getThreadCount();
+            threadBean.resetPeakThreadCount();
+            long[] publishedAt = new long[events + 1];
+            long start = System.nanoTime();
+            try {
+                poller.scheduleWithFixedDelay(pipeline.scheduler::pollOutbox, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+                for (int i = 1; i <= events; i++) {
+                    publishedAt[i] = System.nanoTime();
+                    pipeline.listener.onNearbyAlert(new NearbyAlertNotificationEvent(this, createUser((long) i),
+                            "실종자", 120.0, LocationUtil.createPoint(37.5, 127.0), (long) i));
+                }
+                awaitCompletion(meterRegistry, expectedMessages);
+            } finally {
+                poller.shutdownNow();
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            int peakThreads = threadBean.getPeakThreadCount();
+            Map<String, Integer> threadsByPool = countThreadsByPool();
+            pipeline.dispatcher.shutdown();
+            app.delete();
+
+            long delivered = (long) count(meterRegistry, "fcm_messages_success_total");
+            long failed = (long) count(meterRegistry, "fcm_messages_failure_total");
+            long[] latencies = transport.latenciesMillis(publishedAt);
+
+            System.out.printf("events=%d devices/user=%d messages=%d fcm-latency=%dms error-rate=%.3f%n",
+                    events, devicesPerUser, expectedMessages, fcmLatencyMillis, fcmErrorRate);
+            System.out.printf("delivered=%d failed=%d fcm-requests=%d injected-errors=%d elapsed=%.1fms%n",
+                    delivered, failed, standIn.getSendRequestCount(), standIn.getInjectedErrorCount(),
+                    elapsedNanos / 1_000_000.0);
+            System.out.printf("throughput=%.1f sends/s%n", delivered / (elapsedNanos / 1_000_000_000.0));
+            System.out.printf("end-to-end latency p50=%dms p95=%dms p99=%dms max=%dms%n",
+                    percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99),
+                    latencies.length > 0 ? latencies[latencies.length - 1] : 0);
+            System.out.printf("threads before=%d peak=%d%n", threadsBefore, peakThreads);
+            threadsByPool.forEach((pool, count) -> System.out.printf("  %-40s %d%n", pool, count));
+
+            assertThat(delivered + failed).isEqualTo(expectedMessages);
+            assertThat(latencies).hasSize((int) delivered);
+        }
+    }
+
+    private void awaitCompletion(SimpleMeterRegistry meterRegistry, int expectedMessages) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (count(meterRegistry, "fcm_messages_success_total")
+                + count(meterRegistry, "fcm_messages_failure_total") < expectedMessages) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("전송 완료 대기 시간 초과");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static double count(SimpleMeterRegistry meterRegistry, String name) {
+        return meterRegistry.find(name).counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    // 스레드 이름에서 번호를 떼어 풀 단위로 셉니다.
+    private static Map<String, Integer> countThreadsByPool() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            String pool = thread.getName().replaceAll("[-_ #]*\\d+$", "").replaceAll("\\d+", "N");
+            counts.merge(pool, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private static User createUser(Long id) {
+        User user = new User();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    // 리스너부터 전송 경로까지 운영과 같은 구성요소로 조립합니다 (저장소만 메모리 대체).
+    private static final class Pipeline {
+
+        final MissingPersonNotificationEventListener listener;
+        final NotificationOutboxScheduler scheduler;
+        final FcmBatchDispatcher dispatcher;
+
+        Pipeline(SimpleMeterRegistry meterRegistry, FcmTransport transport, int devicesPerUser, int lowWorkers,
+                 int lowQueueCapacity) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            MetricsService metricsService = new MetricsService(meterRegistry);
+            NotificationOutboxRepository outboxRepository = inMemoryOutboxRepository();
+
+            DeviceRepository deviceRepository = mock(DeviceRepository.class);
+            when(deviceRepository.findPushTargetsByUserId(anyLong())).thenAnswer(invocation -> {
+                Long userId = invocation.getArgument(0);
+                List<DevicePushTarget> targets = new ArrayList<>(devicesPerUser);
+                for (int d = 0; d < devicesPerUser; d++) {
+                    targets.add(new DevicePushTarget(userId * devicesPerUser + d, "bench-" + userId + "-" + d, "ANDROID"));
+                }
+                return targets;
+            });
+            UserRepository userRepository = mock(UserRepository.class);
+            when(userRepository.findById(anyLong()))
+                    .thenAnswer(invocation -> Optional.of(createUser(invocation.getArgument(0))));
+
+            FcmDispatchService fcmDispatchService = new FcmDispatchService(metricsService, transport);
+            this.dispatcher = new FcmBatchDispatcher(fcmDispatchService, metricsService,
+                    new FcmTokenInvalidationService(deviceRepository, mock(ApplicationEventPublisher.class), meterRegistry, 1000),
+                    meterRegistry, 500,
+                    2, 1000, 0,
+                    1, 2000, 50,
+                    lowWorkers, lowQueueCapacity, 200,
+                    4, 100, 2000,
+                    5, 1000);
+            MissingPersonNotificationService missingPersonNotificationService = new MissingPersonNotificationService(
+                    new NotificationDeviceService(new PushTargetCache(deviceRepository, meterRegistry, 100_000, 300L)),
+                    fcmDispatchService, dispatcher, mock(NotificationPersistenceService.class));
+            PushNotificationService pushNotificationService = new PushNotificationService(
+                    mock(InvitationNotificationService.class), missingPersonNotificationService);
+            NotificationOutboxProcessor processor = new NotificationOutboxProcessor(outboxRepository, userRepository,
+                    pushNotificationService, objectMapper, mock(PlatformTransactionManager.class), meterRegistry,
+                    100, 5, 60_000, 5_000, 600_000, 30_000);
+
+            this.listener = new MissingPersonNotificationEventListener(new NotificationOutboxService(outboxRepository, objectMapper));
+            this.scheduler = new NotificationOutboxScheduler(processor, outboxRepository);
+        }
+
+        private static NotificationOutboxRepository inMemoryOutboxRepository() {
+            Map<Long, NotificationOutbox> rows = new ConcurrentHashMap<>();
+            Queue<Long> pending = new ConcurrentLinkedQueue<>();
+            AtomicLong sequence = new AtomicLong();
+
+            NotificationOutboxRepository repository = mock(NotificationOutboxRepository.class);
+            when(repository.save(any(NotificationOutbox.class))).thenAnswer(invocation -> {
+                NotificationOutbox outbox = invocation.getArgument(0);
+                long id = sequence.incrementAndGet();
+                ReflectionTestUtils.setField(outbox, "id", id);
+                rows.put(id, outbox);
+                pending.add(id);
+                return outbox;
+            });
+            when(repository.lockNextBatch(any(), anyInt())).thenAnswer(invocation -> {
+                int limit = invocation.getArgument(1);
+                List<Long> ids = new ArrayList<>(limit);
+                Long id;
+                while (ids.size() < limit && (id = pending.poll()) != null) {
+                    ids.add(id);
+                }
+                return ids;
+            });
+            when(repository.findById(anyLong())).thenAnswer(invocation ->
+                    Optional.ofNullable(rows.get(invocation.<Long>getArgument(0))));
+            return repository;
+        }
+    }
+
+    // 메시지별 첫 전송 성공 시각을 기록하는 전송 경로
+    private static final class TimedTransport implements FcmTransport {
+
+        private final FcmTransport delegate;
+        private final Map<String, Long> deliveredAt = new ConcurrentHashMap<>();
+
+        TimedTransport(FcmTransport delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return delegate.isAvailable();
+        }
+
+        @Override
+        public String send(Message message) throws FirebaseMessagingException {
+            String messageId = delegate.send(message);
+            deliveredAt.putIfAbsent(tokenOf(message), System.nanoTime());
+            return messageId;
+        }
+
+        @Override
+        public List<SendResponse> sendEach(List<Message> messages) throws FirebaseMessagingException {
+            List<SendResponse> responses = delegate.sendEach(messages);
+            long now = System.nanoTime();
+            for (int i = 0; i < responses.size(); i++) {
+                if (responses.get(i).isSuccessful()) {
+                    deliveredAt.putIfAbsent(tokenOf(messages.get(i)), now);
+                }
+            }
+            return responses;
+        }
+
+        @Override
+        public TopicManagementResponse subscribeToTopic(List<String> fcmTokens, String topic)
+                throws FirebaseMessagingException {
+            return delegate.subscribeToTopic(fcmTokens, topic);
+        }
+
+        @Override
+        public TopicManagementResponse unsubscribeFromTopic(List<String> fcmTokens, String topic)
+                throws FirebaseMessagingException {
+            return delegate.unsubscribeFromTopic(fcmTokens, topic);
+        }
+
+        // 이벤트 발행 시각부터 전송 성공까지의 지연 (오름차순, ms)
+        long[] latenciesMillis(long[] publishedAt) {
+            long[] latencies = deliveredAt.entrySet().stream()
+                    .mapToLong(entry -> {
+                        // 토큰 형식: bench-<이벤트 번호>-<기기 번호>
+                        int event = Integer.parseInt(entry.getKey().split("-")[1]);
+                        return TimeUnit.NANOSECONDS.toMillis(entry.getValue() - publishedAt[event]);
+                    })
+                    .toArray();
+            Arrays.sort(latencies);
+            return latencies;
+        }
+
+        private static String tokenOf(Message message) {
+            return (String) ReflectionTestUtils.getField(message, "token");
+        }
+    }
+}
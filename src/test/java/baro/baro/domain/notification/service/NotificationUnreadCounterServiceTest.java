@@ -0,0 +1,100 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.notification.dto.event.UnreadCountChangedEvent;
+import baro.baro.domain.notification.repository.NotificationRepository;
+import baro.baro.domain.notification.repository.NotificationUnreadCounterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCounterServiceTest {
+
+    @Mock
+    private NotificationUnreadCounterRepository counterRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationUnreadCounterService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new NotificationUnreadCounterService(counterRepository, notificationRepository, eventPublisher, meterRegistry);
+    }
+
+    @Test
+    void getUnreadCountReadsCounterRow() {
+        when(counterRepository.findUnreadCount(1L)).thenReturn(Optional.of(7L));
+
+        assertThat(service.getUnreadCount(1L)).isEqualTo(7L);
+        verify(notificationRepository, never()).countUnreadByUserId(any());
+    }
+
+    @Test
+    void getUnreadCountFallsBackToCountWhenCounterMissing() {
+        when(counterRepository.findUnreadCount(2L)).thenReturn(Optional.empty());
+        when(notificationRepository.countUnreadByUserId(2L)).thenReturn(4L);
+
+        assertThat(service.getUnreadCount(2L)).isEqualTo(4L);
+        assertThat(meterRegistry.get("notification_unread_count_reads_total").tag("source", "count").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void decrementSkipsNonPositiveCounts() {
+        service.decrement(3L, 0L);
+
+        verify(counterRepository, never()).decrement(anyLong(), anyLong());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void incrementPublishesUnreadCountChange() {
+        service.increment(5L);
+
+        verify(counterRepository).increment(5L, 1L);
+        ArgumentCaptor<UnreadCountChangedEvent> captor = ArgumentCaptor.forClass(UnreadCountChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getUserId()).isEqualTo(5L);
+    }
+
+    @Test
+    void repairDriftRecordsRepairedCounters() {
+        when(counterRepository.lockCounters(List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 2L, 3L));
+        when(counterRepository.repairDrift(List.of(1L, 2L, 3L))).thenReturn(2);
+
+        assertThat(service.repairDrift(List.of(1L, 2L, 3L))).isEqualTo(2);
+        assertThat(service.repairDrift(List.of())).isZero();
+        assertThat(meterRegistry.get("notification_unread_counter_repaired_total").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void repairDriftLocksCountersBeforeRecounting() {
+        when(counterRepository.lockCounters(List.of(1L, 2L))).thenReturn(List.of(2L));
+        when(counterRepository.repairDrift(List.of(2L))).thenReturn(1);
+
+        assertThat(service.repairDrift(List.of(1L, 2L))).isEqualTo(1);
+
+        InOrder inOrder = inOrder(counterRepository);
+        inOrder.verify(counterRepository).lockCounters(List.of(1L, 2L));
+        inOrder.verify(counterRepository).repairDrift(List.of(2L));
+    }
+}
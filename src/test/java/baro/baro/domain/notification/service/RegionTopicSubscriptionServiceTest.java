@@ -0,0 +1,230 @@
+package baro.baro.domain.notification.service;
+
+import baro.baro.domain.device.dto.event.DeviceRegionChangedEvent;
+import com.google.firebase.messaging.TopicManagementResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegionTopicSubscriptionServiceTest {
+
+    @Mock
+    private FcmDispatchService fcmDispatchService;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private RegionTopicSubscriptionService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new RegionTopicSubscriptionService(fcmDispatchService, meterRegistry, 2, 100, 3,
+                1_000L, 60_000L, now::get);
+    }
+
+    @Test
+    void consecutiveMovesOfSameDeviceAreCoalesced() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        TopicManagementResponse response = response(1);
+        when(fcmDispatchService.unsubscribeFromTopic(anyList(), anyString())).thenReturn(response);
+        when(fcmDispatchService.subscribeToTopic(anyList(), anyString())).thenReturn(response);
+
+        service.onDeviceRegionChanged(event(1L, "token-1", "wydm9", "token-1", "wydmc"));
+        service.onDeviceRegionChanged(event(1L, "token-1", "wydmc", "token-1", "wydmf"));
+        assertThat(service.getPendingCount()).isEqualTo(1);
+
+        assertThat(service.flush()).isEqualTo(1);
+
+        InOrder inOrder = inOrder(fcmDispatchService);
+        inOrder.verify(fcmDispatchService).unsubscribeFromTopic(List.of("token-1"), "region_wydm9");
+        inOrder.verify(fcmDispatchService).subscribeToTopic(List.of("token-1"), "region_wydmf");
+        verify(fcmDispatchService, times(1)).unsubscribeFromTopic(anyList(), anyString());
+        verify(fcmDispatchService, times(1)).subscribeToTopic(anyList(), anyString());
+        assertThat(service.getPendingCount()).isZero();
+    }
+
+    @Test
+    void moveBackToOriginalRegionBeforeFlushIsDropped() {
+        service.onDeviceRegionChanged(event(1L, "token-1", "wydm9", "token-1", "wydmc"));
+        service.onDeviceRegionChanged(event(1L, "token-1", "wydmc", "token-1", "wydm9"));
+
+        assertThat(service.getPendingCount()).isZero();
+        assertThat(service.flush()).isZero();
+        verifyNoInteractions(fcmDispatchService);
+    }
+
+    @Test
+    void devicesMovingIntoSameRegionShareOneRequest() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        TopicManagementResponse response = response(2);
+        when(fcmDispatchService.subscribeToTopic(anyList(), eq("region_wydm9"))).thenReturn(response);
+
+        service.onDeviceRegionChanged(event(1L, null, null, "token-1", "wydm9"));
+        service.onDeviceRegionChanged(event(2L, null, null, "token-2", "wydm9"));
+
+        assertThat(service.flush()).isEqualTo(2);
+
+        verify(fcmDispatchService).subscribeToTopic(argThat(tokens ->
+                tokens.size() == 2 && tokens.containsAll(List.of("token-1", "token-2"))), eq("region_wydm9"));
+        verify(fcmDispatchService, never()).unsubscribeFromTopic(anyList(), anyString());
+    }
+
+    @Test
+    void requestsBeyondFlushLimitAreDeferredToNextFlush() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        TopicManagementResponse response = response(1);
+        when(fcmDispatchService.unsubscribeFromTopic(anyList(), anyString())).thenReturn(response);
+        when(fcmDispatchService.subscribeToTopic(anyList(), anyString())).thenReturn(response);
+
+        service.onDeviceRegionChanged(event(1L, "token-1", "wydm9", "token-1", "wydmc"));
+        service.onDeviceRegionChanged(event(2L, "token-2", "wydmf", "token-2", "wydmg"));
+
+        // 요청 한도 2: 해제 2건만 보내고 구독은 이월
+        assertThat(service.flush()).isZero();
+        verify(fcmDispatchService, times(2)).unsubscribeFromTopic(anyList(), anyString());
+        verify(fcmDispatchService, never()).subscribeToTopic(anyList(), anyString());
+        assertThat(service.getPendingCount()).isEqualTo(2);
+
+        assertThat(service.flush()).isEqualTo(2);
+        verify(fcmDispatchService).subscribeToTopic(List.of("token-1"), "region_wydmc");
+        verify(fcmDispatchService).subscribeToTopic(List.of("token-2"), "region_wydmg");
+        verify(fcmDispatchService, times(2)).unsubscribeFromTopic(anyList(), anyString());
+    }
+
+    @Test
+    void failedRequestIsRetriedAfterBackoff() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        TopicManagementResponse response = response(1);
+        when(fcmDispatchService.subscribeToTopic(anyList(), anyString()))
+                .thenThrow(new IllegalStateException("boom"))
+                .thenReturn(response);
+
+        service.onDeviceRegionChanged(event(1L, null, null, "token-1", "wydm9"));
+
+        assertThat(service.flush()).isZero();
+        assertThat(service.getPendingCount()).isEqualTo(1);
+
+        // 백오프가 지나기 전에는 다시 요청하지 않음
+        assertThat(service.flush()).isZero();
+        verify(fcmDispatchService, times(1)).subscribeToTopic(anyList(), anyString());
+
+        now.addAndGet(1_000L);
+        assertThat(service.flush()).isEqualTo(1);
+        verify(fcmDispatchService, times(2)).subscribeToTopic(List.of("token-1"), "region_wydm9");
+        assertThat(service.getPendingCount()).isZero();
+    }
+
+    @Test
+    void subscribeIsHeldBackUntilPreviousRegionIsUnsubscribed() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        TopicManagementResponse response = response(1);
+        when(fcmDispatchService.unsubscribeFromTopic(anyList(), anyString()))
+                .thenThrow(new IllegalStateException("boom"))
+                .thenReturn(response);
+        when(fcmDispatchService.subscribeToTopic(anyList(), anyString())).thenReturn(response);
+
+        service.onDeviceRegionChanged(event(1L, "token-1", "wydm9", "token-1", "wydmc"));
+
+        assertThat(service.flush()).isZero();
+        verify(fcmDispatchService, never()).subscribeToTopic(anyList(), anyString());
+
+        now.addAndGet(1_000L);
+        assertThat(service.flush()).isEqualTo(1);
+        verify(fcmDispatchService, times(2)).unsubscribeFromTopic(List.of("token-1"), "region_wydm9");
+        verify(fcmDispatchService).subscribeToTopic(List.of("token-1"), "region_wydmc");
+    }
+
+    @Test
+    void onlyTokensWithRetryableErrorsAreRequeued() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        TopicManagementResponse response = mock(TopicManagementResponse.class);
+        when(response.getSuccessCount()).thenReturn(1);
+        when(response.getFailureCount()).thenReturn(2);
+        List<TopicManagementResponse.Error> errors = List.of(
+                error(1, "internal-error"),
+                error(2, "registration-token-not-registered"));
+        when(response.getErrors()).thenReturn(errors);
+        TopicManagementResponse retryResponse = response(1);
+        when(fcmDispatchService.subscribeToTopic(anyList(), eq("region_wydm9")))
+                .thenReturn(response)
+                .thenReturn(retryResponse);
+
+        service.onDeviceRegionChanged(event(1L, null, null, "token-1", "wydm9"));
+        service.onDeviceRegionChanged(event(2L, null, null, "token-2", "wydm9"));
+        service.onDeviceRegionChanged(event(3L, null, null, "token-3", "wydm9"));
+
+        assertThat(service.flush()).isEqualTo(2);
+        assertThat(service.getPendingCount()).isEqualTo(1);
+
+        // 일시 오류(index 1)인 토큰만 다시 요청하고, 무효 토큰(index 2)은 재시도하지 않음
+        ArgumentCaptor<List<String>> tokens = ArgumentCaptor.forClass(List.class);
+        verify(fcmDispatchService).subscribeToTopic(tokens.capture(), eq("region_wydm9"));
+        String retryableToken = tokens.getValue().get(1);
+
+        now.addAndGet(1_000L);
+        assertThat(service.flush()).isEqualTo(1);
+        verify(fcmDispatchService).subscribeToTopic(List.of(retryableToken), "region_wydm9");
+        assertThat(service.getPendingCount()).isZero();
+    }
+
+    @Test
+    void changeIsDroppedAfterMaxAttempts() {
+        when(fcmDispatchService.isFirebaseInitialized()).thenReturn(true);
+        when(fcmDispatchService.subscribeToTopic(anyList(), anyString())).thenThrow(new IllegalStateException("boom"));
+
+        service.onDeviceRegionChanged(event(1L, null, null, "token-1", "wydm9"));
+
+        service.flush();
+        now.addAndGet(1_000L);
+        service.flush();
+        now.addAndGet(2_000L);
+        assertThat(service.flush()).isEqualTo(1);
+
+        verify(fcmDispatchService, times(3)).subscribeToTopic(anyList(), anyString());
+        assertThat(service.getPendingCount()).isZero();
+        assertThat(meterRegistry.get("fcm_region_topic_changes_dropped_total").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void regionChangeIsPostponedWhenQueueIsFull() {
+        RegionTopicSubscriptionService bounded = new RegionTopicSubscriptionService(
+                fcmDispatchService, meterRegistry, 2, 1, 3, 1_000L, 60_000L, now::get);
+        bounded.onDeviceRegionChanged(event(1L, null, null, "token-1", "wydm9"));
+
+        assertThat(bounded.admitRegionChange(1L)).isTrue();
+        assertThat(bounded.admitRegionChange(2L)).isFalse();
+        assertThat(meterRegistry.get("fcm_region_topic_changes_postponed_total").counter().count()).isEqualTo(1.0);
+    }
+
+    private DeviceRegionChangedEvent event(Long deviceId, String previousToken, String previousRegion,
+                                           String currentToken, String currentRegion) {
+        return new DeviceRegionChangedEvent(this, deviceId, previousToken, previousRegion, currentToken, currentRegion);
+    }
+
+    private TopicManagementResponse.Error error(int index, String reason) {
+        TopicManagementResponse.Error error = mock(TopicManagementResponse.Error.class);
+        when(error.getIndex()).thenReturn(index);
+        when(error.getReason()).thenReturn(reason);
+        return error;
+    }
+
+    private TopicManagementResponse response(int successCount) {
+        TopicManagementResponse response = mock(TopicManagementResponse.class);
+        when(response.getSuccessCount()).thenReturn(successCount);
+        when(response.getFailureCount()).thenReturn(0);
+        return response;
+    }
+}